@@ -158,6 +158,9 @@ public class BitmapFontWriter {
 	 * null to use default values. libGDX ignores most of the "info" line when reading back fonts, only padding is used. Padding
 	 * also affects the size, location, and offset of the glyphs that are output.
 	 * 
+	 * If the font data has a {@link BitmapFontData#distanceFieldType}, it is written with the distance range so
+	 * {@link com.badlogic.gdx.graphics.g2d.DistanceFieldFont} can render it.
+	 * 
 	 * Likewise, the scaleW and scaleH are only for cleaner output. They are currently ignored by libGDX's reader. For maximum
 	 * compatibility with other BMFont tools, you should use the width and height of your texture pages (each page should be the
 	 * same size).
@@ -222,6 +225,12 @@ public class BitmapFontWriter {
 
 		if (xml) buf.append("\t</pages>\n");
 
+		// DISTANCE FIELD
+		if (fontData.distanceFieldType != null) {
+			buf.append(xmlOpen).append("distanceField fieldType=").append(quote(fontData.distanceFieldType))
+				.append(" distanceRange=").append(quote(fontData.distanceRange)).append(xmlCloseSelf).append("\n");
+		}
+
 		// CHARS
 		Array<Glyph> glyphs = new Array<Glyph>(256);
 		for (int i = 0; i < fontData.glyphs.length; i++) {
@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.distancefield;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Generates a multi-channel signed distance field image from the outline of a shape.
+ * <p>
+ * The outline is split into edges at its corners and each edge is given two of the red, green and blue channels, so that the
+ * edges meeting at a corner share only one channel. Each channel stores the distance to the nearest edge that has that channel.
+ * The median of the three channels reconstructs the distance to the outline, but unlike a single channel distance field the
+ * corners stay sharp at any magnification. The alpha channel stores a regular signed distance field.
+ * <p>
+ * The technique is described in the thesis "Shape Decomposition for Multi-channel Distance Fields" by Viktor Chlumsky. The
+ * images can be rendered with the shader from {@link com.badlogic.gdx.graphics.g2d.DistanceFieldFont#createDistanceFieldShader(boolean)}. */
+public class MultiChannelDistanceFieldGenerator {
+	static private final int RED = 1, GREEN = 2, BLUE = 4, YELLOW = RED | GREEN, MAGENTA = RED | BLUE, CYAN = GREEN | BLUE,
+		WHITE = RED | GREEN | BLUE;
+	static private final int EDGE_START = 8, EDGE_END = 16;
+
+	private float spread = 4;
+	private double cornerThreshold = Math.sin(3);
+
+	// Line segments of the flattened outline: ax, ay, bx, by for each, and the channels and edge flags.
+	private final FloatArray segments = new FloatArray();
+	private final IntArray segmentFlags = new IntArray();
+
+	/** @see #setSpread(float) */
+	public float getSpread () {
+		return spread;
+	}
+
+	/** Sets the spread of the distance field. The spread is the maximum distance in pixels from the outline that is stored, the
+	 * distance is normalized by the spread.
+	 * @param spread a positive number
+	 * @throws IllegalArgumentException if spread is not positive */
+	public void setSpread (float spread) {
+		if (spread <= 0) throw new IllegalArgumentException("spread must be positive");
+		this.spread = spread;
+	}
+
+	/** @see #setCornerAngle(double) */
+	public double getCornerAngle () {
+		return Math.asin(cornerThreshold);
+	}
+
+	/** Sets the minimum angle in radians between the directions of two joined edges for the joint to be a sharp corner. Defaults
+	 * to about 0.14 (8 degrees). */
+	public void setCornerAngle (double radians) {
+		cornerThreshold = Math.sin(radians);
+	}
+
+	/** Generates the distance field for a shape.
+	 * @param shape The outline, in pixels of the output image.
+	 * @return An image with the distance field in the RGB channels and a single channel distance field in the alpha channel. */
+	public BufferedImage generateDistanceField (Shape shape, int width, int height) {
+		return generateDistanceField(shape, null, width, height);
+	}
+
+	/** Generates the distance field for a shape.
+	 * @param transform Transforms the shape to pixels of the output image, may be null.
+	 * @return An image with the distance field in the RGB channels and a single channel distance field in the alpha channel. */
+	public BufferedImage generateDistanceField (Shape shape, AffineTransform transform, int width, int height) {
+		if (transform != null) shape = transform.createTransformedShape(shape);
+		buildSegments(shape);
+
+		float[] pixels = new float[width * height * 4];
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				distance(shape, x + 0.5f, y + 0.5f, pixels, (y * width + x) * 4);
+		correctErrors(pixels, width, height);
+
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0, i = 0; y < height; y++) {
+			for (int x = 0; x < width; x++, i += 4) {
+				image.setRGB(x, y, toByte(pixels[i + 3]) << 24 | toByte(pixels[i]) << 16 | toByte(pixels[i + 1]) << 8
+					| toByte(pixels[i + 2]));
+			}
+		}
+		return image;
+	}
+
+	/** Computes the distance for each channel, normalized so the outline is at 0.5. */
+	private void distance (Shape shape, float px, float py, float[] pixels, int index) {
+		float[] segments = this.segments.items;
+		int[] flags = segmentFlags.items;
+		// For each channel, the nearest segment, its distance and how orthogonal it is to the point, for ties.
+		int nearestR = -1, nearestG = -1, nearestB = -1;
+		double distanceR = Double.MAX_VALUE, distanceG = Double.MAX_VALUE, distanceB = Double.MAX_VALUE;
+		double dotR = 0, dotG = 0, dotB = 0, nearest = Double.MAX_VALUE;
+		for (int i = 0, s = 0, n = segmentFlags.size; i < n; i++, s += 4) {
+			double ax = segments[s], ay = segments[s + 1], bx = segments[s + 2], by = segments[s + 3];
+			double abx = bx - ax, aby = by - ay, apx = px - ax, apy = py - ay;
+			double lengthSq = abx * abx + aby * aby;
+			double t = lengthSq == 0 ? 0 : (apx * abx + apy * aby) / lengthSq;
+			double dx, dy;
+			if (t <= 0) {
+				dx = apx;
+				dy = apy;
+			} else if (t >= 1) {
+				dx = px - bx;
+				dy = py - by;
+			} else {
+				dx = apx - abx * t;
+				dy = apy - aby * t;
+			}
+			double distance = Math.sqrt(dx * dx + dy * dy);
+			nearest = Math.min(nearest, distance);
+			// Tie breaker for segments sharing an endpoint: the one more orthogonal to the point is nearer.
+			double ex = (t > 0.5 ? bx : ax) - px, ey = (t > 0.5 ? by : ay) - py;
+			double length = Math.sqrt(lengthSq * (ex * ex + ey * ey));
+			double dot = length == 0 ? 0 : Math.abs(abx * ex + aby * ey) / length;
+			int color = flags[i];
+			if ((color & RED) != 0 && (distance < distanceR || (distance == distanceR && dot < dotR))) {
+				nearestR = i;
+				distanceR = distance;
+				dotR = dot;
+			}
+			if ((color & GREEN) != 0 && (distance < distanceG || (distance == distanceG && dot < dotG))) {
+				nearestG = i;
+				distanceG = distance;
+				dotG = dot;
+			}
+			if ((color & BLUE) != 0 && (distance < distanceB || (distance == distanceB && dot < dotB))) {
+				nearestB = i;
+				distanceB = distance;
+				dotB = dot;
+			}
+		}
+		float scale = 0.5f / spread;
+		pixels[index] = 0.5f + (float)pseudoDistance(nearestR, distanceR, px, py) * scale;
+		pixels[index + 1] = 0.5f + (float)pseudoDistance(nearestG, distanceG, px, py) * scale;
+		pixels[index + 2] = 0.5f + (float)pseudoDistance(nearestB, distanceB, px, py) * scale;
+		boolean inside = shape.contains(px, py);
+		pixels[index + 3] = 0.5f + (float)(inside ? nearest : -nearest) * scale;
+
+		// Where the median has the wrong sign, eg inside overlapping contours, invert the channels.
+		if (median(pixels[index], pixels[index + 1], pixels[index + 2]) > 0.5f != inside) {
+			pixels[index] = 1 - pixels[index];
+			pixels[index + 1] = 1 - pixels[index + 1];
+			pixels[index + 2] = 1 - pixels[index + 2];
+		}
+	}
+
+	/** Returns the signed distance to the segment. Beyond the ends of an edge the distance to the edge's extended line is used
+	 * when it is nearer, so channels don't change abruptly at corners. */
+	private double pseudoDistance (int segment, double distance, float px, float py) {
+		if (segment == -1) return -spread;
+		float[] segments = this.segments.items;
+		int s = segment * 4, flags = segmentFlags.items[segment];
+		double ax = segments[s], ay = segments[s + 1], bx = segments[s + 2], by = segments[s + 3];
+		double abx = bx - ax, aby = by - ay;
+		double length = Math.sqrt(abx * abx + aby * aby);
+		if (length == 0) return -distance;
+		abx /= length;
+		aby /= length;
+		double apx = px - ax, apy = py - ay;
+		double cross = abx * apy - aby * apx; // Positive is inside.
+		double signed = cross >= 0 ? distance : -distance;
+		if ((flags & EDGE_START) != 0 && apx * abx + apy * aby < 0) {
+			if (Math.abs(cross) <= distance) signed = cross;
+		} else if ((flags & EDGE_END) != 0) {
+			double bpx = px - bx, bpy = py - by;
+			if (bpx * abx + bpy * aby > 0) {
+				double crossB = abx * bpy - aby * bpx;
+				if (Math.abs(crossB) <= distance) signed = crossB;
+			}
+		}
+		return signed;
+	}
+
+	/** Replaces pixels with the median where neighboring pixels would interpolate to a wrong edge. */
+	private void correctErrors (float[] pixels, int width, int height) {
+		double threshold = 1.001 / (2 * spread), diagonalThreshold = threshold * Math.sqrt(2);
+		boolean[] clashes = new boolean[width * height];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int i = y * width + x;
+				if ((x > 0 && clash(pixels, i, i - 1, threshold)) //
+					|| (x < width - 1 && clash(pixels, i, i + 1, threshold)) //
+					|| (y > 0 && clash(pixels, i, i - width, threshold)) //
+					|| (y < height - 1 && clash(pixels, i, i + width, threshold)) //
+					|| (x > 0 && y > 0 && clash(pixels, i, i - width - 1, diagonalThreshold)) //
+					|| (x < width - 1 && y > 0 && clash(pixels, i, i - width + 1, diagonalThreshold)) //
+					|| (x > 0 && y < height - 1 && clash(pixels, i, i + width - 1, diagonalThreshold)) //
+					|| (x < width - 1 && y < height - 1 && clash(pixels, i, i + width + 1, diagonalThreshold))) clashes[i] = true;
+			}
+		}
+		for (int i = 0, n = clashes.length; i < n; i++) {
+			if (!clashes[i]) continue;
+			int p = i * 4;
+			float median = median(pixels[p], pixels[p + 1], pixels[p + 2]);
+			pixels[p] = median;
+			pixels[p + 1] = median;
+			pixels[p + 2] = median;
+		}
+	}
+
+	/** Returns true if interpolating between pixels a and b would cross an edge in two channels at different places and pixel a is
+	 * the one farther from the outline. */
+	static private boolean clash (float[] pixels, int a, int b, double threshold) {
+		a *= 4;
+		b *= 4;
+		float a0 = pixels[a], a1 = pixels[a + 1], a2 = pixels[a + 2];
+		float b0 = pixels[b], b1 = pixels[b + 1], b2 = pixels[b + 2];
+		float tmp;
+		// Sort the channels by the difference between the pixels, largest first.
+		if (Math.abs(b0 - a0) < Math.abs(b1 - a1)) {
+			tmp = a0;
+			a0 = a1;
+			a1 = tmp;
+			tmp = b0;
+			b0 = b1;
+			b1 = tmp;
+		}
+		if (Math.abs(b1 - a1) < Math.abs(b2 - a2)) {
+			tmp = a1;
+			a1 = a2;
+			a2 = tmp;
+			tmp = b1;
+			b1 = b2;
+			b2 = tmp;
+			if (Math.abs(b0 - a0) < Math.abs(b1 - a1)) {
+				tmp = a0;
+				a0 = a1;
+				a1 = tmp;
+				tmp = b0;
+				b0 = b1;
+				b1 = tmp;
+			}
+		}
+		return Math.abs(b1 - a1) >= threshold //
+			&& !(b0 == b1 && b0 == b2) // Ignore if the other pixel was already corrected.
+			&& Math.abs(a2 - 0.5f) >= Math.abs(b2 - 0.5f);
+	}
+
+	/** Flattens the outline into line segments and assigns the channels of each edge. */
+	private void buildSegments (Shape shape) {
+		segments.clear();
+		segmentFlags.clear();
+
+		// Each edge is a line or curve of the path, stored as control points.
+		FloatArray edges = new FloatArray();
+		IntArray edgeStarts = new IntArray(); // Index in edges of each edge's first point.
+		float[] coords = new float[6];
+		float startX = 0, startY = 0, lastX = 0, lastY = 0;
+		for (PathIterator path = shape.getPathIterator(null); !path.isDone(); path.next()) {
+			int type = path.currentSegment(coords);
+			switch (type) {
+			case PathIterator.SEG_MOVETO:
+				if (edgeStarts.size > 0 && (lastX != startX || lastY != startY))
+					addEdge(edges, edgeStarts, lastX, lastY, startX, startY); // Close the previous contour.
+				addContour(shape, edges, edgeStarts);
+				startX = lastX = coords[0];
+				startY = lastY = coords[1];
+				continue;
+			case PathIterator.SEG_CLOSE:
+				if (lastX != startX || lastY != startY) addEdge(edges, edgeStarts, lastX, lastY, startX, startY);
+				lastX = startX;
+				lastY = startY;
+				addContour(shape, edges, edgeStarts);
+				continue;
+			case PathIterator.SEG_LINETO:
+				if (coords[0] == lastX && coords[1] == lastY) continue;
+				addEdge(edges, edgeStarts, lastX, lastY, coords[0], coords[1]);
+				break;
+			case PathIterator.SEG_QUADTO:
+				edgeStarts.add(edges.size);
+				edges.add(lastX, lastY, coords[0], coords[1]);
+				edges.add(coords[2], coords[3]);
+				break;
+			case PathIterator.SEG_CUBICTO:
+				edgeStarts.add(edges.size);
+				edges.add(lastX, lastY, coords[0], coords[1]);
+				edges.add(coords[2], coords[3], coords[4], coords[5]);
+				break;
+			}
+			int count = type == PathIterator.SEG_LINETO ? 2 : type == PathIterator.SEG_QUADTO ? 4 : 6;
+			lastX = coords[count - 2];
+			lastY = coords[count - 1];
+		}
+		if (edgeStarts.size > 0 && (lastX != startX || lastY != startY)) addEdge(edges, edgeStarts, lastX, lastY, startX, startY);
+		addContour(shape, edges, edgeStarts);
+	}
+
+	private void addEdge (FloatArray edges, IntArray edgeStarts, float x1, float y1, float x2, float y2) {
+		edgeStarts.add(edges.size);
+		edges.add(x1, y1, x2, y2);
+	}
+
+	/** Colors the edges of a closed contour, flattens them into segments and clears the edges. */
+	private void addContour (Shape shape, FloatArray edges, IntArray edgeStarts) {
+		int edgeCount = edgeStarts.size;
+		if (edgeCount == 0) return;
+		edgeStarts.add(edges.size);
+
+		// Find the corners, where an edge starts in a different direction than the previous edge ends.
+		IntArray corners = new IntArray();
+		float[] points = edges.items;
+		for (int i = 0; i < edgeCount; i++) {
+			int previous = (i + edgeCount - 1) % edgeCount;
+			int start = edgeStarts.get(i), previousEnd = edgeStarts.get(previous + 1);
+			// Direction at the start of this edge and at the end of the previous edge.
+			float ax = points[start + 2] - points[start], ay = points[start + 3] - points[start + 1];
+			float bx = points[previousEnd - 2] - points[previousEnd - 4], by = points[previousEnd - 1] - points[previousEnd - 3];
+			double aLength = Math.sqrt(ax * ax + ay * ay), bLength = Math.sqrt(bx * bx + by * by);
+			if (aLength == 0 || bLength == 0) continue;
+			double dot = (ax * bx + ay * by) / (aLength * bLength), cross = (ax * by - ay * bx) / (aLength * bLength);
+			if (dot <= 0 || Math.abs(cross) > cornerThreshold) corners.add(i);
+		}
+
+		int firstSegment = segmentFlags.size;
+		if (corners.size == 0) {
+			// Smooth contour, every edge has all channels.
+			for (int i = 0; i < edgeCount; i++)
+				flatten(points, edgeStarts.get(i), edgeStarts.get(i + 1), WHITE);
+		} else if (corners.size == 1) {
+			// Teardrop, split the segments into thirds starting at the corner.
+			int corner = corners.first();
+			for (int i = 0; i < edgeCount; i++) {
+				int edge = (corner + i) % edgeCount;
+				flatten(points, edgeStarts.get(edge), edgeStarts.get(edge + 1), 0);
+			}
+			int count = segmentFlags.size - firstSegment;
+			int[] flags = segmentFlags.items;
+			for (int i = 0; i < count; i++) {
+				int third = count < 3 ? i : i * 3 / count;
+				int color = third == 0 ? MAGENTA : third == 1 ? WHITE : YELLOW;
+				int segment = firstSegment + i;
+				flags[segment] = color;
+				if (i == 0 || (count >= 3 && (i - 1) * 3 / count != third)) flags[segment] |= EDGE_START;
+				if (i == count - 1 || (count >= 3 && (i + 1) * 3 / count != third)) flags[segment] |= EDGE_END;
+			}
+		} else {
+			// Switch channels at each corner. The last edge must also differ from the first.
+			int corner = corners.first(), spline = 0, color = CYAN;
+			for (int i = 0; i < edgeCount; i++) {
+				int edge = (corner + i) % edgeCount;
+				if (spline + 1 < corners.size && corners.get(spline + 1) == edge) {
+					spline++;
+					color = switchColor(color, spline == corners.size - 1 ? CYAN : 0);
+				}
+				flatten(points, edgeStarts.get(edge), edgeStarts.get(edge + 1), color);
+			}
+		}
+		orient(shape, firstSegment);
+
+		edges.clear();
+		edgeStarts.clear();
+	}
+
+	/** Returns the next of cyan, magenta and yellow, which isn't the banned color. */
+	static private int switchColor (int color, int banned) {
+		int combined = color & banned;
+		if (combined == RED || combined == GREEN || combined == BLUE) return combined ^ WHITE;
+		int shifted = color << 1;
+		return (shifted | shifted >> 3) & WHITE;
+	}
+
+	/** Adds the segments for an edge. Curves are split into segments about a pixel long. */
+	private void flatten (float[] points, int start, int end, int color) {
+		int count = (end - start) / 2 - 1; // 1 for a line, 2 for a quadratic, 3 for a cubic.
+		int first = segmentFlags.size;
+		if (count == 1) {
+			segments.add(points[start], points[start + 1], points[start + 2], points[start + 3]);
+			segmentFlags.add(color);
+		} else {
+			double length = 0;
+			for (int i = start; i < end - 2; i += 2)
+				length += Math.hypot(points[i + 2] - points[i], points[i + 3] - points[i + 1]);
+			int steps = Math.max(2, Math.min(64, (int)Math.ceil(length)));
+			float x = points[start], y = points[start + 1];
+			for (int step = 1; step <= steps; step++) {
+				float t = step / (float)steps, it = 1 - t, nx, ny;
+				if (count == 2) {
+					nx = it * it * points[start] + 2 * it * t * points[start + 2] + t * t * points[start + 4];
+					ny = it * it * points[start + 1] + 2 * it * t * points[start + 3] + t * t * points[start + 5];
+				} else {
+					nx = it * it * it * points[start] + 3 * it * it * t * points[start + 2] + 3 * it * t * t * points[start + 4]
+						+ t * t * t * points[start + 6];
+					ny = it * it * it * points[start + 1] + 3 * it * it * t * points[start + 3] + 3 * it * t * t * points[start + 5]
+						+ t * t * t * points[start + 7];
+				}
+				segments.add(x, y, nx, ny);
+				segmentFlags.add(color);
+				x = nx;
+				y = ny;
+			}
+		}
+		segmentFlags.items[first] |= EDGE_START;
+		segmentFlags.items[segmentFlags.size - 1] |= EDGE_END;
+	}
+
+	/** Reverses the contour's segments if the shape is not on their left side, so the distance is positive inside. */
+	private void orient (Shape shape, int firstSegment) {
+		float[] segments = this.segments.items;
+		int longest = -1;
+		double longestLength = 0;
+		for (int i = firstSegment, n = segmentFlags.size; i < n; i++) {
+			int s = i * 4;
+			double length = Math.hypot(segments[s + 2] - segments[s], segments[s + 3] - segments[s + 1]);
+			if (length > longestLength) {
+				longest = i;
+				longestLength = length;
+			}
+		}
+		if (longest == -1) return;
+		int s = longest * 4;
+		double dx = (segments[s + 2] - segments[s]) / longestLength, dy = (segments[s + 3] - segments[s + 1]) / longestLength;
+		double offset = Math.min(0.01, longestLength * 0.01);
+		double x = (segments[s] + segments[s + 2]) / 2 - dy * offset, y = (segments[s + 1] + segments[s + 3]) / 2 + dx * offset;
+		if (shape.contains(x, y)) return;
+
+		int[] flags = segmentFlags.items;
+		for (int i = firstSegment, j = segmentFlags.size - 1; i <= j; i++, j--) {
+			int si = i * 4, sj = j * 4;
+			float ax = segments[si], ay = segments[si + 1], bx = segments[si + 2], by = segments[si + 3];
+			segments[si] = segments[sj + 2];
+			segments[si + 1] = segments[sj + 3];
+			segments[si + 2] = segments[sj];
+			segments[si + 3] = segments[sj + 1];
+			segments[sj] = bx;
+			segments[sj + 1] = by;
+			segments[sj + 2] = ax;
+			segments[sj + 3] = ay;
+			int fi = flags[i], fj = flags[j];
+			flags[i] = swapEnds(fj);
+			flags[j] = swapEnds(fi);
+		}
+	}
+
+	static private int swapEnds (int flags) {
+		return flags & WHITE | ((flags & EDGE_START) != 0 ? EDGE_END : 0) | ((flags & EDGE_END) != 0 ? EDGE_START : 0);
+	}
+
+	static private float median (float r, float g, float b) {
+		return Math.max(Math.min(r, g), Math.min(Math.max(r, g), b));
+	}
+
+	static private int toByte (float value) {
+		return (int)(Math.min(1, Math.max(0, value)) * 255 + 0.5f);
+	}
+}
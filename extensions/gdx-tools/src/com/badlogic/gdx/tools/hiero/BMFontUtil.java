@@ -43,6 +43,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.tools.hiero.unicodefont.Glyph;
 import com.badlogic.gdx.tools.hiero.unicodefont.GlyphPage;
 import com.badlogic.gdx.tools.hiero.unicodefont.UnicodeFont;
+import com.badlogic.gdx.tools.hiero.unicodefont.UnicodeFont.RenderType;
+import com.badlogic.gdx.tools.hiero.unicodefont.effects.DistanceFieldEffect;
+import com.badlogic.gdx.tools.hiero.unicodefont.effects.MultiChannelDistanceFieldEffect;
 import com.badlogic.gdx.utils.IntIntMap;
 
 /** @author Nathan Sweet */
@@ -88,6 +91,25 @@ public class BMFontUtil {
 			pageIndex++;
 		}
 
+		// Effects are only applied when rendering with Java2D, otherwise the pages don't have a distance field.
+		for (Iterator iter = unicodeFont.getEffects().iterator(); iter.hasNext();) {
+			Object effect = iter.next();
+			if (!(effect instanceof MultiChannelDistanceFieldEffect) && !(effect instanceof DistanceFieldEffect)) continue;
+			if (unicodeFont.getRenderType() != RenderType.Java) {
+				System.out.println("The distance field effect is ignored because it requires the Java render type.");
+				break;
+			}
+			if (effect instanceof MultiChannelDistanceFieldEffect) {
+				out.println(
+					"distanceField fieldType=msdf distanceRange=" + ((MultiChannelDistanceFieldEffect)effect).getSpread() * 2);
+				break;
+			}
+			if (effect instanceof DistanceFieldEffect) {
+				out.println("distanceField fieldType=sdf distanceRange=" + ((DistanceFieldEffect)effect).getSpread() * 2);
+				break;
+			}
+		}
+
 		out.println("chars count=" + glyphCount);
 
 		pageIndex = 0;
@@ -103,6 +103,7 @@ import com.badlogic.gdx.utils.StringBuilder;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.DistanceFieldEffect;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.EffectUtil;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.GradientEffect;
+import com.badlogic.gdx.tools.hiero.unicodefont.effects.MultiChannelDistanceFieldEffect;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.OutlineEffect;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.OutlineWobbleEffect;
 import com.badlogic.gdx.tools.hiero.unicodefont.effects.OutlineZigzagEffect;
@@ -200,6 +201,7 @@ public class Hiero extends JFrame {
 		effectsListModel.addElement(new OutlineZigzagEffect());
 		effectsListModel.addElement(new ShadowEffect());
 		effectsListModel.addElement(new DistanceFieldEffect());
+		effectsListModel.addElement(new MultiChannelDistanceFieldEffect());
 		new EffectPanel(colorEffect);
 
 		parseArgs(args);
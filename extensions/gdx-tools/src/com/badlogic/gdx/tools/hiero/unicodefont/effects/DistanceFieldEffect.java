@@ -74,6 +74,11 @@ public class DistanceFieldEffect implements ConfigurableEffect {
 		g.drawImage(distanceField, new AffineTransform(), null);
 	}
 
+	/** Returns the maximum distance in pixels from edges that is stored in the distance field. */
+	public float getSpread () {
+		return spread;
+	}
+
 	@Override
 	public String toString () {
 		return "Distance field";
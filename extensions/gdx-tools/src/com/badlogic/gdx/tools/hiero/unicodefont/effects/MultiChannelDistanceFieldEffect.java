@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.hiero.unicodefont.effects;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.badlogic.gdx.tools.distancefield.MultiChannelDistanceFieldGenerator;
+import com.badlogic.gdx.tools.hiero.unicodefont.Glyph;
+import com.badlogic.gdx.tools.hiero.unicodefont.UnicodeFont;
+
+/** An effect to create a multi-channel distance field from the glyph outlines. Unlike {@link DistanceFieldEffect}, corners stay
+ * sharp under high magnification, so a small font size can be used for all sizes. The glyph images replace the output of the
+ * effects before this one. The font is rendered with {@link com.badlogic.gdx.graphics.g2d.DistanceFieldFont} and its
+ * multi-channel shader.
+ * <p>
+ * Only the Java render type has glyph outlines, with other render types effects are not applied and the font is written
+ * without distance field information.
+ * @see MultiChannelDistanceFieldGenerator */
+public class MultiChannelDistanceFieldEffect implements ConfigurableEffect {
+	private float spread = 4;
+
+	@Override
+	public void draw (BufferedImage image, Graphics2D g, UnicodeFont unicodeFont, Glyph glyph) {
+		Shape shape = glyph.getShape();
+		if (shape == null) return;
+
+		MultiChannelDistanceFieldGenerator generator = new MultiChannelDistanceFieldGenerator();
+		generator.setSpread(spread);
+		BufferedImage distanceField = generator.generateDistanceField(shape, glyph.getWidth(), glyph.getHeight());
+
+		// Replace the pixels, the RGB values are needed even where alpha is low.
+		g.setComposite(AlphaComposite.Src);
+		g.drawImage(distanceField, new AffineTransform(), null);
+	}
+
+	/** Returns the maximum distance in pixels from edges that is stored in the distance field. */
+	public float getSpread () {
+		return spread;
+	}
+
+	@Override
+	public String toString () {
+		return "Multi-channel distance field";
+	}
+
+	@Override
+	public List getValues () {
+		List values = new ArrayList();
+		values.add(EffectUtil.floatValue("Spread", spread, 1.0f, Float.MAX_VALUE,
+			"The maximum distance from edges where the effect of the distance field is seen. The padding should be at least this large."));
+		return values;
+	}
+
+	@Override
+	public void setValues (List values) {
+		for (Iterator iter = values.iterator(); iter.hasNext();) {
+			Value value = (Value)iter.next();
+			if ("Spread".equals(value.getName())) spread = Math.max(1, (Float)value.getObject());
+		}
+	}
+}
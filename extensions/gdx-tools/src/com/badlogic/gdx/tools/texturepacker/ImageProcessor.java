@@ -56,6 +56,19 @@ public class ImageProcessor {
 	/** The image won't be kept in-memory during packing if {@link Settings#limitMemory} is true.
 	 * @param rootPath Used to strip the root directory prefix from image file names, can be null. */
 	public Rect addImage (File file, String rootPath) {
+		return addRect(prepareImage(file, rootPath));
+	}
+
+	/** The image will be kept in-memory during packing.
+	 * @see #addImage(File, String) */
+	public Rect addImage (BufferedImage image, String name) {
+		return addRect(prepareImage(image, name));
+	}
+
+	/** Reads and processes the image without adding it. This doesn't modify the image processor, so it can be called by multiple
+	 * threads at the same time.
+	 * @return The rect to pass to {@link #addRect(Rect)}, or null if the image is blank. */
+	Rect prepareImage (File file, String rootPath) {
 		BufferedImage image;
 		try {
 			image = ImageIO.read(file);
@@ -82,14 +95,13 @@ public class ImageProcessor {
 		int dotIndex = name.lastIndexOf('.');
 		if (dotIndex != -1) name = name.substring(0, dotIndex);
 
-		Rect rect = addImage(image, name);
+		Rect rect = prepareImage(image, name);
 		if (rect != null && settings.limitMemory) rect.unloadImage(file);
 		return rect;
 	}
 
-	/** The image will be kept in-memory during packing.
-	 * @see #addImage(File, String) */
-	public Rect addImage (BufferedImage image, String name) {
+	/** @see #prepareImage(File, String) */
+	Rect prepareImage (BufferedImage image, String name) {
 		Rect rect = processImage(image, name);
 
 		if (rect == null) {
@@ -97,9 +109,17 @@ public class ImageProcessor {
 			return null;
 		}
 
+		if (settings.alias || settings.cacheDir != null) rect.hash = hash(rect.getImage(this));
+		return rect;
+	}
+
+	/** Adds a rect from {@link #prepareImage(File, String)}, unless it is null or an alias of a rect already added.
+	 * @return The rect, or null if it was not added. */
+	Rect addRect (Rect rect) {
+		if (rect == null) return null;
+
 		if (settings.alias) {
-			String crc = hash(rect.getImage(this));
-			Rect existing = crcs.get(crc);
+			Rect existing = crcs.get(rect.hash);
 			if (existing != null) {
 				if (!settings.silent) {
 					String rectName = rect.name + (rect.index != -1 ? "_" + rect.index : "");
@@ -109,7 +129,7 @@ public class ImageProcessor {
 				existing.aliases.add(new Alias(rect));
 				return null;
 			}
-			crcs.put(crc, rect);
+			crcs.put(rect.hash, rect);
 		}
 
 		rects.add(rect);
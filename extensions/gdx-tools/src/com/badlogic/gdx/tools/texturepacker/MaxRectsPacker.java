@@ -17,6 +17,10 @@
 package com.badlogic.gdx.tools.texturepacker;
 
 import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker.Packer;
@@ -29,13 +33,15 @@ import com.badlogic.gdx.utils.IntSet;
 import com.badlogic.gdx.utils.Sort;
 
 /** Packs pages of images using the maximal rectangles bin packing algorithm by Jukka Jylänki. A brute force binary search is used
- * to pack into the smallest bin possible.
+ * to pack into the smallest bin possible. The heuristics for each size are tried in parallel when
+ * {@link Settings#getThreadCount()} is more than 1.
  * @author Nathan Sweet */
 public class MaxRectsPacker implements Packer {
 	final Settings settings;
 	private final FreeRectChoiceHeuristic[] methods = FreeRectChoiceHeuristic.values();
-	private final MaxRects maxRects = new MaxRects();
+	private final MaxRects[] maxRects = new MaxRects[methods.length];
 	private final Sort sort = new Sort();
+	private ExecutorService executor;
 
 	private final Comparator<Rect> rectComparator = new Comparator<Rect>() {
 		public int compare (Rect o1, Rect o2) {
@@ -45,6 +51,8 @@ public class MaxRectsPacker implements Packer {
 
 	public MaxRectsPacker (Settings settings) {
 		this.settings = settings;
+		for (int i = 0; i < methods.length; i++)
+			maxRects[i] = new MaxRects();
 		if (settings.minWidth > settings.maxWidth) throw new RuntimeException("Page min width cannot be higher than max width.");
 		if (settings.minHeight > settings.maxHeight)
 			throw new RuntimeException("Page min height cannot be higher than max height.");
@@ -55,6 +63,19 @@ public class MaxRectsPacker implements Packer {
 	}
 
 	public Array<Page> pack (ProgressListener progress, Array<Rect> inputRects) {
+		int threads = Math.min(settings.getThreadCount(), methods.length);
+		if (threads > 1) executor = Executors.newFixedThreadPool(threads - 1);
+		try {
+			return packPages(progress, inputRects);
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+				executor = null;
+			}
+		}
+	}
+
+	private Array<Page> packPages (ProgressListener progress, Array<Rect> inputRects) {
 		int n = inputRects.size;
 		for (int i = 0; i < n; i++) {
 			Rect rect = inputRects.get(i);
@@ -217,32 +238,65 @@ public class MaxRectsPacker implements Packer {
 
 	/** @param fully If true, the only results that pack all rects will be considered. If false, all results are considered, not
 	 *           all rects may be packed. */
-	private Page packAtSize (boolean fully, int width, int height, Array<Rect> inputRects) {
-		Page bestResult = null;
-		for (FreeRectChoiceHeuristic method : methods) {
-			maxRects.init(width, height);
-			Page result;
-			if (!settings.fast) {
-				result = maxRects.pack(inputRects, method);
-			} else {
-				Array<Rect> remaining = new Array<>();
-				for (int ii = 0, nn = inputRects.size; ii < nn; ii++) {
-					Rect rect = inputRects.get(ii);
-					if (maxRects.insert(rect, method) == null) {
-						while (ii < nn)
-							remaining.add(inputRects.get(ii++));
+	private Page packAtSize (final boolean fully, final int width, final int height, final Array<Rect> inputRects) {
+		Page[] results = new Page[methods.length];
+		if (executor == null) {
+			for (int i = 0; i < methods.length; i++)
+				results[i] = packAtSize(i, fully, width, height, inputRects);
+		} else {
+			// The first heuristic is run on this thread while the others run on the executor.
+			Future<Page>[] futures = new Future[methods.length];
+			for (int i = 1; i < methods.length; i++) {
+				final int index = i;
+				futures[i] = executor.submit(new Callable<Page>() {
+					public Page call () {
+						return packAtSize(index, fully, width, height, inputRects);
 					}
-				}
-				result = maxRects.getResult();
-				result.remainingRects = remaining;
+				});
+			}
+			try {
+				results[0] = packAtSize(0, fully, width, height, inputRects);
+				for (int i = 1; i < methods.length; i++)
+					results[i] = TexturePacker.getResult(futures[i]);
+			} finally {
+				for (int i = 1; i < methods.length; i++)
+					futures[i].cancel(true);
 			}
-			if (fully && result.remainingRects.size > 0) continue;
-			if (result.outputRects.size == 0) continue;
-			bestResult = getBest(bestResult, result);
 		}
+
+		// Choose in heuristic order so the result doesn't depend on the number of threads.
+		Page bestResult = null;
+		for (int i = 0; i < methods.length; i++)
+			bestResult = getBest(bestResult, results[i]);
 		return bestResult;
 	}
 
+	/** Packs using a single heuristic. Each heuristic has its own {@link MaxRects}, so they can be run at the same time.
+	 * @return May be null. */
+	private Page packAtSize (int methodIndex, boolean fully, int width, int height, Array<Rect> inputRects) {
+		FreeRectChoiceHeuristic method = methods[methodIndex];
+		MaxRects maxRects = this.maxRects[methodIndex];
+		maxRects.init(width, height);
+		Page result;
+		if (!settings.fast) {
+			result = maxRects.pack(inputRects, method);
+		} else {
+			Array<Rect> remaining = new Array<>();
+			for (int ii = 0, nn = inputRects.size; ii < nn; ii++) {
+				Rect rect = inputRects.get(ii);
+				if (maxRects.insert(rect, method) == null) {
+					while (ii < nn)
+						remaining.add(inputRects.get(ii++));
+				}
+			}
+			result = maxRects.getResult();
+			result.remainingRects = remaining;
+		}
+		if (fully && result.remainingRects.size > 0) return null;
+		if (result.outputRects.size == 0) return null;
+		return result;
+	}
+
 	private Page getBest (Page result1, Page result2) {
 		if (result1 == null) return result2;
 		if (result2 == null) return result1;
@@ -22,10 +22,20 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -59,6 +69,7 @@ public class TexturePacker {
 	private final ImageProcessor imageProcessor;
 	private final Array<InputImage> inputImages = new Array();
 	private ProgressListener progress;
+	private String settingsJson;
 
 	/** @param rootDir See {@link #setRootDir(File)}. */
 	public TexturePacker (File rootDir, Settings settings) {
@@ -144,6 +155,16 @@ public class TexturePacker {
 			};
 		}
 
+		int threads = settings.getThreadCount();
+		ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+		try {
+			pack(outputDir, packFileName, executor);
+		} finally {
+			if (executor != null) executor.shutdown();
+		}
+	}
+
+	private void pack (File outputDir, String packFileName, ExecutorService executor) {
 		progress.start(1);
 		int n = settings.scale.length;
 		for (int i = 0; i < n; i++) {
@@ -157,14 +178,7 @@ public class TexturePacker {
 			progress.start(0.35f);
 			progress.count = 0;
 			progress.total = inputImages.size;
-			for (int ii = 0, nn = inputImages.size; ii < nn; ii++, progress.count++) {
-				InputImage inputImage = inputImages.get(ii);
-				if (inputImage.file != null)
-					imageProcessor.addImage(inputImage.file, inputImage.rootPath);
-				else
-					imageProcessor.addImage(inputImage.image, inputImage.name);
-				if (progress.update(ii + 1, nn)) return;
-			}
+			if (addImages(executor)) return;
 			progress.end();
 
 			progress.start(0.35f);
@@ -196,6 +210,60 @@ public class TexturePacker {
 		progress.end();
 	}
 
+	/** Adds the input images to the image processor. Images are read and processed in parallel when an executor is given, but are
+	 * added in order so the result is the same.
+	 * @return true if cancelled. */
+	private boolean addImages (ExecutorService executor) {
+		int n = inputImages.size;
+		if (executor == null) {
+			for (int i = 0; i < n; i++, progress.count++) {
+				InputImage inputImage = inputImages.get(i);
+				if (inputImage.file != null)
+					imageProcessor.addImage(inputImage.file, inputImage.rootPath);
+				else
+					imageProcessor.addImage(inputImage.image, inputImage.name);
+				if (progress.update(i + 1, n)) return true;
+			}
+			return false;
+		}
+
+		Array<Future<Rect>> futures = new Array(n);
+		for (int i = 0; i < n; i++) {
+			final InputImage inputImage = inputImages.get(i);
+			futures.add(executor.submit(new Callable<Rect>() {
+				public Rect call () {
+					if (inputImage.file != null) return imageProcessor.prepareImage(inputImage.file, inputImage.rootPath);
+					return imageProcessor.prepareImage(inputImage.image, inputImage.name);
+				}
+			}));
+		}
+		try {
+			for (int i = 0; i < n; i++, progress.count++) {
+				imageProcessor.addRect(getResult(futures.get(i)));
+				if (progress.update(i + 1, n)) return true;
+			}
+		} finally {
+			for (int i = 0; i < n; i++)
+				futures.get(i).cancel(true);
+		}
+		return false;
+	}
+
+	/** Waits for the task, rethrowing any exception it threw. */
+	static <T> T getResult (Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if (cause instanceof Error) throw (Error)cause;
+			throw new RuntimeException(cause);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while packing.", ex);
+		}
+	}
+
 	private void writeImages (File outputDir, String scaledPackFileName, Array<Page> pages) {
 		File packFileNoExt = new File(outputDir, scaledPackFileName);
 		File packDir = packFileNoExt.getParentFile();
@@ -251,6 +319,22 @@ public class TexturePacker {
 			new FileHandle(outputFile).parent().mkdirs();
 			page.imageName = outputFile.getName();
 
+			// Copy the page image from the cache if nothing on the page has changed.
+			File cacheFile = null;
+			if (settings.cacheDir != null) {
+				String pageHash = hash(page);
+				if (pageHash != null) {
+					cacheFile = new File(settings.cacheDir, pageHash + "." + settings.outputFormat);
+					if (cacheFile.exists()) {
+						if (!settings.silent) System.out.println("Copying " + width + "x" + height + " from cache: " + outputFile);
+						copyFile(cacheFile, outputFile);
+						if (progress.update(p + 1, pn)) return;
+						progress.count++;
+						continue;
+					}
+				}
+			}
+
 			BufferedImage canvas = new BufferedImage(width, height, getBufferedImageType(settings.format));
 			Graphics2D g = (Graphics2D)canvas.getGraphics();
 
@@ -361,11 +445,74 @@ public class TexturePacker {
 				}
 			}
 
+			if (cacheFile != null) {
+				// Copy to a temporary file first so the cache never has a partially written page.
+				File cacheDir = cacheFile.getParentFile();
+				cacheDir.mkdirs();
+				try {
+					File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheDir);
+					copyFile(outputFile, tempFile);
+					Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				} catch (IOException ex) {
+					throw new RuntimeException("Error writing cache file: " + cacheFile, ex);
+				}
+			}
+
 			if (progress.update(p + 1, pn)) return;
 			progress.count++;
 		}
 	}
 
+	/** Returns a hash of everything that affects the page image, or null if a rect has no image hash. */
+	private @Null String hash (Page page) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA1");
+			if (settingsJson == null) {
+				// Exclude settings that don't affect the output, so changing them doesn't miss the cache.
+				Settings hashed = new Settings(settings);
+				hashed.threads = 0;
+				hashed.cacheDir = null;
+				hashed.silent = false;
+				settingsJson = new Json().toJson(hashed);
+			}
+			digest.update(settingsJson.getBytes("UTF-8"));
+			hash(digest, page.x);
+			hash(digest, page.y);
+			hash(digest, page.width);
+			hash(digest, page.height);
+			hash(digest, page.imageWidth);
+			hash(digest, page.imageHeight);
+			for (int i = 0, n = page.outputRects.size; i < n; i++) {
+				Rect rect = page.outputRects.get(i);
+				if (rect.hash == null) return null;
+				digest.update(rect.hash.getBytes("UTF-8"));
+				hash(digest, rect.x);
+				hash(digest, rect.y);
+				hash(digest, rect.width);
+				hash(digest, rect.height);
+				hash(digest, rect.rotated ? 1 : 0);
+			}
+			return new BigInteger(1, digest.digest()).toString(16);
+		} catch (NoSuchAlgorithmException | IOException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	static private void hash (MessageDigest digest, int value) {
+		digest.update((byte)(value >> 24));
+		digest.update((byte)(value >> 16));
+		digest.update((byte)(value >> 8));
+		digest.update((byte)value);
+	}
+
+	static private void copyFile (File source, File target) {
+		try {
+			Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			throw new RuntimeException("Error copying file: " + source + " -> " + target, ex);
+		}
+	}
+
 	static private void plot (BufferedImage dst, int x, int y, int argb) {
 		if (0 <= x && x < dst.getWidth() && 0 <= y && y < dst.getHeight()) dst.setRGB(x, y, argb);
 	}
@@ -621,6 +768,8 @@ public class TexturePacker {
 		private BufferedImage image;
 		private File file;
 		int score1, score2;
+		/** Hash of the image pixels, used for aliases and the page cache. */
+		String hash;
 
 		public Rect (BufferedImage source, int left, int top, int newWidth, int newHeight, boolean isPatch) {
 			image = new BufferedImage(source.getColorModel(),
@@ -691,6 +840,7 @@ public class TexturePacker {
 			score2 = rect.score2;
 			file = rect.file;
 			isPatch = rect.isPatch;
+			hash = rect.hash;
 		}
 
 		public int compareTo (Rect o) {
@@ -932,6 +1082,8 @@ public class TexturePacker {
 		public String atlasExtension = ".atlas";
 		public boolean prettyPrint = true;
 		public boolean legacyOutput = true;
+		public int threads;
+		public @Null String cacheDir;
 
 		public Settings () {
 		}
@@ -985,6 +1137,14 @@ public class TexturePacker {
 			atlasExtension = settings.atlasExtension;
 			prettyPrint = settings.prettyPrint;
 			legacyOutput = settings.legacyOutput;
+			threads = settings.threads;
+			cacheDir = settings.cacheDir;
+		}
+
+		/** Returns {@link #threads}, or the number of available processors if it is 0 or less. Images are read and packed with
+		 * multiple threads when this is more than 1. */
+		public int getThreadCount () {
+			return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
 		}
 
 		public String getScaledPackFileName (String packFileName, int scaleIndex) {
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.texturepacker;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+
+/** Checks that packing with multiple threads and copying pages from the cache give the same output as packing with one
+ * thread. */
+public class TexturePackerCacheTest {
+	public static void main (String[] args) throws Exception {
+		File root = new File("tmp/packcache");
+		delete(root);
+		File input = new File(root, "input");
+		input.mkdirs();
+		Random random = new Random(1);
+		for (int i = 0; i < 60; i++) {
+			BufferedImage image = new BufferedImage(8 + random.nextInt(120), 8 + random.nextInt(120), BufferedImage.TYPE_INT_ARGB);
+			for (int y = 0; y < image.getHeight(); y++)
+				for (int x = 0; x < image.getWidth(); x++)
+					image.setRGB(x, y, random.nextInt());
+			ImageIO.write(image, "png", new File(input, "image" + i + ".png"));
+		}
+
+		File serial = pack(input, new File(root, "serial"), 1, null);
+		check(serial, pack(input, new File(root, "parallel"), 4, null), "Parallel output differs.");
+
+		// The first pack fills the cache, the others copy every page from it. The thread count is not part of the cache key.
+		File cache = new File(root, "cache");
+		check(serial, pack(input, new File(root, "cacheMiss"), 4, cache), "Output differs when filling the cache.");
+		int cached = cache.list().length;
+		check(serial, pack(input, new File(root, "cacheHit"), 1, cache), "Output differs when copied from the cache.");
+		check(serial, pack(input, new File(root, "cacheHitParallel"), 4, cache), "Output differs when copied from the cache.");
+		if (cache.list().length != cached) throw new RuntimeException("Pages were not copied from the cache.");
+
+		System.out.println("Output is identical, " + cached + " cached pages.");
+		delete(root);
+	}
+
+	static private File pack (File input, File output, int threads, File cacheDir) {
+		Settings settings = new Settings();
+		settings.maxWidth = 256;
+		settings.maxHeight = 256;
+		settings.silent = true;
+		settings.threads = threads;
+		if (cacheDir != null) settings.cacheDir = cacheDir.getPath();
+		TexturePacker.process(settings, input.getPath(), output.getPath(), "pack");
+		return output;
+	}
+
+	static private void check (File expected, File actual, String message) throws IOException {
+		String[] names = expected.list();
+		Arrays.sort(names);
+		String[] actualNames = actual.list();
+		Arrays.sort(actualNames);
+		if (!Arrays.equals(names, actualNames)) throw new RuntimeException(message + " " + actual);
+		for (String name : names) {
+			byte[] bytes = Files.readAllBytes(new File(expected, name).toPath());
+			if (!Arrays.equals(bytes, Files.readAllBytes(new File(actual, name).toPath())))
+				throw new RuntimeException(message + " " + new File(actual, name));
+		}
+	}
+
+	static private void delete (File file) {
+		File[] files = file.listFiles();
+		if (files != null) {
+			for (File child : files)
+				delete(child);
+		}
+		file.delete();
+	}
+}
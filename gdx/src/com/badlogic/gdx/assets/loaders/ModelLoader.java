@@ -24,12 +24,14 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelMaterial;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelTexture;
 import com.badlogic.gdx.graphics.g3d.utils.TextureProvider;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 
 public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends AsynchronousAssetLoader<Model, P> {
@@ -51,7 +53,10 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 	/** Directly load the model on the calling thread. The model with not be managed by an {@link AssetManager}. */
 	public Model loadModel (final FileHandle fileHandle, TextureProvider textureProvider, P parameters) {
 		final ModelData data = loadModelData(fileHandle, parameters);
-		return data == null ? null : new Model(data, textureProvider);
+		if (data == null) return null;
+		final Model result = new Model(data, textureProvider);
+		bakeAnimations(result, parameters);
+		return result;
 	}
 
 	/** Directly load the model on the calling thread. The model with not be managed by an {@link AssetManager}. */
@@ -111,6 +116,7 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		}
 		if (data == null) return null;
 		final Model result = new Model(data, new TextureProvider.AssetTextureProvider(manager));
+		bakeAnimations(result, parameters);
 		// need to remove the textures from the managed disposables, or else ref counting
 		// doesn't work!
 		Iterator<Disposable> disposables = result.getManagedDisposables().iterator();
@@ -123,8 +129,20 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		return result;
 	}
 
+	/** Bakes the animations of the model if {@link ModelParameters#animationSampleRate} is more than 0. */
+	protected void bakeAnimations (Model model, @Null P parameters) {
+		if (parameters == null || parameters.animationSampleRate <= 0) return;
+		for (Animation animation : model.animations)
+			animation.bake(parameters.animationSampleRate, parameters.quantizeAnimations, true);
+	}
+
 	static public class ModelParameters extends AssetLoaderParameters<Model> {
 		public TextureLoader.TextureParameter textureParameter;
+		/** If more than 0, the animations are baked at this number of samples per second and their keyframes are discarded, see
+		 * {@link Animation#bake(float, boolean, boolean)}. */
+		public float animationSampleRate;
+		/** Whether baked animations are stored with 16 bits per component. */
+		public boolean quantizeAnimations;
 
 		public ModelParameters () {
 			textureParameter = new TextureLoader.TextureParameter();
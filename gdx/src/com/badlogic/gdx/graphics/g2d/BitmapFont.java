@@ -39,6 +39,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.StreamUtils;
 
 /** Renders bitmap fonts. The font consists of 2 files: an image file or {@link TextureRegion} containing the glyphs and a file in
@@ -470,6 +471,12 @@ public class BitmapFont implements Disposable {
 
 		/** Additional characters besides whitespace where text is wrapped. Eg, a hypen (-). */
 		public char[] breakChars;
+		/** The type of distance field used by the glyph images, eg "sdf" or "msdf", or null if the images are not a distance field.
+		 * Set by the "distanceField" line in the font file.
+		 * @see DistanceFieldFont */
+		public @Null String distanceFieldType;
+		/** The range of distances stored in the distance field, in pixels of the glyph images. 0 if not set by the font file. */
+		public float distanceRange;
 		public char[] xChars = {'x', 'e', 'a', 'o', 'n', 's', 'r', 'c', 'u', 'm', 'v', 'w', 'z'};
 		public char[] capChars = {'M', 'N', 'B', 'D', 'C', 'E', 'F', 'K', 'A', 'G', 'H', 'I', 'J', 'L', 'O', 'P', 'Q', 'R', 'S',
 			'T', 'U', 'V', 'W', 'X', 'Y', 'Z'};
@@ -558,6 +565,10 @@ public class BitmapFont implements Disposable {
 					if (line == null) break; // EOF
 					if (line.startsWith("kernings ")) break; // Starting kernings block.
 					if (line.startsWith("metrics ")) break; // Starting metrics block.
+					if (line.startsWith("distanceField ")) {
+						parseDistanceField(line);
+						continue;
+					}
 					if (!line.startsWith("char ")) continue;
 
 					Glyph glyph = new Glyph();
@@ -624,6 +635,11 @@ public class BitmapFont implements Disposable {
 					}
 				}
 
+				if (line != null && line.startsWith("distanceField ")) {
+					parseDistanceField(line);
+					line = reader.readLine();
+				}
+
 				boolean hasMetricsOverride = false;
 				float overrideAscent = 0;
 				float overrideDescent = 0;
@@ -720,6 +736,21 @@ public class BitmapFont implements Disposable {
 			}
 		}
 
+		/** Parses a line like: <code>distanceField fieldType=msdf distanceRange=4</code> */
+		private void parseDistanceField (String line) {
+			StringTokenizer tokens = new StringTokenizer(line, " =");
+			tokens.nextToken();
+			while (tokens.hasMoreTokens()) {
+				String key = tokens.nextToken();
+				if (!tokens.hasMoreTokens()) break;
+				String value = tokens.nextToken().replace("\"", "");
+				if (key.equals("fieldType"))
+					distanceFieldType = value;
+				else if (key.equals("distanceRange"))
+					distanceRange = Float.parseFloat(value);
+			}
+		}
+
 		public void setGlyphRegion (Glyph glyph, TextureRegion region) {
 			Texture texture = region.getTexture();
 			float invTexWidth = 1.0f / texture.getWidth();
@@ -25,6 +25,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.Pools;
 
@@ -44,6 +45,10 @@ public class BitmapFontCache {
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
 	private float currentTint;
+	/** The layout cached by {@link #updateText(GlyphLayout, float, float)}, its version and position. */
+	private @Null GlyphLayout updatedLayout;
+	private int updatedVersion;
+	private float updatedX, updatedY;
 
 	/** Vertex data per page. */
 	private float[][] pageVertices;
@@ -306,6 +311,7 @@ public class BitmapFontCache {
 		Pools.freeAll(pooledLayouts, true);
 		pooledLayouts.clear();
 		layouts.clear();
+		updatedLayout = null;
 		for (int i = 0, n = idx.length; i < n; i++) {
 			if (pageGlyphIndices != null) pageGlyphIndices[i].clear();
 			idx[i] = 0;
@@ -486,6 +492,62 @@ public class BitmapFontCache {
 		addText(layout, x, y);
 	}
 
+	/** Clears any cached glyphs and adds the specified glyphs, like {@link #setText(GlyphLayout, float, float)} but the position
+	 * of the cache is kept. If the same layout was cached by the last call to this method and has since only been changed by a
+	 * single call to {@link GlyphLayout#updateText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)},
+	 * only the vertices for the glyphs after the unchanged glyphs are computed. Nothing is done if the layout is unchanged.
+	 * @param layout The cache keeps the layout until cleared or new text is set. The layout should not be modified before then,
+	 *           except by {@link GlyphLayout#updateText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)}
+	 *           before calling this method again. */
+	public void updateText (GlyphLayout layout, float x, float y) {
+		if (updatedLayout == layout && updatedX == x && updatedY == y && pageVertices.length == 1
+			&& font.regions.size == 1) {
+			if (layout.version == updatedVersion) return; // Unchanged.
+			if (layout.version == updatedVersion + 1 && layout.colors.size <= 2) {
+				updateGlyphs(layout, x + this.x, y + this.y + font.data.ascent);
+				updatedVersion = layout.version;
+				return;
+			}
+		}
+		float oldX = this.x, oldY = this.y;
+		clear();
+		addToCache(layout, x + oldX, y + oldY + font.data.ascent);
+		this.x = oldX;
+		this.y = oldY;
+		updatedLayout = layout;
+		updatedVersion = layout.version;
+		updatedX = x;
+		updatedY = y;
+	}
+
+	/** Replaces the vertices for the glyphs after the layout's unchanged glyphs. Only a single page is supported. */
+	private void updateGlyphs (GlyphLayout layout, float x, float y) {
+		int unchangedGlyphs = layout.unchangedGlyphs;
+		idx[0] = unchangedGlyphs * 20;
+		layouts.clear();
+		if (layout.runs.size > 0) {
+			layouts.add(layout);
+			requirePageGlyphs(0, layout.glyphCount - unchangedGlyphs);
+			float color = NumberUtils.intToFloatColor(layout.colors.get(1)); // Markup is not used, so there is a single color.
+			for (int i = 0, glyphIndex = 0, n = layout.runs.size; i < n; i++) {
+				GlyphRun run = layout.runs.get(i);
+				int glyphCount = run.glyphs.size;
+				if (glyphIndex + glyphCount <= unchangedGlyphs) {
+					glyphIndex += glyphCount;
+					continue;
+				}
+				Object[] glyphs = run.glyphs.items;
+				float[] xAdvances = run.xAdvances.items;
+				float gx = x + run.x, gy = y + run.y;
+				for (int ii = 0; ii < glyphCount; ii++) {
+					gx += xAdvances[ii];
+					if (glyphIndex++ >= unchangedGlyphs) addGlyph((Glyph)glyphs[ii], gx, gy, color);
+				}
+			}
+		}
+		currentTint = Color.WHITE_FLOAT_BITS; // Cached glyphs have changed, reset the current tint.
+	}
+
 	/** Adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout addText (CharSequence str, float x, float y) {
@@ -528,6 +590,7 @@ public class BitmapFontCache {
 	/** Adds the specified glyphs.
 	 * @param layout The cache keeps the layout until cleared or new text is set. The layout should not be modified before then. */
 	public void addText (GlyphLayout layout, float x, float y) {
+		updatedLayout = null;
 		addToCache(layout, x, y + font.data.ascent);
 	}
 
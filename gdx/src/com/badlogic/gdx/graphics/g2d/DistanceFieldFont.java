@@ -31,6 +31,10 @@ import com.badlogic.gdx.utils.Array;
  * <a href="https://libgdx.com/wiki/graphics/2d/fonts/distance-field-fonts">Distance Field Fonts wiki article</a> for usage.
  * Initialize the SpriteBatch with the {@link #createDistanceFieldShader()} shader.
  * <p>
+ * Multi-channel distance fields keep corners sharp at any size, so a single small texture can be used for all sizes. They store
+ * the distance in the RGB channels and need the {@link #createDistanceFieldShader(boolean)} shader for multi-channel fonts, see
+ * {@link #isMultiChannel()}.
+ * <p>
  * Attention: The batch is flushed before and after each string is rendered.
  * @author Florian Falkner */
 public class DistanceFieldFont extends BitmapFont {
@@ -75,6 +79,16 @@ public class DistanceFieldFont extends BitmapFont {
 		final Array<TextureRegion> regions = getRegions();
 		for (TextureRegion region : regions)
 			region.getTexture().setFilter(TextureFilter.Linear, TextureFilter.Linear);
+
+		// A font file with a distance range gives the smoothing for about one pixel of antialiasing.
+		if (distanceFieldSmoothing == 0 && data.distanceRange > 0) distanceFieldSmoothing = data.distanceRange / 2;
+	}
+
+	/** Returns true if the font's {@link BitmapFontData#distanceFieldType} is "msdf" or "mtsdf", which stores the distance in the
+	 * RGB channels. */
+	public boolean isMultiChannel () {
+		String type = getData().distanceFieldType;
+		return "msdf".equals(type) || "mtsdf".equals(type);
 	}
 
 	@Override
@@ -96,6 +110,12 @@ public class DistanceFieldFont extends BitmapFont {
 	/** Returns a new instance of the distance field shader, see https://libgdx.com/wiki/graphics/2d/fonts/distance-field-fonts if
 	 * the u_smoothing uniform > 0.0. Otherwise the same code as the default SpriteBatch shader is used. */
 	static public ShaderProgram createDistanceFieldShader () {
+		return createDistanceFieldShader(false);
+	}
+
+	/** Returns a new instance of the distance field shader, like {@link #createDistanceFieldShader()}.
+	 * @param multiChannel If true, the distance is the median of the RGB channels of a multi-channel distance field. */
+	static public ShaderProgram createDistanceFieldShader (boolean multiChannel) {
 		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
 			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
 			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
@@ -120,10 +140,15 @@ public class DistanceFieldFont extends BitmapFont {
 			+ "varying vec4 v_color;\n" //
 			+ "varying vec2 v_texCoords;\n" //
 			+ "\n" //
+			+ (multiChannel ? "float median(vec3 c) {\n" //
+				+ "	return max(min(c.r, c.g), min(max(c.r, c.g), c.b));\n" //
+				+ "}\n" //
+				+ "\n" : "") //
 			+ "void main() {\n" //
 			+ "	if (u_smoothing > 0.0) {\n" //
 			+ "		float smoothing = 0.25 / u_smoothing;\n" //
-			+ "		float distance = texture2D(u_texture, v_texCoords).a;\n" //
+			+ (multiChannel ? "		float distance = median(texture2D(u_texture, v_texCoords).rgb);\n" //
+				: "		float distance = texture2D(u_texture, v_texCoords).a;\n") //
 			+ "		float alpha = smoothstep(0.5 - smoothing, 0.5 + smoothing, distance);\n" //
 			+ "		gl_FragColor = vec4(v_color.rgb, alpha * v_color.a);\n" //
 			+ "	} else {\n" //
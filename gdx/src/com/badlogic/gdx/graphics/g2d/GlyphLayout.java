@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.CharArray;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Null;
@@ -39,6 +40,10 @@ import com.badlogic.gdx.utils.Pools;
  * <p>
  * Glyphs positions are determined by {@link BitmapFontData#getGlyphs(GlyphRun, CharSequence, int, int, Glyph)}.
  * <p>
+ * Text that changes often, eg a score or timer, can use
+ * {@link #updateText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) updateText} to only lay out the
+ * glyphs after the first changed character.
+ * <p>
  * This class is not thread safe, even if synchronized externally, and must only be used from the game thread.
  * @author Nathan Sweet
  * @author davebaol
@@ -52,7 +57,8 @@ public class GlyphLayout implements Poolable {
 	/** Each run has the glyphs for a line of text.
 	 * <p>
 	 * Runs are pooled, so references should not be kept past the next call to
-	 * {@link #setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)} or {@link #reset()}. */
+	 * {@link #setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)},
+	 * {@link #updateText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)} or {@link #reset()}. */
 	public final Array<GlyphRun> runs = new Array(1);
 
 	/** Determines the colors of the glpyhs in the {@link #runs}. Entries are pairs where the first is the glyph index (across all
@@ -69,6 +75,22 @@ public class GlyphLayout implements Poolable {
 
 	public float width, height;
 
+	// The last text and settings, so updateText can keep the glyphs before the first changed character.
+	private @Null BitmapFontData lastFontData;
+	private float lastScaleX, lastScaleY, lastTargetWidth;
+	private int lastColor, lastHalign;
+	private boolean lastWrap;
+	private final CharArray lastText = new CharArray(true, 0);
+	// For each line of the last text, the index of its first character relative to the start, the index of its first run, the
+	// number of glyphs before it and its y.
+	private final IntArray lineStarts = new IntArray(), lineRuns = new IntArray(), lineGlyphs = new IntArray();
+	private final FloatArray lineYs = new FloatArray();
+
+	/** Incremented each time the glyphs change. */
+	int version;
+	/** The number of glyphs at the start of the runs with the same glyph and position as before the last change. */
+	int unchangedGlyphs;
+
 	/** Creates an empty GlyphLayout. */
 	public GlyphLayout () {
 	}
@@ -120,20 +142,121 @@ public class GlyphLayout implements Poolable {
 			return;
 		}
 
+		colors.add(0, color.toIntBits());
+		layout(fontData, str, start, start, end, 0, null, targetWidth, halign, wrap, truncate, 0);
+
+		if (truncate == null && !fontData.markupEnabled) {
+			lastFontData = fontData;
+			lastScaleX = fontData.scaleX;
+			lastScaleY = fontData.scaleY;
+			lastTargetWidth = targetWidth;
+			lastColor = colors.get(1);
+			lastHalign = halign;
+			lastWrap = wrap;
+			setLastText(str, start, end);
+		}
+	}
+
+	/** Sets the text like {@link #setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) setText}, but
+	 * if the font, font scale, color, target width, alignment and wrap are the same as the last time the text was set, the runs
+	 * for the lines before the first changed character are kept. When not wrapping, the glyphs on the changed line before that
+	 * character are also kept. This is much faster than laying out all the text when only the end of it changes.
+	 * <p>
+	 * All the text is laid out if markup is enabled or truncate is not null.
+	 * @return false if the text is the same as the last time it was set and nothing was changed. */
+	public boolean updateText (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth,
+		int halign, boolean wrap, @Null String truncate) {
+		BitmapFontData fontData = font.data;
+		if (lastFontData != fontData || truncate != null || fontData.markupEnabled || start == end
+			|| lastScaleX != fontData.scaleX || lastScaleY != fontData.scaleY || lastTargetWidth != targetWidth
+			|| lastColor != color.toIntBits() || lastHalign != halign || lastWrap != wrap) {
+			setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+			return true;
+		}
+
+		// Find the first changed character.
+		char[] lastText = this.lastText.items;
+		int length = end - start, lastLength = this.lastText.size, changed = 0;
+		for (int n = Math.min(length, lastLength); changed < n; changed++)
+			if (str.charAt(start + changed) != lastText[changed]) break;
+		if (changed == length && length == lastLength) return false;
+
+		// Lines before the one with the changed character are kept.
+		int line = lineStarts.size - 1;
+		while (lineStarts.get(line) > changed)
+			line--;
+		int lineStart = lineStarts.get(line), firstRun = lineRuns.get(line);
+		glyphCount = lineGlyphs.get(line);
+		float y = lineYs.get(line);
+
+		// When not wrapping, the line has a single run. The glyphs before the character preceding the changed character are kept,
+		// so the run doesn't start at a newline.
+		int keepGlyphs = 0;
+		if (!wrap && firstRun < runs.size) {
+			for (int i = lineStart, n = changed - 1; i < n; i++) {
+				char ch = lastText[i];
+				if (ch != '\r' && (fontData.getGlyph(ch) != null || fontData.missingGlyph != null)) keepGlyphs++;
+			}
+		}
+
+		GlyphRun lineRun = null;
+		if (keepGlyphs > 0) {
+			lineRun = runs.get(firstRun);
+			while (runs.size > firstRun + 1)
+				glyphRunPool.free(runs.pop());
+			lineRun.glyphs.truncate(keepGlyphs);
+			lineRun.xAdvances.truncate(keepGlyphs + 1);
+			lineRun.x = 0;
+			setLastGlyphXAdvance(fontData, lineRun);
+			glyphCount += keepGlyphs;
+			lineStart = changed - 1;
+			line++; // Keep the start of the line.
+		} else {
+			while (runs.size > firstRun)
+				glyphRunPool.free(runs.pop());
+		}
+		lineStarts.size = line;
+		lineRuns.size = line;
+		lineGlyphs.size = line;
+		lineYs.size = line;
+
+		unchangedGlyphs = (halign & Align.left) != 0 ? glyphCount : glyphCount - keepGlyphs;
+		version++;
+		layout(fontData, str, start, start + lineStart, end, y, lineRun, targetWidth, halign, wrap, null, firstRun);
+		setLastText(str, start, end);
+		return true;
+	}
+
+	private void setLastText (CharSequence str, int start, int end) {
+		CharArray lastText = this.lastText;
+		lastText.clear();
+		char[] items = lastText.ensureCapacity(end - start);
+		for (int i = start, ii = 0; i < end; i++, ii++)
+			items[ii] = str.charAt(i);
+		lastText.size = end - start;
+	}
+
+	/** Lays out the text from start to end, appending to the existing runs.
+	 * @param textStart The index of the first character of all the text.
+	 * @param lineRun Collects glyphs for the current line. Null if start is the start of a line.
+	 * @param firstRun The first run to calculate the width and align. */
+	private void layout (BitmapFontData fontData, CharSequence str, int textStart, int start, int end, float y,
+		@Null GlyphRun lineRun, float targetWidth, int halign, boolean wrap, @Null String truncate, int firstRun) {
+
 		// Avoid wrapping one line per character, which is very inefficient.
 		if (wrap) targetWidth = Math.max(targetWidth, fontData.spaceXadvance * 3);
 		boolean wrapOrTruncate = wrap || truncate != null;
 
-		int currentColor = color.toIntBits(), nextColor = currentColor;
-		colors.add(0, currentColor);
+		int currentColor = colors.peek(), nextColor = currentColor;
 		boolean markupEnabled = fontData.markupEnabled;
 		if (markupEnabled) colorStack.add(currentColor);
 
 		boolean isLastRun = false;
-		float y = 0, down = fontData.down;
-		GlyphRun lineRun = null; // Collects glyphs for the current line.
-		Glyph lastGlyph = null; // Last glyph of the previous run on the same line, used for kerning between runs.
+		float down = fontData.down;
+		// Last glyph of the previous run on the same line, used for kerning between runs.
+		Glyph lastGlyph = lineRun != null ? lineRun.glyphs.peek() : null;
 		int runStart = start;
+		if (lineRun == null) addLine(start - textStart, y);
 		outer:
 		while (true) {
 			int runEnd;
@@ -256,6 +379,7 @@ public class GlyphLayout implements Poolable {
 					y += down * fontData.blankLineScale;
 				else
 					y += down;
+				addLine(start - textStart, y);
 			}
 
 			runStart = start;
@@ -263,19 +387,28 @@ public class GlyphLayout implements Poolable {
 
 		height = fontData.capHeight + Math.abs(y);
 
-		calculateWidths(fontData);
+		calculateWidths(fontData, firstRun);
 
-		alignRuns(targetWidth, halign);
+		alignRuns(targetWidth, halign, firstRun);
 
 		// Clear the color stack.
 		if (markupEnabled) colorStack.clear();
 	}
 
-	/** Calculate run widths and the entire layout width. */
-	private void calculateWidths (BitmapFontData fontData) {
+	private void addLine (int start, float y) {
+		lineStarts.add(start);
+		lineRuns.add(runs.size);
+		lineGlyphs.add(glyphCount);
+		lineYs.add(y);
+	}
+
+	/** Calculate run widths and the entire layout width. The runs before firstRun already have their width. */
+	private void calculateWidths (BitmapFontData fontData, int firstRun) {
 		float width = 0;
 		Object[] runsItems = runs.items;
-		for (int i = 0, n = runs.size; i < n; i++) {
+		for (int i = 0; i < firstRun; i++)
+			width = Math.max(width, ((GlyphRun)runsItems[i]).width); // Not aligned yet, run.x was 0.
+		for (int i = firstRun, n = runs.size; i < n; i++) {
 			GlyphRun run = (GlyphRun)runsItems[i];
 			float[] xAdvances = run.xAdvances.items;
 			float runWidth = run.x + xAdvances[0], max = 0; // run.x is needed to ensure floats are rounded same as above.
@@ -293,12 +426,13 @@ public class GlyphLayout implements Poolable {
 		this.width = width;
 	}
 
-	/** Align runs to center or right of targetWidth. Requires run.width of runs to be already set */
-	private void alignRuns (float targetWidth, int halign) {
+	/** Align runs to center or right of targetWidth. Requires run.width of runs to be already set. The runs before firstRun are
+	 * already aligned. */
+	private void alignRuns (float targetWidth, int halign, int firstRun) {
 		if ((halign & Align.left) == 0) { // Not left aligned, so must be center or right aligned.
 			boolean center = (halign & Align.center) != 0;
 			Object[] runsItems = runs.items;
-			for (int i = 0, n = runs.size; i < n; i++) {
+			for (int i = firstRun, n = runs.size; i < n; i++) {
 				GlyphRun run = (GlyphRun)runsItems[i];
 				run.x += center ? 0.5f * (targetWidth - run.width) : targetWidth - run.width;
 			}
@@ -505,6 +639,13 @@ public class GlyphLayout implements Poolable {
 		glyphCount = 0;
 		width = 0;
 		height = 0;
+		lastFontData = null;
+		lineStarts.clear();
+		lineRuns.clear();
+		lineGlyphs.clear();
+		lineYs.clear();
+		unchangedGlyphs = 0;
+		version++;
 	}
 
 	public String toString () {
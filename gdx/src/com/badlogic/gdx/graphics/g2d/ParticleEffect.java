@@ -136,6 +136,12 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).flipY();
 	}
 
+	/** @see ParticleEmitter#setPacked(boolean) */
+	public void setPacked (boolean packed) {
+		for (int i = 0, n = emitters.size; i < n; i++)
+			emitters.get(i).setPacked(packed);
+	}
+
 	public Array<ParticleEmitter> getEmitters () {
 		return emitters;
 	}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics.g2d;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
@@ -77,6 +78,7 @@ public class ParticleEmitter {
 	private int updateFlags;
 	private boolean allowCompletion;
 	private BoundingBox bounds;
+	private PackedParticles packed;
 
 	private int emission, emissionDiff, emissionDelta;
 	private int lifeOffset, lifeOffsetDiff;
@@ -137,6 +139,7 @@ public class ParticleEmitter {
 		cleansUpBlendFunction = emitter.cleansUpBlendFunction;
 		spriteMode = emitter.spriteMode;
 		setPosition(emitter.getX(), emitter.getY());
+		if (emitter.packed != null) setPacked(true);
 	}
 
 	private void initialize () {
@@ -157,11 +160,35 @@ public class ParticleEmitter {
 		active = new boolean[maxParticleCount];
 		activeCount = 0;
 		particles = new Particle[maxParticleCount];
+		if (packed != null) packed.setCapacity(maxParticleCount);
+	}
+
+	/** When true, particles are stored in primitive arrays rather than as {@link Particle} objects. This uses about half the
+	 * memory and no object per particle, which helps when emitters have a large max particle count. Updating and drawing are
+	 * somewhat slower, because each particle is copied to and from a single {@link Particle} to use the same logic. The
+	 * particles look the same, except the order they are drawn in may differ. {@link #newParticle(Sprite)} is not used and
+	 * {@link #getParticles()} returns no particles. Active particles are removed. This setting is kept by
+	 * {@link #ParticleEmitter(ParticleEmitter)}, so it is also used by {@link ParticleEffectPool} effects copied from an effect
+	 * with packed emitters. Default is false. */
+	public void setPacked (boolean packed) {
+		if (packed == (this.packed != null)) return;
+		this.packed = packed ? new PackedParticles(maxParticleCount) : null;
+		Arrays.fill(active, false);
+		activeCount = 0;
+	}
+
+	public boolean isPacked () {
+		return packed != null;
 	}
 
 	public void addParticle () {
 		int activeCount = this.activeCount;
 		if (activeCount == maxParticleCount) return;
+		if (packed != null) {
+			this.activeCount = activeCount + 1;
+			packed.activate(activeCount);
+			return;
+		}
 		boolean[] active = this.active;
 		for (int i = 0, n = active.length; i < n; i++) {
 			if (!active[i]) {
@@ -176,6 +203,11 @@ public class ParticleEmitter {
 	public void addParticles (int count) {
 		count = Math.min(count, maxParticleCount - activeCount);
 		if (count == 0) return;
+		if (packed != null) {
+			for (int i = 0; i < count; i++)
+				packed.activate(activeCount++);
+			return;
+		}
 		boolean[] active = this.active;
 		int index = 0, n = active.length;
 		outer:
@@ -233,6 +265,10 @@ public class ParticleEmitter {
 			}
 		}
 
+		if (packed != null) {
+			activeCount = packed.update(delta, deltaMillis);
+			return;
+		}
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
 		Particle[] particles = this.particles;
@@ -253,11 +289,14 @@ public class ParticleEmitter {
 		} else {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) particles[i].draw(batch);
+		if (packed != null)
+			packed.draw(batch);
+		else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) particles[i].draw(batch);
+			}
 		}
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
@@ -283,21 +322,26 @@ public class ParticleEmitter {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
 
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-		int activeCount = this.activeCount;
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) {
-				Particle particle = particles[i];
-				if (updateParticle(particle, delta, deltaMillis))
-					particle.draw(batch);
-				else {
-					active[i] = false;
-					activeCount--;
+		if (packed != null) {
+			activeCount = packed.update(delta, deltaMillis);
+			packed.draw(batch);
+		} else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			int activeCount = this.activeCount;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) {
+					Particle particle = particles[i];
+					if (updateParticle(particle, delta, deltaMillis))
+						particle.draw(batch);
+					else {
+						active[i] = false;
+						activeCount--;
+					}
 				}
 			}
+			this.activeCount = activeCount;
 		}
-		this.activeCount = activeCount;
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -397,18 +441,18 @@ public class ParticleEmitter {
 		return particles;
 	}
 
-	private void activateParticle (int index) {
-		Sprite sprite = null;
+	/** Returns the sprite a new particle starts with. */
+	private Sprite activationSprite () {
 		switch (spriteMode) {
-		case single:
-		case animated:
-			sprite = sprites.first();
-			break;
 		case random:
-			sprite = sprites.random();
-			break;
+			return sprites.random();
+		default:
+			return sprites.first();
 		}
+	}
 
+	private void activateParticle (int index) {
+		Sprite sprite = activationSprite();
 		Particle particle = particles[index];
 		if (particle == null) {
 			particles[index] = particle = newParticle(sprite);
@@ -416,7 +460,11 @@ public class ParticleEmitter {
 		} else {
 			particle.set(sprite);
 		}
+		activateParticle(particle, sprite);
+	}
 
+	/** Sets the values of a particle that starts with the sprite. */
+	private void activateParticle (Particle particle, Sprite sprite) {
 		float percent = durationTimer / (float)duration;
 		int updateFlags = this.updateFlags;
 
@@ -669,9 +717,13 @@ public class ParticleEmitter {
 		if (attached) {
 			float xAmount = x - this.x;
 			float yAmount = y - this.y;
-			boolean[] active = this.active;
-			for (int i = 0, n = active.length; i < n; i++)
-				if (active[i]) particles[i].translate(xAmount, yAmount);
+			if (packed != null)
+				packed.translate(xAmount, yAmount);
+			else {
+				boolean[] active = this.active;
+				for (int i = 0, n = active.length; i < n; i++)
+					if (active[i]) particles[i].translate(xAmount, yAmount);
+			}
 		}
 		this.x = x;
 		this.y = y;
@@ -680,26 +732,34 @@ public class ParticleEmitter {
 	public void setSprites (Array<Sprite> sprites) {
 		this.sprites = sprites;
 		if (sprites.size == 0) return;
+		if (packed != null) {
+			packed.setSprites();
+			return;
+		}
 		for (int i = 0, n = particles.length; i < n; i++) {
 			Particle particle = particles[i];
 			if (particle == null) break;
-			Sprite sprite = null;
-			switch (spriteMode) {
-			case single:
-				sprite = sprites.first();
-				break;
-			case random:
-				sprite = sprites.random();
-				break;
-			case animated:
-				float percent = 1 - particle.currentLife / (float)particle.life;
-				particle.frame = Math.min((int)(percent * sprites.size), sprites.size - 1);
-				sprite = sprites.get(particle.frame);
-				break;
-			}
-			particle.setRegion(sprite);
-			particle.setOrigin(sprite.getOriginX(), sprite.getOriginY());
+			setSprite(particle);
+		}
+	}
+
+	private void setSprite (Particle particle) {
+		Sprite sprite = null;
+		switch (spriteMode) {
+		case single:
+			sprite = sprites.first();
+			break;
+		case random:
+			sprite = sprites.random();
+			break;
+		case animated:
+			float percent = 1 - particle.currentLife / (float)particle.life;
+			particle.frame = Math.min((int)(percent * sprites.size), sprites.size - 1);
+			sprite = sprites.get(particle.frame);
+			break;
 		}
+		particle.setRegion(sprite);
+		particle.setOrigin(sprite.getOriginX(), sprite.getOriginY());
 	}
 
 	public void setSpriteMode (SpriteMode spriteMode) {
@@ -711,6 +771,7 @@ public class ParticleEmitter {
 	public void preAllocateParticles () {
 		if (sprites.isEmpty())
 			throw new IllegalStateException("ParticleEmitter.setSprites() must have been called before preAllocateParticles()");
+		if (packed != null) return;
 		for (int index = 0; index < particles.length; index++) {
 			Particle particle = particles[index];
 			if (particle == null) {
@@ -967,6 +1028,10 @@ public class ParticleEmitter {
 		BoundingBox bounds = this.bounds;
 
 		bounds.inf();
+		if (packed != null) {
+			packed.getBounds(bounds);
+			return bounds;
+		}
 		for (int i = 0, n = active.length; i < n; i++)
 			if (active[i]) {
 				Rectangle r = particles[i].getBoundingRectangle();
@@ -1224,6 +1289,248 @@ public class ParticleEmitter {
 		return Float.parseFloat(readString(reader, name));
 	}
 
+	/** Stores particles in primitive arrays. Active particles are kept at the start of the arrays, so updating and drawing only
+	 * visits active particles and no {@link Particle} object is needed per particle. To activate or update a particle, it is
+	 * loaded into a single {@link Particle} and {@link #activateParticle(Particle, Sprite)} or
+	 * {@link #updateParticle(Particle, float, int)} is used, so the logic is the same as for particle objects. */
+	private class PackedParticles {
+		/** The number of floats for each particle in {@link #values}. */
+		static private final int FLOATS = 35;
+		/** The number of ints for each particle in {@link #ints}. */
+		static private final int INTS = 3;
+
+		/** The float values of each particle: 18 {@link Particle} values from xScale to gravityDiff, the tint RGB (18), U, V, U2
+		 * and V2 (21), origin X and Y, rotation, scale X and Y, X, Y (30), width, height, and the packed color (34). A particle's
+		 * values are next to each other, so loading and storing a particle uses few cache lines. */
+		float[] values;
+		/** Life, current life and frame for each particle. */
+		int[] ints;
+		Texture[] textures;
+		/** Vertices for a run of particles that use the same texture. */
+		float[] vertices;
+		/** The particle that is loaded from and stored to the arrays. */
+		Particle particle;
+
+		PackedParticles (int capacity) {
+			setCapacity(capacity);
+		}
+
+		void setCapacity (int capacity) {
+			values = new float[capacity * FLOATS];
+			ints = new int[capacity * INTS];
+			textures = new Texture[capacity];
+			vertices = new float[Sprite.SPRITE_SIZE * Math.max(1, Math.min(capacity, 256))];
+		}
+
+		void activate (int i) {
+			Sprite sprite = activationSprite();
+			Particle particle = this.particle;
+			if (particle == null)
+				this.particle = particle = new Particle(sprite);
+			else
+				particle.set(sprite);
+			particle.flip(flipX, flipY);
+			activateParticle(particle, sprite);
+			store(particle, i, true);
+		}
+
+		/** Updates the active particles, moving the last active particle into the place of each particle that dies.
+		 * @return The new number of active particles. */
+		int update (float delta, int deltaMillis) {
+			Particle particle = this.particle;
+			// The region only changes for animated sprites, the color is always set.
+			boolean region = (updateFlags & UPDATE_SPRITE) != 0;
+			int count = activeCount;
+			for (int i = 0; i < count;) {
+				load(i, particle, region);
+				if (updateParticle(particle, delta, deltaMillis)) {
+					store(particle, i, region);
+					i++;
+				} else if (i < --count) //
+					move(count, i);
+			}
+			for (int i = count, n = activeCount; i < n; i++)
+				textures[i] = null;
+			return count;
+		}
+
+		/** @param region If false, the texture and texture coordinates are not loaded. */
+		private void load (int i, Particle particle, boolean region) {
+			int[] ints = this.ints;
+			int o = i * INTS;
+			particle.life = ints[o];
+			particle.currentLife = ints[o + 1];
+			particle.frame = ints[o + 2];
+
+			float[] values = this.values;
+			o = i * FLOATS;
+			particle.xScale = values[o++];
+			particle.xScaleDiff = values[o++];
+			particle.yScale = values[o++];
+			particle.yScaleDiff = values[o++];
+			particle.rotation = values[o++];
+			particle.rotationDiff = values[o++];
+			particle.velocity = values[o++];
+			particle.velocityDiff = values[o++];
+			particle.angle = values[o++];
+			particle.angleDiff = values[o++];
+			particle.angleCos = values[o++];
+			particle.angleSin = values[o++];
+			particle.transparency = values[o++];
+			particle.transparencyDiff = values[o++];
+			particle.wind = values[o++];
+			particle.windDiff = values[o++];
+			particle.gravity = values[o++];
+			particle.gravityDiff = values[o++];
+			float[] tint = particle.tint;
+			tint[0] = values[o++];
+			tint[1] = values[o++];
+			tint[2] = values[o];
+			loadSprite(i, particle, region);
+		}
+
+		/** Loads the {@link Sprite} values, except the color.
+		 * @param region If false, the texture and texture coordinates are not loaded. */
+		private void loadSprite (int i, Particle particle, boolean region) {
+			float[] values = this.values;
+			int o = i * FLOATS + 21;
+			if (region) {
+				// setRegion(float, float, float, float) is not used because it adjusts 1x1 regions.
+				particle.setTexture(textures[i]);
+				particle.setU(values[o]);
+				particle.setV(values[o + 1]);
+				particle.setU2(values[o + 2]);
+				particle.setV2(values[o + 3]);
+			}
+			o += 4;
+			// The origin, rotation and scale mark the vertices dirty first, so setting the bounds doesn't compute them.
+			particle.setOrigin(values[o], values[o + 1]);
+			particle.setRotation(values[o + 2]);
+			particle.setScale(values[o + 3], values[o + 4]);
+			particle.setBounds(values[o + 5], values[o + 6], values[o + 7], values[o + 8]);
+		}
+
+		/** @param region If false, the texture and texture coordinates are not stored. */
+		private void store (Particle particle, int i, boolean region) {
+			int[] ints = this.ints;
+			int o = i * INTS;
+			ints[o] = particle.life;
+			ints[o + 1] = particle.currentLife;
+			ints[o + 2] = particle.frame;
+
+			float[] values = this.values;
+			o = i * FLOATS;
+			values[o++] = particle.xScale;
+			values[o++] = particle.xScaleDiff;
+			values[o++] = particle.yScale;
+			values[o++] = particle.yScaleDiff;
+			values[o++] = particle.rotation;
+			values[o++] = particle.rotationDiff;
+			values[o++] = particle.velocity;
+			values[o++] = particle.velocityDiff;
+			values[o++] = particle.angle;
+			values[o++] = particle.angleDiff;
+			values[o++] = particle.angleCos;
+			values[o++] = particle.angleSin;
+			values[o++] = particle.transparency;
+			values[o++] = particle.transparencyDiff;
+			values[o++] = particle.wind;
+			values[o++] = particle.windDiff;
+			values[o++] = particle.gravity;
+			values[o++] = particle.gravityDiff;
+			float[] tint = particle.tint;
+			values[o++] = tint[0];
+			values[o++] = tint[1];
+			values[o++] = tint[2];
+			if (region) {
+				textures[i] = particle.getTexture();
+				values[o] = particle.getU();
+				values[o + 1] = particle.getV();
+				values[o + 2] = particle.getU2();
+				values[o + 3] = particle.getV2();
+			}
+			o += 4;
+			values[o++] = particle.getOriginX();
+			values[o++] = particle.getOriginY();
+			values[o++] = particle.getRotation();
+			values[o++] = particle.getScaleX();
+			values[o++] = particle.getScaleY();
+			values[o++] = particle.getX();
+			values[o++] = particle.getY();
+			values[o++] = particle.getWidth();
+			values[o++] = particle.getHeight();
+			values[o] = particle.getPackedColor();
+		}
+
+		private void move (int from, int to) {
+			System.arraycopy(ints, from * INTS, ints, to * INTS, INTS);
+			System.arraycopy(values, from * FLOATS, values, to * FLOATS, FLOATS);
+			textures[to] = textures[from];
+		}
+
+		/** Draws the active particles, using one call for each run of particles that use the same texture. */
+		void draw (Batch batch) {
+			Particle particle = this.particle;
+			float[] values = this.values, vertices = this.vertices;
+			Texture[] textures = this.textures;
+			Texture texture = null;
+			int offset = 0;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				if (textures[i] != texture || offset == vertices.length) {
+					if (offset > 0) batch.draw(texture, vertices, 0, offset);
+					texture = textures[i];
+					offset = 0;
+				}
+				// Only the positions are computed by the sprite, the texture coordinates and color are set the same as Sprite does.
+				loadSprite(i, particle, false);
+				System.arraycopy(particle.getVertices(), 0, vertices, offset, Sprite.SPRITE_SIZE);
+				int o = i * FLOATS + 21;
+				float u = values[o], v = values[o + 1], u2 = values[o + 2], v2 = values[o + 3], color = values[o + 13];
+				vertices[offset + Batch.C1] = color;
+				vertices[offset + Batch.U1] = u;
+				vertices[offset + Batch.V1] = v2;
+				vertices[offset + Batch.C2] = color;
+				vertices[offset + Batch.U2] = u;
+				vertices[offset + Batch.V2] = v;
+				vertices[offset + Batch.C3] = color;
+				vertices[offset + Batch.U3] = u2;
+				vertices[offset + Batch.V3] = v;
+				vertices[offset + Batch.C4] = color;
+				vertices[offset + Batch.U4] = u2;
+				vertices[offset + Batch.V4] = v2;
+				offset += Sprite.SPRITE_SIZE;
+			}
+			if (offset > 0) batch.draw(texture, vertices, 0, offset);
+		}
+
+		void translate (float xAmount, float yAmount) {
+			float[] values = this.values;
+			for (int o = 30, n = activeCount * FLOATS; o < n; o += FLOATS) {
+				values[o] += xAmount;
+				values[o + 1] += yAmount;
+			}
+		}
+
+		void setSprites () {
+			Particle particle = this.particle;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				load(i, particle, false);
+				setSprite(particle);
+				store(particle, i, true);
+			}
+		}
+
+		void getBounds (BoundingBox bounds) {
+			Particle particle = this.particle;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				loadSprite(i, particle, false);
+				float[] vertices = particle.getVertices();
+				for (int v = 0; v < Sprite.SPRITE_SIZE; v += Sprite.VERTEX_SIZE)
+					bounds.ext(vertices[v], vertices[v + 1], 0);
+			}
+		}
+	}
+
 	public static class Particle extends Sprite {
 		protected int life, currentLife;
 		protected float xScale, xScaleDiff;
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.ModelCache.Sorter;
+import com.badlogic.gdx.graphics.g3d.ModelCache.TightMeshPool;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
+
+/** Merges static geometry like a {@link ModelCache}, but divides space into a uniform grid of cubic cells with a separate
+ * {@link ModelCache} for each cell. Each renderable is in the cell containing the center of its mesh part. Cells outside the view
+ * of the {@link #setCamera(Camera) camera} are not rendered, and adding or removing renderables only rebuilds the changed cells.
+ * <p>
+ * Renderables can be added and removed at any time. The changed cells are rebuilt by {@link #update(int)}, which can be called
+ * each frame with a limit to spread rebuilding many cells over multiple frames. A cell keeps rendering its previous geometry
+ * until it is rebuilt. The bounds of each cell are computed from the {@link MeshPart#center} and {@link MeshPart#halfExtents} of
+ * its renderables, see {@link MeshPart#update()}. */
+public class ChunkedModelCache implements RenderableProvider, Disposable {
+	private final float cellSize, invCellSize;
+	private final LongMap<Cell> cells = new LongMap();
+	private final Array<Cell> dirtyCells = new Array(false, 16, Cell.class);
+	private final IdentityMap<RenderableProvider, Array<Renderable>> providers = new IdentityMap();
+	private @Null Camera camera;
+	/** The number of cells rendered by the last call to {@link #getRenderables(Array, Pool)}. */
+	public int visibleCount;
+
+	private final Array<Renderable> tmp = new Array();
+	private final Vector3 tmpV = new Vector3();
+	private final BoundingBox tmpBounds = new BoundingBox();
+	private final Pool<Renderable> renderablePool = new Pool<Renderable>() {
+		@Override
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+	};
+	private final Pool<Array<Renderable>> arrayPool = new Pool<Array<Renderable>>() {
+		@Override
+		protected Array<Renderable> newObject () {
+			return new Array();
+		}
+	};
+
+	/** @param cellSize The size of the cells on each axis. Larger cells give fewer render calls, smaller cells cull more geometry
+	 *           and are faster to rebuild. */
+	public ChunkedModelCache (float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		this.cellSize = cellSize;
+		invCellSize = 1 / cellSize;
+	}
+
+	public float getCellSize () {
+		return cellSize;
+	}
+
+	/** Sets the camera whose frustum is used to cull cells. When null, all cells are rendered. */
+	public void setCamera (@Null Camera camera) {
+		this.camera = camera;
+	}
+
+	public @Null Camera getCamera () {
+		return camera;
+	}
+
+	/** Adds the renderable by reference, see {@link ModelCache#add(Renderable)}. Its cell is rebuilt by the next
+	 * {@link #update()}. */
+	public void add (Renderable renderable) {
+		Cell cell = cell(renderable, true);
+		cell.renderables.add(renderable);
+		markDirty(cell);
+	}
+
+	/** Adds copies of the renderables of the provider, see {@link #add(Renderable)}. Their cells are rebuilt by the next
+	 * {@link #update()}. The provider can be removed with {@link #remove(RenderableProvider)}, and can be added again after it
+	 * changed. */
+	public void add (RenderableProvider provider) {
+		if (providers.containsKey(provider)) throw new IllegalArgumentException("The provider has already been added.");
+		provider.getRenderables(tmp, renderablePool);
+		Array<Renderable> renderables = arrayPool.obtain();
+		renderables.addAll(tmp);
+		tmp.clear();
+		providers.put(provider, renderables);
+		for (int i = 0, n = renderables.size; i < n; i++)
+			add(renderables.get(i));
+	}
+
+	/** Adds copies of the renderables of the providers, see {@link #add(RenderableProvider)}. */
+	public <T extends RenderableProvider> void add (Iterable<T> providers) {
+		for (RenderableProvider provider : providers)
+			add(provider);
+	}
+
+	/** Removes a renderable added with {@link #add(Renderable)}. Its cell is rebuilt by the next {@link #update()}. The renderable
+	 * must not have changed since it was added.
+	 * @return False if the renderable was not found. */
+	public boolean remove (Renderable renderable) {
+		Cell cell = cell(renderable, false);
+		if (cell == null || !cell.renderables.removeValue(renderable, true)) return false;
+		markDirty(cell);
+		return true;
+	}
+
+	/** Removes the renderables of a provider added with {@link #add(RenderableProvider)}. Their cells are rebuilt by the next
+	 * {@link #update()}.
+	 * @return False if the provider was not found. */
+	public boolean remove (RenderableProvider provider) {
+		Array<Renderable> renderables = providers.remove(provider);
+		if (renderables == null) return false;
+		for (int i = 0, n = renderables.size; i < n; i++)
+			remove(renderables.get(i));
+		renderablePool.freeAll(renderables);
+		renderables.clear();
+		arrayPool.free(renderables);
+		return true;
+	}
+
+	/** Removes all renderables and disposes the cells. */
+	public void clear () {
+		for (Cell cell : cells.values())
+			cell.dispose();
+		cells.clear();
+		dirtyCells.clear();
+		for (Array<Renderable> renderables : providers.values()) {
+			renderablePool.freeAll(renderables);
+			renderables.clear();
+			arrayPool.free(renderables);
+		}
+		providers.clear();
+	}
+
+	/** Rebuilds all cells which changed since they were last built. */
+	public void update () {
+		update(Integer.MAX_VALUE);
+	}
+
+	/** Rebuilds up to the specified number of cells which changed since they were last built. Cells which are empty are disposed.
+	 * @return The number of cells which still need to be rebuilt. */
+	public int update (int maxCells) {
+		for (int i = 0; i < maxCells && dirtyCells.size > 0; i++) {
+			Cell cell = dirtyCells.pop();
+			cell.dirty = false;
+			if (cell.renderables.size == 0) {
+				cells.remove(cell.key);
+				cell.dispose();
+				continue;
+			}
+			// A new cache is used, so meshes of other sizes from the previous build are not kept in its pool.
+			ModelCache cache = newCache();
+			cache.begin();
+			for (Renderable renderable : cell.renderables)
+				cache.add(renderable);
+			cache.end();
+			if (cell.cache != null) cell.cache.dispose();
+			cell.cache = cache;
+			BoundingBox bounds = cell.bounds.inf();
+			for (Renderable renderable : cell.renderables) {
+				MeshPart part = renderable.meshPart;
+				tmpBounds.min.set(part.center).sub(part.halfExtents);
+				tmpBounds.max.set(part.center).add(part.halfExtents);
+				bounds.ext(tmpBounds, renderable.worldTransform);
+			}
+		}
+		return dirtyCells.size;
+	}
+
+	/** Creates the cache for a cell. The default uses a {@link Sorter} and a {@link TightMeshPool}. */
+	protected ModelCache newCache () {
+		return new ModelCache(new Sorter(), new TightMeshPool());
+	}
+
+	/** Returns the number of cells, including cells which have not been built yet. */
+	public int getCellCount () {
+		return cells.size;
+	}
+
+	/** Returns the number of cells which need to be rebuilt by {@link #update(int)}. */
+	public int getDirtyCount () {
+		return dirtyCells.size;
+	}
+
+	/** Adds the renderables of the built cells whose bounds are in the frustum of the {@link #setCamera(Camera) camera}, or of all
+	 * built cells if there is no camera, and sets the {@link #visibleCount}. */
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		Camera camera = this.camera;
+		int visibleCount = 0;
+		for (Cell cell : cells.values()) {
+			if (cell.cache == null) continue;
+			if (camera != null && !camera.frustum.boundsInFrustum(cell.bounds)) continue;
+			cell.cache.getRenderables(renderables, pool);
+			visibleCount++;
+		}
+		this.visibleCount = visibleCount;
+	}
+
+	@Override
+	public void dispose () {
+		clear();
+	}
+
+	private @Null Cell cell (Renderable renderable, boolean create) {
+		Vector3 center = tmpV.set(renderable.meshPart.center).mul(renderable.worldTransform);
+		int x = cell(center.x), y = cell(center.y), z = cell(center.z);
+		long key = ((long)(x & 0x1fffff) << 42) | ((long)(y & 0x1fffff) << 21) | (z & 0x1fffff);
+		Cell cell = cells.get(key);
+		if (cell == null && create) {
+			cell = new Cell(key);
+			cells.put(key, cell);
+		}
+		return cell;
+	}
+
+	private int cell (float value) {
+		return (int)Math.floor(value * invCellSize);
+	}
+
+	private void markDirty (Cell cell) {
+		if (cell.dirty) return;
+		cell.dirty = true;
+		dirtyCells.add(cell);
+	}
+
+	static private class Cell implements Disposable {
+		final long key;
+		final Array<Renderable> renderables = new Array();
+		/** The bounds of the renderables when the cell was last built. */
+		final BoundingBox bounds = new BoundingBox();
+		@Null ModelCache cache;
+		boolean dirty;
+
+		Cell (long key) {
+			this.key = key;
+		}
+
+		public void dispose () {
+			if (cache != null) {
+				cache.dispose();
+				cache = null;
+			}
+		}
+	}
+}
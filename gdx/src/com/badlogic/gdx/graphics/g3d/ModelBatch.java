@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.FrustumCuller;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
@@ -29,6 +30,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pool;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
@@ -63,6 +65,7 @@ public class ModelBatch implements Disposable {
 	protected final RenderablePool renderablesPool = new RenderablePool();
 	/** list of Renderables to be rendered in the current batch **/
 	protected final Array<Renderable> renderables = new Array<Renderable>();
+	private final Array<RenderableProvider> visibleProviders = new Array<RenderableProvider>();
 	/** the {@link RenderContext} **/
 	protected final RenderContext context;
 	private final boolean ownContext;
@@ -276,6 +279,32 @@ public class ModelBatch implements Disposable {
 			render(renderableProvider, environment);
 	}
 
+	/** Culls the providers of the culler against the camera's frustum and adds the renderables of the visible providers to the
+	 * current batch to be rendered, so {@link RenderableProvider#getRenderables(Array, Pool)} is not called for providers which
+	 * are not visible. Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
+	 * @param culler the culler, its statistics are set for this call */
+	public void render (final FrustumCuller culler) {
+		render(culler, null);
+	}
+
+	/** Culls the providers of the culler against the camera's frustum and adds the renderables of the visible providers to the
+	 * current batch to be rendered, so {@link RenderableProvider#getRenderables(Array, Pool)} is not called for providers which
+	 * are not visible. Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
+	 * @param culler the culler, its statistics are set for this call
+	 * @param environment the {@link Environment} to use for the renderables, or null to keep the environment set by the
+	 *           providers */
+	public void render (final FrustumCuller culler, final @Null Environment environment) {
+		if (camera == null) throw new GdxRuntimeException("Call begin() first.");
+		culler.cull(camera.frustum, visibleProviders);
+		for (int i = 0, n = visibleProviders.size; i < n; i++) {
+			if (environment == null)
+				render(visibleProviders.get(i));
+			else
+				render(visibleProviders.get(i), environment);
+		}
+		visibleProviders.clear();
+	}
+
 	/** Calls {@link RenderableProvider#getRenderables(Array, Pool)} and adds all returned {@link Renderable} instances to the
 	 * current batch to be rendered. Any shaders set on the returned renderables will be replaced with the given {@link Shader}.
 	 * Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
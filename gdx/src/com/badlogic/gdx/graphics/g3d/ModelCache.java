@@ -34,7 +34,8 @@ import com.badlogic.gdx.utils.Pool;
  * multiple type of models (e.g. varying vertex attributes or materials), the ModelCache will combine where possible. Can be used
  * dynamically (e.g. every frame) or statically (e.g. to combine part of scenery). Be aware that any combined vertices are
  * directly transformed, therefore the resulting {@link Renderable#worldTransform} might not be suitable for sorting anymore (such
- * as the default sorter of ModelBatch does).
+ * as the default sorter of ModelBatch does). For large static caches, {@link ChunkedModelCache} can cull and rebuild parts of the
+ * cache separately.
  * @author Xoppa */
 public class ModelCache implements Disposable, RenderableProvider {
 	/** Allows to reuse one or more meshes while avoiding creating new objects. Depending on the implementation it might add memory
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.g3d;
 
 import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.FlatNodeHierarchy;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
@@ -28,6 +29,7 @@ import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ArrayMap;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Null;
 
 /** An instance of a {@link Model}, allows to specify global transform and modify the materials, as it has a copy of the model's
  * materials. Multiple instances can be created from the same Model, all sharing the meshes and textures of the Model. The Model
@@ -55,6 +57,9 @@ public class ModelInstance implements RenderableProvider {
 	public Matrix4 transform;
 	/** user definable value, which is passed to the {@link Shader}. */
 	public Object userData;
+	/** When not null, {@link #calculateTransforms()} uses this flattened copy of the {@link #nodes}. Set it to null or call
+	 * {@link #flattenNodes()} again after adding or removing nodes. */
+	public @Null FlatNodeHierarchy flatNodes;
 
 	/** Constructs a new ModelInstance with all nodes and materials of the given model.
 	 * @param model The {@link Model} to create an instance of. */
@@ -319,6 +324,7 @@ public class ModelInstance implements RenderableProvider {
 			if (node == null) continue;
 			NodeAnimation nodeAnim = new NodeAnimation();
 			nodeAnim.node = node;
+			nodeAnim.baked = nanim.baked;
 			if (shareKeyframes) {
 				nodeAnim.translation = nanim.translation;
 				nodeAnim.rotation = nanim.rotation;
@@ -340,7 +346,7 @@ public class ModelInstance implements RenderableProvider {
 						nodeAnim.scaling.add(new NodeKeyframe<Vector3>(kf.keytime, kf.value));
 				}
 			}
-			if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null)
+			if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null || nodeAnim.baked != null)
 				animation.nodeAnimations.add(nodeAnim);
 		}
 		if (animation.nodeAnimations.size > 0) animations.add(animation);
@@ -400,6 +406,10 @@ public class ModelInstance implements RenderableProvider {
 	 * This method can be used to recalculate all transforms if any of the Node's local properties (translation, rotation, scale)
 	 * was modified. */
 	public void calculateTransforms () {
+		if (flatNodes != null) {
+			flatNodes.update();
+			return;
+		}
 		final int n = nodes.size;
 		for (int i = 0; i < n; i++) {
 			nodes.get(i).calculateTransforms(true);
@@ -409,6 +419,13 @@ public class ModelInstance implements RenderableProvider {
 		}
 	}
 
+	/** Creates and sets {@link #flatNodes}, which {@link #calculateTransforms()} then uses to calculate the node and bone
+	 * transforms in one pass over contiguous arrays. This is faster for large or skinned hierarchies.
+	 * @return The new {@link #flatNodes}. */
+	public FlatNodeHierarchy flattenNodes () {
+		return flatNodes = new FlatNodeHierarchy(nodes);
+	}
+
 	/** Calculate the bounding box of this model instance. This is a potential slow operation, it is advised to cache the result.
 	 * @param out the {@link BoundingBox} that will be set with the bounds.
 	 * @return the out parameter for chaining */
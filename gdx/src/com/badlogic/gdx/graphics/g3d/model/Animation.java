@@ -31,4 +31,22 @@ public class Animation {
 	public float duration;
 	/** the animation curves for individual nodes **/
 	public Array<NodeAnimation> nodeAnimations = new Array<NodeAnimation>();
+
+	/** Resamples the keyframes of each node animation at a fixed rate, so animation controllers can find the transform at a time
+	 * by indexing instead of searching the keyframes.
+	 * @param sampleRate The number of samples per second, eg 30.
+	 * @param quantize If true, the samples are stored with 16 bits per component.
+	 * @param discardKeyframes If true, the keyframes are set to null to free their memory.
+	 * @see BakedNodeAnimation */
+	public void bake (float sampleRate, boolean quantize, boolean discardKeyframes) {
+		for (int i = 0, n = nodeAnimations.size; i < n; i++) {
+			NodeAnimation nodeAnim = nodeAnimations.get(i);
+			nodeAnim.baked = new BakedNodeAnimation(nodeAnim, duration, sampleRate, quantize);
+			if (discardKeyframes) {
+				nodeAnim.translation = null;
+				nodeAnim.rotation = null;
+				nodeAnim.scaling = null;
+			}
+		}
+	}
 }
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+
+/** The keyframes of a {@link NodeAnimation} resampled at a fixed rate and packed into one array, so the transform at a time is
+ * found by indexing instead of searching the keyframes. The samples can be quantized to 16 bits per component to use less
+ * memory. Between samples the translation and scale are interpolated linearly and the rotation is normalized after linear
+ * interpolation.
+ * <p>
+ * This is immutable, so it is shared by the node animations of all instances of a model.
+ * @see Animation#bake(float, boolean, boolean) */
+public class BakedNodeAnimation {
+	/** Whether the channel was baked. Channels that are not baked use the node's translation, rotation or scale. */
+	public final boolean hasTranslation, hasRotation, hasScaling;
+	/** The number of samples, at least 1. */
+	public final int sampleCount;
+	/** The number of samples per second. */
+	public final float sampleRate;
+	/** The number of values per sample. */
+	public final int stride;
+
+	private final @Null float[] samples;
+	private final @Null short[] quantizedSamples;
+	/** When quantized, the value of each component is offset + (quantized + 32768) * scale. */
+	private final @Null float[] offsets, scales;
+
+	/** @param duration The duration of the animation in seconds.
+	 * @param sampleRate The number of samples per second. The rate is adjusted so the last sample is at the duration.
+	 * @param quantize If true, the values are stored with 16 bits per component. */
+	public BakedNodeAnimation (NodeAnimation nodeAnim, float duration, float sampleRate, boolean quantize) {
+		if (sampleRate <= 0) throw new IllegalArgumentException("sampleRate must be > 0: " + sampleRate);
+		hasTranslation = nodeAnim.translation != null && nodeAnim.translation.size > 0;
+		hasRotation = nodeAnim.rotation != null && nodeAnim.rotation.size > 0;
+		hasScaling = nodeAnim.scaling != null && nodeAnim.scaling.size > 0;
+		stride = (hasTranslation ? 3 : 0) + (hasRotation ? 4 : 0) + (hasScaling ? 3 : 0);
+		if (duration > 0) {
+			sampleCount = Math.max(2, (int)Math.ceil(duration * sampleRate) + 1);
+			this.sampleRate = (sampleCount - 1) / duration;
+		} else {
+			sampleCount = 1;
+			this.sampleRate = sampleRate;
+		}
+
+		float[] samples = new float[sampleCount * stride];
+		int offset = 0;
+		if (hasTranslation) {
+			sample(nodeAnim.translation, samples, offset);
+			offset += 3;
+		}
+		if (hasRotation) {
+			sampleRotation(nodeAnim.rotation, samples, offset);
+			offset += 4;
+		}
+		if (hasScaling) sample(nodeAnim.scaling, samples, offset);
+
+		if (!quantize) {
+			this.samples = samples;
+			quantizedSamples = null;
+			offsets = null;
+			scales = null;
+			return;
+		}
+		this.samples = null;
+		quantizedSamples = new short[samples.length];
+		offsets = new float[stride];
+		scales = new float[stride];
+		for (int c = 0; c < stride; c++) {
+			float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+			for (int i = c; i < samples.length; i += stride) {
+				min = Math.min(min, samples[i]);
+				max = Math.max(max, samples[i]);
+			}
+			float scale = (max - min) / 65535;
+			offsets[c] = min;
+			scales[c] = scale;
+			for (int i = c; i < samples.length; i += stride)
+				quantizedSamples[i] = (short)(scale == 0 ? -32768 : Math.round((samples[i] - min) / scale) - 32768);
+		}
+	}
+
+	private float time (int sample) {
+		return sampleCount == 1 ? 0 : sample / sampleRate;
+	}
+
+	/** Samples the keyframes the same way as {@link com.badlogic.gdx.graphics.g3d.utils.BaseAnimationController}, walking them in
+	 * order instead of searching, and holding the first and last values outside of their time range. */
+	private void sample (Array<NodeKeyframe<Vector3>> keyframes, float[] samples, int offset) {
+		Vector3 value = new Vector3();
+		for (int s = 0, k = 0, n = keyframes.size; s < sampleCount; s++) {
+			float time = time(s);
+			while (k < n - 2 && time >= keyframes.get(k + 1).keytime)
+				k++;
+			NodeKeyframe<Vector3> first = keyframes.get(k);
+			value.set(first.value);
+			if (k + 1 < n) {
+				NodeKeyframe<Vector3> second = keyframes.get(k + 1);
+				if (time >= second.keytime)
+					value.set(second.value);
+				else if (time > first.keytime) //
+					value.lerp(second.value, (time - first.keytime) / (second.keytime - first.keytime));
+			}
+			int i = s * stride + offset;
+			samples[i] = value.x;
+			samples[i + 1] = value.y;
+			samples[i + 2] = value.z;
+		}
+	}
+
+	private void sampleRotation (Array<NodeKeyframe<Quaternion>> keyframes, float[] samples, int offset) {
+		Quaternion value = new Quaternion();
+		for (int s = 0, k = 0, n = keyframes.size; s < sampleCount; s++) {
+			float time = time(s);
+			while (k < n - 2 && time >= keyframes.get(k + 1).keytime)
+				k++;
+			NodeKeyframe<Quaternion> first = keyframes.get(k);
+			value.set(first.value);
+			if (k + 1 < n) {
+				NodeKeyframe<Quaternion> second = keyframes.get(k + 1);
+				if (time >= second.keytime)
+					value.set(second.value);
+				else if (time > first.keytime) //
+					value.slerp(second.value, (time - first.keytime) / (second.keytime - first.keytime));
+			}
+			int i = s * stride + offset;
+			samples[i] = value.x;
+			samples[i + 1] = value.y;
+			samples[i + 2] = value.z;
+			samples[i + 3] = value.w;
+		}
+	}
+
+	private float get (int index) {
+		if (samples != null) return samples[index];
+		int c = index % stride;
+		return offsets[c] + (quantizedSamples[index] + 32768) * scales[c];
+	}
+
+	/** Sets the transform at the time. Channels that were not baked are set from the node.
+	 * @param node The animated node, usually {@link NodeAnimation#node}. */
+	public void getTransform (float time, Node node, Vector3 translation, Quaternion rotation, Vector3 scale) {
+		float frame = time * sampleRate;
+		int index;
+		float alpha;
+		if (frame <= 0) {
+			index = 0;
+			alpha = 0;
+		} else if (frame >= sampleCount - 1) {
+			index = sampleCount - 1;
+			alpha = 0;
+		} else {
+			index = (int)frame;
+			alpha = frame - index;
+		}
+		int a = index * stride, b = alpha == 0 ? a : a + stride;
+
+		if (hasTranslation) {
+			translation.set(lerp(a, b, alpha), lerp(a + 1, b + 1, alpha), lerp(a + 2, b + 2, alpha));
+			a += 3;
+			b += 3;
+		} else
+			translation.set(node.translation);
+
+		if (hasRotation) {
+			float x1 = get(a), y1 = get(a + 1), z1 = get(a + 2), w1 = get(a + 3);
+			if (alpha == 0)
+				rotation.set(x1, y1, z1, w1);
+			else {
+				float x2 = get(b), y2 = get(b + 1), z2 = get(b + 2), w2 = get(b + 3);
+				// Interpolate along the shortest path.
+				float alpha1 = 1 - alpha, alpha2 = x1 * x2 + y1 * y2 + z1 * z2 + w1 * w2 < 0 ? -alpha : alpha;
+				rotation.set(x1 * alpha1 + x2 * alpha2, y1 * alpha1 + y2 * alpha2, z1 * alpha1 + z2 * alpha2,
+					w1 * alpha1 + w2 * alpha2);
+			}
+			if (samples == null || alpha != 0) rotation.nor();
+			a += 4;
+			b += 4;
+		} else
+			rotation.set(node.rotation);
+
+		if (hasScaling)
+			scale.set(lerp(a, b, alpha), lerp(a + 1, b + 1, alpha), lerp(a + 2, b + 2, alpha));
+		else
+			scale.set(node.scale);
+	}
+
+	private float lerp (int a, int b, float alpha) {
+		float value = get(a);
+		return alpha == 0 ? value : value + (get(b) - value) * alpha;
+	}
+}
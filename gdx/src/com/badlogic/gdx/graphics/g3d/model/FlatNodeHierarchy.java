@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** A flattened copy of a {@link Node} hierarchy which calculates the world and bone transforms in one pass over contiguous
+ * arrays, instead of recursing through the nodes. The nodes are stored with each parent before its children, and the local and
+ * world transforms are stored in float arrays with 16 values per node, in the same order as {@link Matrix4#val}.
+ * <p>
+ * {@link #update()} gives the same result as {@link Node#calculateTransforms(boolean)} and
+ * {@link Node#calculateBoneTransforms(boolean)}, including setting the {@link Node#globalTransform} and {@link NodePart#bones}.
+ * The nodes can still be used as usual. This must be recreated when nodes are added or removed, or when the bones of a part
+ * change.
+ * @see ModelInstance#flattenNodes() */
+public class FlatNodeHierarchy {
+	/** The nodes, each parent before its children. */
+	public final Node[] nodes;
+	/** The index of each node's parent, or -1 if the node is a root or doesn't {@link Node#inheritTransform inherit} its parent's
+	 * transform. */
+	public final int[] parents;
+	/** The local and world transform of each node, 16 values per node. */
+	public final float[] localTransforms, worldTransforms;
+
+	private final NodePart[] skinnedParts;
+	/** The start of each skinned part's bones in {@link #boneNodes}, with an extra entry for the end. */
+	private final int[] boneStarts;
+	private final int[] boneNodes;
+	private final float[] inverseBindTransforms;
+
+	/** @param roots The root nodes, usually {@link ModelInstance#nodes}. */
+	public FlatNodeHierarchy (Array<Node> roots) {
+		Array<Node> nodes = new Array(true, 16, Node.class);
+		IntArray parents = new IntArray();
+		for (int i = 0, n = roots.size; i < n; i++)
+			add(roots.get(i), -1, nodes, parents);
+		this.nodes = nodes.toArray();
+		this.parents = parents.toArray();
+		localTransforms = new float[nodes.size * 16];
+		worldTransforms = new float[nodes.size * 16];
+
+		ObjectIntMap<Node> indices = new ObjectIntMap(nodes.size);
+		for (int i = 0, n = nodes.size; i < n; i++)
+			indices.put(nodes.get(i), i);
+
+		Array<NodePart> skinnedParts = new Array(true, 4, NodePart.class);
+		IntArray boneStarts = new IntArray(), boneNodes = new IntArray();
+		for (int i = 0, n = nodes.size; i < n; i++) {
+			Array<NodePart> parts = nodes.get(i).parts;
+			for (int ii = 0, nn = parts.size; ii < nn; ii++) {
+				NodePart part = parts.get(ii);
+				if (part.invBoneBindTransforms == null || part.bones == null || part.invBoneBindTransforms.size != part.bones.length)
+					continue;
+				skinnedParts.add(part);
+				boneStarts.add(boneNodes.size);
+				for (int b = 0, bn = part.invBoneBindTransforms.size; b < bn; b++) {
+					Node bone = part.invBoneBindTransforms.keys[b];
+					int index = indices.get(bone, -1);
+					if (index == -1) throw new IllegalArgumentException("Bone is not in the hierarchy: " + bone.id);
+					boneNodes.add(index);
+				}
+			}
+		}
+		boneStarts.add(boneNodes.size);
+		this.skinnedParts = skinnedParts.toArray();
+		this.boneStarts = boneStarts.toArray();
+		this.boneNodes = boneNodes.toArray();
+
+		inverseBindTransforms = new float[boneNodes.size * 16];
+		for (int p = 0, o = 0; p < skinnedParts.size; p++) {
+			NodePart part = skinnedParts.get(p);
+			for (int b = 0, bn = part.invBoneBindTransforms.size; b < bn; b++, o += 16)
+				System.arraycopy(part.invBoneBindTransforms.values[b].val, 0, inverseBindTransforms, o, 16);
+		}
+	}
+
+	static private void add (Node node, int parent, Array<Node> nodes, IntArray parents) {
+		int index = nodes.size;
+		nodes.add(node);
+		parents.add(node.inheritTransform ? parent : -1);
+		for (int i = 0, n = node.getChildCount(); i < n; i++)
+			add(node.getChild(i), index, nodes, parents);
+	}
+
+	/** Returns the index of the node, or -1 if it is not in the hierarchy. */
+	public int indexOf (Node node) {
+		Node[] nodes = this.nodes;
+		for (int i = 0, n = nodes.length; i < n; i++)
+			if (nodes[i] == node) return i;
+		return -1;
+	}
+
+	/** Calculates the local transform of each node from its translation, rotation and scale, or uses its
+	 * {@link Node#localTransform} if it is animated, then calls {@link #updateWorld()}. */
+	public void update () {
+		Node[] nodes = this.nodes;
+		float[] localTransforms = this.localTransforms;
+		for (int i = 0, o = 0, n = nodes.length; i < n; i++, o += 16)
+			System.arraycopy(nodes[i].calculateLocalTransform().val, 0, localTransforms, o, 16);
+		updateWorld();
+	}
+
+	/** Calculates the world transforms from {@link #localTransforms} and the bone transforms from the world transforms, then
+	 * copies them to the {@link Node#globalTransform} and {@link NodePart#bones}. This can be used instead of {@link #update()}
+	 * when the local transforms are set directly, in which case the {@link Node#localTransform} is not changed. */
+	public void updateWorld () {
+		Node[] nodes = this.nodes;
+		int[] parents = this.parents;
+		float[] localTransforms = this.localTransforms, worldTransforms = this.worldTransforms;
+		for (int i = 0, o = 0, n = nodes.length; i < n; i++, o += 16) {
+			int parent = parents[i];
+			if (parent == -1)
+				System.arraycopy(localTransforms, o, worldTransforms, o, 16);
+			else
+				mul(worldTransforms, parent << 4, localTransforms, o, worldTransforms, o);
+			System.arraycopy(worldTransforms, o, nodes[i].globalTransform.val, 0, 16);
+		}
+
+		int[] boneStarts = this.boneStarts, boneNodes = this.boneNodes;
+		float[] inverseBindTransforms = this.inverseBindTransforms;
+		for (int p = 0, pn = skinnedParts.length; p < pn; p++) {
+			Matrix4[] bones = skinnedParts[p].bones;
+			for (int b = boneStarts[p], end = boneStarts[p + 1], i = 0; b < end; b++, i++)
+				mul(worldTransforms, boneNodes[b] << 4, inverseBindTransforms, b << 4, bones[i].val, 0);
+		}
+	}
+
+	/** Sets out to a times b, with the same operations as {@link Matrix4#mul(float[], float[])}. Out may be a. */
+	static private void mul (float[] a, int ai, float[] b, int bi, float[] out, int oi) {
+		float a00 = a[ai], a10 = a[ai + 1], a20 = a[ai + 2], a30 = a[ai + 3];
+		float a01 = a[ai + 4], a11 = a[ai + 5], a21 = a[ai + 6], a31 = a[ai + 7];
+		float a02 = a[ai + 8], a12 = a[ai + 9], a22 = a[ai + 10], a32 = a[ai + 11];
+		float a03 = a[ai + 12], a13 = a[ai + 13], a23 = a[ai + 14], a33 = a[ai + 15];
+		for (int c = 0; c < 16; c += 4) {
+			float b0 = b[bi + c], b1 = b[bi + c + 1], b2 = b[bi + c + 2], b3 = b[bi + c + 3];
+			out[oi + c] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+			out[oi + c + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+			out[oi + c + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+			out[oi + c + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+		}
+	}
+}
@@ -20,6 +20,7 @@ import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
 
 /** A NodeAnimation defines keyframes for a {@link Node} in a {@link Model}. The keyframes are given as a translation vector, a
  * rotation quaternion and a scale vector. Keyframes are interpolated linearly for now. Keytimes are given in seconds.
@@ -33,4 +34,7 @@ public class NodeAnimation {
 	public Array<NodeKeyframe<Quaternion>> rotation = null;
 	/** the scaling keyframes if any (might be null), sorted by time ascending **/
 	public Array<NodeKeyframe<Vector3>> scaling = null;
+	/** the resampled keyframes (might be null), used instead of the keyframes when not null, see {@link Animation#bake(float,
+	 * boolean, boolean)} **/
+	public @Null BakedNodeAnimation baked = null;
 }
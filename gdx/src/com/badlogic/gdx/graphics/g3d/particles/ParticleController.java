@@ -226,10 +226,30 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 
 	/** Updates the particles data */
 	public void update (float deltaTime) {
+		updateEmitter(deltaTime);
+		updateInfluencers();
+	}
+
+	/** Sets the time step and updates the emitter, which spawns and kills the particles. This is the first half of
+	 * {@link #update(float)}. */
+	public void updateEmitter (float deltaTime) {
 		setTimeStep(deltaTime);
 		emitter.update();
-		for (Influencer influencer : influencers)
-			influencer.update();
+	}
+
+	/** Updates the influencers, which simulate the live particles. This is the second half of {@link #update(float)}, it must be
+	 * called after {@link #updateEmitter(float)}. */
+	public void updateInfluencers () {
+		for (int i = 0, n = influencers.size; i < n; i++)
+			influencers.get(i).update();
+	}
+
+	/** @return true if all the influencers are {@link Influencer#isThreadSafe() thread safe}, so {@link #updateInfluencers()} can
+	 *         run on a different thread than the other controllers. */
+	public boolean isThreadSafe () {
+		for (int i = 0, n = influencers.size; i < n; i++)
+			if (!influencers.get(i).isThreadSafe()) return false;
+		return true;
 	}
 
 	/** Updates the renderer used by this controller, usually this means the particles will be draw inside a batch. */
@@ -16,11 +16,16 @@
 
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Singleton class which manages the particle effects. It's a utility class to ease particle batches management and particle
  * effects update.
@@ -37,6 +42,9 @@ public final class ParticleSystem implements RenderableProvider {
 
 	private Array<ParticleBatch<?>> batches;
 	private Array<ParticleEffect> effects;
+	private final Array<ParticleController> parallelControllers = new Array<>(true, 16, ParticleController[]::new);
+	private final Array<UpdateTask> tasks = new Array<>(true, 4, UpdateTask[]::new);
+	private AsyncResult<Void>[] results = new AsyncResult[4];
 
 	public ParticleSystem () {
 		batches = new Array<ParticleBatch<?>>();
@@ -80,6 +88,99 @@ public final class ParticleSystem implements RenderableProvider {
 		}
 	}
 
+	/** Updates the simulation of all effects using {@link Gdx#graphics} delta time.
+	 * @see #update(float, AsyncExecutor, int) */
+	public void update (AsyncExecutor executor, int parallelism) {
+		update(Gdx.graphics.getDeltaTime(), executor, parallelism);
+	}
+
+	/** Updates the simulation of all effects, running the influencers of different controllers on multiple threads. First the
+	 * controllers are visited in order on the calling thread, since spawning particles uses shared state such as
+	 * {@link com.badlogic.gdx.math.MathUtils#random}. Controllers which are not {@link ParticleController#isThreadSafe() thread
+	 * safe} are updated completely, the others only update their emitter. This uses random numbers in the same order as
+	 * {@link #update(float)}, so the results are the same. Then the thread safe controllers are split into groups of about the
+	 * same number of particles, which update their influencers in parallel, the calling thread updating the first group. This
+	 * method returns when all the controllers have been updated, so {@link #draw()} can be called afterward as usual.
+	 * <p>
+	 * The effects must not be modified while this method is running.
+	 * @param executor Runs the groups other than the first. It should have at least parallelism - 1 threads. May be null if
+	 *           parallelism is 1.
+	 * @param parallelism The maximum number of groups, usually the number of available processors. */
+	public void update (float deltaTime, AsyncExecutor executor, int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+		Array<ParticleController> parallelControllers = this.parallelControllers;
+		try {
+			int totalWeight = 0;
+			for (ParticleEffect effect : effects) {
+				Array<ParticleController> controllers = effect.getControllers();
+				for (int i = 0, n = controllers.size; i < n; i++) {
+					ParticleController controller = controllers.get(i);
+					if (controller.isThreadSafe()) {
+						controller.updateEmitter(deltaTime);
+						parallelControllers.add(controller);
+						totalWeight += weight(controller);
+					} else
+						controller.update(deltaTime); // In order with the emitters, which may use the same random numbers.
+				}
+			}
+
+			int count = Math.min(parallelism, parallelControllers.size);
+			if (count <= 1 || executor == null) {
+				for (int i = 0, n = parallelControllers.size; i < n; i++)
+					parallelControllers.items[i].updateInfluencers();
+			} else {
+				// Split the controllers into contiguous groups of about the same number of particles.
+				Array<UpdateTask> tasks = this.tasks;
+				while (tasks.size < count)
+					tasks.add(new UpdateTask());
+				int start = 0, weight = 0, taskCount = 0;
+				for (int i = 0, n = parallelControllers.size; i < n; i++) {
+					weight += weight(parallelControllers.items[i]);
+					if (weight * (long)count >= totalWeight * (long)(taskCount + 1) || i == n - 1) {
+						tasks.items[taskCount++].set(parallelControllers.items, start, i + 1);
+						start = i + 1;
+						if (taskCount == count - 1 && i < n - 1) {
+							tasks.items[taskCount++].set(parallelControllers.items, start, n);
+							break;
+						}
+					}
+				}
+				execute(tasks.items, taskCount, executor);
+			}
+		} finally {
+			parallelControllers.clear();
+			for (int i = 0, n = tasks.size; i < n; i++)
+				tasks.items[i].controllers = null;
+		}
+	}
+
+	static private int weight (ParticleController controller) {
+		return controller.particles.size + 1;
+	}
+
+	private void execute (UpdateTask[] tasks, int count, AsyncExecutor executor) {
+		if (results.length < count) results = new AsyncResult[count];
+		AsyncResult<Void>[] results = this.results;
+		for (int i = 1; i < count; i++)
+			results[i] = executor.submit(tasks[i]);
+		RuntimeException error = null;
+		try {
+			tasks[0].call();
+		} catch (Exception ex) {
+			error = new GdxRuntimeException(ex);
+		}
+		// Wait for all the tasks even if one failed, they use the controller arrays.
+		for (int i = 1; i < count; i++) {
+			try {
+				results[i].get();
+			} catch (GdxRuntimeException ex) {
+				if (error == null) error = ex;
+			}
+			results[i] = null;
+		}
+		if (error != null) throw error;
+	}
+
 	public void updateAndDraw (float deltaTime) {
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
@@ -115,4 +216,23 @@ public final class ParticleSystem implements RenderableProvider {
 	public Array<ParticleBatch<?>> getBatches () {
 		return batches;
 	}
+
+	/** Updates the influencers of a range of controllers. */
+	static private class UpdateTask implements AsyncTask<Void> {
+		ParticleController[] controllers;
+		int start, end;
+
+		void set (ParticleController[] controllers, int start, int end) {
+			this.controllers = controllers;
+			this.start = start;
+			this.end = end;
+		}
+
+		public Void call () {
+			ParticleController[] controllers = this.controllers;
+			for (int i = start; i < end; i++)
+				controllers[i].updateInfluencers();
+			return null;
+		}
+	}
 }
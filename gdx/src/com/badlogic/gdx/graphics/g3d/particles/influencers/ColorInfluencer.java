@@ -139,4 +139,9 @@ public abstract class ColorInfluencer extends Influencer {
 	public void allocateChannels () {
 		colorChannel = controller.particles.addChannel(ParticleChannels.Color);
 	}
+
+	@Override
+	public boolean isThreadSafe () {
+		return true;
+	}
 }
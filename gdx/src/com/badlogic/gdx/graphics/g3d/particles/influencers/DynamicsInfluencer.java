@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -32,6 +33,7 @@ public class DynamicsInfluencer extends Influencer {
 	public Array<DynamicsModifier> velocities;
 	private FloatChannel accellerationChannel, positionChannel, previousPositionChannel, rotationChannel, angularVelocityChannel;
 	boolean hasAcceleration, has2dAngularVelocity, has3dAngularVelocity;
+	private final Quaternion tmpQ = new Quaternion();
 
 	public DynamicsInfluencer () {
 		this.velocities = new Array<>(true, 3, DynamicsModifier[]::new);
@@ -201,15 +203,23 @@ public class DynamicsInfluencer extends Influencer {
 					qy = rotationChannel.data[offset + ParticleChannels.YOffset],
 					qz = rotationChannel.data[offset + ParticleChannels.ZOffset],
 					qw = rotationChannel.data[offset + ParticleChannels.WOffset];
-				TMP_Q.set(wx, wy, wz, 0).mul(qx, qy, qz, qw).mul(0.5f * controller.deltaTime).add(qx, qy, qz, qw).nor();
-				rotationChannel.data[offset + ParticleChannels.XOffset] = TMP_Q.x;
-				rotationChannel.data[offset + ParticleChannels.YOffset] = TMP_Q.y;
-				rotationChannel.data[offset + ParticleChannels.ZOffset] = TMP_Q.z;
-				rotationChannel.data[offset + ParticleChannels.WOffset] = TMP_Q.w;
+				tmpQ.set(wx, wy, wz, 0).mul(qx, qy, qz, qw).mul(0.5f * controller.deltaTime).add(qx, qy, qz, qw).nor();
+				rotationChannel.data[offset + ParticleChannels.XOffset] = tmpQ.x;
+				rotationChannel.data[offset + ParticleChannels.YOffset] = tmpQ.y;
+				rotationChannel.data[offset + ParticleChannels.ZOffset] = tmpQ.z;
+				rotationChannel.data[offset + ParticleChannels.WOffset] = tmpQ.w;
 			}
 		}
 	}
 
+	/** Returns true if all the {@link #velocities} are thread safe. */
+	@Override
+	public boolean isThreadSafe () {
+		for (int k = 0; k < velocities.size; ++k)
+			if (!velocities.items[k].isThreadSafe()) return false;
+		return true;
+	}
+
 	@Override
 	public DynamicsInfluencer copy () {
 		return new DynamicsInfluencer(this);
@@ -56,18 +56,23 @@ public abstract class DynamicsModifier extends Influencer {
 			for (int i = 0, accelOffset = 0, c = i + controller.particles.size
 				* rotationChannel.strideSize; i < c; i += rotationChannel.strideSize, accelOffset += accellerationChannel.strideSize) {
 
-				Vector3 axisZ = TMP_V1.set(accellerationChannel.data[accelOffset + ParticleChannels.XOffset],
+				Vector3 axisZ = tmpV1.set(accellerationChannel.data[accelOffset + ParticleChannels.XOffset],
 					accellerationChannel.data[accelOffset + ParticleChannels.YOffset],
 					accellerationChannel.data[accelOffset + ParticleChannels.ZOffset]).nor(),
-					axisY = TMP_V2.set(TMP_V1).crs(Vector3.Y).nor().crs(TMP_V1).nor(), axisX = TMP_V3.set(axisY).crs(axisZ).nor();
-				TMP_Q.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
-				rotationChannel.data[i + ParticleChannels.XOffset] = TMP_Q.x;
-				rotationChannel.data[i + ParticleChannels.YOffset] = TMP_Q.y;
-				rotationChannel.data[i + ParticleChannels.ZOffset] = TMP_Q.z;
-				rotationChannel.data[i + ParticleChannels.WOffset] = TMP_Q.w;
+					axisY = tmpV2.set(tmpV1).crs(Vector3.Y).nor().crs(tmpV1).nor(), axisX = tmpV3.set(axisY).crs(axisZ).nor();
+				tmpQ.setFromAxes(false, axisX.x, axisY.x, axisZ.x, axisX.y, axisY.y, axisZ.y, axisX.z, axisY.z, axisZ.z);
+				rotationChannel.data[i + ParticleChannels.XOffset] = tmpQ.x;
+				rotationChannel.data[i + ParticleChannels.YOffset] = tmpQ.y;
+				rotationChannel.data[i + ParticleChannels.ZOffset] = tmpQ.z;
+				rotationChannel.data[i + ParticleChannels.WOffset] = tmpQ.w;
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public ParticleControllerComponent copy () {
 			return new FaceDirection(this);
@@ -212,6 +217,11 @@ public abstract class DynamicsModifier extends Influencer {
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public Rotational2D copy () {
 			return new Rotational2D(this);
@@ -277,15 +287,20 @@ public abstract class DynamicsModifier extends Influencer {
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi),
 					sinPhi = MathUtils.sinDeg(phi);
 
-				TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
-				TMP_V3.scl(strength * MathUtils.degreesToRadians);
+				tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
+				tmpV3.scl(strength * MathUtils.degreesToRadians);
 
-				rotationalForceChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				rotationalForceChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				rotationalForceChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				rotationalForceChannel.data[i + ParticleChannels.XOffset] += tmpV3.x;
+				rotationalForceChannel.data[i + ParticleChannels.YOffset] += tmpV3.y;
+				rotationalForceChannel.data[i + ParticleChannels.ZOffset] += tmpV3.z;
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public Rotational3D copy () {
 			return new Rotational3D(this);
@@ -327,15 +342,20 @@ public abstract class DynamicsModifier extends Influencer {
 				float strength = strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthStartOffset]
 					+ strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthDiffOffset]
 						* strengthValue.getScale(lifeChannel.data[lifeOffset]);
-				TMP_V3.set(positionChannel.data[positionOffset + ParticleChannels.XOffset] - cx,
+				tmpV3.set(positionChannel.data[positionOffset + ParticleChannels.XOffset] - cx,
 					positionChannel.data[positionOffset + ParticleChannels.YOffset] - cy,
 					positionChannel.data[positionOffset + ParticleChannels.ZOffset] - cz).nor().scl(strength);
-				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += TMP_V3.x;
-				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += TMP_V3.y;
-				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += TMP_V3.z;
+				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += tmpV3.x;
+				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += tmpV3.y;
+				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += tmpV3.z;
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public CentripetalAcceleration copy () {
 			return new CentripetalAcceleration(this);
@@ -373,19 +393,24 @@ public abstract class DynamicsModifier extends Influencer {
 
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi),
 					sinPhi = MathUtils.sinDeg(phi);
-				TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
+				tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi).nor().scl(strength);
 
 				if (!isGlobal) {
-					controller.transform.getRotation(TMP_Q, true);
-					TMP_V3.mul(TMP_Q);
+					controller.transform.getRotation(tmpQ, true);
+					tmpV3.mul(tmpQ);
 				}
 
-				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += tmpV3.x;
+				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += tmpV3.y;
+				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += tmpV3.z;
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public PolarAcceleration copy () {
 			return new PolarAcceleration(this);
@@ -425,23 +450,28 @@ public abstract class DynamicsModifier extends Influencer {
 
 				float cosTheta = MathUtils.cosDeg(theta), sinTheta = MathUtils.sinDeg(theta), cosPhi = MathUtils.cosDeg(phi),
 					sinPhi = MathUtils.sinDeg(phi);
-				TMP_V3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
-				TMP_V1.set(positionChannel.data[positionOffset + ParticleChannels.XOffset],
+				tmpV3.set(cosTheta * sinPhi, cosPhi, sinTheta * sinPhi);
+				tmpV1.set(positionChannel.data[positionOffset + ParticleChannels.XOffset],
 					positionChannel.data[positionOffset + ParticleChannels.YOffset],
 					positionChannel.data[positionOffset + ParticleChannels.ZOffset]);
 				if (!isGlobal) {
-					controller.transform.getTranslation(TMP_V2);
-					TMP_V1.sub(TMP_V2);
-					controller.transform.getRotation(TMP_Q, true);
-					TMP_V3.mul(TMP_Q);
+					controller.transform.getTranslation(tmpV2);
+					tmpV1.sub(tmpV2);
+					controller.transform.getRotation(tmpQ, true);
+					tmpV3.mul(tmpQ);
 				}
-				TMP_V3.crs(TMP_V1).nor().scl(strength);
-				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += TMP_V3.x;
-				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += TMP_V3.y;
-				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += TMP_V3.z;
+				tmpV3.crs(tmpV1).nor().scl(strength);
+				directionalVelocityChannel.data[i + ParticleChannels.XOffset] += tmpV3.x;
+				directionalVelocityChannel.data[i + ParticleChannels.YOffset] += tmpV3.y;
+				directionalVelocityChannel.data[i + ParticleChannels.ZOffset] += tmpV3.z;
 			}
 		}
 
+		@Override
+		public boolean isThreadSafe () {
+			return true;
+		}
+
 		@Override
 		public TangentialAcceleration copy () {
 			return new TangentialAcceleration(this);
@@ -473,10 +503,10 @@ public abstract class DynamicsModifier extends Influencer {
 				float strength = strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthStartOffset]
 					+ strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthDiffOffset]
 						* strengthValue.getScale(lifeChannel.data[lifeOffset]);
-				TMP_V3.set(MathUtils.random(-1, 1f), MathUtils.random(-1, 1f), MathUtils.random(-1, 1f)).nor().scl(strength);
-				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += TMP_V3.x;
-				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += TMP_V3.y;
-				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += TMP_V3.z;
+				tmpV3.set(MathUtils.random(-1, 1f), MathUtils.random(-1, 1f), MathUtils.random(-1, 1f)).nor().scl(strength);
+				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += tmpV3.x;
+				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += tmpV3.y;
+				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += tmpV3.z;
 			}
 		}
 
@@ -487,6 +517,8 @@ public abstract class DynamicsModifier extends Influencer {
 	}
 
 	public boolean isGlobal = false;
+	final Vector3 tmpV1 = new Vector3(), tmpV2 = new Vector3(), tmpV3 = new Vector3();
+	final Quaternion tmpQ = new Quaternion();
 	protected FloatChannel lifeChannel;
 
 	public DynamicsModifier () {
@@ -22,5 +22,12 @@ import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
  * graphical representation, velocity, etc...).
  * @author Inferno */
 public abstract class Influencer extends ParticleControllerComponent {
-
+	/** Returns true if {@link #update()} only uses the channels of its own controller and the state of this influencer, so the
+	 * influencers of different controllers can be updated on multiple threads at the same time. Influencers that use shared
+	 * state, eg static temporary objects or {@link com.badlogic.gdx.math.MathUtils#random}, must return false. Default is
+	 * false.
+	 * @see com.badlogic.gdx.graphics.g3d.particles.ParticleSystem#update(float, com.badlogic.gdx.utils.async.AsyncExecutor, int) */
+	public boolean isThreadSafe () {
+		return false;
+	}
 }
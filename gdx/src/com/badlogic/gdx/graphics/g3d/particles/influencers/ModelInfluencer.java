@@ -135,6 +135,11 @@ public abstract class ModelInfluencer extends Influencer {
 		modelChannel = controller.particles.addChannel(ParticleChannels.ModelInstance);
 	}
 
+	@Override
+	public boolean isThreadSafe () {
+		return true;
+	}
+
 	@Override
 	public void save (AssetManager manager, ResourceData resources) {
 		SaveData data = resources.createSaveData();
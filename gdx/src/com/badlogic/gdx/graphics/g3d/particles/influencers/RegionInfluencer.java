@@ -288,6 +288,11 @@ public abstract class RegionInfluencer extends Influencer {
 		regionChannel = controller.particles.addChannel(ParticleChannels.TextureRegion);
 	}
 
+	@Override
+	public boolean isThreadSafe () {
+		return true;
+	}
+
 	@Override
 	public void write (Json json) {
 		json.writeValue("regions", regions, Array.class, AspectTextureRegion.class);
@@ -88,6 +88,11 @@ public abstract class SimpleInfluencer extends Influencer {
 		}
 	}
 
+	@Override
+	public boolean isThreadSafe () {
+		return true;
+	}
+
 	@Override
 	public void write (Json json) {
 		json.writeValue("value", value);
@@ -61,6 +61,11 @@ public class SpawnInfluencer extends Influencer {
 		spawnShapeValue.start();
 	}
 
+	@Override
+	public boolean isThreadSafe () {
+		return true;
+	}
+
 	@Override
 	public void activateParticles (int startIndex, int count) {
 		for (int i = startIndex * positionChannel.strideSize,
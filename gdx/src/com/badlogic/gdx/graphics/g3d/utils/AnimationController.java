@@ -20,8 +20,13 @@ import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.model.Animation;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Class to control one or more {@link Animation}s on a {@link ModelInstance}. Use the
  * {@link #setAnimation(String, int, float, AnimationListener)} method to change the current animation. Use the
@@ -33,6 +38,8 @@ import com.badlogic.gdx.utils.Pool;
  * You can use multiple AnimationControllers on the same ModelInstance, as long as they don't interfere with each other (don't
  * affect the same {@link Node}s).
  * 
+ * Many controllers can be updated in parallel with {@link ParallelUpdater}.
+ * 
  * @author Xoppa */
 public class AnimationController extends BaseAnimationController {
 
@@ -134,6 +141,11 @@ public class AnimationController extends BaseAnimationController {
 
 	private boolean justChangedAnimation = false;
 
+	// The animations to apply, stored by advance() so they can be applied later on another thread.
+	private @Null Animation applyAnimation1, applyAnimation2;
+	private float applyTime1, applyTime2, applyWeight;
+	private boolean applyCalculate;
+
 	/** Construct a new AnimationController.
 	 * @param target The {@link ModelInstance} on which the animations will be performed. */
 	public AnimationController (final ModelInstance target) {
@@ -169,6 +181,12 @@ public class AnimationController extends BaseAnimationController {
 	/** Update any animations currently being played.
 	 * @param delta The time elapsed since last update, change this to alter the overall speed (can be negative). */
 	public void update (float delta) {
+		advance(delta);
+		applyAdvanced();
+	}
+
+	/** Advances the animation state and informs the listeners, storing the animations to apply for {@link #applyAdvanced()}. */
+	private void advance (float delta) {
 		if (paused) return;
 		if (previous != null && ((transitionCurrentTime += delta) >= transitionTargetTime)) {
 			removeAnimation(previous.animation);
@@ -177,7 +195,7 @@ public class AnimationController extends BaseAnimationController {
 			previous = null;
 		}
 		if (justChangedAnimation) {
-			target.calculateTransforms();
+			applyCalculate = true;
 			justChangedAnimation = false;
 		}
 		if (current == null || current.loopCount == 0 || current.animation == null) return;
@@ -186,14 +204,35 @@ public class AnimationController extends BaseAnimationController {
 			inAction = false;
 			animate(queued, queuedTransitionTime);
 			queued = null;
-			if (remain > 0f) update(remain);
+			if (remain > 0f) advance(remain);
 			return;
 		}
-		if (previous != null)
-			applyAnimations(previous.animation, previous.offset + previous.time, current.animation, current.offset + current.time,
-				transitionCurrentTime / transitionTargetTime);
-		else
-			applyAnimation(current.animation, current.offset + current.time);
+		if (applyAnimation1 != null) applyAdvanced();
+		if (previous != null) {
+			applyAnimation1 = previous.animation;
+			applyTime1 = previous.offset + previous.time;
+			applyAnimation2 = current.animation;
+			applyTime2 = current.offset + current.time;
+			applyWeight = transitionCurrentTime / transitionTargetTime;
+		} else {
+			applyAnimation1 = current.animation;
+			applyTime1 = current.offset + current.time;
+			applyAnimation2 = null;
+		}
+	}
+
+	/** Applies the animations stored by {@link #advance(float)} and updates the transforms of the target. Only modifies the
+	 * target, so controllers of different targets can do this on different threads. */
+	private void applyAdvanced () {
+		final Animation animation1 = applyAnimation1, animation2 = applyAnimation2;
+		final boolean calculate = applyCalculate;
+		applyAnimation1 = null;
+		applyAnimation2 = null;
+		applyCalculate = false;
+		if (animation1 != null)
+			applyAnimations(animation1, applyTime1, animation2, applyTime2, applyWeight);
+		else if (calculate) //
+			target.calculateTransforms();
 	}
 
 	/** Set the active animation, replacing any current animation.
@@ -490,4 +529,102 @@ public class AnimationController extends BaseAnimationController {
 		}
 		return anim;
 	}
+
+	/** Updates many controllers, applying the animations on multiple threads. First {@link #update(float)} advances the animation
+	 * state of each controller on the calling thread, so {@link AnimationListener}s are informed on the calling thread as usual.
+	 * Then the controllers are split into groups which apply the animations to their targets and calculate the node and bone
+	 * transforms in parallel. The calling thread updates the first group.
+	 * <p>
+	 * Controllers which share a target must be next to each other in the array, they are always kept in the same group.
+	 * <p>
+	 * The tasks are reused, so an updater must not be used by multiple threads at the same time. */
+	static public class ParallelUpdater {
+		private final @Null AsyncExecutor executor;
+		private final int parallelism;
+		private final Array<ApplyTask> tasks = new Array<>(true, 4, ApplyTask[]::new);
+		private AsyncResult<Void>[] results = new AsyncResult[4];
+
+		/** @param executor Runs the groups other than the first. It should have at least parallelism - 1 threads. May be null if
+		 *           parallelism is 1.
+		 * @param parallelism The maximum number of groups, usually the number of available processors. */
+		public ParallelUpdater (@Null AsyncExecutor executor, int parallelism) {
+			if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+			this.executor = executor;
+			this.parallelism = parallelism;
+		}
+
+		/** Updates the controllers, returning when all of them have been updated.
+		 * @param delta The time elapsed since last update. */
+		public void update (Array<? extends AnimationController> controllers, float delta) {
+			final int n = controllers.size;
+			for (int i = 0; i < n; i++) {
+				AnimationController controller = controllers.get(i);
+				controller.advance(delta);
+			}
+
+			AsyncExecutor executor = this.executor;
+			int count = Math.min(parallelism, n);
+			if (count <= 1 || executor == null) {
+				for (int i = 0; i < n; i++) {
+					AnimationController controller = controllers.get(i);
+					controller.applyAdvanced();
+				}
+				return;
+			}
+
+			// Split into contiguous groups of about the same size, without splitting controllers of the same target.
+			while (this.tasks.size < count)
+				this.tasks.add(new ApplyTask());
+			ApplyTask[] tasks = this.tasks.items;
+			int start = 0, taskCount = 0;
+			for (int i = 1; i <= n; i++) {
+				if (i < n && (i * (long)count < n * (long)(taskCount + 1) || taskCount == count - 1
+					|| controllers.get(i).target == controllers.get(i - 1).target)) continue;
+				tasks[taskCount++].set(controllers, start, i);
+				start = i;
+			}
+
+			if (this.results.length < taskCount) this.results = new AsyncResult[taskCount];
+			AsyncResult<Void>[] results = this.results;
+			for (int i = 1; i < taskCount; i++)
+				results[i] = executor.submit(tasks[i]);
+			RuntimeException error = null;
+			try {
+				tasks[0].call();
+			} catch (RuntimeException ex) {
+				error = ex;
+			}
+			// Wait for all the tasks even if one failed, so no controller is still being applied when this returns.
+			for (int i = 1; i < taskCount; i++) {
+				try {
+					results[i].get();
+				} catch (GdxRuntimeException ex) {
+					if (error == null) error = ex;
+				}
+				results[i] = null;
+			}
+			for (int i = 0; i < taskCount; i++)
+				tasks[i].controllers = null;
+			if (error != null) throw error;
+		}
+	}
+
+	static private class ApplyTask implements AsyncTask<Void> {
+		@Null Array<? extends AnimationController> controllers;
+		int start, end;
+
+		void set (Array<? extends AnimationController> controllers, int start, int end) {
+			this.controllers = controllers;
+			this.start = start;
+			this.end = end;
+		}
+
+		public Void call () {
+			for (int i = start; i < end; i++) {
+				AnimationController controller = controllers.get(i);
+				controller.applyAdvanced();
+			}
+			return null;
+		}
+	}
 }
@@ -34,6 +34,9 @@ import com.badlogic.gdx.utils.Pool.Poolable;
 /** Base class for applying one or more {@link Animation}s to a {@link ModelInstance}. This class only applies the actual
  * {@link Node} transformations, it does not manage animations or keep track of animation states. See {@link AnimationController}
  * for an implementation of this class which does manage animations.
+ * <p>
+ * Controllers of different {@link ModelInstance}s don't share any state, so they can be applied on different threads at the same
+ * time.
  * 
  * @author Xoppa */
 public class BaseAnimationController {
@@ -95,7 +98,8 @@ public class BaseAnimationController {
 			return new Transform();
 		}
 	};
-	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final Transform tmpTransform = new Transform();
 	private boolean applying = false;
 	/** The {@link ModelInstance} on which the animations are being performed. */
 	public final ModelInstance target;
@@ -117,7 +121,7 @@ public class BaseAnimationController {
 	 * @param weight The blend weight of this animation relative to the previous applied animations. */
 	protected void apply (final Animation animation, final float time, final float weight) {
 		if (!applying) throw new GdxRuntimeException("You must call begin() before adding an animation");
-		applyAnimation(transforms, transformPool, weight, animation, time);
+		applyAnimation(transforms, transformPool, weight, animation, time, tmpTransform);
 	}
 
 	/** End applying multiple animations to the instance and update it to reflect the changes. */
@@ -135,7 +139,7 @@ public class BaseAnimationController {
 	/** Apply a single animation to the {@link ModelInstance} and update the it to reflect the changes. */
 	protected void applyAnimation (final Animation animation, final float time) {
 		if (applying) throw new GdxRuntimeException("Call end() first");
-		applyAnimation(null, null, 1.f, animation, time);
+		applyAnimation(null, null, 1.f, animation, time, tmpTransform);
 		target.calculateTransforms();
 	}
 
@@ -235,27 +239,31 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time) {
-		final Transform transform = tmpT;
+	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time,
+		final Transform transform) {
+		if (nodeAnim.baked != null) {
+			nodeAnim.baked.getTransform(time, nodeAnim.node, transform.translation, transform.rotation, transform.scale);
+			return transform;
+		}
 		getTranslationAtTime(nodeAnim, time, transform.translation);
 		getRotationAtTime(nodeAnim, time, transform.rotation);
 		getScalingAtTime(nodeAnim, time, transform.scale);
 		return transform;
 	}
 
-	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time) {
+	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time, final Transform tmp) {
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp);
 		transform.toMatrix4(node.localTransform);
 	}
 
 	private final static void applyNodeAnimationBlending (final NodeAnimation nodeAnim, final ObjectMap<Node, Transform> out,
-		final Pool<Transform> pool, final float alpha, final float time) {
+		final Pool<Transform> pool, final float alpha, final float time, final Transform tmp) {
 
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp);
 
 		Transform t = out.get(node, null);
 		if (t != null) {
@@ -271,18 +279,24 @@ public class BaseAnimationController {
 		}
 	}
 
-	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. */
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. This uses a static
+	 * temporary transform, so unlike the instance methods it must not be used by multiple threads at the same time. */
 	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
 		final Animation animation, final float time) {
+		applyAnimation(out, pool, alpha, animation, time, tmpT);
+	}
+
+	private static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp) {
 
 		if (out == null) {
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationDirectly(nodeAnim, time);
+			for (int i = 0, n = animation.nodeAnimations.size; i < n; i++)
+				applyNodeAnimationDirectly(animation.nodeAnimations.get(i), time, tmp);
 		} else {
 			for (final Node node : out.keys())
 				node.isAnimated = false;
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationBlending(nodeAnim, out, pool, alpha, time);
+			for (int i = 0, n = animation.nodeAnimations.size; i < n; i++)
+				applyNodeAnimationBlending(animation.nodeAnimations.get(i), out, pool, alpha, time, tmp);
 			for (final ObjectMap.Entry<Node, Transform> e : out.entries()) {
 				if (!e.key.isAnimated) {
 					e.key.isAnimated = true;
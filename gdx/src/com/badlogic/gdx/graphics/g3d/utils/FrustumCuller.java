@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Finds the {@link RenderableProvider}s whose bounds are in a {@link Frustum}, using a dynamic bounding volume hierarchy so the
+ * cost depends mostly on the number of visible providers rather than the total number. Whole subtrees outside of the frustum are
+ * skipped, and subtrees entirely inside of it are added without further tests.
+ * <p>
+ * Each provider is added as a proxy with world space bounds. The tree stores the bounds enlarged by the {@link #margin}, so a
+ * proxy which moves a little doesn't change the tree. {@link ModelInstance}s can be added with their bounds calculated from the
+ * model, then {@link #update()} refits the ones whose {@link ModelInstance#transform} changed.
+ * @see ModelBatch#render(FrustumCuller, com.badlogic.gdx.graphics.g3d.Environment) */
+public class FrustumCuller {
+	/** The fraction of the largest dimension of a proxy's bounds by which they are enlarged in the tree. Larger values reduce how
+	 * often moving proxies change the tree but make the tree less tight. */
+	public float margin = 0.1f;
+
+	/** The number of tree nodes visited by the last {@link #cull(Frustum, Array)}. */
+	public int testedCount;
+	/** The number of visible proxies found by the last {@link #cull(Frustum, Array)}. */
+	public int visibleCount;
+	/** The number of proxies whose bounds left their enlarged bounds and were moved in the tree since the last
+	 * {@link #cull(Frustum, Array)}. */
+	public int movedCount;
+
+	/** The enlarged bounds of every node and the bounds of the leaves, 6 values per node: minimum x, y, z then maximum x, y, z. */
+	private float[] fatBounds = new float[0], bounds = new float[0];
+	/** The parent of each node, or the next free node for free nodes. */
+	private int[] parents = new int[0];
+	/** The children of each node, -1 for leaves. */
+	private int[] children1 = new int[0], children2 = new int[0];
+	/** The height of each node, 0 for leaves and -1 for free nodes. */
+	private int[] heights = new int[0];
+	private RenderableProvider[] providers = new RenderableProvider[0];
+	private Tracked[] tracked = new Tracked[0];
+	private int root = -1, freeList = -1, proxyCount;
+
+	private final IntArray stack = new IntArray();
+	private final BoundingBox tmpBounds = new BoundingBox();
+
+	/** Adds a proxy for the provider.
+	 * @param bounds The world space bounds of the provider.
+	 * @return The proxy, used to change or remove it. */
+	public int add (RenderableProvider provider, BoundingBox bounds) {
+		if (provider == null) throw new IllegalArgumentException("provider cannot be null.");
+		int proxy = allocate();
+		providers[proxy] = provider;
+		setBounds(proxy, bounds.min, bounds.max);
+		insertLeaf(proxy);
+		proxyCount++;
+		return proxy;
+	}
+
+	/** Adds a proxy for the model instance. The bounds are calculated with {@link ModelInstance#calculateBoundingBox(BoundingBox)}
+	 * and transformed by the {@link ModelInstance#transform} when it changes, see {@link #update()}.
+	 * @return The proxy, used to change or remove it. */
+	public int add (ModelInstance instance) {
+		Tracked tracked = new Tracked();
+		tracked.instance = instance;
+		instance.calculateBoundingBox(tracked.bounds);
+		System.arraycopy(instance.transform.val, 0, tracked.transform, 0, 16);
+		int proxy = add(instance, tmpBounds.set(tracked.bounds).mul(instance.transform));
+		this.tracked[proxy] = tracked;
+		return proxy;
+	}
+
+	/** Removes the proxy. The proxy can be reused by a later add. */
+	public void remove (int proxy) {
+		checkProxy(proxy);
+		removeLeaf(proxy);
+		free(proxy);
+		proxyCount--;
+	}
+
+	/** Removes all proxies. */
+	public void clear () {
+		for (int i = 0, n = parents.length; i < n; i++) {
+			providers[i] = null;
+			tracked[i] = null;
+			heights[i] = -1;
+			parents[i] = i + 1 < n ? i + 1 : -1;
+		}
+		freeList = parents.length > 0 ? 0 : -1;
+		root = -1;
+		proxyCount = 0;
+	}
+
+	/** Sets the world space bounds of the proxy. The tree only changes if the bounds are not within the enlarged bounds.
+	 * @return True if the proxy was moved in the tree. */
+	public boolean setBounds (int proxy, BoundingBox bounds) {
+		checkProxy(proxy);
+		Vector3 min = bounds.min, max = bounds.max;
+		float[] fatBounds = this.fatBounds;
+		int i = proxy * 6;
+		if (min.x >= fatBounds[i] && min.y >= fatBounds[i + 1] && min.z >= fatBounds[i + 2] && max.x <= fatBounds[i + 3]
+			&& max.y <= fatBounds[i + 4] && max.z <= fatBounds[i + 5]) {
+			setBounds(proxy, min, max, this.bounds);
+			return false;
+		}
+		removeLeaf(proxy);
+		setBounds(proxy, min, max);
+		insertLeaf(proxy);
+		movedCount++;
+		return true;
+	}
+
+	/** Recalculates the bounds of a proxy added with {@link #add(ModelInstance)}. This is needed when the bounds of the model
+	 * instance change other than by its {@link ModelInstance#transform}, eg when its nodes are animated. */
+	public void invalidate (int proxy) {
+		checkProxy(proxy);
+		Tracked tracked = this.tracked[proxy];
+		if (tracked == null) throw new IllegalArgumentException("The proxy was not added with a model instance: " + proxy);
+		ModelInstance instance = tracked.instance;
+		instance.calculateBoundingBox(tracked.bounds);
+		System.arraycopy(instance.transform.val, 0, tracked.transform, 0, 16);
+		setBounds(proxy, tmpBounds.set(tracked.bounds).mul(instance.transform));
+	}
+
+	/** Sets the bounds of each proxy added with {@link #add(ModelInstance)} whose {@link ModelInstance#transform} changed since
+	 * it was added or last updated. */
+	public void update () {
+		Tracked[] trackedNodes = this.tracked;
+		for (int i = 0, n = trackedNodes.length; i < n; i++) {
+			Tracked tracked = trackedNodes[i];
+			if (tracked == null) continue;
+			float[] transform = tracked.instance.transform.val, last = tracked.transform;
+			boolean changed = false;
+			for (int ii = 0; ii < 16; ii++) {
+				if (transform[ii] != last[ii]) {
+					changed = true;
+					break;
+				}
+			}
+			if (!changed) continue;
+			System.arraycopy(transform, 0, last, 0, 16);
+			setBounds(i, tmpBounds.set(tracked.bounds).mul(tracked.instance.transform));
+		}
+	}
+
+	/** Adds the providers whose bounds are in the frustum to the array, and sets the {@link #testedCount} and
+	 * {@link #visibleCount}. The {@link #movedCount} is reset. */
+	public void cull (Frustum frustum, Array<? super RenderableProvider> visible) {
+		testedCount = 0;
+		visibleCount = 0;
+		movedCount = 0;
+		if (root == -1) return;
+		Plane[] planes = frustum.planes;
+		int[] children1 = this.children1, children2 = this.children2;
+		IntArray stack = this.stack;
+		stack.add(root, 0x3f);
+		while (stack.size > 0) {
+			int mask = stack.pop(), node = stack.pop();
+			testedCount++;
+			boolean leaf = children1[node] == -1;
+			if (mask != 0) {
+				mask = classify(planes, leaf ? bounds : fatBounds, node * 6, mask);
+				if (mask == -1) continue;
+			}
+			if (leaf) {
+				visible.add(providers[node]);
+				visibleCount++;
+			} else {
+				stack.add(children1[node], mask);
+				stack.add(children2[node], mask);
+			}
+		}
+	}
+
+	/** Returns the mask of the planes the bounds intersect, or -1 if the bounds are behind any plane.
+	 * @param mask The planes to test, planes not in the mask are known to have the bounds in front of them. */
+	static private int classify (Plane[] planes, float[] bounds, int i, int mask) {
+		float minX = bounds[i], minY = bounds[i + 1], minZ = bounds[i + 2];
+		float maxX = bounds[i + 3], maxY = bounds[i + 4], maxZ = bounds[i + 5];
+		float x = (minX + maxX) / 2, y = (minY + maxY) / 2, z = (minZ + maxZ) / 2;
+		float halfWidth = (maxX - minX) / 2, halfHeight = (maxY - minY) / 2, halfDepth = (maxZ - minZ) / 2;
+		for (int p = 0; p < 6; p++) {
+			int bit = 1 << p;
+			if ((mask & bit) == 0) continue;
+			Plane plane = planes[p];
+			Vector3 normal = plane.normal;
+			float distance = normal.x * x + normal.y * y + normal.z * z + plane.d;
+			float radius = Math.abs(normal.x) * halfWidth + Math.abs(normal.y) * halfHeight + Math.abs(normal.z) * halfDepth;
+			if (distance + radius < 0) return -1;
+			if (distance - radius >= 0) mask &= ~bit;
+		}
+		return mask;
+	}
+
+	public RenderableProvider getProvider (int proxy) {
+		checkProxy(proxy);
+		return providers[proxy];
+	}
+
+	/** Returns the world space bounds of the proxy. */
+	public BoundingBox getBounds (int proxy, BoundingBox out) {
+		checkProxy(proxy);
+		int i = proxy * 6;
+		out.min.set(bounds[i], bounds[i + 1], bounds[i + 2]);
+		out.max.set(bounds[i + 3], bounds[i + 4], bounds[i + 5]);
+		out.update();
+		return out;
+	}
+
+	/** Returns the number of proxies. */
+	public int size () {
+		return proxyCount;
+	}
+
+	/** Returns the height of the tree, 0 when it is empty or has one proxy. */
+	public int getHeight () {
+		return root == -1 ? 0 : heights[root];
+	}
+
+	private void checkProxy (int proxy) {
+		if (proxy < 0 || proxy >= providers.length || providers[proxy] == null || children1[proxy] != -1)
+			throw new IllegalArgumentException("Invalid proxy: " + proxy);
+	}
+
+	private void setBounds (int proxy, Vector3 min, Vector3 max) {
+		setBounds(proxy, min, max, bounds);
+		float margin = this.margin * Math.max(max.x - min.x, Math.max(max.y - min.y, max.z - min.z));
+		int i = proxy * 6;
+		fatBounds[i] = min.x - margin;
+		fatBounds[i + 1] = min.y - margin;
+		fatBounds[i + 2] = min.z - margin;
+		fatBounds[i + 3] = max.x + margin;
+		fatBounds[i + 4] = max.y + margin;
+		fatBounds[i + 5] = max.z + margin;
+	}
+
+	static private void setBounds (int proxy, Vector3 min, Vector3 max, float[] bounds) {
+		int i = proxy * 6;
+		bounds[i] = min.x;
+		bounds[i + 1] = min.y;
+		bounds[i + 2] = min.z;
+		bounds[i + 3] = max.x;
+		bounds[i + 4] = max.y;
+		bounds[i + 5] = max.z;
+	}
+
+	private int allocate () {
+		if (freeList == -1) {
+			int capacity = parents.length, newCapacity = Math.max(16, capacity * 2);
+			fatBounds = resize(fatBounds, newCapacity * 6);
+			bounds = resize(bounds, newCapacity * 6);
+			parents = resize(parents, newCapacity);
+			children1 = resize(children1, newCapacity);
+			children2 = resize(children2, newCapacity);
+			heights = resize(heights, newCapacity);
+			RenderableProvider[] providers = new RenderableProvider[newCapacity];
+			System.arraycopy(this.providers, 0, providers, 0, capacity);
+			this.providers = providers;
+			Tracked[] tracked = new Tracked[newCapacity];
+			System.arraycopy(this.tracked, 0, tracked, 0, capacity);
+			this.tracked = tracked;
+			for (int i = capacity; i < newCapacity; i++) {
+				parents[i] = i + 1 < newCapacity ? i + 1 : -1;
+				heights[i] = -1;
+			}
+			freeList = capacity;
+		}
+		int node = freeList;
+		freeList = parents[node];
+		parents[node] = -1;
+		children1[node] = -1;
+		children2[node] = -1;
+		heights[node] = 0;
+		return node;
+	}
+
+	private void free (int node) {
+		providers[node] = null;
+		tracked[node] = null;
+		heights[node] = -1;
+		parents[node] = freeList;
+		freeList = node;
+	}
+
+	static private float[] resize (float[] array, int size) {
+		float[] newArray = new float[size];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	static private int[] resize (int[] array, int size) {
+		int[] newArray = new int[size];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	/** Inserts the leaf as the sibling of the node with the lowest surface area cost, then balances its ancestors. */
+	private void insertLeaf (int leaf) {
+		if (root == -1) {
+			root = leaf;
+			parents[leaf] = -1;
+			return;
+		}
+
+		int index = root;
+		while (children1[index] != -1) {
+			int child1 = children1[index], child2 = children2[index];
+			float area = area(index);
+			float combinedArea = unionArea(index, leaf);
+			// Cost of creating a new parent for this node and the leaf.
+			float cost = 2 * combinedArea;
+			// Minimum cost of pushing the leaf further down the tree.
+			float inheritanceCost = 2 * (combinedArea - area);
+			float cost1 = unionArea(child1, leaf) + inheritanceCost;
+			if (children1[child1] != -1) cost1 -= area(child1);
+			float cost2 = unionArea(child2, leaf) + inheritanceCost;
+			if (children1[child2] != -1) cost2 -= area(child2);
+			if (cost < cost1 && cost < cost2) break;
+			index = cost1 < cost2 ? child1 : child2;
+		}
+
+		int sibling = index, oldParent = parents[sibling];
+		int newParent = allocate();
+		parents[newParent] = oldParent;
+		union(newParent, sibling, leaf);
+		heights[newParent] = heights[sibling] + 1;
+		if (oldParent != -1) {
+			if (children1[oldParent] == sibling)
+				children1[oldParent] = newParent;
+			else
+				children2[oldParent] = newParent;
+		} else
+			root = newParent;
+		children1[newParent] = sibling;
+		children2[newParent] = leaf;
+		parents[sibling] = newParent;
+		parents[leaf] = newParent;
+
+		refit(parents[leaf]);
+	}
+
+	private void removeLeaf (int leaf) {
+		if (leaf == root) {
+			root = -1;
+			return;
+		}
+		int parent = parents[leaf], grandParent = parents[parent];
+		int sibling = children1[parent] == leaf ? children2[parent] : children1[parent];
+		if (grandParent != -1) {
+			if (children1[grandParent] == parent)
+				children1[grandParent] = sibling;
+			else
+				children2[grandParent] = sibling;
+			parents[sibling] = grandParent;
+			free(parent);
+			refit(grandParent);
+		} else {
+			root = sibling;
+			parents[sibling] = -1;
+			free(parent);
+		}
+		parents[leaf] = -1;
+	}
+
+	/** Balances the node and its ancestors and recalculates their bounds and heights. */
+	private void refit (int index) {
+		while (index != -1) {
+			index = balance(index);
+			int child1 = children1[index], child2 = children2[index];
+			heights[index] = 1 + Math.max(heights[child1], heights[child2]);
+			union(index, child1, child2);
+			index = parents[index];
+		}
+	}
+
+	/** If one child of the node is more than one level taller than the other, rotates it up to replace the node.
+	 * @return The node now at the node's position. */
+	private int balance (int a) {
+		if (children1[a] == -1 || heights[a] < 2) return a;
+		int[] children1 = this.children1, children2 = this.children2, parents = this.parents, heights = this.heights;
+		int b = children1[a], c = children2[a];
+		int balance = heights[c] - heights[b];
+
+		if (balance > 1) {
+			// Rotate c up.
+			int f = children1[c], g = children2[c];
+			children1[c] = a;
+			parents[c] = parents[a];
+			parents[a] = c;
+			replaceChild(parents[c], a, c);
+			if (heights[f] > heights[g]) {
+				children2[c] = f;
+				children2[a] = g;
+				parents[g] = a;
+				union(a, b, g);
+				union(c, a, f);
+				heights[a] = 1 + Math.max(heights[b], heights[g]);
+				heights[c] = 1 + Math.max(heights[a], heights[f]);
+			} else {
+				children2[c] = g;
+				children2[a] = f;
+				parents[f] = a;
+				union(a, b, f);
+				union(c, a, g);
+				heights[a] = 1 + Math.max(heights[b], heights[f]);
+				heights[c] = 1 + Math.max(heights[a], heights[g]);
+			}
+			return c;
+		}
+
+		if (balance < -1) {
+			// Rotate b up.
+			int d = children1[b], e = children2[b];
+			children1[b] = a;
+			parents[b] = parents[a];
+			parents[a] = b;
+			replaceChild(parents[b], a, b);
+			if (heights[d] > heights[e]) {
+				children2[b] = d;
+				children1[a] = e;
+				parents[e] = a;
+				union(a, c, e);
+				union(b, a, d);
+				heights[a] = 1 + Math.max(heights[c], heights[e]);
+				heights[b] = 1 + Math.max(heights[a], heights[d]);
+			} else {
+				children2[b] = e;
+				children1[a] = d;
+				parents[d] = a;
+				union(a, c, d);
+				union(b, a, e);
+				heights[a] = 1 + Math.max(heights[c], heights[d]);
+				heights[b] = 1 + Math.max(heights[a], heights[e]);
+			}
+			return b;
+		}
+		return a;
+	}
+
+	private void replaceChild (int parent, int oldChild, int newChild) {
+		if (parent == -1)
+			root = newChild;
+		else if (children1[parent] == oldChild)
+			children1[parent] = newChild;
+		else
+			children2[parent] = newChild;
+	}
+
+	private void union (int out, int a, int b) {
+		float[] fatBounds = this.fatBounds;
+		out *= 6;
+		a *= 6;
+		b *= 6;
+		for (int i = 0; i < 3; i++) {
+			fatBounds[out + i] = Math.min(fatBounds[a + i], fatBounds[b + i]);
+			fatBounds[out + i + 3] = Math.max(fatBounds[a + i + 3], fatBounds[b + i + 3]);
+		}
+	}
+
+	/** Returns half the surface area of the node's enlarged bounds. */
+	private float area (int node) {
+		float[] fatBounds = this.fatBounds;
+		int i = node * 6;
+		float width = fatBounds[i + 3] - fatBounds[i], height = fatBounds[i + 4] - fatBounds[i + 1],
+			depth = fatBounds[i + 5] - fatBounds[i + 2];
+		return width * height + height * depth + depth * width;
+	}
+
+	/** Returns half the surface area of the union of the nodes' enlarged bounds. */
+	private float unionArea (int a, int b) {
+		float[] fatBounds = this.fatBounds;
+		a *= 6;
+		b *= 6;
+		float width = Math.max(fatBounds[a + 3], fatBounds[b + 3]) - Math.min(fatBounds[a], fatBounds[b]);
+		float height = Math.max(fatBounds[a + 4], fatBounds[b + 4]) - Math.min(fatBounds[a + 1], fatBounds[b + 1]);
+		float depth = Math.max(fatBounds[a + 5], fatBounds[b + 5]) - Math.min(fatBounds[a + 2], fatBounds[b + 2]);
+		return width * height + height * depth + depth * width;
+	}
+
+	static private class Tracked {
+		ModelInstance instance;
+		/** The bounds in model space. */
+		final BoundingBox bounds = new BoundingBox();
+		/** The transform when the bounds were last set. */
+		final float[] transform = new float[16];
+	}
+}
@@ -55,6 +55,9 @@ public abstract class BaseTiledMapLoader<P extends BaseTiledMapLoader.Parameters
 		public boolean flipY = true;
 		/** Path to Tiled project file. Needed when using class properties. */
 		public String projectFilePath = null;
+		/** Whether to load tile layers as {@link ChunkedTiledMapTileLayer}, which uses much less memory for large or sparse layers
+		 * but returns a flyweight from {@link TiledMapTileLayer#getCell(int, int)}. Layers of infinite maps are always chunked. */
+		public boolean chunkedTileLayers = false;
 	}
 
 	/** Representation of a single Tiled class property. A property has:
@@ -88,6 +91,7 @@ public abstract class BaseTiledMapLoader<P extends BaseTiledMapLoader.Parameters
 
 	protected boolean convertObjectToTileSpace;
 	protected boolean flipY = true;
+	protected boolean chunkedTileLayers;
 
 	protected int mapTileWidth;
 	protected int mapTileHeight;
@@ -166,6 +170,44 @@ public abstract class BaseTiledMapLoader<P extends BaseTiledMapLoader.Parameters
 		return cell;
 	}
 
+	/** Creates a {@link ChunkedTiledMapTileLayer} if {@link Parameters#chunkedTileLayers} is set, else a
+	 * {@link TiledMapTileLayer}. */
+	protected TiledMapTileLayer createTileLayer (int width, int height, int tileWidth, int tileHeight) {
+		if (chunkedTileLayers) return new ChunkedTiledMapTileLayer(width, height, tileWidth, tileHeight);
+		return new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+	}
+
+	/** Sets the cells of the layer from Tiled global tile ids, which include the flip flags.
+	 * @param ids The ids in Tiled's row order, width * height.
+	 * @param startX The layer column of the first id.
+	 * @param startY The layer row of the first id, before flipping. */
+	protected void setTileLayerCells (TiledMapTileLayer layer, TiledMapTileSets tileSets, int[] ids, int startX, int startY,
+		int width, int height) {
+		// A chunked layer copies the cells, so one cell per combination of flip flags is enough.
+		TiledMapTileLayer.Cell[] flagCells = layer instanceof ChunkedTiledMapTileLayer ? new TiledMapTileLayer.Cell[8] : null;
+		int layerHeight = layer.getHeight();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int id = ids[y * width + x];
+				TiledMapTile tile = tileSets.getTile(id & ~MASK_CLEAR);
+				if (tile == null) continue;
+				boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
+				boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
+				boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
+				TiledMapTileLayer.Cell cell;
+				if (flagCells != null) {
+					int flags = id >>> 29;
+					cell = flagCells[flags];
+					if (cell == null) flagCells[flags] = cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
+				} else
+					cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
+				cell.setTile(tile);
+				int cellY = startY + y;
+				layer.setCell(startX + x, flipY ? layerHeight - 1 - cellY : cellY, cell);
+			}
+		}
+	}
+
 	protected static int unsignedByteToInt (byte b) {
 		return b & 0xFF;
 	}
@@ -35,7 +35,6 @@ import com.badlogic.gdx.maps.objects.PolygonMapObject;
 import com.badlogic.gdx.maps.objects.PolylineMapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.objects.TextMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.maps.tiled.objects.TiledMapTileMapObject;
 import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
 import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
@@ -48,6 +47,7 @@ import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.SerializationException;
 import com.badlogic.gdx.utils.StreamUtils;
 
@@ -95,10 +95,12 @@ public abstract class BaseTmjMapLoader<P extends BaseTiledMapLoader.Parameters>
 		if (parameter != null) {
 			this.convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 			this.flipY = parameter.flipY;
+			this.chunkedTileLayers = parameter.chunkedTileLayers;
 			loadProjectFile(parameter.projectFilePath);
 		} else {
 			this.convertObjectToTileSpace = false;
 			this.flipY = true;
+			this.chunkedTileLayers = false;
 		}
 		String mapOrientation = root.getString("orientation", null);
 		int mapWidth = root.getInt("width", 0);
@@ -236,26 +238,41 @@ public abstract class BaseTmjMapLoader<P extends BaseTiledMapLoader.Parameters>
 			int height = element.getInt("height", 0);
 			int tileWidth = map.getProperties().get("tilewidth", Integer.class);
 			int tileHeight = map.getProperties().get("tileheight", Integer.class);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
-
-			loadBasicLayerInfo(layer, element);
-
-			int[] ids = getTileIds(element, width, height);
-			TiledMapTileSets tileSets = map.getTileSets();
-			for (int y = 0; y < height; y++) {
-				for (int x = 0; x < width; x++) {
-					int id = ids[y * width + x];
-					boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-					boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-					boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-					TiledMapTile tile = tileSets.getTile(id & ~MASK_CLEAR);
-					if (tile != null) {
-						Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-						cell.setTile(tile);
-						layer.setCell(x, flipY ? height - 1 - y : y, cell);
-					}
+			JsonValue chunks = element.get("chunks");
+			TiledMapTileLayer layer;
+			if (chunks != null) {
+				// Infinite map, the layer is sized to the bounds of the chunks, which may start at negative coordinates.
+				int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+				for (JsonValue chunk = chunks.child; chunk != null; chunk = chunk.next) {
+					int x = chunk.getInt("x", 0), y = chunk.getInt("y", 0);
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x + chunk.getInt("width", 0));
+					maxY = Math.max(maxY, y + chunk.getInt("height", 0));
 				}
+				if (chunks.size == 0) minX = minY = maxX = maxY = 0;
+				layer = new ChunkedTiledMapTileLayer(maxX - minX, maxY - minY, tileWidth, tileHeight);
+				loadBasicLayerInfo(layer, element);
+				// The renderer subtracts the Y offset. With flipY the layer's top row is Tiled row minY, and rows are flipped
+				// against the map height like the other layers, so the bottom of the layer is at Tiled row maxY.
+				layer.setOffsetX(layer.getOffsetX() + minX * tileWidth);
+				if (flipY) {
+					int mapHeight = map.getProperties().get("height", Integer.class);
+					layer.setOffsetY(layer.getOffsetY() + (maxY - mapHeight) * tileHeight);
+				} else
+					layer.setOffsetY(layer.getOffsetY() - minY * tileHeight);
+
+				String encoding = element.getString("encoding", null), compression = element.getString("compression", null);
+				for (JsonValue chunk = chunks.child; chunk != null; chunk = chunk.next) {
+					int chunkWidth = chunk.getInt("width", 0), chunkHeight = chunk.getInt("height", 0);
+					int[] ids = getTileIds(chunk.get("data"), encoding, compression, chunkWidth, chunkHeight);
+					setTileLayerCells(layer, map.getTileSets(), ids, chunk.getInt("x", 0) - minX, chunk.getInt("y", 0) - minY,
+						chunkWidth, chunkHeight);
+				}
+			} else {
+				layer = createTileLayer(width, height, tileWidth, tileHeight);
+				loadBasicLayerInfo(layer, element);
+				setTileLayerCells(layer, map.getTileSets(), getTileIds(element, width, height), 0, 0, width, height);
 			}
 			JsonValue properties = element.get("properties");
 			if (properties != null) {
@@ -495,16 +512,20 @@ public abstract class BaseTmjMapLoader<P extends BaseTiledMapLoader.Parameters>
 	}
 
 	static public int[] getTileIds (JsonValue element, int width, int height) {
-		JsonValue data = element.get("data");
-		String encoding = element.getString("encoding", null);
+		return getTileIds(element.get("data"), element.getString("encoding", null), element.getString("compression", null), width,
+			height);
+	}
 
+	/** Decodes the data of a layer or of a chunk of an infinite map.
+	 * @param encoding May be null for csv.
+	 * @param compression May be null. */
+	static public int[] getTileIds (JsonValue data, @Null String encoding, @Null String compression, int width, int height) {
 		int[] ids;
 		if (encoding == null || encoding.isEmpty() || encoding.equals("csv")) {
 			ids = data.asIntArray();
 		} else if (encoding.equals("base64")) {
 			InputStream is = null;
 			try {
-				String compression = element.getString("compression", null);
 				byte[] bytes = Base64Coder.decode(data.asString());
 				if (compression == null || compression.isEmpty())
 					is = new ByteArrayInputStream(bytes);
@@ -35,7 +35,6 @@ import com.badlogic.gdx.maps.objects.PolygonMapObject;
 import com.badlogic.gdx.maps.objects.PolylineMapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.objects.TextMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.maps.tiled.objects.TiledMapTileMapObject;
 import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
 import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
@@ -46,6 +45,7 @@ import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.SerializationException;
 import com.badlogic.gdx.utils.StreamUtils;
 import com.badlogic.gdx.utils.XmlReader;
@@ -96,10 +96,12 @@ public abstract class BaseTmxMapLoader<P extends BaseTiledMapLoader.Parameters>
 		if (parameter != null) {
 			this.convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 			this.flipY = parameter.flipY;
+			this.chunkedTileLayers = parameter.chunkedTileLayers;
 			loadProjectFile(parameter.projectFilePath);
 		} else {
 			this.convertObjectToTileSpace = false;
 			this.flipY = true;
+			this.chunkedTileLayers = false;
 		}
 
 		String mapOrientation = root.getAttribute("orientation", null);
@@ -230,26 +232,43 @@ public abstract class BaseTmxMapLoader<P extends BaseTiledMapLoader.Parameters>
 			int height = element.getIntAttribute("height", 0);
 			int tileWidth = map.getProperties().get("tilewidth", Integer.class);
 			int tileHeight = map.getProperties().get("tileheight", Integer.class);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
-
-			loadBasicLayerInfo(layer, element);
-
-			int[] ids = getTileIds(element, width, height);
-			TiledMapTileSets tilesets = map.getTileSets();
-			for (int y = 0; y < height; y++) {
-				for (int x = 0; x < width; x++) {
-					int id = ids[y * width + x];
-					boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-					boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-					boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-					TiledMapTile tile = tilesets.getTile(id & ~MASK_CLEAR);
-					if (tile != null) {
-						Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-						cell.setTile(tile);
-						layer.setCell(x, flipY ? height - 1 - y : y, cell);
-					}
+			Element data = element.getChildByName("data");
+			Array<Element> chunks = data != null ? data.getChildrenByName("chunk") : null;
+			TiledMapTileLayer layer;
+			if (chunks != null && chunks.size > 0) {
+				// Infinite map, the layer is sized to the bounds of the chunks, which may start at negative coordinates.
+				int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+				for (Element chunk : chunks) {
+					int x = chunk.getIntAttribute("x", 0), y = chunk.getIntAttribute("y", 0);
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x + chunk.getIntAttribute("width", 0));
+					maxY = Math.max(maxY, y + chunk.getIntAttribute("height", 0));
+				}
+				layer = new ChunkedTiledMapTileLayer(maxX - minX, maxY - minY, tileWidth, tileHeight);
+				loadBasicLayerInfo(layer, element);
+				// The renderer subtracts the Y offset. With flipY the layer's top row is Tiled row minY, and rows are flipped
+				// against the map height like the other layers, so the bottom of the layer is at Tiled row maxY.
+				layer.setOffsetX(layer.getOffsetX() + minX * tileWidth);
+				if (flipY) {
+					int mapHeight = map.getProperties().get("height", Integer.class);
+					layer.setOffsetY(layer.getOffsetY() + (maxY - mapHeight) * tileHeight);
+				} else
+					layer.setOffsetY(layer.getOffsetY() - minY * tileHeight);
+
+				String encoding = data.getAttribute("encoding", null);
+				if (encoding == null) throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
+				String compression = data.getAttribute("compression", null);
+				for (Element chunk : chunks) {
+					int chunkWidth = chunk.getIntAttribute("width", 0), chunkHeight = chunk.getIntAttribute("height", 0);
+					int[] ids = getTileIds(chunk.getText(), encoding, compression, chunkWidth, chunkHeight);
+					setTileLayerCells(layer, map.getTileSets(), ids, chunk.getIntAttribute("x", 0) - minX,
+						chunk.getIntAttribute("y", 0) - minY, chunkWidth, chunkHeight);
 				}
+			} else {
+				layer = createTileLayer(width, height, tileWidth, tileHeight);
+				loadBasicLayerInfo(layer, element);
+				setTileLayerCells(layer, map.getTileSets(), getTileIds(element, width, height), 0, 0, width, height);
 			}
 
 			Element properties = element.getChildByName("properties");
@@ -565,17 +584,22 @@ public abstract class BaseTmxMapLoader<P extends BaseTiledMapLoader.Parameters>
 		if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
 			throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
 		}
+		return getTileIds(data.getText(), encoding, data.getAttribute("compression", null), width, height);
+	}
+
+	/** Decodes the text of a layer's data or of a chunk of an infinite map.
+	 * @param compression May be null. */
+	static public int[] getTileIds (String text, String encoding, @Null String compression, int width, int height) {
 		int[] ids = new int[width * height];
 		if (encoding.equals("csv")) {
-			String[] array = data.getText().split(",");
+			String[] array = text.split(",");
 			for (int i = 0; i < array.length; i++)
 				ids[i] = (int)Long.parseLong(array[i].trim());
 		} else {
 			if (true) if (encoding.equals("base64")) {
 				InputStream is = null;
 				try {
-					String compression = data.getAttribute("compression", null);
-					byte[] bytes = Base64Coder.decode(data.getText());
+					byte[] bytes = Base64Coder.decode(text);
 					if (compression == null)
 						is = new ByteArrayInputStream(bytes);
 					else if (compression.equals("gzip"))
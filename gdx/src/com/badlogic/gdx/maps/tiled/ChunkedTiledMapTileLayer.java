@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** A {@link TiledMapTileLayer} that stores each cell as a packed int instead of a {@link Cell} object. The ints are stored in
+ * chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells which are only allocated when a cell in the chunk is set, so large
+ * sparse layers use little memory.
+ * <p>
+ * A packed cell holds an index into the layer's tiles (see {@link #getTile(int)}) in the low bits and the rotation and flip
+ * flags in the high bits, 0 means the cell is empty. {@link #getCell(int, int)} returns a flyweight {@link Cell} that is only
+ * valid until the next call, changing it changes the layer. Cells passed to {@link #setCell(int, int, Cell)} are copied, so a
+ * single cell can be reused to fill the layer. A cell with a null tile is stored as an empty cell. */
+public class ChunkedTiledMapTileLayer extends TiledMapTileLayer {
+	static public final int CHUNK_SHIFT = 4;
+	/** The width and height of a chunk in cells. */
+	static public final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	static private final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	static public final int TILE_MASK = 0x0FFFFFFF;
+	static public final int ROTATION_SHIFT = 28;
+	static public final int FLIP_VERTICALLY = 0x40000000;
+	static public final int FLIP_HORIZONTALLY = 0x80000000;
+
+	private final int chunksX, chunksY;
+	private final int[][] chunks;
+	private final Array<TiledMapTile> tiles = new Array();
+	private final ObjectIntMap<TiledMapTile> tileIndices = new ObjectIntMap();
+	private final ChunkCell cell = new ChunkCell();
+
+	/** @param width layer width in tiles
+	 * @param height layer height in tiles
+	 * @param tileWidth tile width in pixels
+	 * @param tileHeight tile height in pixels */
+	public ChunkedTiledMapTileLayer (int width, int height, int tileWidth, int tileHeight) {
+		super(width, height, tileWidth, tileHeight);
+		chunksX = (width + CHUNK_MASK) >> CHUNK_SHIFT;
+		chunksY = (height + CHUNK_MASK) >> CHUNK_SHIFT;
+		chunks = new int[chunksX * chunksY][];
+		tiles.add(null); // Index 0 is an empty cell.
+	}
+
+	/** Returns a flyweight for the cell at (x, y), which is only valid until the next call to this method.
+	 * @return May be null if the cell is empty or out of bounds. */
+	public @Null Cell getCell (int x, int y) {
+		int packed = getPacked(x, y);
+		if (packed == 0) return null;
+		cell.set(x, y, packed);
+		return cell;
+	}
+
+	/** Copies the tile, flip and rotation of the specified cell to (x, y).
+	 * @param cell May be null to clear the cell. */
+	public void setCell (int x, int y, @Null Cell cell) {
+		if (cell == null) {
+			setPacked(x, y, 0);
+			return;
+		}
+		setPacked(x, y, pack(cell.getTile(), cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation()));
+	}
+
+	/** @return The packed cell at (x, y), or 0 if the cell is empty or out of bounds. */
+	public int getPacked (int x, int y) {
+		if (x < 0 || x >= getWidth()) return 0;
+		if (y < 0 || y >= getHeight()) return 0;
+		int[] chunk = chunks[(x >> CHUNK_SHIFT) + (y >> CHUNK_SHIFT) * chunksX];
+		if (chunk == null) return 0;
+		return chunk[(x & CHUNK_MASK) + ((y & CHUNK_MASK) << CHUNK_SHIFT)];
+	}
+
+	/** Sets the packed cell at (x, y). The chunk is allocated if necessary.
+	 * @param packed A value returned by {@link #pack(TiledMapTile, boolean, boolean, int)} or {@link #getPacked(int, int)}, or
+	 *           0 to clear the cell. */
+	public void setPacked (int x, int y, int packed) {
+		if (x < 0 || x >= getWidth()) return;
+		if (y < 0 || y >= getHeight()) return;
+		int index = (x >> CHUNK_SHIFT) + (y >> CHUNK_SHIFT) * chunksX;
+		int[] chunk = chunks[index];
+		if (chunk == null) {
+			if (packed == 0) return;
+			chunks[index] = chunk = new int[CHUNK_SIZE * CHUNK_SIZE];
+		}
+		chunk[(x & CHUNK_MASK) + ((y & CHUNK_MASK) << CHUNK_SHIFT)] = packed;
+	}
+
+	/** Returns a packed cell for the specified tile, adding the tile to this layer's tiles if necessary.
+	 * @param tile May be null, which returns 0.
+	 * @param rotation One of the {@link Cell} rotation constants. */
+	public int pack (@Null TiledMapTile tile, boolean flipHorizontally, boolean flipVertically, int rotation) {
+		if (tile == null) return 0;
+		int index = tileIndices.get(tile, 0);
+		if (index == 0) {
+			index = tiles.size;
+			if (index > TILE_MASK) throw new IllegalStateException("Too many tiles: " + index);
+			tiles.add(tile);
+			tileIndices.put(tile, index);
+		}
+		int packed = index | (rotation & 3) << ROTATION_SHIFT;
+		if (flipHorizontally) packed |= FLIP_HORIZONTALLY;
+		if (flipVertically) packed |= FLIP_VERTICALLY;
+		return packed;
+	}
+
+	/** Returns the tile for a packed cell.
+	 * @return May be null if the packed cell is 0. */
+	public @Null TiledMapTile getTile (int packed) {
+		return tiles.get(packed & TILE_MASK);
+	}
+
+	/** Returns the chunk containing the cells from (chunkX * {@link #CHUNK_SIZE}, chunkY * {@link #CHUNK_SIZE}), indexed by
+	 * {@code x + y * CHUNK_SIZE}. Iterating chunks skips empty areas of sparse layers.
+	 * @return May be null if no cell in the chunk has been set. */
+	public @Null int[] getChunk (int chunkX, int chunkY) {
+		if (chunkX < 0 || chunkX >= chunksX || chunkY < 0 || chunkY >= chunksY) return null;
+		return chunks[chunkX + chunkY * chunksX];
+	}
+
+	/** @return The number of chunks horizontally. */
+	public int getChunksX () {
+		return chunksX;
+	}
+
+	/** @return The number of chunks vertically. */
+	public int getChunksY () {
+		return chunksY;
+	}
+
+	private class ChunkCell extends Cell {
+		int x, y, packed;
+
+		void set (int x, int y, int packed) {
+			this.x = x;
+			this.y = y;
+			this.packed = packed;
+		}
+
+		private void update (int packed) {
+			this.packed = packed;
+			setPacked(x, y, packed);
+		}
+
+		public TiledMapTile getTile () {
+			return ChunkedTiledMapTileLayer.this.getTile(packed);
+		}
+
+		public Cell setTile (TiledMapTile tile) {
+			update(pack(tile, getFlipHorizontally(), getFlipVertically(), getRotation()));
+			return this;
+		}
+
+		public boolean getFlipHorizontally () {
+			return (packed & FLIP_HORIZONTALLY) != 0;
+		}
+
+		public Cell setFlipHorizontally (boolean flipHorizontally) {
+			if (packed != 0) update(flipHorizontally ? packed | FLIP_HORIZONTALLY : packed & ~FLIP_HORIZONTALLY);
+			return this;
+		}
+
+		public boolean getFlipVertically () {
+			return (packed & FLIP_VERTICALLY) != 0;
+		}
+
+		public Cell setFlipVertically (boolean flipVertically) {
+			if (packed != 0) update(flipVertically ? packed | FLIP_VERTICALLY : packed & ~FLIP_VERTICALLY);
+			return this;
+		}
+
+		public int getRotation () {
+			return (packed >>> ROTATION_SHIFT) & 3;
+		}
+
+		public Cell setRotation (int rotation) {
+			if (packed != 0) update(packed & ~(3 << ROTATION_SHIFT) | (rotation & 3) << ROTATION_SHIFT);
+			return this;
+		}
+	}
+}
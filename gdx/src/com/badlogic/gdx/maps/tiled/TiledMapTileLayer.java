@@ -18,7 +18,8 @@ package com.badlogic.gdx.maps.tiled;
 
 import com.badlogic.gdx.maps.MapLayer;
 
-/** @brief Layer for a TiledMap */
+/** @brief Layer for a TiledMap
+ * @see ChunkedTiledMapTileLayer */
 public class TiledMapTileLayer extends MapLayer {
 
 	private int width;
@@ -61,7 +62,6 @@ public class TiledMapTileLayer extends MapLayer {
 		this.height = height;
 		this.tileWidth = tileWidth;
 		this.tileHeight = tileHeight;
-		this.cells = new Cell[width][height];
 	}
 
 	/** @param x X coordinate
@@ -70,6 +70,7 @@ public class TiledMapTileLayer extends MapLayer {
 	public Cell getCell (int x, int y) {
 		if (x < 0 || x >= width) return null;
 		if (y < 0 || y >= height) return null;
+		if (cells == null) return null;
 		return cells[x][y];
 	}
 
@@ -81,6 +82,10 @@ public class TiledMapTileLayer extends MapLayer {
 	public void setCell (int x, int y, Cell cell) {
 		if (x < 0 || x >= width) return;
 		if (y < 0 || y >= height) return;
+		if (cells == null) {
+			if (cell == null) return;
+			cells = new Cell[width][height]; // Allocated on demand, so subclasses with other storage don't pay for it.
+		}
 		cells[x][y] = cell;
 	}
 
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled.renderers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Keeps track of the chunks of each layer for {@link OrthoChunkedTiledMapRenderer}: which chunks are in or near the view,
+ * which are built, and which {@link SpriteCache} cache ID each one uses. It does not use GL, building and drawing the chunks is
+ * done by the renderer. */
+class ChunkSlots {
+	final int chunkSize;
+	/** The chunk using each cache ID, or null. */
+	final Chunk[] slots;
+	final ObjectMap<MapLayer, LayerCache> layerCaches = new ObjectMap();
+	int prefetch = 1;
+	/** Incremented each time layers are rendered. */
+	int frame;
+
+	ChunkSlots (int chunkSize, int maxChunks) {
+		this.chunkSize = chunkSize;
+		slots = new Chunk[maxChunks];
+	}
+
+	/** Returns the cache for the layer, creating it if needed, or null if the layer has no chunks. */
+	@Null
+	LayerCache layerCache (MapLayer layer) {
+		LayerCache cache = layerCaches.get(layer);
+		if (cache == null) {
+			if (layer instanceof TiledMapTileLayer) {
+				TiledMapTileLayer tileLayer = (TiledMapTileLayer)layer;
+				cache = new LayerCache(layer, (tileLayer.getWidth() + chunkSize - 1) / chunkSize,
+					(tileLayer.getHeight() + chunkSize - 1) / chunkSize);
+			} else if (layer instanceof TiledMapImageLayer)
+				cache = new LayerCache(layer, 1, 1);
+			else
+				return null;
+			layerCaches.put(layer, cache);
+		}
+		return cache;
+	}
+
+	Chunk chunk (LayerCache cache, int x, int y) {
+		int index = x + y * cache.chunksX;
+		Chunk chunk = cache.chunks[index];
+		if (chunk == null) cache.chunks[index] = chunk = new Chunk(cache, x, y);
+		return chunk;
+	}
+
+	/** Returns the chunk of an image layer with the index, growing the layer's chunks if needed, and marks it as used and visible
+	 * for this frame. A repeating image can need more tiles than fit in one chunk, so an image layer uses as many chunks as it
+	 * needs. */
+	Chunk imageChunk (LayerCache cache, int index) {
+		if (index >= cache.chunks.length) cache.chunks = Arrays.copyOf(cache.chunks, Math.max(index + 1, cache.chunks.length * 2));
+		Chunk chunk = chunk(cache, index, 0);
+		chunk.lastUsed = frame;
+		chunk.lastVisible = frame;
+		return chunk;
+	}
+
+	/** Sets the number of chunks an image layer uses and releases the cache IDs of any chunks after those. */
+	void setImageChunks (LayerCache cache, int count) {
+		cache.x2 = count - 1;
+		Chunk[] chunks = cache.chunks;
+		for (int i = count, n = chunks.length; i < n; i++) {
+			Chunk chunk = chunks[i];
+			if (chunk == null) continue;
+			releaseSlot(chunk);
+			chunk.built = false;
+		}
+	}
+
+	/** Returns true if all the chunks an image layer uses are built. */
+	boolean isImageBuilt (LayerCache cache) {
+		Chunk[] chunks = cache.chunks;
+		for (int i = 0; i <= cache.x2; i++) {
+			Chunk chunk = chunks[i];
+			if (chunk == null || !chunk.built) return false;
+		}
+		return true;
+	}
+
+	/** Computes the range of chunks of a tile layer in the view and marks them as used and visible for this frame. */
+	void markVisible (@Null LayerCache cache, Rectangle viewBounds, float unitScale) {
+		if (cache == null) return;
+		if (cache.layer instanceof TiledMapTileLayer) {
+			TiledMapTileLayer layer = (TiledMapTileLayer)cache.layer;
+			float chunkWidth = layer.getTileWidth() * unitScale * chunkSize;
+			float chunkHeight = layer.getTileHeight() * unitScale * chunkSize;
+			float offsetX = layer.getRenderOffsetX() * unitScale - viewBounds.x * (layer.getParallaxX() - 1);
+			// offset in tiled is y down, so we flip it
+			float offsetY = -layer.getRenderOffsetY() * unitScale - viewBounds.y * (layer.getParallaxY() - 1);
+			cache.x1 = Math.max(0, (int)Math.floor((viewBounds.x - offsetX) / chunkWidth));
+			cache.x2 = Math.min(cache.chunksX - 1, (int)Math.floor((viewBounds.x + viewBounds.width - offsetX) / chunkWidth));
+			cache.y1 = Math.max(0, (int)Math.floor((viewBounds.y - offsetY) / chunkHeight));
+			cache.y2 = Math.min(cache.chunksY - 1, (int)Math.floor((viewBounds.y + viewBounds.height - offsetY) / chunkHeight));
+		}
+		int frame = this.frame;
+		for (int y = cache.y1; y <= cache.y2; y++) {
+			for (int x = cache.x1; x <= cache.x2; x++) {
+				Chunk chunk = chunk(cache, x, y);
+				chunk.lastUsed = frame;
+				chunk.lastVisible = frame;
+			}
+		}
+	}
+
+	/** Marks the chunks of a tile layer within {@link #prefetch} chunks of the view as used for this frame. */
+	void markPrefetch (@Null LayerCache cache) {
+		if (!hasPrefetch(cache)) return;
+		int frame = this.frame;
+		for (int y = prefetchY1(cache), y2 = prefetchY2(cache); y <= y2; y++) {
+			for (int x = prefetchX1(cache), x2 = prefetchX2(cache); x <= x2; x++)
+				chunk(cache, x, y).lastUsed = frame;
+		}
+	}
+
+	boolean hasPrefetch (@Null LayerCache cache) {
+		return cache != null && cache.layer instanceof TiledMapTileLayer && cache.x1 <= cache.x2 && cache.y1 <= cache.y2;
+	}
+
+	int prefetchX1 (LayerCache cache) {
+		return Math.max(0, cache.x1 - prefetch);
+	}
+
+	int prefetchX2 (LayerCache cache) {
+		return Math.min(cache.chunksX - 1, cache.x2 + prefetch);
+	}
+
+	int prefetchY1 (LayerCache cache) {
+		return Math.max(0, cache.y1 - prefetch);
+	}
+
+	int prefetchY2 (LayerCache cache) {
+		return Math.min(cache.chunksY - 1, cache.y2 + prefetch);
+	}
+
+	/** Finds a free cache ID for the chunk, evicting the least recently used chunk if necessary. Chunks in view are never
+	 * evicted, when prefetching chunks near the view aren't evicted either.
+	 * @return False if prefetching and no cache ID is available. */
+	boolean acquireSlot (Chunk chunk, boolean prefetching) {
+		if (chunk.slot != -1) return true;
+		Chunk[] slots = this.slots;
+		int frame = this.frame;
+		Chunk evict = null;
+		for (int i = 0, n = slots.length; i < n; i++) {
+			Chunk other = slots[i];
+			if (other == null) {
+				slots[i] = chunk;
+				chunk.slot = i;
+				return true;
+			}
+			if (other.lastVisible == frame || (prefetching && other.lastUsed == frame)) continue;
+			if (evict == null || other.lastUsed < evict.lastUsed) evict = other;
+		}
+		if (evict == null) {
+			if (prefetching) return false;
+			throw new GdxRuntimeException("Too many chunks in view, increase maxChunks: " + slots.length);
+		}
+		int slot = evict.slot;
+		evict.slot = -1;
+		evict.built = false;
+		slots[slot] = chunk;
+		chunk.slot = slot;
+		return true;
+	}
+
+	void releaseSlot (Chunk chunk) {
+		if (chunk.slot == -1) return;
+		slots[chunk.slot] = null;
+		chunk.slot = -1;
+	}
+
+	void invalidateCell (TiledMapTileLayer layer, int x, int y) {
+		LayerCache cache = layerCaches.get(layer);
+		if (cache == null || x < 0 || y < 0 || x >= layer.getWidth() || y >= layer.getHeight()) return;
+		Chunk chunk = cache.chunks[x / chunkSize + y / chunkSize * cache.chunksX];
+		if (chunk != null) chunk.built = false;
+	}
+
+	void invalidateLayer (MapLayer layer) {
+		LayerCache cache = layerCaches.get(layer);
+		if (cache == null) return;
+		for (Chunk chunk : cache.chunks)
+			if (chunk != null) chunk.built = false;
+	}
+
+	void clear () {
+		layerCaches.clear();
+		for (int i = 0, n = slots.length; i < n; i++)
+			slots[i] = null;
+	}
+
+	int getCachedChunks () {
+		int count = 0;
+		for (Chunk chunk : slots)
+			if (chunk != null) count++;
+		return count;
+	}
+
+	static class LayerCache {
+		final MapLayer layer;
+		final int chunksX, chunksY;
+		/** Grows for image layers, see {@link ChunkSlots#imageChunk(LayerCache, int)}. */
+		Chunk[] chunks;
+		/** The chunks in view, inclusive. For image layers, the chunks the layer uses. */
+		int x1, y1, x2, y2;
+		/** For image layers, the view bounds the layer was built for. */
+		final Rectangle view = new Rectangle();
+		boolean viewDependent;
+
+		LayerCache (MapLayer layer, int chunksX, int chunksY) {
+			this.layer = layer;
+			this.chunksX = chunksX;
+			this.chunksY = chunksY;
+			chunks = new Chunk[chunksX * chunksY];
+		}
+	}
+
+	static class Chunk {
+		final LayerCache owner;
+		final int x, y;
+		/** The cache ID, or -1. */
+		int slot = -1;
+		boolean built;
+		/** The last frame the chunk was in view or near the view. */
+		int lastUsed;
+		/** The last frame the chunk was in view. */
+		int lastVisible;
+
+		Chunk (LayerCache owner, int x, int y) {
+			this.owner = owner;
+			this.x = x;
+			this.y = y;
+		}
+	}
+}
@@ -0,0 +1,664 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled.renderers;
+
+import static com.badlogic.gdx.graphics.g2d.Batch.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.ChunkedTiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.renderers.ChunkSlots.Chunk;
+import com.badlogic.gdx.maps.tiled.renderers.ChunkSlots.LayerCache;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/** Renders ortho tiles by caching geometry on the GPU in chunks of {@link #getChunkSize()} x chunk size tiles. Unlike
+ * {@link OrthoCachedTiledMapRenderer}, which rebuilds its whole cache when the view leaves the cached area or a tile changes,
+ * each chunk of each tile layer has its own range of the {@link SpriteCache}:
+ * <ul>
+ * <li>A chunk is built the first time it is in view. Chunks within {@link #setPrefetch(int)} chunks of the view are built ahead
+ * of time, at most {@link #setMaxBuildsPerFrame(int)} per frame, so scrolling does not rebuild many chunks in a single frame.
+ * <li>When all {@link #getMaxChunks()} ranges are used, the chunk that was least recently near the view is evicted.
+ * <li>{@link #invalidateCell(TiledMapTileLayer, int, int)} rebuilds only the chunk containing the cell, the next time it is
+ * rendered.
+ * </ul>
+ * Each image layer uses one range, or more when a repeating image needs more than chunk size x chunk size copies to fill the
+ * view. It is rebuilt when the view moves if the layer repeats or has parallax. Animated tiles are cached with the frame that is
+ * current when their chunk is built. Changing a layer's tint or opacity requires {@link #invalidateLayer(MapLayer)}. */
+public class OrthoChunkedTiledMapRenderer implements TiledMapRenderer, Disposable {
+	/** The number of floats for one tile. The cache does not use indices, so each tile is 6 vertices. */
+	static private final int SPRITE_SIZE = 30;
+
+	protected final TiledMap map;
+	protected final SpriteCache spriteCache;
+
+	protected final float[] vertices = new float[20];
+	protected boolean blending;
+
+	protected float unitScale;
+	protected final Rectangle viewBounds = new Rectangle();
+	protected float maxTileWidth, maxTileHeight;
+
+	private final int chunkSize, chunkCapacity;
+	private final ChunkSlots slots;
+	private boolean slotsCreated;
+	private final Array<MapLayer> renderLayers = new Array();
+	private int maxBuildsPerFrame = 4;
+	private int builds;
+	private boolean prefetching;
+
+	private Chunk building;
+	private int buildCount;
+	private boolean buildFailed;
+	private final float[] spriteVertices = new float[SPRITE_SIZE];
+	private final Matrix4 transform = new Matrix4(), parallaxTransform = new Matrix4();
+
+	/** Creates a renderer with a unit scale of 1, 16x16 tile chunks and 64 cached chunks. */
+	public OrthoChunkedTiledMapRenderer (TiledMap map) {
+		this(map, 1, 16, 64);
+	}
+
+	/** Creates a renderer with 16x16 tile chunks and 64 cached chunks. */
+	public OrthoChunkedTiledMapRenderer (TiledMap map, float unitScale) {
+		this(map, unitScale, 16, 64);
+	}
+
+	/** @param chunkSize The width and height of a chunk in tiles.
+	 * @param maxChunks The maximum number of chunks that can be cached at once, for all layers. This must be large enough for all
+	 *           the non-empty chunks in view and the chunks used by image layers, one for each chunkSize * chunkSize copies of a
+	 *           repeating image. Memory for chunkSize * chunkSize * maxChunks tiles is allocated up front. */
+	public OrthoChunkedTiledMapRenderer (TiledMap map, float unitScale, int chunkSize, int maxChunks) {
+		if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be > 0: " + chunkSize);
+		if (maxChunks < 1) throw new IllegalArgumentException("maxChunks must be > 0: " + maxChunks);
+		this.map = map;
+		this.unitScale = unitScale;
+		this.chunkSize = chunkSize;
+		chunkCapacity = chunkSize * chunkSize;
+		slots = new ChunkSlots(chunkSize, maxChunks);
+		spriteCache = new SpriteCache(chunkCapacity * maxChunks, false);
+	}
+
+	@Override
+	public void setView (OrthographicCamera camera) {
+		spriteCache.setProjectionMatrix(camera.combined);
+		float width = camera.viewportWidth * camera.zoom + maxTileWidth * 2 * unitScale;
+		float height = camera.viewportHeight * camera.zoom + maxTileHeight * 2 * unitScale;
+		viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+	}
+
+	@Override
+	public void setView (Matrix4 projection, float x, float y, float width, float height) {
+		spriteCache.setProjectionMatrix(projection);
+		x -= maxTileWidth * unitScale;
+		y -= maxTileHeight * unitScale;
+		width += maxTileWidth * 2 * unitScale;
+		height += maxTileHeight * 2 * unitScale;
+		viewBounds.set(x, y, width, height);
+	}
+
+	@Override
+	public void render () {
+		MapLayers mapLayers = map.getLayers();
+		for (int i = 0, n = mapLayers.size(); i < n; i++)
+			addRenderLayer(mapLayers.get(i));
+		renderLayers(true);
+	}
+
+	@Override
+	public void render (int[] layers) {
+		MapLayers mapLayers = map.getLayers();
+		for (int i : layers)
+			addRenderLayer(mapLayers.get(i));
+		renderLayers(true);
+	}
+
+	private void addRenderLayer (MapLayer layer) {
+		if (!layer.isVisible()) return;
+		if (layer instanceof MapGroupLayer) {
+			MapLayers childLayers = ((MapGroupLayer)layer).getLayers();
+			for (int i = 0, n = childLayers.size(); i < n; i++)
+				addRenderLayer(childLayers.get(i));
+		} else
+			renderLayers.add(layer);
+	}
+
+	/** Builds the chunks needed for the {@link #renderLayers}, then draws them. */
+	private void renderLayers (boolean objects) {
+		Array<MapLayer> renderLayers = this.renderLayers;
+		ChunkSlots slots = this.slots;
+		int n = renderLayers.size;
+		slots.frame++;
+
+		// Mark the chunks in view before building any, so building cannot evict them.
+		for (int i = 0; i < n; i++)
+			slots.markVisible(slots.layerCache(renderLayers.get(i)), viewBounds, unitScale);
+		for (int i = 0; i < n; i++)
+			buildVisible(slots.layerCache(renderLayers.get(i)));
+
+		if (slots.prefetch > 0 && maxBuildsPerFrame > 0) {
+			for (int i = 0; i < n; i++)
+				slots.markPrefetch(slots.layerCache(renderLayers.get(i)));
+			builds = 0;
+			prefetching = true;
+			for (int i = 0; i < n && builds < maxBuildsPerFrame; i++)
+				buildPrefetch(slots.layerCache(renderLayers.get(i)));
+			prefetching = false;
+		}
+
+		if (blending) {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+		transform.set(spriteCache.getTransformMatrix());
+		spriteCache.begin();
+		for (int i = 0; i < n; i++) {
+			MapLayer layer = renderLayers.get(i);
+			LayerCache cache = slots.layerCache(layer);
+			if (cache != null) draw(cache);
+			if (objects) renderObjects(layer);
+		}
+		spriteCache.end();
+		if (blending) Gdx.gl.glDisable(GL20.GL_BLEND);
+		renderLayers.clear();
+	}
+
+	@Override
+	public void renderObjects (MapLayer layer) {
+		for (MapObject object : layer.getObjects()) {
+			renderObject(object);
+		}
+	}
+
+	@Override
+	public void renderObject (MapObject object) {
+	}
+
+	/** Builds any chunks of the layer that are needed, then draws the layer. This must not be called between
+	 * {@link SpriteCache#begin()} and {@link SpriteCache#end()}. */
+	@Override
+	public void renderTileLayer (TiledMapTileLayer layer) {
+		renderLayers.add(layer);
+		renderLayers(false);
+	}
+
+	/** Builds the layer if needed, then draws it. This must not be called between {@link SpriteCache#begin()} and
+	 * {@link SpriteCache#end()}. */
+	@Override
+	public void renderImageLayer (TiledMapImageLayer layer) {
+		renderLayers.add(layer);
+		renderLayers(false);
+	}
+
+	private void buildVisible (LayerCache cache) {
+		if (cache == null) return;
+		if (cache.layer instanceof TiledMapImageLayer) {
+			if (!slots.isImageBuilt(cache) || (cache.viewDependent && !cache.view.equals(viewBounds))) buildImageChunks(cache);
+			return;
+		}
+		for (int y = cache.y1; y <= cache.y2; y++) {
+			for (int x = cache.x1; x <= cache.x2; x++) {
+				Chunk chunk = cache.chunks[x + y * cache.chunksX];
+				if (!chunk.built) buildTileChunk(chunk);
+			}
+		}
+	}
+
+	private void buildPrefetch (LayerCache cache) {
+		ChunkSlots slots = this.slots;
+		if (!slots.hasPrefetch(cache)) return;
+		for (int y = slots.prefetchY1(cache), y2 = slots.prefetchY2(cache); y <= y2; y++) {
+			for (int x = slots.prefetchX1(cache), x2 = slots.prefetchX2(cache); x <= x2; x++) {
+				Chunk chunk = cache.chunks[x + y * cache.chunksX];
+				if (chunk.built) continue;
+				buildTileChunk(chunk);
+				if (buildFailed || ++builds == maxBuildsPerFrame) {
+					builds = maxBuildsPerFrame;
+					return;
+				}
+			}
+		}
+	}
+
+	private void draw (LayerCache cache) {
+		if (cache.layer instanceof TiledMapImageLayer) {
+			Chunk[] chunks = cache.chunks;
+			for (int i = 0; i <= cache.x2; i++) {
+				Chunk chunk = chunks[i];
+				if (chunk != null && chunk.slot != -1) spriteCache.draw(chunk.slot);
+			}
+			return;
+		}
+
+		// Chunks are cached without parallax, it is applied by translating the whole layer.
+		MapLayer layer = cache.layer;
+		float parallaxX = -viewBounds.x * (layer.getParallaxX() - 1);
+		float parallaxY = -viewBounds.y * (layer.getParallaxY() - 1);
+		boolean parallax = parallaxX != 0 || parallaxY != 0;
+		if (parallax) {
+			spriteCache.end();
+			spriteCache.setTransformMatrix(parallaxTransform.set(transform).translate(parallaxX, parallaxY, 0));
+			spriteCache.begin();
+		}
+		Chunk[] chunks = cache.chunks;
+		int chunksX = cache.chunksX;
+		for (int y = cache.y2; y >= cache.y1; y--) {
+			for (int x = cache.x1; x <= cache.x2; x++) {
+				Chunk chunk = chunks[x + y * chunksX];
+				if (chunk.slot != -1) spriteCache.draw(chunk.slot);
+			}
+		}
+		if (parallax) {
+			spriteCache.end();
+			spriteCache.setTransformMatrix(transform);
+			spriteCache.begin();
+		}
+	}
+
+	private void buildTileChunk (Chunk chunk) {
+		TiledMapTileLayer layer = (TiledMapTileLayer)chunk.owner.layer;
+		beginChunk(chunk);
+
+		// Skip empty chunks without looking at their cells.
+		if (layer instanceof ChunkedTiledMapTileLayer && chunkSize == ChunkedTiledMapTileLayer.CHUNK_SIZE
+			&& ((ChunkedTiledMapTileLayer)layer).getChunk(chunk.x, chunk.y) == null) {
+			endChunk();
+			return;
+		}
+
+		final Color tint = layer.getCombinedTintColor();
+		final float color = Color.toFloatBits(tint.r, tint.g, tint.b, layer.getOpacity() * tint.a);
+
+		final float layerTileWidth = layer.getTileWidth() * unitScale;
+		final float layerTileHeight = layer.getTileHeight() * unitScale;
+
+		final float layerOffsetX = layer.getRenderOffsetX() * unitScale;
+		// offset in tiled is y down, so we flip it
+		final float layerOffsetY = -layer.getRenderOffsetY() * unitScale;
+
+		final int col1 = chunk.x * chunkSize, col2 = Math.min(layer.getWidth(), col1 + chunkSize);
+		final int row1 = chunk.y * chunkSize, row2 = Math.min(layer.getHeight(), row1 + chunkSize);
+
+		float[] vertices = this.vertices;
+		for (int row = row2 - 1; row >= row1; row--) {
+			for (int col = col1; col < col2; col++) {
+				final TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+				if (cell == null) continue;
+
+				final TiledMapTile tile = cell.getTile();
+				if (tile == null) continue;
+
+				final boolean flipX = cell.getFlipHorizontally();
+				final boolean flipY = cell.getFlipVertically();
+				final int rotations = cell.getRotation();
+
+				final TextureRegion region = tile.getTextureRegion();
+				final Texture texture = region.getTexture();
+
+				final float x1 = col * layerTileWidth + tile.getOffsetX() * unitScale + layerOffsetX;
+				final float y1 = row * layerTileHeight + tile.getOffsetY() * unitScale + layerOffsetY;
+				final float x2 = x1 + region.getRegionWidth() * unitScale;
+				final float y2 = y1 + region.getRegionHeight() * unitScale;
+
+				final float adjustX = 0.5f / texture.getWidth();
+				final float adjustY = 0.5f / texture.getHeight();
+				final float u1 = region.getU() + adjustX;
+				final float v1 = region.getV2() - adjustY;
+				final float u2 = region.getU2() - adjustX;
+				final float v2 = region.getV() + adjustY;
+
+				vertices[X1] = x1;
+				vertices[Y1] = y1;
+				vertices[C1] = color;
+				vertices[U1] = u1;
+				vertices[V1] = v1;
+
+				vertices[X2] = x1;
+				vertices[Y2] = y2;
+				vertices[C2] = color;
+				vertices[U2] = u1;
+				vertices[V2] = v2;
+
+				vertices[X3] = x2;
+				vertices[Y3] = y2;
+				vertices[C3] = color;
+				vertices[U3] = u2;
+				vertices[V3] = v2;
+
+				vertices[X4] = x2;
+				vertices[Y4] = y1;
+				vertices[C4] = color;
+				vertices[U4] = u2;
+				vertices[V4] = v1;
+
+				if (flipX) {
+					float temp = vertices[U1];
+					vertices[U1] = vertices[U3];
+					vertices[U3] = temp;
+					temp = vertices[U2];
+					vertices[U2] = vertices[U4];
+					vertices[U4] = temp;
+				}
+				if (flipY) {
+					float temp = vertices[V1];
+					vertices[V1] = vertices[V3];
+					vertices[V3] = temp;
+					temp = vertices[V2];
+					vertices[V2] = vertices[V4];
+					vertices[V4] = temp;
+				}
+				if (rotations != 0) {
+					switch (rotations) {
+					case Cell.ROTATE_90: {
+						float tempV = vertices[V1];
+						vertices[V1] = vertices[V2];
+						vertices[V2] = vertices[V3];
+						vertices[V3] = vertices[V4];
+						vertices[V4] = tempV;
+
+						float tempU = vertices[U1];
+						vertices[U1] = vertices[U2];
+						vertices[U2] = vertices[U3];
+						vertices[U3] = vertices[U4];
+						vertices[U4] = tempU;
+						break;
+					}
+					case Cell.ROTATE_180: {
+						float tempU = vertices[U1];
+						vertices[U1] = vertices[U3];
+						vertices[U3] = tempU;
+						tempU = vertices[U2];
+						vertices[U2] = vertices[U4];
+						vertices[U4] = tempU;
+						float tempV = vertices[V1];
+						vertices[V1] = vertices[V3];
+						vertices[V3] = tempV;
+						tempV = vertices[V2];
+						vertices[V2] = vertices[V4];
+						vertices[V4] = tempV;
+						break;
+					}
+					case Cell.ROTATE_270: {
+						float tempV = vertices[V1];
+						vertices[V1] = vertices[V4];
+						vertices[V4] = vertices[V3];
+						vertices[V3] = vertices[V2];
+						vertices[V2] = tempV;
+
+						float tempU = vertices[U1];
+						vertices[U1] = vertices[U4];
+						vertices[U4] = vertices[U3];
+						vertices[U3] = vertices[U2];
+						vertices[U2] = tempU;
+						break;
+					}
+					}
+				}
+				if (!add(texture)) {
+					endChunk();
+					return;
+				}
+			}
+		}
+		endChunk();
+	}
+
+	protected Rectangle imageBounds = new Rectangle();
+
+	/** Builds an image layer. A repeating image can need more tiles than fit in one chunk, so the tiles continue in as many of the
+	 * layer's chunks as needed. */
+	private void buildImageChunks (LayerCache cache) {
+		TiledMapImageLayer layer = (TiledMapImageLayer)cache.layer;
+		cache.view.set(viewBounds);
+		cache.viewDependent = layer.isRepeatX() || layer.isRepeatY() || layer.getParallaxX() != 1 || layer.getParallaxY() != 1;
+		int chunks = 0;
+		beginChunk(slots.imageChunk(cache, chunks++));
+
+		final Color combinedTint = layer.getCombinedTintColor();
+		// Check if layer supports transparency
+		boolean supportsTransparency = layer.supportsTransparency();
+
+		// If the Image Layer supports transparency we do not want to modify the combined tint during rendering
+		// and if the Image Layer does not support transparency, we want to multiply the combined tint values, by its alpha
+		float alphaMultiplier = supportsTransparency ? 1f : combinedTint.a;
+		// Only modify opacity by combinedTint.b if Image Layer supports transparency
+		float opacityMultiplier = supportsTransparency ? combinedTint.a : 1f;
+
+		// For image layer rendering multiply all by alpha
+		// except for opacity when image layer does not support transparency
+		final float color = Color.toFloatBits(combinedTint.r * alphaMultiplier, combinedTint.g * alphaMultiplier,
+			combinedTint.b * alphaMultiplier, layer.getOpacity() * opacityMultiplier);
+
+		final float[] vertices = this.vertices;
+
+		TextureRegion region = layer.getTextureRegion();
+
+		if (region == null) {
+			endChunk();
+			slots.setImageChunks(cache, chunks);
+			return;
+		}
+
+		final float x = layer.getX();
+		final float y = layer.getY();
+		final float x1 = x * unitScale - viewBounds.x * (layer.getParallaxX() - 1);
+		final float y1 = y * unitScale - viewBounds.y * (layer.getParallaxY() - 1);
+		final float x2 = x1 + region.getRegionWidth() * unitScale;
+		final float y2 = y1 + region.getRegionHeight() * unitScale;
+
+		final float u1 = region.getU();
+		final float v1 = region.getV2();
+		final float u2 = region.getU2();
+		final float v2 = region.getV();
+
+		imageBounds.set(x1, y1, x2 - x1, y2 - y1);
+
+		// Determine number of times to repeat image across X and Y, + 4 for padding to avoid pop in/out
+		int repeatX = layer.isRepeatX() ? (int)Math.ceil((viewBounds.width / imageBounds.width) + 4) : 0;
+		int repeatY = layer.isRepeatY() ? (int)Math.ceil((viewBounds.height / imageBounds.height) + 4) : 0;
+
+		// Calculate the offset of the first image to align with the camera
+		float startX = viewBounds.x;
+		float startY = viewBounds.y;
+		startX = startX - (startX % imageBounds.width);
+		startY = startY - (startY % imageBounds.height);
+
+		for (int i = 0; i <= repeatX; i++) {
+			for (int j = 0; j <= repeatY; j++) {
+				float rx1 = x1;
+				float ry1 = y1;
+				float rx2 = x2;
+				float ry2 = y2;
+
+				// Use (i -2)/(j-2) to begin placing our repeating images outside the camera.
+				// In case the image is offset, we must negate this using + (x1% imageBounds.width)
+				// It's a way to get the remainder of how many images would fit between its starting position and 0
+				if (layer.isRepeatX()) {
+					rx1 = startX + ((i - 2) * imageBounds.width) + (x1 % imageBounds.width);
+					rx2 = rx1 + imageBounds.width;
+				}
+
+				if (layer.isRepeatY()) {
+					ry1 = startY + ((j - 2) * imageBounds.height) + (y1 % imageBounds.height);
+					ry2 = ry1 + imageBounds.height;
+				}
+
+				vertices[X1] = rx1;
+				vertices[Y1] = ry1;
+				vertices[C1] = color;
+				vertices[U1] = u1;
+				vertices[V1] = v1;
+
+				vertices[X2] = rx1;
+				vertices[Y2] = ry2;
+				vertices[C2] = color;
+				vertices[U2] = u1;
+				vertices[V2] = v2;
+
+				vertices[X3] = rx2;
+				vertices[Y3] = ry2;
+				vertices[C3] = color;
+				vertices[U3] = u2;
+				vertices[V3] = v2;
+
+				vertices[X4] = rx2;
+				vertices[Y4] = ry1;
+				vertices[C4] = color;
+				vertices[U4] = u2;
+				vertices[V4] = v1;
+
+				if (buildCount == chunkCapacity) {
+					endChunk();
+					beginChunk(slots.imageChunk(cache, chunks++));
+				}
+				add(region.getTexture());
+			}
+		}
+		endChunk();
+		slots.setImageChunks(cache, chunks);
+	}
+
+	private void beginChunk (Chunk chunk) {
+		building = chunk;
+		buildCount = 0;
+		buildFailed = false;
+	}
+
+	/** Adds the {@link #vertices} to the chunk being built. The chunk's range is only defined when its first tile is added, so
+	 * empty chunks don't use a range.
+	 * @return False if the chunk is full or no range is available for it. */
+	private boolean add (Texture texture) {
+		if (buildCount == chunkCapacity) return false;
+		if (buildCount == 0) {
+			if (!slotsCreated) createSlots(texture);
+			if (!slots.acquireSlot(building, prefetching)) {
+				buildFailed = true;
+				return false;
+			}
+			spriteCache.beginCache(building.slot);
+		}
+		buildCount++;
+		float[] vertices = this.vertices, spriteVertices = this.spriteVertices;
+		System.arraycopy(vertices, X1, spriteVertices, 0, 15); // 1, 2, 3
+		System.arraycopy(vertices, X3, spriteVertices, 15, 10); // 3, 4
+		System.arraycopy(vertices, X1, spriteVertices, 25, 5); // 1
+		spriteCache.add(texture, spriteVertices, 0, SPRITE_SIZE);
+		return true;
+	}
+
+	private void endChunk () {
+		Chunk chunk = building;
+		building = null;
+		if (buildFailed) return;
+		chunk.built = true;
+		if (buildCount > 0)
+			spriteCache.endCache();
+		else
+			slots.releaseSlot(chunk);
+	}
+
+	/** Defines all the caches up front, each with room for a full chunk. Only the last cache can grow when it is redefined, so
+	 * this allows any cache to be reused for any chunk. */
+	private void createSlots (Texture texture) {
+		float[] empty = new float[chunkCapacity * SPRITE_SIZE];
+		for (int i = 0, n = slots.slots.length; i < n; i++) {
+			spriteCache.beginCache();
+			spriteCache.add(texture, empty, 0, empty.length);
+			spriteCache.endCache();
+		}
+		slotsCreated = true;
+	}
+
+	/** Causes the chunk containing the cell to be rebuilt the next time it is rendered. This should be called after a cell is
+	 * changed. */
+	public void invalidateCell (TiledMapTileLayer layer, int x, int y) {
+		slots.invalidateCell(layer, x, y);
+	}
+
+	/** Causes all chunks of the layer to be rebuilt the next time they are rendered. This should be called after a layer's tint
+	 * or opacity is changed, or many of its cells are changed. */
+	public void invalidateLayer (MapLayer layer) {
+		slots.invalidateLayer(layer);
+	}
+
+	/** Discards all cached chunks, so they are rebuilt the next time they are rendered. This must be called if layers are added
+	 * to or removed from the map. */
+	public void invalidateCache () {
+		slots.clear();
+	}
+
+	/** Returns the number of chunks that are currently cached. */
+	public int getCachedChunks () {
+		return slots.getCachedChunks();
+	}
+
+	public int getChunkSize () {
+		return chunkSize;
+	}
+
+	public int getMaxChunks () {
+		return slots.slots.length;
+	}
+
+	/** Sets the number of chunks around the view in each direction that are built before they come into view. Default is 1. */
+	public void setPrefetch (int chunks) {
+		slots.prefetch = chunks;
+	}
+
+	/** Sets the maximum number of chunks that are not yet in view which are built each frame. Chunks in view are always built.
+	 * Default is 4. */
+	public void setMaxBuildsPerFrame (int maxBuildsPerFrame) {
+		this.maxBuildsPerFrame = maxBuildsPerFrame;
+	}
+
+	/** Expands the view size in each direction, ensuring that tiles of this size or smaller are never culled from the visible
+	 * portion of the view. Default is 0,0. */
+	public void setMaxTileSize (float maxPixelWidth, float maxPixelHeight) {
+		this.maxTileWidth = maxPixelWidth;
+		this.maxTileHeight = maxPixelHeight;
+	}
+
+	public void setBlending (boolean blending) {
+		this.blending = blending;
+	}
+
+	/** The caches are managed by this renderer and must not be changed. */
+	public SpriteCache getSpriteCache () {
+		return spriteCache;
+	}
+
+	@Override
+	public void dispose () {
+		spriteCache.dispose();
+	}
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import static com.badlogic.gdx.math.Matrix4.*;
+
+/** Transforms and products of many vectors and matrices stored in float arrays, in Java so there is no JNI call per batch as
+ * with {@link Matrix4#mulVec(float[], float[], int, int, int)} and the same code runs on every backend.
+ * <p>
+ * The methods taking separate x, y and z arrays do the same operations for each index without dependencies between indices, so
+ * the JIT can use SIMD instructions for them. The methods taking vectors with a stride have the same results as the
+ * {@link Matrix4} methods and can be used in their place. The results are the same as the {@link Vector3} and {@link Matrix4}
+ * methods each one is documented to match. */
+public final class BulkMath {
+	private BulkMath () {
+	}
+
+	/** Multiplies the vectors with the matrix, the same as {@link Vector3#mul(Matrix4)} for each vector.
+	 * @param stride The number of floats between the first components of subsequent vectors, at least 3. */
+	static public void mulVec (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02], m03 = mat[M03];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12], m13 = mat[M13];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22], m23 = mat[M23];
+		for (int i = offset, n = offset + numVecs * stride; i < n; i += stride) {
+			float x = vecs[i], y = vecs[i + 1], z = vecs[i + 2];
+			vecs[i] = x * m00 + y * m01 + z * m02 + m03;
+			vecs[i + 1] = x * m10 + y * m11 + z * m12 + m13;
+			vecs[i + 2] = x * m20 + y * m21 + z * m22 + m23;
+		}
+	}
+
+	/** Multiplies the vectors with the matrix, the same as {@link Vector3#mul(Matrix4)} for each vector. The components of each
+	 * vector are at the same index in the x, y and z arrays. */
+	static public void mulVec (float[] mat, float[] x, float[] y, float[] z, int offset, int count) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02], m03 = mat[M03];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12], m13 = mat[M13];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22], m23 = mat[M23];
+		for (int i = offset, n = offset + count; i < n; i++) {
+			float vx = x[i], vy = y[i], vz = z[i];
+			x[i] = vx * m00 + vy * m01 + vz * m02 + m03;
+			y[i] = vx * m10 + vy * m11 + vz * m12 + m13;
+			z[i] = vx * m20 + vy * m21 + vz * m22 + m23;
+		}
+	}
+
+	/** Multiplies the vectors with the matrix and divides by w, the same as {@link Vector3#prj(Matrix4)} for each vector.
+	 * @param stride The number of floats between the first components of subsequent vectors, at least 3. */
+	static public void prj (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02], m03 = mat[M03];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12], m13 = mat[M13];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22], m23 = mat[M23];
+		float m30 = mat[M30], m31 = mat[M31], m32 = mat[M32], m33 = mat[M33];
+		for (int i = offset, n = offset + numVecs * stride; i < n; i += stride) {
+			float x = vecs[i], y = vecs[i + 1], z = vecs[i + 2];
+			float w = 1f / (x * m30 + y * m31 + z * m32 + m33);
+			vecs[i] = (x * m00 + y * m01 + z * m02 + m03) * w;
+			vecs[i + 1] = (x * m10 + y * m11 + z * m12 + m13) * w;
+			vecs[i + 2] = (x * m20 + y * m21 + z * m22 + m23) * w;
+		}
+	}
+
+	/** Multiplies the vectors with the matrix and divides by w, the same as {@link Vector3#prj(Matrix4)} for each vector. The
+	 * components of each vector are at the same index in the x, y and z arrays. */
+	static public void prj (float[] mat, float[] x, float[] y, float[] z, int offset, int count) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02], m03 = mat[M03];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12], m13 = mat[M13];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22], m23 = mat[M23];
+		float m30 = mat[M30], m31 = mat[M31], m32 = mat[M32], m33 = mat[M33];
+		for (int i = offset, n = offset + count; i < n; i++) {
+			float vx = x[i], vy = y[i], vz = z[i];
+			float w = 1f / (vx * m30 + vy * m31 + vz * m32 + m33);
+			x[i] = (vx * m00 + vy * m01 + vz * m02 + m03) * w;
+			y[i] = (vx * m10 + vy * m11 + vz * m12 + m13) * w;
+			z[i] = (vx * m20 + vy * m21 + vz * m22 + m23) * w;
+		}
+	}
+
+	/** Multiplies the vectors with the upper 3x3 of the matrix, the same as {@link Vector3#rot(Matrix4)} for each vector.
+	 * @param stride The number of floats between the first components of subsequent vectors, at least 3. */
+	static public void rot (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		for (int i = offset, n = offset + numVecs * stride; i < n; i += stride) {
+			float x = vecs[i], y = vecs[i + 1], z = vecs[i + 2];
+			vecs[i] = x * m00 + y * m01 + z * m02;
+			vecs[i + 1] = x * m10 + y * m11 + z * m12;
+			vecs[i + 2] = x * m20 + y * m21 + z * m22;
+		}
+	}
+
+	/** Multiplies the vectors with the upper 3x3 of the matrix, the same as {@link Vector3#rot(Matrix4)} for each vector. The
+	 * components of each vector are at the same index in the x, y and z arrays. */
+	static public void rot (float[] mat, float[] x, float[] y, float[] z, int offset, int count) {
+		float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		for (int i = offset, n = offset + count; i < n; i++) {
+			float vx = x[i], vy = y[i], vz = z[i];
+			x[i] = vx * m00 + vy * m01 + vz * m02;
+			y[i] = vx * m10 + vy * m11 + vz * m12;
+			z[i] = vx * m20 + vy * m21 + vz * m22;
+		}
+	}
+
+	/** Multiplies each matrix in a with the matrix at the same position in b and stores the result in out, the same as
+	 * {@link Matrix4#mul(float[], float[])} for each pair. Each matrix is 16 floats, column major. Out may be a or b if the
+	 * offsets are the same. */
+	static public void mul (float[] a, int aOffset, float[] b, int bOffset, float[] out, int outOffset, int count) {
+		for (int m = 0; m < count; m++, aOffset += 16, bOffset += 16, outOffset += 16) {
+			float a00 = a[aOffset], a10 = a[aOffset + 1], a20 = a[aOffset + 2], a30 = a[aOffset + 3];
+			float a01 = a[aOffset + 4], a11 = a[aOffset + 5], a21 = a[aOffset + 6], a31 = a[aOffset + 7];
+			float a02 = a[aOffset + 8], a12 = a[aOffset + 9], a22 = a[aOffset + 10], a32 = a[aOffset + 11];
+			float a03 = a[aOffset + 12], a13 = a[aOffset + 13], a23 = a[aOffset + 14], a33 = a[aOffset + 15];
+			for (int c = 0; c < 16; c += 4) {
+				float b0 = b[bOffset + c], b1 = b[bOffset + c + 1], b2 = b[bOffset + c + 2], b3 = b[bOffset + c + 3];
+				out[outOffset + c] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+				out[outOffset + c + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+				out[outOffset + c + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+				out[outOffset + c + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+			}
+		}
+	}
+
+	/** Multiplies the matrix with each of the matrices, storing the results in the matrices, the same as
+	 * {@link Matrix4#mulLeft(Matrix4)} on each of the matrices. Each matrix is 16 floats, column major. */
+	static public void mulLeft (float[] mat, float[] mats, int offset, int count) {
+		float a00 = mat[M00], a10 = mat[M10], a20 = mat[M20], a30 = mat[M30];
+		float a01 = mat[M01], a11 = mat[M11], a21 = mat[M21], a31 = mat[M31];
+		float a02 = mat[M02], a12 = mat[M12], a22 = mat[M22], a32 = mat[M32];
+		float a03 = mat[M03], a13 = mat[M13], a23 = mat[M23], a33 = mat[M33];
+		for (int i = offset, n = offset + count * 16; i < n; i += 4) {
+			float b0 = mats[i], b1 = mats[i + 1], b2 = mats[i + 2], b3 = mats[i + 3];
+			mats[i] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+			mats[i + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+			mats[i + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+			mats[i + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+		}
+	}
+
+	/** Returns the sum of the products of the values at the same positions in a and b. The sum is accumulated in 4 parts, so the
+	 * rounding can differ slightly from adding the products in order. */
+	static public float dot (float[] a, int aOffset, float[] b, int bOffset, int count) {
+		float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+		int i = 0;
+		for (int n = count - 3; i < n; i += 4) {
+			sum0 += a[aOffset + i] * b[bOffset + i];
+			sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+			sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+			sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+		}
+		for (; i < count; i++)
+			sum0 += a[aOffset + i] * b[bOffset + i];
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/** Stores the dot product of each vector with the given vector, plus w, in out. With a plane's normal and distance this gives
+	 * the signed distance of each point to the plane, the same as {@link Plane#distance(Vector3)}. The components of each vector
+	 * are at the same index in the x, y and z arrays.
+	 * @param out May be one of the vector arrays. */
+	static public void dot (float[] x, float[] y, float[] z, float vx, float vy, float vz, float w, float[] out, int offset,
+		int count) {
+		for (int i = offset, n = offset + count; i < n; i++)
+			out[i] = x[i] * vx + y[i] * vy + z[i] * vz + w;
+	}
+}
@@ -22,6 +22,8 @@ import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.math.Plane.PlaneSide;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.math.collision.OrientedBoundingBox;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
 
 /** A truncated rectangular pyramid. Used to define the viewable region and its projection onto the screen.
  * @see Camera#frustum */
@@ -49,6 +51,11 @@ public class Frustum {
 	public final Vector3[] planePoints = {new Vector3(), new Vector3(), new Vector3(), new Vector3(), new Vector3(), new Vector3(),
 		new Vector3(), new Vector3()};
 	protected final float[] planePointsArray = new float[8 * 3];
+	/** The smallest distance to the planes of each object tested by the batch methods, at the same index as the object. Block
+	 * sized arrays indexed from the start of the block would be smaller, but then the JIT doesn't use SIMD instructions. */
+	private float[] distances = new float[0];
+	/** The distance along each plane's normal from the center of each box tested by the batch methods to its farthest corner. */
+	private float[] radii = new float[0];
 
 	public Frustum () {
 		for (int i = 0; i < 6; i++) {
@@ -216,4 +223,141 @@ public class Frustum {
 
 		return true;
 	}
+
+	/** Tests many bounding boxes against the frustum, the same as
+	 * {@link #boundsInFrustum(float, float, float, float, float, float)} for each box. The center and half size of
+	 * each box are at the same index in each array. The frustum is tested against 256 boxes at a time, without dependencies
+	 * between boxes, so the JIT can use SIMD instructions. Scratch arrays of the frustum are used, so the batch methods must not
+	 * be called on the same frustum by multiple threads at the same time.
+	 * @param visible The bit at the index of each box is set if it is in the frustum, else it is cleared.
+	 * @return The number of boxes in the frustum. */
+	public int boundsInFrustum (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int offset, int count, Bits visible) {
+		float[] distances = ensureDistances(offset + count);
+		int visibleCount = 0;
+		for (int start = offset, end = offset + count; start < end; start += 256) {
+			int blockEnd = Math.min(start + 256, end);
+			boundsDistances(x, y, z, halfWidth, halfHeight, halfDepth, start, blockEnd);
+			for (int i = start; i < blockEnd; i++) {
+				if (distances[i] >= 0) {
+					visible.set(i);
+					visibleCount++;
+				} else
+					visible.clear(i);
+			}
+		}
+		return visibleCount;
+	}
+
+	/** Tests many bounding boxes against the frustum, the same as
+	 * {@link #boundsInFrustum(float[], float[], float[], float[], float[], float[], int, int, Bits)}.
+	 * @param visible The index of each box in the frustum is added.
+	 * @return The number of boxes in the frustum. */
+	public int boundsInFrustum (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int offset, int count, IntArray visible) {
+		float[] distances = ensureDistances(offset + count);
+		int visibleCount = 0;
+		for (int start = offset, end = offset + count; start < end; start += 256) {
+			int blockEnd = Math.min(start + 256, end);
+			boundsDistances(x, y, z, halfWidth, halfHeight, halfDepth, start, blockEnd);
+			for (int i = start; i < blockEnd; i++) {
+				if (distances[i] >= 0) {
+					visible.add(i);
+					visibleCount++;
+				}
+			}
+		}
+		return visibleCount;
+	}
+
+	/** Tests many spheres against the frustum, the same as {@link #sphereInFrustum(float, float, float, float)} for each sphere.
+	 * The center and radius of each sphere are at the same index in each array. The frustum is tested against 256 spheres at a
+	 * time, without dependencies between spheres, so the JIT can use SIMD instructions. Like
+	 * {@link #boundsInFrustum(float[], float[], float[], float[], float[], float[], int, int, Bits)}, this is not thread safe.
+	 * @param visible The bit at the index of each sphere is set if it is in the frustum, else it is cleared.
+	 * @return The number of spheres in the frustum. */
+	public int spheresInFrustum (float[] x, float[] y, float[] z, float[] radius, int offset, int count, Bits visible) {
+		float[] distances = ensureDistances(offset + count);
+		int visibleCount = 0;
+		for (int start = offset, end = offset + count; start < end; start += 256) {
+			int blockEnd = Math.min(start + 256, end);
+			sphereDistances(x, y, z, radius, start, blockEnd);
+			for (int i = start; i < blockEnd; i++) {
+				if (distances[i] >= 0) {
+					visible.set(i);
+					visibleCount++;
+				} else
+					visible.clear(i);
+			}
+		}
+		return visibleCount;
+	}
+
+	/** Tests many spheres against the frustum, the same as
+	 * {@link #spheresInFrustum(float[], float[], float[], float[], int, int, Bits)}.
+	 * @param visible The index of each sphere in the frustum is added.
+	 * @return The number of spheres in the frustum. */
+	public int spheresInFrustum (float[] x, float[] y, float[] z, float[] radius, int offset, int count, IntArray visible) {
+		float[] distances = ensureDistances(offset + count);
+		int visibleCount = 0;
+		for (int start = offset, end = offset + count; start < end; start += 256) {
+			int blockEnd = Math.min(start + 256, end);
+			sphereDistances(x, y, z, radius, start, blockEnd);
+			for (int i = start; i < blockEnd; i++) {
+				if (distances[i] >= 0) {
+					visible.add(i);
+					visibleCount++;
+				}
+			}
+		}
+		return visibleCount;
+	}
+
+	private float[] ensureDistances (int size) {
+		if (distances.length < size) {
+			distances = new float[Math.max(256, size)];
+			radii = new float[distances.length];
+		}
+		return distances;
+	}
+
+	/** Stores the smallest distance to the planes of the corner of each box farthest in front of the plane in {@link #distances}.
+	 * A box is in the frustum when the distance is not negative. The arrays have the same indices, which the JIT needs to use SIMD
+	 * instructions. */
+	private void boundsDistances (float[] x, float[] y, float[] z, float[] halfWidth, float[] halfHeight, float[] halfDepth,
+		int start, int end) {
+		float[] distances = this.distances, radii = this.radii;
+		for (int p = 0; p < 6; p++) {
+			Plane plane = planes[p];
+			float nx = plane.normal.x, ny = plane.normal.y, nz = plane.normal.z, d = plane.d;
+			float ax = Math.abs(nx), ay = Math.abs(ny), az = Math.abs(nz);
+			// Separate loops use fewer arrays each, which the JIT needs to use SIMD instructions.
+			for (int i = start; i < end; i++)
+				radii[i] = halfWidth[i] * ax + halfHeight[i] * ay + halfDepth[i] * az;
+			if (p == 0) {
+				for (int i = start; i < end; i++)
+					distances[i] = x[i] * nx + y[i] * ny + z[i] * nz + d + radii[i];
+			} else {
+				for (int i = start; i < end; i++)
+					distances[i] = Math.min(distances[i], x[i] * nx + y[i] * ny + z[i] * nz + d + radii[i]);
+			}
+		}
+	}
+
+	/** Stores the smallest distance to the planes of the point of each sphere farthest in front of the plane in
+	 * {@link #distances}. */
+	private void sphereDistances (float[] x, float[] y, float[] z, float[] radius, int start, int end) {
+		float[] distances = this.distances;
+		for (int p = 0; p < 6; p++) {
+			Plane plane = planes[p];
+			float nx = plane.normal.x, ny = plane.normal.y, nz = plane.normal.z, d = plane.d;
+			if (p == 0) {
+				for (int i = start; i < end; i++)
+					distances[i] = x[i] * nx + y[i] * ny + z[i] * nz + d + radius[i];
+			} else {
+				for (int i = start; i < end; i++)
+					distances[i] = Math.min(distances[i], x[i] * nx + y[i] * ny + z[i] * nz + d + radius[i]);
+			}
+		}
+	}
 }
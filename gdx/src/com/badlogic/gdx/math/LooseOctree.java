@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
+
+/** A dynamic octree for objects which move. Unlike {@link Octree}, each object is stored in exactly one node, whose bounds are
+ * enlarged to twice the size of its cell so objects overlapping the cell's borders still fit. Queries find each object at most
+ * once, so results are added to an {@link Array} or passed to a {@link Visitor} without hashing.
+ * <p>
+ * The bounds of the objects are given by a {@link BoundsProvider}. When an object moves, {@link #update(Object)} only changes its
+ * bounds if it still fits in the same node, and otherwise moves it to another node. Objects outside of the octree's bounds are
+ * kept in the root node. A node is split when it has more than the maximum number of objects, and nodes are merged when their
+ * subtree has half as many, so objects moving back and forth don't split and merge nodes repeatedly.
+ * <p>
+ * Queries don't change the octree, so any number of threads can query at the same time, as long as no thread changes the
+ * octree. */
+public class LooseOctree<T> {
+	final int maxItemsPerNode;
+	final BoundsProvider<T> boundsProvider;
+	final Node root;
+
+	private final IdentityMap<T, Item> items = new IdentityMap();
+	private final BoundingBox tmpBounds = new BoundingBox();
+
+	private final Pool<Node> nodePool = new Pool<Node>() {
+		@Override
+		protected Node newObject () {
+			return new Node();
+		}
+	};
+
+	/** @param maxDepth The number of times the root node can be split.
+	 * @param maxItemsPerNode The number of objects a node can have before it is split. */
+	public LooseOctree (Vector3 minimum, Vector3 maximum, int maxDepth, int maxItemsPerNode, BoundsProvider<T> boundsProvider) {
+		if (maxItemsPerNode < 1) throw new IllegalArgumentException("maxItemsPerNode must be > 0: " + maxItemsPerNode);
+		this.maxItemsPerNode = maxItemsPerNode;
+		this.boundsProvider = boundsProvider;
+		root = new Node();
+		root.set((minimum.x + maximum.x) / 2, (minimum.y + maximum.y) / 2, (minimum.z + maximum.z) / 2,
+			Math.abs(maximum.x - minimum.x) / 2, Math.abs(maximum.y - minimum.y) / 2, Math.abs(maximum.z - minimum.z) / 2,
+			maxDepth, null);
+	}
+
+	/** Adds the object with the bounds from the {@link BoundsProvider}.
+	 * @throws IllegalArgumentException if the object was already added. */
+	public void add (T object) {
+		insert(root, newItem(object));
+	}
+
+	/** Adds the objects. When the octree is empty, the nodes are built top down from all the objects, which is faster than adding
+	 * them one at a time. */
+	public void addAll (Array<? extends T> objects) {
+		if (root.count > 0) {
+			for (int i = 0, n = objects.size; i < n; i++)
+				add(objects.get(i));
+			return;
+		}
+		Array<Item> newItems = new Array(false, objects.size, Item.class);
+		for (int i = 0, n = objects.size; i < n; i++)
+			newItems.add(newItem(objects.get(i)));
+		build(root, newItems);
+	}
+
+	/** Removes the object.
+	 * @return False if the object was not in the octree. */
+	public boolean remove (T object) {
+		Item item = items.remove(object);
+		if (item == null) return false;
+		removeItem(item);
+		return true;
+	}
+
+	/** Updates the object after its bounds changed. If it still fits in the same node, only its bounds are changed.
+	 * @throws IllegalArgumentException if the object was not added. */
+	public void update (T object) {
+		Item item = items.get(object);
+		if (item == null) throw new IllegalArgumentException("The object was not added: " + object);
+		item.set(boundsProvider.getBounds(object, tmpBounds));
+		Node node = item.node;
+		if (node.fits(item) && (node.children == null || node.childFor(item) == null)) return;
+		removeItem(item);
+		insert(root, item);
+	}
+
+	/** Removes all objects. */
+	public void clear () {
+		if (root.children != null) root.freeChildren();
+		root.items.clear();
+		root.count = 0;
+		items.clear();
+	}
+
+	public boolean contains (T object) {
+		return items.containsKey(object);
+	}
+
+	/** Returns the number of objects. */
+	public int size () {
+		return items.size;
+	}
+
+	/** Adds all objects to the result.
+	 * @return The result. */
+	public Array<T> getAll (Array<T> result) {
+		getAll(root, result);
+		return result;
+	}
+
+	/** Adds the objects whose bounds intersect the bounding box to the result.
+	 * @return The result. */
+	public Array<T> query (BoundingBox aabb, Array<T> result) {
+		Vector3 min = aabb.min, max = aabb.max;
+		query(root, (min.x + max.x) / 2, (min.y + max.y) / 2, (min.z + max.z) / 2, (max.x - min.x) / 2, (max.y - min.y) / 2,
+			(max.z - min.z) / 2, result, null);
+		return result;
+	}
+
+	/** Passes the objects whose bounds intersect the bounding box to the visitor.
+	 * @return False if the visitor stopped the query. */
+	public boolean query (BoundingBox aabb, Visitor<T> visitor) {
+		Vector3 min = aabb.min, max = aabb.max;
+		return query(root, (min.x + max.x) / 2, (min.y + max.y) / 2, (min.z + max.z) / 2, (max.x - min.x) / 2,
+			(max.y - min.y) / 2, (max.z - min.z) / 2, null, visitor);
+	}
+
+	/** Adds the objects whose bounds are in the frustum to the result.
+	 * @return The result. */
+	public Array<T> query (Frustum frustum, Array<T> result) {
+		query(root, frustum, result, null);
+		return result;
+	}
+
+	/** Passes the objects whose bounds are in the frustum to the visitor.
+	 * @return False if the visitor stopped the query. */
+	public boolean query (Frustum frustum, Visitor<T> visitor) {
+		return query(root, frustum, null, visitor);
+	}
+
+	/** Adds the objects whose bounds are hit by the ray within the maximum distance to the result, in no particular order.
+	 * @return The result. */
+	public Array<T> rayCast (Ray ray, float maxDistance, Array<T> result) {
+		rayCast(root, ray, maxDistance, result, null);
+		return result;
+	}
+
+	/** Passes the objects whose bounds are hit by the ray within the maximum distance to the visitor, in no particular order.
+	 * @return False if the visitor stopped the query. */
+	public boolean rayCast (Ray ray, float maxDistance, Visitor<T> visitor) {
+		return rayCast(root, ray, maxDistance, null, visitor);
+	}
+
+	/** Finds the object whose bounds are hit first by the ray within the maximum distance.
+	 * @return False if no object was hit. */
+	public boolean rayCast (Ray ray, float maxDistance, RayCastResult<T> result) {
+		result.object = null;
+		result.distance = maxDistance;
+		rayCast(root, ray, result);
+		return result.object != null;
+	}
+
+	private Item newItem (T object) {
+		if (items.containsKey(object)) throw new IllegalArgumentException("The object was already added: " + object);
+		Item item = new Item();
+		item.object = object;
+		item.set(boundsProvider.getBounds(object, tmpBounds));
+		items.put(object, item);
+		return item;
+	}
+
+	private void insert (Node node, Item item) {
+		while (true) {
+			if (node.children != null) {
+				Node child = node.childFor(item);
+				if (child != null) {
+					node.count++;
+					node = child;
+					continue;
+				}
+			} else if (node.items.size >= maxItemsPerNode && node.level > 0) {
+				split(node);
+				continue;
+			}
+			node.add(item);
+			node.count++;
+			return;
+		}
+	}
+
+	/** Creates the children of the node and moves the objects which fit to them. */
+	private void split (Node node) {
+		node.createChildren();
+		Array<Item> items = node.items;
+		for (int i = items.size - 1; i >= 0; i--) {
+			Item item = items.get(i);
+			Node child = node.childFor(item);
+			if (child == null) continue;
+			node.removeItem(item);
+			child.add(item);
+			child.count++;
+		}
+	}
+
+	private void build (Node node, Array<Item> items) {
+		node.count = items.size;
+		if (items.size <= maxItemsPerNode || node.level == 0) {
+			for (int i = 0, n = items.size; i < n; i++)
+				node.add(items.get(i));
+			return;
+		}
+		node.createChildren();
+		Array<Item>[] childItems = new Array[8];
+		for (int i = 0; i < 8; i++)
+			childItems[i] = new Array(false, 16, Item.class);
+		for (int i = 0, n = items.size; i < n; i++) {
+			Item item = items.get(i);
+			Node child = node.childFor(item);
+			if (child == null)
+				node.add(item);
+			else
+				childItems[child.index].add(item);
+		}
+		for (int i = 0; i < 8; i++)
+			build(node.children[i], childItems[i]);
+	}
+
+	private void removeItem (Item item) {
+		Node node = item.node;
+		node.removeItem(item);
+		Node merge = null;
+		for (Node parent = node; parent != null; parent = parent.parent) {
+			parent.count--;
+			if (parent.children != null && parent.count <= maxItemsPerNode / 2) merge = parent;
+		}
+		if (merge != null) {
+			merge.collectChildItems(merge);
+			merge.freeChildren();
+		}
+	}
+
+	private void getAll (Node node, Array<T> result) {
+		Array<Item> items = node.items;
+		for (int i = 0, n = items.size; i < n; i++)
+			result.add(items.get(i).object);
+		Node[] children = node.children;
+		if (children == null) return;
+		for (int i = 0; i < 8; i++)
+			if (children[i].count > 0) getAll(children[i], result);
+	}
+
+	private boolean query (Node node, float x, float y, float z, float halfWidth, float halfHeight, float halfDepth,
+		@Null Array<T> result, @Null Visitor<T> visitor) {
+		Array<Item> items = node.items;
+		for (int i = 0, n = items.size; i < n; i++) {
+			Item item = items.get(i);
+			if (Math.abs(item.x - x) <= item.halfWidth + halfWidth && Math.abs(item.y - y) <= item.halfHeight + halfHeight
+				&& Math.abs(item.z - z) <= item.halfDepth + halfDepth && !visit(item.object, result, visitor)) return false;
+		}
+		Node[] children = node.children;
+		if (children == null) return true;
+		for (int i = 0; i < 8; i++) {
+			Node child = children[i];
+			// The bounds of a node are twice the size of its cell.
+			if (child.count > 0 && Math.abs(child.x - x) <= child.halfWidth * 2 + halfWidth
+				&& Math.abs(child.y - y) <= child.halfHeight * 2 + halfHeight && Math.abs(child.z - z) <= child.halfDepth * 2 + halfDepth
+				&& !query(child, x, y, z, halfWidth, halfHeight, halfDepth, result, visitor)) return false;
+		}
+		return true;
+	}
+
+	private boolean query (Node node, Frustum frustum, @Null Array<T> result, @Null Visitor<T> visitor) {
+		Array<Item> items = node.items;
+		for (int i = 0, n = items.size; i < n; i++) {
+			Item item = items.get(i);
+			if (frustum.boundsInFrustum(item.x, item.y, item.z, item.halfWidth, item.halfHeight, item.halfDepth)
+				&& !visit(item.object, result, visitor)) return false;
+		}
+		Node[] children = node.children;
+		if (children == null) return true;
+		for (int i = 0; i < 8; i++) {
+			Node child = children[i];
+			if (child.count > 0
+				&& frustum.boundsInFrustum(child.x, child.y, child.z, child.halfWidth * 2, child.halfHeight * 2, child.halfDepth * 2)
+				&& !query(child, frustum, result, visitor)) return false;
+		}
+		return true;
+	}
+
+	private boolean rayCast (Node node, Ray ray, float maxDistance, @Null Array<T> result, @Null Visitor<T> visitor) {
+		Array<Item> items = node.items;
+		for (int i = 0, n = items.size; i < n; i++) {
+			Item item = items.get(i);
+			float distance = intersectRay(ray, item.x, item.y, item.z, item.halfWidth, item.halfHeight, item.halfDepth);
+			if (distance != -1 && distance <= maxDistance && !visit(item.object, result, visitor)) return false;
+		}
+		Node[] children = node.children;
+		if (children == null) return true;
+		for (int i = 0; i < 8; i++) {
+			Node child = children[i];
+			if (child.count == 0) continue;
+			float distance = intersectRay(ray, child.x, child.y, child.z, child.halfWidth * 2, child.halfHeight * 2,
+				child.halfDepth * 2);
+			if (distance != -1 && distance <= maxDistance && !rayCast(child, ray, maxDistance, result, visitor)) return false;
+		}
+		return true;
+	}
+
+	private void rayCast (Node node, Ray ray, RayCastResult<T> result) {
+		Array<Item> items = node.items;
+		for (int i = 0, n = items.size; i < n; i++) {
+			Item item = items.get(i);
+			float distance = intersectRay(ray, item.x, item.y, item.z, item.halfWidth, item.halfHeight, item.halfDepth);
+			if (distance != -1 && (distance < result.distance || (distance == result.distance && result.object == null))) {
+				result.object = item.object;
+				result.distance = distance;
+			}
+		}
+		Node[] children = node.children;
+		if (children == null) return;
+		for (int i = 0; i < 8; i++) {
+			Node child = children[i];
+			if (child.count == 0) continue;
+			float distance = intersectRay(ray, child.x, child.y, child.z, child.halfWidth * 2, child.halfHeight * 2,
+				child.halfDepth * 2);
+			if (distance != -1 && distance <= result.distance) rayCast(child, ray, result);
+		}
+	}
+
+	static private <T> boolean visit (T object, @Null Array<T> result, @Null Visitor<T> visitor) {
+		if (result != null) {
+			result.add(object);
+			return true;
+		}
+		return visitor.visit(object);
+	}
+
+	/** Returns the distance along the ray to the box, 0 if the ray starts inside it, or -1 if it misses. */
+	static private float intersectRay (Ray ray, float x, float y, float z, float halfWidth, float halfHeight, float halfDepth) {
+		Vector3 origin = ray.origin, direction = ray.direction;
+		float near = 0, far = Float.POSITIVE_INFINITY;
+		for (int axis = 0; axis < 3; axis++) {
+			float o, d, center, half;
+			if (axis == 0) {
+				o = origin.x;
+				d = direction.x;
+				center = x;
+				half = halfWidth;
+			} else if (axis == 1) {
+				o = origin.y;
+				d = direction.y;
+				center = y;
+				half = halfHeight;
+			} else {
+				o = origin.z;
+				d = direction.z;
+				center = z;
+				half = halfDepth;
+			}
+			if (d == 0) {
+				if (Math.abs(o - center) > half) return -1;
+				continue;
+			}
+			float t1 = (center - half - o) / d, t2 = (center + half - o) / d;
+			if (t1 > t2) {
+				float temp = t1;
+				t1 = t2;
+				t2 = temp;
+			}
+			if (t1 > near) near = t1;
+			if (t2 < far) far = t2;
+			if (near > far) return -1;
+		}
+		return near;
+	}
+
+	/** Returns the bounds of the objects. */
+	public interface BoundsProvider<T> {
+		/** Sets the bounds of the object.
+		 * @return The out parameter. */
+		BoundingBox getBounds (T object, BoundingBox out);
+	}
+
+	/** Receives the objects found by a query. */
+	public interface Visitor<T> {
+		/** @return False to stop the query. */
+		boolean visit (T object);
+	}
+
+	/** The result of {@link LooseOctree#rayCast(Ray, float, RayCastResult)}. */
+	static public class RayCastResult<T> {
+		public @Null T object;
+		/** The distance along the ray to the object's bounds, 0 if the ray starts inside them. */
+		public float distance;
+	}
+
+	class Item {
+		T object;
+		float x, y, z, halfWidth, halfHeight, halfDepth;
+		Node node;
+		int index;
+
+		void set (BoundingBox bounds) {
+			Vector3 min = bounds.min, max = bounds.max;
+			x = (min.x + max.x) / 2;
+			y = (min.y + max.y) / 2;
+			z = (min.z + max.z) / 2;
+			halfWidth = (max.x - min.x) / 2;
+			halfHeight = (max.y - min.y) / 2;
+			halfDepth = (max.z - min.z) / 2;
+		}
+	}
+
+	class Node {
+		/** The center and half size of the node's cell. */
+		float x, y, z, halfWidth, halfHeight, halfDepth;
+		int level, index;
+		@Null Node parent;
+		/** May be null. */
+		@Null Node[] children;
+		final Array<Item> items = new Array(false, 4, Item.class);
+		/** The number of objects in this node and its descendants. */
+		int count;
+
+		void set (float x, float y, float z, float halfWidth, float halfHeight, float halfDepth, int level, @Null Node parent) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.halfWidth = halfWidth;
+			this.halfHeight = halfHeight;
+			this.halfDepth = halfDepth;
+			this.level = level;
+			this.parent = parent;
+		}
+
+		/** Returns true if this is the root, or the object's center is in the cell and the object is not larger than the cell. */
+		boolean fits (Item item) {
+			if (parent == null) return true;
+			return item.halfWidth <= halfWidth && item.halfHeight <= halfHeight && item.halfDepth <= halfDepth
+				&& Math.abs(item.x - x) <= halfWidth && Math.abs(item.y - y) <= halfHeight && Math.abs(item.z - z) <= halfDepth;
+		}
+
+		/** Returns the child the object fits in, or null. */
+		@Null
+		Node childFor (Item item) {
+			if (item.halfWidth > halfWidth / 2 || item.halfHeight > halfHeight / 2 || item.halfDepth > halfDepth / 2) return null;
+			if (Math.abs(item.x - x) > halfWidth || Math.abs(item.y - y) > halfHeight || Math.abs(item.z - z) > halfDepth)
+				return null;
+			return children[(item.x >= x ? 1 : 0) | (item.y >= y ? 2 : 0) | (item.z >= z ? 4 : 0)];
+		}
+
+		void createChildren () {
+			children = new LooseOctree.Node[8];
+			float halfWidth = this.halfWidth / 2, halfHeight = this.halfHeight / 2, halfDepth = this.halfDepth / 2;
+			for (int i = 0; i < 8; i++) {
+				Node child = nodePool.obtain();
+				child.set((i & 1) != 0 ? x + halfWidth : x - halfWidth, (i & 2) != 0 ? y + halfHeight : y - halfHeight,
+					(i & 4) != 0 ? z + halfDepth : z - halfDepth, halfWidth, halfHeight, halfDepth, level - 1, this);
+				child.index = i;
+				children[i] = child;
+			}
+		}
+
+		void add (Item item) {
+			item.node = this;
+			item.index = items.size;
+			items.add(item);
+		}
+
+		void removeItem (Item item) {
+			Item last = items.pop();
+			if (last != item) {
+				items.set(item.index, last);
+				last.index = item.index;
+			}
+		}
+
+		/** Adds the objects of the descendants to the node. */
+		void collectChildItems (Node node) {
+			for (int i = 0; i < 8; i++) {
+				Node child = children[i];
+				Array<Item> items = child.items;
+				for (int ii = 0, n = items.size; ii < n; ii++)
+					node.add(items.get(ii));
+				if (child.children != null) child.collectChildItems(node);
+			}
+		}
+
+		void freeChildren () {
+			for (int i = 0; i < 8; i++) {
+				Node child = children[i];
+				if (child.children != null) child.freeChildren();
+				child.items.clear();
+				child.parent = null;
+				child.count = 0;
+				nodePool.free(child);
+			}
+			children = null;
+		}
+	}
+}
@@ -1205,7 +1205,8 @@ public class Matrix4 implements Serializable {
 	 * @param vecs the vectors
 	 * @param offset the offset into the vectors array
 	 * @param numVecs the number of vectors
-	 * @param stride the stride between vectors in floats */
+	 * @param stride the stride between vectors in floats
+	 * @see BulkMath#mulVec(float[], float[], int, int, int) */
 	public static native void mulVec (float[] mat, float[] vecs, int offset, int numVecs, int stride) /*-{ }-*/; /*
 		float* vecPtr = vecs + offset;
 		for(int i = 0; i < numVecs; i++) {
@@ -1223,7 +1224,8 @@ public class Matrix4 implements Serializable {
 	 * @param vecs the vectors
 	 * @param offset the offset into the vectors array
 	 * @param numVecs the number of vectors
-	 * @param stride the stride between vectors in floats */
+	 * @param stride the stride between vectors in floats
+	 * @see BulkMath#prj(float[], float[], int, int, int) */
 	public static native void prj (float[] mat, float[] vecs, int offset, int numVecs, int stride) /*-{ }-*/; /*
 		float* vecPtr = vecs + offset;
 		for(int i = 0; i < numVecs; i++) {
@@ -1241,7 +1243,8 @@ public class Matrix4 implements Serializable {
 	 * @param vecs the vectors
 	 * @param offset the offset into the vectors array
 	 * @param numVecs the number of vectors
-	 * @param stride the stride between vectors in floats */
+	 * @param stride the stride between vectors in floats
+	 * @see BulkMath#rot(float[], float[], int, int, int) */
 	public static native void rot (float[] mat, float[] vecs, int offset, int numVecs, int stride) /*-{ }-*/; /*
 		float* vecPtr = vecs + offset;
 		for(int i = 0; i < numVecs; i++) {
@@ -22,7 +22,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.utils.Pool;
 
-/** A static Octree implementation.
+/** A static Octree implementation. Objects which move are better kept in a {@link LooseOctree}.
  *
  * Example of usage:
  *
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math.collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Finds the pairs of axis aligned boxes which overlap, as the first phase of collision detection. Each box is added as a proxy,
+ * identified by an int, and moved as the object it bounds moves. Boxes overlap when they intersect or touch.
+ * <p>
+ * 2D boxes are added with a {@link Rectangle} or with a z of 0 for both the minimum and maximum.
+ * @see SpatialHashGrid
+ * @see SweepAndPrune */
+public abstract class Broadphase {
+	/** Adds a proxy with the bounds.
+	 * @return The proxy, which may be the same as a removed proxy. */
+	public abstract int add (float minX, float minY, float minZ, float maxX, float maxY, float maxZ);
+
+	public int add (Rectangle bounds) {
+		return add(bounds.x, bounds.y, 0, bounds.x + bounds.width, bounds.y + bounds.height, 0);
+	}
+
+	public int add (BoundingBox bounds) {
+		Vector3 min = bounds.min, max = bounds.max;
+		return add(min.x, min.y, min.z, max.x, max.y, max.z);
+	}
+
+	/** Sets the bounds of the proxy.
+	 * @throws IllegalArgumentException if the proxy was not added or was removed. */
+	public abstract void move (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ);
+
+	public void move (int proxy, Rectangle bounds) {
+		move(proxy, bounds.x, bounds.y, 0, bounds.x + bounds.width, bounds.y + bounds.height, 0);
+	}
+
+	public void move (int proxy, BoundingBox bounds) {
+		Vector3 min = bounds.min, max = bounds.max;
+		move(proxy, min.x, min.y, min.z, max.x, max.y, max.z);
+	}
+
+	/** @throws IllegalArgumentException if the proxy was not added or was already removed. */
+	public abstract void remove (int proxy);
+
+	/** Removes all proxies. */
+	public abstract void clear ();
+
+	/** Returns the number of proxies. */
+	public abstract int size ();
+
+	/** Adds the overlapping proxies to the array, two values for each pair in no particular order. Each pair is added once. */
+	public abstract void findPairs (IntArray pairs);
+
+	/** Returns true if the boxes at the indices overlap. */
+	static boolean overlaps (float[] bounds, int a, int b) {
+		return bounds[a] <= bounds[b + 3] && bounds[b] <= bounds[a + 3] //
+			&& bounds[a + 1] <= bounds[b + 4] && bounds[b + 1] <= bounds[a + 4] //
+			&& bounds[a + 2] <= bounds[b + 5] && bounds[b + 2] <= bounds[a + 5];
+	}
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math.collision;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+
+/** A {@link Broadphase} which divides space into a uniform grid of cubic cells, stored in a hash map so the grid is unbounded.
+ * Each proxy is in every cell its bounds overlap, and only proxies sharing a cell are tested against each other. A pair is added
+ * only by the cell containing the minimum corner of the pair's intersection, so pairs sharing many cells are not added more than
+ * once.
+ * <p>
+ * Moving a proxy within the same cells only changes its bounds. This works best when most proxies are smaller than a cell and
+ * are spread over many cells. For 2D, the proxies have a z of 0 and all cells have a z of 0. */
+public class SpatialHashGrid extends Broadphase {
+	private final float cellSize, invCellSize;
+	/** The bounds of each proxy, 6 values per proxy: minimum x, y, z then maximum x, y, z. */
+	private float[] bounds = new float[0];
+	/** The first and last cell of each proxy on each axis, 6 values per proxy in the same order as the bounds. */
+	private int[] cellRanges = new int[0];
+	private int nextProxy, size;
+	private final IntArray freeProxies = new IntArray();
+	/** Set for each proxy which has been added and not removed. */
+	private final Bits proxies = new Bits();
+
+	private final LongMap<Cell> cells = new LongMap();
+	private final Array<Cell> activeCells = new Array(false, 64, Cell.class);
+	private final Pool<Cell> cellPool = new Pool<Cell>() {
+		@Override
+		protected Cell newObject () {
+			return new Cell();
+		}
+	};
+
+	/** @param cellSize The size of the cells on each axis, usually about the size of the largest common proxies. */
+	public SpatialHashGrid (float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		this.cellSize = cellSize;
+		invCellSize = 1 / cellSize;
+	}
+
+	public float getCellSize () {
+		return cellSize;
+	}
+
+	@Override
+	public int add (float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		int proxy = freeProxies.size > 0 ? freeProxies.pop() : nextProxy++;
+		if (proxy * 6 >= bounds.length) {
+			int capacity = Math.max(16, proxy * 2);
+			float[] newBounds = new float[capacity * 6];
+			System.arraycopy(bounds, 0, newBounds, 0, bounds.length);
+			bounds = newBounds;
+			int[] newCellRanges = new int[capacity * 6];
+			System.arraycopy(cellRanges, 0, newCellRanges, 0, cellRanges.length);
+			cellRanges = newCellRanges;
+		}
+		setBounds(proxy, minX, minY, minZ, maxX, maxY, maxZ);
+		int i = proxy * 6;
+		cellRanges[i] = cell(minX);
+		cellRanges[i + 1] = cell(minY);
+		cellRanges[i + 2] = cell(minZ);
+		cellRanges[i + 3] = cell(maxX);
+		cellRanges[i + 4] = cell(maxY);
+		cellRanges[i + 5] = cell(maxZ);
+		addToCells(proxy);
+		proxies.set(proxy);
+		size++;
+		return proxy;
+	}
+
+	@Override
+	public void move (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		checkProxy(proxy);
+		setBounds(proxy, minX, minY, minZ, maxX, maxY, maxZ);
+		int[] cellRanges = this.cellRanges;
+		int i = proxy * 6;
+		int cellMinX = cell(minX), cellMinY = cell(minY), cellMinZ = cell(minZ);
+		int cellMaxX = cell(maxX), cellMaxY = cell(maxY), cellMaxZ = cell(maxZ);
+		if (cellMinX == cellRanges[i] && cellMinY == cellRanges[i + 1] && cellMinZ == cellRanges[i + 2]
+			&& cellMaxX == cellRanges[i + 3] && cellMaxY == cellRanges[i + 4] && cellMaxZ == cellRanges[i + 5]) return;
+		removeFromCells(proxy);
+		cellRanges[i] = cellMinX;
+		cellRanges[i + 1] = cellMinY;
+		cellRanges[i + 2] = cellMinZ;
+		cellRanges[i + 3] = cellMaxX;
+		cellRanges[i + 4] = cellMaxY;
+		cellRanges[i + 5] = cellMaxZ;
+		addToCells(proxy);
+	}
+
+	@Override
+	public void remove (int proxy) {
+		checkProxy(proxy);
+		proxies.clear(proxy);
+		removeFromCells(proxy);
+		freeProxies.add(proxy);
+		size--;
+	}
+
+	@Override
+	public void clear () {
+		cellPool.freeAll(activeCells);
+		activeCells.clear();
+		cells.clear();
+		freeProxies.clear();
+		proxies.clear();
+		nextProxy = 0;
+		size = 0;
+	}
+
+	@Override
+	public int size () {
+		return size;
+	}
+
+	/** Returns the number of cells which have proxies. */
+	public int getCellCount () {
+		return activeCells.size;
+	}
+
+	@Override
+	public void findPairs (IntArray pairs) {
+		float[] bounds = this.bounds;
+		int[] cellRanges = this.cellRanges;
+		Cell[] activeCells = this.activeCells.items;
+		for (int c = 0, cn = this.activeCells.size; c < cn; c++) {
+			Cell cell = activeCells[c];
+			int n = cell.proxies.size;
+			if (n < 2) continue;
+			int[] proxies = cell.proxies.items;
+			int x = cell.x, y = cell.y, z = cell.z;
+			for (int i = 0; i < n - 1; i++) {
+				int a = proxies[i], ai = a * 6;
+				for (int ii = i + 1; ii < n; ii++) {
+					int b = proxies[ii], bi = b * 6;
+					if (!overlaps(bounds, ai, bi)) continue;
+					// Only the cell with the minimum corner of the intersection adds the pair.
+					if (Math.max(cellRanges[ai], cellRanges[bi]) != x || Math.max(cellRanges[ai + 1], cellRanges[bi + 1]) != y
+						|| Math.max(cellRanges[ai + 2], cellRanges[bi + 2]) != z) continue;
+					pairs.add(a, b);
+				}
+			}
+		}
+	}
+
+	private int cell (float value) {
+		return (int)Math.floor(value * invCellSize);
+	}
+
+	private void checkProxy (int proxy) {
+		if (proxy < 0 || !proxies.get(proxy)) throw new IllegalArgumentException("Invalid proxy: " + proxy);
+	}
+
+	private void setBounds (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		float[] bounds = this.bounds;
+		int i = proxy * 6;
+		bounds[i] = minX;
+		bounds[i + 1] = minY;
+		bounds[i + 2] = minZ;
+		bounds[i + 3] = maxX;
+		bounds[i + 4] = maxY;
+		bounds[i + 5] = maxZ;
+	}
+
+	private void addToCells (int proxy) {
+		int i = proxy * 6;
+		int minX = cellRanges[i], minY = cellRanges[i + 1], minZ = cellRanges[i + 2];
+		int maxX = cellRanges[i + 3], maxY = cellRanges[i + 4], maxZ = cellRanges[i + 5];
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					long key = key(x, y, z);
+					Cell cell = cells.get(key);
+					if (cell == null) {
+						cell = cellPool.obtain();
+						cell.x = x;
+						cell.y = y;
+						cell.z = z;
+						cell.index = activeCells.size;
+						activeCells.add(cell);
+						cells.put(key, cell);
+					}
+					cell.proxies.add(proxy);
+				}
+			}
+		}
+	}
+
+	private void removeFromCells (int proxy) {
+		int i = proxy * 6;
+		int minX = cellRanges[i], minY = cellRanges[i + 1], minZ = cellRanges[i + 2];
+		int maxX = cellRanges[i + 3], maxY = cellRanges[i + 4], maxZ = cellRanges[i + 5];
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					long key = key(x, y, z);
+					Cell cell = cells.get(key);
+					cell.proxies.removeValue(proxy);
+					if (cell.proxies.size > 0) continue;
+					cells.remove(key);
+					Cell last = activeCells.pop();
+					if (last != cell) {
+						activeCells.set(cell.index, last);
+						last.index = cell.index;
+					}
+					cellPool.free(cell);
+				}
+			}
+		}
+	}
+
+	static private long key (int x, int y, int z) {
+		return ((long)(x & 0x1fffff) << 42) | ((long)(y & 0x1fffff) << 21) | (z & 0x1fffff);
+	}
+
+	static class Cell implements Pool.Poolable {
+		int x, y, z, index;
+		final IntArray proxies = new IntArray(false, 8);
+
+		public void reset () {
+			proxies.clear();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math.collision;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Sort;
+
+/** A {@link Broadphase} which keeps the proxies sorted by their minimum on one axis, then sweeps along that axis so each proxy is
+ * only tested against the proxies which start before it ends. The order is kept between calls to {@link #findPairs(IntArray)}
+ * and restored with an insertion sort, which takes close to linear time when proxies move a little each frame.
+ * <p>
+ * The bounds are stored in sorted order, so the sweep reads memory in order. This works best when the proxies are spread out
+ * along the sweep axis and don't vary much in size. */
+public class SweepAndPrune extends Broadphase {
+	private final int axis;
+	/** The bounds of the proxy in each slot, sorted by their minimum on the axis, 6 values per slot: minimum x, y, z then maximum
+	 * x, y, z. */
+	private float[] bounds = new float[0];
+	/** The proxy in each slot, -1 for slots of removed proxies until they are compacted by the next sort. */
+	private int[] proxies = new int[0];
+	/** The slot of each proxy, -1 for removed proxies. */
+	private int[] slots = new int[0];
+	/** The number of slots, including the slots of removed proxies. */
+	private int size;
+	private int nextProxy, added, removed;
+	private final IntArray freeProxies = new IntArray();
+	private @Null Sort sort;
+	private @Null FloatArray sortKeys;
+	private @Null IntArray sortSlots;
+	private float[] sortedBounds = new float[0];
+	private int[] sortedProxies = new int[0];
+
+	/** Creates a sweep and prune which sweeps along the x axis. */
+	public SweepAndPrune () {
+		this(0);
+	}
+
+	/** @param axis The axis to sweep along, 0 for x, 1 for y and 2 for z. The axis along which the proxies are most spread out
+	 *           gives the fewest tests. */
+	public SweepAndPrune (int axis) {
+		if (axis < 0 || axis > 2) throw new IllegalArgumentException("axis must be 0, 1 or 2: " + axis);
+		this.axis = axis;
+	}
+
+	public int getAxis () {
+		return axis;
+	}
+
+	@Override
+	public int add (float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		int proxy = freeProxies.size > 0 ? freeProxies.pop() : nextProxy++;
+		if (proxy >= slots.length) {
+			int[] newSlots = new int[Math.max(16, proxy * 2)];
+			System.arraycopy(slots, 0, newSlots, 0, slots.length);
+			slots = newSlots;
+		}
+		if (size == proxies.length) {
+			int capacity = Math.max(16, size * 2);
+			int[] newProxies = new int[capacity];
+			System.arraycopy(proxies, 0, newProxies, 0, size);
+			proxies = newProxies;
+			float[] newBounds = new float[capacity * 6];
+			System.arraycopy(bounds, 0, newBounds, 0, size * 6);
+			bounds = newBounds;
+		}
+		// The new proxy is sorted by the next findPairs.
+		int slot = size++;
+		added++;
+		proxies[slot] = proxy;
+		slots[proxy] = slot;
+		setBounds(slot, minX, minY, minZ, maxX, maxY, maxZ);
+		return proxy;
+	}
+
+	@Override
+	public void move (int proxy, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		checkProxy(proxy);
+		setBounds(slots[proxy], minX, minY, minZ, maxX, maxY, maxZ);
+	}
+
+	@Override
+	public void remove (int proxy) {
+		checkProxy(proxy);
+		// The slot is compacted by the next sort, so removing many proxies doesn't shift the later slots each time.
+		proxies[slots[proxy]] = -1;
+		slots[proxy] = -1;
+		removed++;
+		freeProxies.add(proxy);
+	}
+
+	@Override
+	public void clear () {
+		size = 0;
+		nextProxy = 0;
+		added = 0;
+		removed = 0;
+		freeProxies.clear();
+	}
+
+	@Override
+	public int size () {
+		return size - removed;
+	}
+
+	@Override
+	public void findPairs (IntArray pairs) {
+		sort();
+		float[] bounds = this.bounds;
+		int[] proxies = this.proxies;
+		int axis = this.axis, size = this.size;
+		for (int i = 0, ai = 0; i < size; i++, ai += 6) {
+			float max = bounds[ai + 3 + axis];
+			for (int ii = i + 1, bi = ai + 6; ii < size; ii++, bi += 6) {
+				if (bounds[bi + axis] > max) break;
+				if (overlaps(bounds, ai, bi)) pairs.add(proxies[i], proxies[ii]);
+			}
+		}
+	}
+
+	/** Sorts the slots by their minimum on the axis with an insertion sort, or with a radix sort when many proxies were added
+	 * since the last sort, as the insertion sort takes quadratic time for proxies in random order. */
+	private void sort () {
+		if (removed > 0) compact();
+		if (added > 64 && added > size >> 4) {
+			radixSort();
+			return;
+		}
+		added = 0;
+		float[] bounds = this.bounds;
+		int[] proxies = this.proxies, slots = this.slots;
+		int axis = this.axis;
+		for (int i = 1, n = size; i < n; i++) {
+			int index = i * 6;
+			float key = bounds[index + axis];
+			if (key >= bounds[index - 6 + axis]) continue;
+			float minX = bounds[index], minY = bounds[index + 1], minZ = bounds[index + 2];
+			float maxX = bounds[index + 3], maxY = bounds[index + 4], maxZ = bounds[index + 5];
+			int proxy = proxies[i];
+			int slot = i - 1;
+			do {
+				int from = slot * 6;
+				System.arraycopy(bounds, from, bounds, from + 6, 6);
+				int moved = proxies[slot];
+				proxies[slot + 1] = moved;
+				slots[moved] = slot + 1;
+				slot--;
+			} while (slot >= 0 && bounds[slot * 6 + axis] > key);
+			slot++;
+			proxies[slot] = proxy;
+			slots[proxy] = slot;
+			setBounds(slot, minX, minY, minZ, maxX, maxY, maxZ);
+		}
+	}
+
+	/** Removes the slots of removed proxies, keeping the order of the other slots. */
+	private void compact () {
+		float[] bounds = this.bounds;
+		int[] proxies = this.proxies, slots = this.slots;
+		int slot = 0;
+		for (int i = 0, n = size; i < n; i++) {
+			int proxy = proxies[i];
+			if (proxy == -1) continue;
+			if (slot != i) {
+				System.arraycopy(bounds, i * 6, bounds, slot * 6, 6);
+				proxies[slot] = proxy;
+				slots[proxy] = slot;
+			}
+			slot++;
+		}
+		size = slot;
+		removed = 0;
+	}
+
+	private void radixSort () {
+		added = 0;
+		int size = this.size, axis = this.axis;
+		if (sort == null) {
+			sort = new Sort();
+			sortKeys = new FloatArray(size);
+			sortSlots = new IntArray(size);
+		}
+		FloatArray keys = sortKeys;
+		IntArray slots = sortSlots;
+		keys.clear();
+		slots.clear();
+		float[] keyItems = keys.ensureCapacity(size);
+		int[] slotItems = slots.ensureCapacity(size);
+		float[] bounds = this.bounds;
+		for (int i = 0; i < size; i++) {
+			keyItems[i] = bounds[i * 6 + axis];
+			slotItems[i] = i;
+		}
+		keys.size = size;
+		slots.size = size;
+		sort.radixSort(keys, slots);
+
+		if (sortedBounds.length < bounds.length) {
+			sortedBounds = new float[bounds.length];
+			sortedProxies = new int[proxies.length];
+		}
+		float[] sortedBounds = this.sortedBounds;
+		int[] proxies = this.proxies, sortedProxies = this.sortedProxies, proxySlots = this.slots;
+		slotItems = slots.items;
+		for (int i = 0; i < size; i++) {
+			int from = slotItems[i], proxy = proxies[from];
+			System.arraycopy(bounds, from * 6, sortedBounds, i * 6, 6);
+			sortedProxies[i] = proxy;
+			proxySlots[proxy] = i;
+		}
+		// Swap the arrays so the sorted ones are used.
+		this.sortedBounds = bounds;
+		this.bounds = sortedBounds;
+		this.sortedProxies = proxies;
+		this.proxies = sortedProxies;
+	}
+
+	private void checkProxy (int proxy) {
+		if (proxy < 0 || proxy >= nextProxy || slots[proxy] == -1) throw new IllegalArgumentException("Invalid proxy: " + proxy);
+	}
+
+	private void setBounds (int slot, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		float[] bounds = this.bounds;
+		int i = slot * 6;
+		bounds[i] = minX;
+		bounds[i + 1] = minY;
+		bounds[i + 2] = minZ;
+		bounds[i + 3] = maxX;
+		bounds[i + 4] = maxY;
+		bounds[i + 5] = maxZ;
+	}
+}
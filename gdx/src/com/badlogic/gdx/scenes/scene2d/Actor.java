@@ -28,6 +28,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.ActorGestureListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
 import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
@@ -70,6 +71,8 @@ public class Actor {
 	float scaleX = 1, scaleY = 1;
 	float rotation;
 	final Color color = new Color(1, 1, 1, 1);
+	boolean cullBoundsValid;
+	float cullLeft, cullBottom, cullRight, cullTop;
 	private @Null Object userObject;
 
 	/** Draws the actor. The batch is configured to draw in the parent's coordinate system.
@@ -376,7 +379,10 @@ public class Actor {
 
 	/** If false, the actor will not be drawn and will not receive touch events. Default is true. */
 	public void setVisible (boolean visible) {
-		this.visible = visible;
+		if (this.visible != visible) {
+			this.visible = visible;
+			invalidateRetained();
+		}
 	}
 
 	/** Returns true if this actor and all ascendants are visible. */
@@ -456,6 +462,7 @@ public class Actor {
 		if (this.x != x) {
 			this.x = x;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -471,6 +478,7 @@ public class Actor {
 		if (this.x != x) {
 			this.x = x;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -483,6 +491,7 @@ public class Actor {
 		if (this.y != y) {
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -498,6 +507,7 @@ public class Actor {
 		if (this.y != y) {
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -517,6 +527,7 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -537,6 +548,7 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -546,6 +558,7 @@ public class Actor {
 			this.x += x;
 			this.y += y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -557,6 +570,7 @@ public class Actor {
 		if (this.width != width) {
 			this.width = width;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -568,6 +582,7 @@ public class Actor {
 		if (this.height != height) {
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -581,6 +596,78 @@ public class Actor {
 		return x + width;
 	}
 
+	/** Called when the actor's position, size, scale, rotation or origin has been changed. */
+	void boundsChanged () {
+		Group parent = this.parent;
+		if (parent != null && parent.actorGrid != null) parent.actorGrid.invalidate(this);
+		invalidateCullBounds();
+		invalidateRetained();
+	}
+
+	/** Discards the cached drawing of this actor's ascendants that are {@link Group#setRetained(boolean) retained}, and of this
+	 * actor if it is a retained group, so they are drawn again. This is done automatically when the actor is changed using its
+	 * setters or is {@link Layout#invalidate() invalidated}, and by widgets when their state changes, eg from input. It must be
+	 * called when the actor draws differently for other reasons, eg its {@link #getColor() color} was modified directly.
+	 * <p>
+	 * On a stage, stops at the first group already invalidated since a retained group of the stage last began recording, as its
+	 * ascendants were invalidated then too. */
+	public void invalidateRetained () {
+		Stage stage = this.stage;
+		int recordCount = stage != null ? stage.recordCount : 0;
+		for (Group group = this instanceof Group ? (Group)this : parent; group != null; group = group.parent) {
+			if (group.invalidatedCount == recordCount && recordCount != 0) break;
+			group.invalidatedCount = recordCount;
+			group.retainedValid = false;
+		}
+	}
+
+	/** Invalidates the cull bounds of this actor and its ascendants. */
+	void invalidateCullBounds () {
+		// If an actor's cull bounds are invalid, so are those of its ascendants.
+		for (Actor actor = this; actor != null && actor.cullBoundsValid; actor = actor.parent)
+			actor.cullBoundsValid = false;
+	}
+
+	/** Computes the bounds in the parent's coordinates which contain everything this actor draws, used by
+	 * {@link Stage#setCulling(boolean) culling}. The default implementation uses the actor's bounds. */
+	void validateCullBounds () {
+		// Layout can change the size, eg fill parent, so it is done before the bounds are used rather than later in draw.
+		if (this instanceof Layout) ((Layout)this).validate();
+		if (cullBoundsValid) return;
+		cullBoundsValid = true;
+		setCullBounds(Math.min(0, width), Math.min(0, height), Math.max(0, width), Math.max(0, height));
+	}
+
+	/** Sets the cull bounds to the specified rectangle in this actor's coordinates transformed to the parent's coordinates. */
+	void setCullBounds (float left, float bottom, float right, float top) {
+		float x = this.x, y = this.y, scaleX = this.scaleX, scaleY = this.scaleY, rotation = this.rotation;
+		if (rotation == 0 && scaleX == 1 && scaleY == 1) {
+			cullLeft = x + left;
+			cullBottom = y + bottom;
+			cullRight = x + right;
+			cullTop = y + top;
+			return;
+		}
+		// The corners transformed the same as localToParentCoordinates.
+		float cos = (float)Math.cos(rotation * MathUtils.degreesToRadians);
+		float sin = (float)Math.sin(rotation * MathUtils.degreesToRadians);
+		float originX = this.originX, originY = this.originY;
+		left = (left - originX) * scaleX;
+		right = (right - originX) * scaleX;
+		bottom = (bottom - originY) * scaleY;
+		top = (top - originY) * scaleY;
+		float x1 = left * cos - bottom * sin, y1 = left * sin + bottom * cos;
+		float x2 = right * cos - bottom * sin, y2 = right * sin + bottom * cos;
+		float x3 = right * cos - top * sin, y3 = right * sin + top * cos;
+		float x4 = left * cos - top * sin, y4 = left * sin + top * cos;
+		x += originX;
+		y += originY;
+		cullLeft = x + Math.min(Math.min(x1, x2), Math.min(x3, x4));
+		cullRight = x + Math.max(Math.max(x1, x2), Math.max(x3, x4));
+		cullBottom = y + Math.min(Math.min(y1, y2), Math.min(y3, y4));
+		cullTop = y + Math.max(Math.max(y1, y2), Math.max(y3, y4));
+	}
+
 	/** Called when the actor's position has been changed. */
 	protected void positionChanged () {
 	}
@@ -603,6 +690,7 @@ public class Actor {
 			this.width = width;
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -612,6 +700,7 @@ public class Actor {
 			width += size;
 			height += size;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -621,6 +710,7 @@ public class Actor {
 			this.width += width;
 			this.height += height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -630,11 +720,13 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 		if (this.width != width || this.height != height) {
 			this.width = width;
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -643,7 +735,10 @@ public class Actor {
 	}
 
 	public void setOriginX (float originX) {
-		this.originX = originX;
+		if (this.originX != originX) {
+			this.originX = originX;
+			boundsChanged();
+		}
 	}
 
 	public float getOriginY () {
@@ -651,17 +746,24 @@ public class Actor {
 	}
 
 	public void setOriginY (float originY) {
-		this.originY = originY;
+		if (this.originY != originY) {
+			this.originY = originY;
+			boundsChanged();
+		}
 	}
 
 	/** Sets the origin position which is relative to the actor's bottom left corner. */
 	public void setOrigin (float originX, float originY) {
-		this.originX = originX;
-		this.originY = originY;
+		if (this.originX != originX || this.originY != originY) {
+			this.originX = originX;
+			this.originY = originY;
+			boundsChanged();
+		}
 	}
 
 	/** Sets the origin position to the specified {@link Align alignment}. */
 	public void setOrigin (int alignment) {
+		float originX, originY;
 		if ((alignment & left) != 0)
 			originX = 0;
 		else if ((alignment & right) != 0)
@@ -675,6 +777,7 @@ public class Actor {
 			originY = height;
 		else
 			originY = height / 2;
+		setOrigin(originX, originY);
 	}
 
 	public float getScaleX () {
@@ -685,6 +788,7 @@ public class Actor {
 		if (this.scaleX != scaleX) {
 			this.scaleX = scaleX;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -696,6 +800,7 @@ public class Actor {
 		if (this.scaleY != scaleY) {
 			this.scaleY = scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -705,6 +810,7 @@ public class Actor {
 			this.scaleX = scaleXY;
 			this.scaleY = scaleXY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -714,6 +820,7 @@ public class Actor {
 			this.scaleX = scaleX;
 			this.scaleY = scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -723,6 +830,7 @@ public class Actor {
 			scaleX += scale;
 			scaleY += scale;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -732,6 +840,7 @@ public class Actor {
 			this.scaleX += scaleX;
 			this.scaleY += scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -743,6 +852,7 @@ public class Actor {
 		if (this.rotation != degrees) {
 			this.rotation = degrees;
 			rotationChanged();
+			boundsChanged();
 		}
 	}
 
@@ -751,15 +861,18 @@ public class Actor {
 		if (amountInDegrees != 0) {
 			rotation = (rotation + amountInDegrees) % 360;
 			rotationChanged();
+			boundsChanged();
 		}
 	}
 
 	public void setColor (Color color) {
 		this.color.set(color);
+		invalidateRetained();
 	}
 
 	public void setColor (float r, float g, float b, float a) {
 		color.set(r, g, b, a);
+		invalidateRetained();
 	}
 
 	/** Returns the color the actor will be tinted when drawn. The returned instance can be modified to change the color. */
@@ -804,6 +917,8 @@ public class Actor {
 		if (children.get(index) == this) return false;
 		if (!children.removeValue(this, true)) return false;
 		children.insert(index, this);
+		if (parent.actorGrid != null) parent.actorGrid.invalidateOrder();
+		invalidateRetained();
 		return true;
 	}
 
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A uniform grid over the bounds of the children of a {@link Group}, so {@link Group#hit(float, float, boolean)} only tests the
+ * children near the point instead of all of them. The bounds are in the group's coordinates and include each child's scale and
+ * rotation. The grid is updated incrementally: when a child is moved, resized, scaled or rotated it is reinserted the next time
+ * the grid is queried. The children's draw order is cached for hits on overlapping children, and is updated after children are
+ * added, removed or reordered through {@link Group} or {@link Actor#setZIndex(int)}. If the children are reordered otherwise,
+ * {@link #invalidateOrder()} must be called.
+ * <p>
+ * A child is only tested when the point is inside its bounds, so the grid should not be used if children can be hit outside of
+ * their bounds, eg a child group with descendants outside of the group's bounds or an actor that overrides
+ * {@link Actor#hit(float, float, boolean)} to enlarge its hit area.
+ * @see Group#setActorGrid(float) */
+public class ActorGrid {
+	static private final Vector2 tmp = new Vector2();
+	/** Children that overlap more cells than this are tested for every query. */
+	static private final int maxCells = 64;
+
+	private final Group group;
+	private final float cellSize, invCellSize;
+	private final LongMap<Array<Actor>> cells = new LongMap<>();
+	private final ObjectMap<Actor, Entry> entries = new ObjectMap<>();
+	private final Array<Actor> large = new Array<>(false, 4, Actor[]::new);
+	private final Array<Actor> dirty = new Array<>(false, 16, Actor[]::new);
+	private final Array<Array<Actor>> freeCells = new Array<>(false, 16);
+	private int queryId;
+	private boolean orderDirty;
+
+	ActorGrid (Group group, float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		this.group = group;
+		this.cellSize = cellSize;
+		invCellSize = 1 / cellSize;
+		Actor[] children = group.children.items;
+		for (int i = 0, n = group.children.size; i < n; i++)
+			add(children[i]);
+	}
+
+	void add (Actor actor) {
+		Entry entry = new Entry();
+		entries.put(actor, entry);
+		entry.dirty = true;
+		dirty.add(actor);
+		// Appending a child doesn't change the index of the others.
+		int last = group.children.size - 1;
+		if (last >= 0 && group.children.items[last] == actor)
+			entry.index = last;
+		else
+			orderDirty = true;
+	}
+
+	void remove (Actor actor) {
+		Entry entry = entries.remove(actor);
+		if (entry == null) return;
+		if (entry.inserted) removeCells(actor, entry);
+		if (entry.index != group.children.size) orderDirty = true; // Removing the last child doesn't change the others.
+	}
+
+	void clear () {
+		cells.clear();
+		entries.clear();
+		large.clear();
+		dirty.clear();
+		freeCells.clear();
+		orderDirty = false;
+	}
+
+	/** Marks the draw order of the children as changed. This must be called if the children are reordered other than by
+	 * {@link Group} methods or {@link Actor#setZIndex(int)}. */
+	public void invalidateOrder () {
+		orderDirty = true;
+	}
+
+	/** Marks the bounds of the actor as changed. */
+	void invalidate (Actor actor) {
+		Entry entry = entries.get(actor);
+		if (entry != null && !entry.dirty) {
+			entry.dirty = true;
+			dirty.add(actor);
+		}
+	}
+
+	/** Reinserts the children whose bounds changed since the last update. This is done automatically by the query methods. */
+	public void update () {
+		Array<Actor> dirty = this.dirty;
+		if (dirty.size == 0) return;
+		Actor[] actors = dirty.items;
+		for (int i = 0, n = dirty.size; i < n; i++) {
+			Actor actor = actors[i];
+			Entry entry = entries.get(actor);
+			if (entry == null || !entry.dirty) continue; // Removed or already updated.
+			entry.dirty = false;
+			if (entry.inserted) removeCells(actor, entry);
+			computeBounds(actor, entry);
+			insertCells(actor, entry);
+		}
+		dirty.clear();
+	}
+
+	/** Returns the deepest actor that contains the point, like {@link Group#hit(float, float, boolean)} but testing only the
+	 * children whose bounds contain the point. Does not test the group itself.
+	 * @param x The x coordinate in the group's coordinate system.
+	 * @param y The y coordinate in the group's coordinate system.
+	 * @return May be null if no child was hit. */
+	public @Null Actor hit (float x, float y, boolean touchable) {
+		update();
+		Actor hitChild = null, hit = null;
+		int hitIndex = -1;
+		Vector2 point = tmp;
+		Array<Actor> cell = cells.get(key(cell(x), cell(y)));
+		for (int pass = 0; pass < 2; pass++) {
+			Array<Actor> candidates = pass == 0 ? cell : large;
+			if (candidates == null) continue;
+			Actor[] actors = candidates.items;
+			for (int i = 0, n = candidates.size; i < n; i++) {
+				Actor child = actors[i];
+				Entry entry = entries.get(child);
+				if (x < entry.left || x > entry.right || y < entry.bottom || y > entry.top) continue;
+				child.parentToLocalCoordinates(point.set(x, y));
+				Actor childHit = child.hit(point.x, point.y, touchable);
+				if (childHit == null) continue;
+				if (hitChild != null) {
+					// Overlapping children, the one drawn last is hit.
+					if (orderDirty) updateOrder();
+					if (hitIndex == -1) hitIndex = entries.get(hitChild).index;
+					if (entry.index < hitIndex) continue;
+					hitIndex = entry.index;
+				}
+				hitChild = child;
+				hit = childHit;
+			}
+		}
+		return hit;
+	}
+
+	/** Adds the children whose bounds overlap the rectangle to the array, in no particular order.
+	 * @param x The x coordinate in the group's coordinate system. */
+	public void query (float x, float y, float width, float height, Array<Actor> result) {
+		update();
+		int id = ++queryId;
+		float right = x + width, top = y + height;
+		for (int cy = cell(y), cy2 = cell(top); cy <= cy2; cy++) {
+			for (int cx = cell(x), cx2 = cell(right); cx <= cx2; cx++) {
+				Array<Actor> cell = cells.get(key(cx, cy));
+				if (cell != null) query(cell, id, x, y, right, top, result);
+			}
+		}
+		query(large, id, x, y, right, top, result);
+	}
+
+	private void query (Array<Actor> candidates, int id, float x, float y, float right, float top, Array<Actor> result) {
+		Actor[] actors = candidates.items;
+		for (int i = 0, n = candidates.size; i < n; i++) {
+			Actor child = actors[i];
+			Entry entry = entries.get(child);
+			if (entry.queryId == id) continue;
+			entry.queryId = id;
+			if (entry.left <= right && entry.right >= x && entry.bottom <= top && entry.top >= y) result.add(child);
+		}
+	}
+
+	public float getCellSize () {
+		return cellSize;
+	}
+
+	public Group getGroup () {
+		return group;
+	}
+
+	private void updateOrder () {
+		orderDirty = false;
+		Actor[] children = group.children.items;
+		for (int i = 0, n = group.children.size; i < n; i++) {
+			Entry entry = entries.get(children[i]);
+			if (entry != null) entry.index = i;
+		}
+	}
+
+	private void computeBounds (Actor actor, Entry entry) {
+		float x = actor.x, y = actor.y, width = actor.width, height = actor.height;
+		float scaleX = actor.scaleX, scaleY = actor.scaleY, rotation = actor.rotation;
+		if (rotation == 0 && scaleX == 1 && scaleY == 1) {
+			entry.left = Math.min(x, x + width);
+			entry.right = Math.max(x, x + width);
+			entry.bottom = Math.min(y, y + height);
+			entry.top = Math.max(y, y + height);
+			return;
+		}
+		// The corners transformed the same as Actor#localToParentCoordinates.
+		float cos = (float)Math.cos(rotation * MathUtils.degreesToRadians);
+		float sin = (float)Math.sin(rotation * MathUtils.degreesToRadians);
+		float originX = actor.originX, originY = actor.originY;
+		float left = -originX * scaleX, right = (width - originX) * scaleX;
+		float bottom = -originY * scaleY, top = (height - originY) * scaleY;
+		float x1 = left * cos - bottom * sin, y1 = left * sin + bottom * cos;
+		float x2 = right * cos - bottom * sin, y2 = right * sin + bottom * cos;
+		float x3 = right * cos - top * sin, y3 = right * sin + top * cos;
+		float x4 = left * cos - top * sin, y4 = left * sin + top * cos;
+		x += originX;
+		y += originY;
+		entry.left = x + Math.min(Math.min(x1, x2), Math.min(x3, x4));
+		entry.right = x + Math.max(Math.max(x1, x2), Math.max(x3, x4));
+		entry.bottom = y + Math.min(Math.min(y1, y2), Math.min(y3, y4));
+		entry.top = y + Math.max(Math.max(y1, y2), Math.max(y3, y4));
+	}
+
+	private void insertCells (Actor actor, Entry entry) {
+		entry.inserted = true;
+		int x1 = cell(entry.left), y1 = cell(entry.bottom), x2 = cell(entry.right), y2 = cell(entry.top);
+		if (((long)x2 - x1 + 1) * ((long)y2 - y1 + 1) > maxCells || entry.left != entry.left || entry.bottom != entry.bottom) {
+			entry.large = true;
+			large.add(actor);
+			return;
+		}
+		entry.large = false;
+		entry.x1 = x1;
+		entry.y1 = y1;
+		entry.x2 = x2;
+		entry.y2 = y2;
+		for (int cy = y1; cy <= y2; cy++) {
+			for (int cx = x1; cx <= x2; cx++) {
+				long key = key(cx, cy);
+				Array<Actor> cell = cells.get(key);
+				if (cell == null) {
+					cell = freeCells.size > 0 ? freeCells.pop() : new Array<>(false, 4, Actor[]::new);
+					cells.put(key, cell);
+				}
+				cell.add(actor);
+			}
+		}
+	}
+
+	private void removeCells (Actor actor, Entry entry) {
+		entry.inserted = false;
+		if (entry.large) {
+			large.removeValue(actor, true);
+			return;
+		}
+		for (int cy = entry.y1; cy <= entry.y2; cy++) {
+			for (int cx = entry.x1; cx <= entry.x2; cx++) {
+				long key = key(cx, cy);
+				Array<Actor> cell = cells.get(key);
+				if (cell == null) continue;
+				cell.removeValue(actor, true);
+				if (cell.size == 0) freeCells.add(cells.remove(key));
+			}
+		}
+	}
+
+	private int cell (float value) {
+		return (int)Math.floor(value * invCellSize);
+	}
+
+	static private long key (int x, int y) {
+		return (long)x << 32 | (y & 0xffffffffL);
+	}
+
+	static private class Entry {
+		float left, bottom, right, top;
+		int x1, y1, x2, y2;
+		int queryId;
+		/** The index of the child in the group, valid when the order is not dirty. */
+		int index;
+		boolean dirty, inserted, large;
+	}
+}
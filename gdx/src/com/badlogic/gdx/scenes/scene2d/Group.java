@@ -17,12 +17,14 @@
 package com.badlogic.gdx.scenes.scene2d;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.RecordingBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.SnapshotArray;
@@ -42,6 +44,16 @@ public class Group extends Actor implements Cullable {
 	private final Matrix4 oldTransform = new Matrix4();
 	boolean transform = true;
 	private @Null Rectangle cullingArea;
+	@Null ActorGrid actorGrid;
+	boolean autoCull;
+	private @Null RecordingBatch recorder;
+	boolean retainedValid;
+	/** The stage's {@link Stage#recordCount} when this group and its ascendants were last invalidated by
+	 * {@link #invalidateRetained()}. */
+	int invalidatedCount;
+	private boolean recording;
+	private float retainedAlpha, retainedColor, retainedX, retainedY;
+	float autoCullLeft, autoCullBottom, autoCullRight, autoCullTop;
 
 	public void act (float delta) {
 		super.act(delta);
@@ -62,8 +74,13 @@ public class Group extends Actor implements Cullable {
 	/** Draws all children. {@link #applyTransform(Batch, Matrix4)} should be called before and {@link #resetTransform(Batch)}
 	 * after this method if {@link #setTransform(boolean) transform} is true. If {@link #setTransform(boolean) transform} is false
 	 * these methods don't need to be called, children positions are temporarily offset by the group position when drawn. This
-	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set. */
+	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set, otherwise
+	 * outside of the stage's view if {@link Stage#setCulling(boolean) culling} is enabled. */
 	protected void drawChildren (Batch batch, float parentAlpha) {
+		if (recorder != null && !recording) {
+			drawRetained(batch, parentAlpha);
+			return;
+		}
 		parentAlpha *= this.color.a;
 		SnapshotArray<Actor> children = this.children;
 		Actor[] actors = children.begin();
@@ -102,6 +119,45 @@ public class Group extends Actor implements Cullable {
 				x = offsetX;
 				y = offsetY;
 			}
+		} else if (autoCull) {
+			// Draw children only if the bounds of the child and its descendants overlap the stage's view.
+			float cullLeft = autoCullLeft, cullRight = autoCullRight, cullBottom = autoCullBottom, cullTop = autoCullTop;
+			if (transform) {
+				for (int i = 0, n = children.size; i < n; i++) {
+					Actor child = actors[i];
+					if (!child.isVisible()) continue;
+					child.validateCullBounds();
+					if (child.cullLeft <= cullRight && child.cullBottom <= cullTop && child.cullRight >= cullLeft
+						&& child.cullTop >= cullBottom) {
+						if (child instanceof Group) ((Group)child).setAutoCull(cullLeft, cullBottom, cullRight, cullTop);
+						child.draw(batch, parentAlpha);
+						if (child instanceof Group) ((Group)child).autoCull = false;
+					}
+				}
+			} else {
+				// No transform for this group, offset each child.
+				float offsetX = x, offsetY = y;
+				x = 0;
+				y = 0;
+				for (int i = 0, n = children.size; i < n; i++) {
+					Actor child = actors[i];
+					if (!child.isVisible()) continue;
+					child.validateCullBounds();
+					if (child.cullLeft <= cullRight && child.cullBottom <= cullTop && child.cullRight >= cullLeft
+						&& child.cullTop >= cullBottom) {
+						if (child instanceof Group) ((Group)child).setAutoCull(cullLeft, cullBottom, cullRight, cullTop);
+						float cx = child.x, cy = child.y;
+						child.x = cx + offsetX;
+						child.y = cy + offsetY;
+						child.draw(batch, parentAlpha);
+						child.x = cx;
+						child.y = cy;
+						if (child instanceof Group) ((Group)child).autoCull = false;
+					}
+				}
+				x = offsetX;
+				y = offsetY;
+			}
 		} else {
 			// No culling, draw all children.
 			if (transform) {
@@ -132,6 +188,46 @@ public class Group extends Actor implements Cullable {
 		children.end();
 	}
 
+	/** Draws the children using the recorded vertices, recording them first if needed. */
+	private void drawRetained (Batch batch, float parentAlpha) {
+		RecordingBatch recorder = this.recorder;
+		float color = batch.getPackedColor();
+		if (!retainedValid || parentAlpha != retainedAlpha || color != retainedColor || x != retainedX || y != retainedY) {
+			// Everything is recorded, the view may change while the recording is used.
+			boolean autoCull = this.autoCull;
+			this.autoCull = false;
+			recording = true;
+			retainedValid = true;
+			Stage stage = getStage();
+			if (stage != null) stage.recordCount++;
+			recorder.begin(batch);
+			try {
+				drawChildren(recorder, parentAlpha);
+			} finally {
+				recorder.end();
+				recording = false;
+				this.autoCull = autoCull;
+			}
+			// Changes while drawing, eg layout, or state that can't be recorded require drawing again.
+			if (!recorder.isValid() || !retainedValid) {
+				retainedValid = false;
+				recorder.clear();
+				recording = true;
+				try {
+					drawChildren(batch, parentAlpha);
+				} finally {
+					recording = false;
+				}
+				return;
+			}
+			retainedAlpha = parentAlpha;
+			retainedColor = color;
+			retainedX = x;
+			retainedY = y;
+		}
+		recorder.draw(batch);
+	}
+
 	/** Draws this actor's debug lines if {@link #getDebug()} is true and, regardless of {@link #getDebug()}, calls
 	 * {@link Actor#drawDebug(ShapeRenderer)} on each child. */
 	public void drawDebug (ShapeRenderer shapes) {
@@ -143,8 +239,8 @@ public class Group extends Actor implements Cullable {
 
 	/** Draws all children. {@link #applyTransform(Batch, Matrix4)} should be called before and {@link #resetTransform(Batch)}
 	 * after this method if {@link #setTransform(boolean) transform} is true. If {@link #setTransform(boolean) transform} is false
-	 * these methods don't need to be called, children positions are temporarily offset by the group position when drawn. This
-	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set. */
+	 * these methods don't need to be called, children positions are temporarily offset by the group position when drawn. Debug
+	 * drawing is not culled. */
 	protected void drawDebugChildren (ShapeRenderer shapes) {
 		SnapshotArray<Actor> children = this.children;
 		Actor[] actors = children.begin();
@@ -226,6 +322,80 @@ public class Group extends Actor implements Cullable {
 		shapes.setTransformMatrix(oldTransform);
 	}
 
+	/** When true, the vertices of the children are recorded and drawn again each frame without calling
+	 * {@link Actor#draw(Batch, float)} on the children, until a descendant {@link Actor#invalidateRetained() changes}. This makes
+	 * drawing groups that rarely change, eg menus and HUDs, very cheap. The children are not culled while retained. Descendants
+	 * which change the batch's shader, blending or transform, or use {@link Actor#clipBegin() clipping}, can't be recorded and
+	 * are drawn normally. Default is false. */
+	public void setRetained (boolean retained) {
+		if (retained) {
+			if (recorder == null) recorder = new RecordingBatch();
+		} else
+			recorder = null;
+		retainedValid = false;
+	}
+
+	public boolean isRetained () {
+		return recorder != null;
+	}
+
+	/** Enables {@link Stage#setCulling(boolean) culling} for the children, given the visible area in the parent's coordinates. */
+	void setAutoCull (float left, float bottom, float right, float top) {
+		autoCull = true;
+		if (!transform) {
+			// Children are drawn in the parent's coordinates, offset by this group's position.
+			autoCullLeft = left - x;
+			autoCullBottom = bottom - y;
+			autoCullRight = right - x;
+			autoCullTop = top - y;
+			return;
+		}
+		Vector2 point = tmp;
+		parentToLocalCoordinates(point.set(left, bottom));
+		float minX = point.x, minY = point.y, maxX = minX, maxY = minY;
+		parentToLocalCoordinates(point.set(right, bottom));
+		minX = Math.min(minX, point.x);
+		minY = Math.min(minY, point.y);
+		maxX = Math.max(maxX, point.x);
+		maxY = Math.max(maxY, point.y);
+		parentToLocalCoordinates(point.set(right, top));
+		minX = Math.min(minX, point.x);
+		minY = Math.min(minY, point.y);
+		maxX = Math.max(maxX, point.x);
+		maxY = Math.max(maxY, point.y);
+		parentToLocalCoordinates(point.set(left, top));
+		autoCullLeft = Math.min(minX, point.x);
+		autoCullBottom = Math.min(minY, point.y);
+		autoCullRight = Math.max(maxX, point.x);
+		autoCullTop = Math.max(maxY, point.y);
+	}
+
+	/** Computes the cull bounds from this group's bounds and the cull bounds of the children. */
+	void validateCullBounds () {
+		if (this instanceof Layout) ((Layout)this).validate();
+		if (cullBoundsValid) return;
+		float left = Math.min(0, width), bottom = Math.min(0, height), right = Math.max(0, width), top = Math.max(0, height);
+		Actor[] actors = children.items;
+		for (int i = 0, n = children.size; i < n; i++) {
+			Actor child = actors[i];
+			child.validateCullBounds();
+			left = Math.min(left, child.cullLeft);
+			bottom = Math.min(bottom, child.cullBottom);
+			right = Math.max(right, child.cullRight);
+			top = Math.max(top, child.cullTop);
+		}
+		// Set after the children, their layout may invalidate this group's cull bounds.
+		cullBoundsValid = true;
+		if (transform)
+			setCullBounds(left, bottom, right, top);
+		else {
+			cullLeft = x + left;
+			cullBottom = y + bottom;
+			cullRight = x + right;
+			cullTop = y + top;
+		}
+	}
+
 	/** Children completely outside of this rectangle will not be drawn. This is only valid for use with unrotated and unscaled
 	 * actors.
 	 * @param cullingArea May be null. */
@@ -239,9 +409,28 @@ public class Group extends Actor implements Cullable {
 		return cullingArea;
 	}
 
+	/** Enables an {@link ActorGrid} so {@link #hit(float, float, boolean)} only tests the children near the point. This is
+	 * useful for groups with many children, eg inventories or maps, as long as children can't be hit outside of their bounds.
+	 * @param cellSize The size of the grid cells in this group's coordinates, about the size of a typical child. 0 disables the
+	 *           grid. */
+	public void setActorGrid (float cellSize) {
+		if (cellSize < 0) throw new IllegalArgumentException("cellSize must be >= 0: " + cellSize);
+		actorGrid = cellSize == 0 ? null : new ActorGrid(this, cellSize);
+	}
+
+	/** @return May be null.
+	 * @see #setActorGrid(float) */
+	public @Null ActorGrid getActorGrid () {
+		return actorGrid;
+	}
+
 	public @Null Actor hit (float x, float y, boolean touchable) {
 		if (touchable && getTouchable() == Touchable.disabled) return null;
 		if (!isVisible()) return null;
+		if (actorGrid != null) {
+			Actor hit = actorGrid.hit(x, y, touchable);
+			return hit != null ? hit : super.hit(x, y, touchable);
+		}
 		Vector2 point = tmp;
 		Actor[] childrenArray = children.items;
 		for (int i = children.size - 1; i >= 0; i--) {
@@ -267,6 +456,9 @@ public class Group extends Actor implements Cullable {
 		children.add(actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (actorGrid != null) actorGrid.add(actor);
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 	}
 
@@ -284,6 +476,9 @@ public class Group extends Actor implements Cullable {
 			children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (actorGrid != null) actorGrid.add(actor);
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 	}
 
@@ -298,6 +493,9 @@ public class Group extends Actor implements Cullable {
 		children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (actorGrid != null) actorGrid.add(actor);
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 	}
 
@@ -316,6 +514,9 @@ public class Group extends Actor implements Cullable {
 			children.insert(index + 1, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (actorGrid != null) actorGrid.add(actor);
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 	}
 
@@ -344,8 +545,11 @@ public class Group extends Actor implements Cullable {
 			if (unfocus) stage.unfocus(actor);
 			stage.actorRemoved(actor);
 		}
+		if (actorGrid != null) actorGrid.remove(actor);
 		actor.setParent(null);
 		actor.setStage(null);
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 		return actor;
 	}
@@ -369,6 +573,9 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 		children.clear();
+		if (actorGrid != null) actorGrid.clear();
+		invalidateCullBounds();
+		invalidateRetained();
 		childrenChanged();
 	}
 
@@ -402,6 +609,7 @@ public class Group extends Actor implements Cullable {
 
 	protected void setStage (Stage stage) {
 		super.setStage(stage);
+		invalidatedCount = 0;
 		Actor[] childrenArray = children.items;
 		for (int i = 0, n = children.size; i < n; i++)
 			childrenArray[i].setStage(stage); // StackOverflowError here means the group is its own ascendant.
@@ -413,6 +621,8 @@ public class Group extends Actor implements Cullable {
 		if (first < 0 || first >= maxIndex) return false;
 		if (second < 0 || second >= maxIndex) return false;
 		children.swap(first, second);
+		if (actorGrid != null) actorGrid.invalidateOrder();
+		invalidateRetained();
 		return true;
 	}
 
@@ -422,6 +632,8 @@ public class Group extends Actor implements Cullable {
 		int secondIndex = children.indexOf(second, true);
 		if (firstIndex == -1 || secondIndex == -1) return false;
 		children.swap(firstIndex, secondIndex);
+		if (actorGrid != null) actorGrid.invalidateOrder();
+		invalidateRetained();
 		return true;
 	}
 
@@ -446,6 +658,8 @@ public class Group extends Actor implements Cullable {
 	 * not been transformed. */
 	public void setTransform (boolean transform) {
 		this.transform = transform;
+		invalidateCullBounds();
+		invalidateRetained();
 	}
 
 	public boolean isTransform () {
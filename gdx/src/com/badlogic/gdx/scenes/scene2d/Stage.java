@@ -32,6 +32,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent.Type;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Table.Debug;
@@ -80,6 +81,9 @@ public class Stage extends InputAdapter implements Disposable {
 	private @Null Actor keyboardFocus, scrollFocus;
 	final SnapshotArray<TouchFocus> touchFocuses = new SnapshotArray<>(true, 4, TouchFocus[]::new);
 	private boolean actionsRequestRendering = true;
+	private boolean culling;
+	/** Incremented each time a retained group on this stage begins recording, see {@link Actor#invalidateRetained()}. */
+	int recordCount = 1;
 
 	private ShapeRenderer debugShapes;
 	private boolean debugInvisible, debugAll, debugUnderMouse, debugParentUnderMouse;
@@ -125,7 +129,21 @@ public class Stage extends InputAdapter implements Disposable {
 		Batch batch = this.batch;
 		batch.setProjectionMatrix(camera.combined);
 		batch.begin();
+		if (culling) {
+			// The camera's view in stage coordinates.
+			Vector3[] points = camera.frustum.planePoints;
+			float left = points[0].x, bottom = points[0].y, right = left, top = bottom;
+			for (int i = 1; i < 8; i++) {
+				Vector3 point = points[i];
+				left = Math.min(left, point.x);
+				bottom = Math.min(bottom, point.y);
+				right = Math.max(right, point.x);
+				top = Math.max(top, point.y);
+			}
+			root.setAutoCull(left, bottom, right, top);
+		}
 		root.draw(batch, 1);
+		root.autoCull = false;
 		batch.end();
 
 		if (debug) drawDebug();
@@ -654,6 +672,11 @@ public class Stage extends InputAdapter implements Disposable {
 				if (!success) keyboardFocus = oldKeyboardFocus;
 			}
 		}
+		if (keyboardFocus != oldKeyboardFocus) {
+			// Widgets may draw differently when focused.
+			if (oldKeyboardFocus != null) oldKeyboardFocus.invalidateRetained();
+			if (keyboardFocus != null) keyboardFocus.invalidateRetained();
+		}
 		Pools.free(event);
 		return success;
 	}
@@ -795,6 +818,18 @@ public class Stage extends InputAdapter implements Disposable {
 		return actionsRequestRendering;
 	}
 
+	/** If true, {@link #draw()} skips actors whose bounds, including the bounds of their descendants, are outside of the camera's
+	 * view. The bounds of each actor are cached and only recomputed when an actor is moved, resized, scaled, rotated, added or
+	 * removed. Groups with a {@link Group#setCullingArea(Rectangle) culling area} use it instead for their children. This should
+	 * not be used if actors draw outside of their bounds. Default is false. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+	}
+
+	public boolean getCulling () {
+		return culling;
+	}
+
 	/** The default color that can be used by actors to draw debug lines. */
 	public Color getDebugColor () {
 		return debugColor;
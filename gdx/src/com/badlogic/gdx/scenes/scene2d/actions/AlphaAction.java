@@ -39,6 +39,8 @@ public class AlphaAction extends TemporalAction {
 			color.a = end;
 		else
 			color.a = start + (end - start) * percent;
+		// The color is modified directly, not with a setter.
+		target.invalidateRetained();
 	}
 
 	public void reset () {
@@ -48,6 +48,8 @@ public class ColorAction extends TemporalAction {
 			float a = startA + (end.a - startA) * percent;
 			color.set(r, g, b, a);
 		}
+		// The color is modified directly, not with a setter.
+		target.invalidateRetained();
 	}
 
 	public void reset () {
@@ -47,6 +47,7 @@ public class Button extends Table implements Disableable, Styleable<Button.Butto
 	ButtonGroup buttonGroup;
 	private ClickListener clickListener;
 	private boolean programmaticChangeEvents = true;
+	private boolean lastPressed, lastOver;
 
 	public Button (Skin skin) {
 		super(skin);
@@ -119,6 +120,7 @@ public class Button extends Table implements Disableable, Styleable<Button.Butto
 		if (this.isChecked == isChecked) return;
 		if (buttonGroup != null && !buttonGroup.canCheck(this, isChecked)) return;
 		this.isChecked = isChecked;
+		invalidateRetained();
 
 		if (fireEvent) {
 			ChangeEvent changeEvent = Pools.obtain(ChangeEvent::new);
@@ -137,6 +139,17 @@ public class Button extends Table implements Disableable, Styleable<Button.Butto
 		return isChecked;
 	}
 
+	public void act (float delta) {
+		super.act(delta);
+		// Input and the visual pressed time change how the button is drawn without using a setter.
+		boolean pressed = isPressed(), over = isOver();
+		if (pressed != lastPressed || over != lastOver) {
+			lastPressed = pressed;
+			lastOver = over;
+			invalidateRetained();
+		}
+	}
+
 	public boolean isPressed () {
 		return clickListener.isVisualPressed();
 	}
@@ -155,7 +168,9 @@ public class Button extends Table implements Disableable, Styleable<Button.Butto
 
 	/** When true, the button will not toggle {@link #isChecked()} when clicked and will not fire a {@link ChangeEvent}. */
 	public void setDisabled (boolean isDisabled) {
+		if (this.isDisabled == isDisabled) return;
 		this.isDisabled = isDisabled;
+		invalidateRetained();
 	}
 
 	/** If false, {@link #setChecked(boolean)} and {@link #toggle()} will not fire {@link ChangeEvent}. The event will only be
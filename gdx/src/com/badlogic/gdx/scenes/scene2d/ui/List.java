@@ -135,26 +135,37 @@ public class List<T> extends Widget implements Cullable, Styleable<List.ListStyl
 				if (index == -1) return true;
 				selection.choose(items.get(index));
 				pressedIndex = index;
+				invalidateRetained();
 				return true;
 			}
 
 			public void touchUp (InputEvent event, float x, float y, int pointer, int button) {
 				if (pointer != 0 || button != 0) return;
 				pressedIndex = -1;
+				invalidateRetained();
 			}
 
 			public void touchDragged (InputEvent event, float x, float y, int pointer) {
-				overIndex = getItemIndexAt(y);
+				over(getItemIndexAt(y));
 			}
 
 			public boolean mouseMoved (InputEvent event, float x, float y) {
-				overIndex = getItemIndexAt(y);
+				over(getItemIndexAt(y));
 				return false;
 			}
 
 			public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
-				if (pointer == 0) pressedIndex = -1;
-				if (pointer == -1) overIndex = -1;
+				if (pointer == 0) {
+					pressedIndex = -1;
+					invalidateRetained();
+				}
+				if (pointer == -1) over(-1);
+			}
+
+			private void over (int index) {
+				if (index == overIndex) return;
+				overIndex = index;
+				invalidateRetained();
 			}
 		});
 	}
@@ -98,6 +98,7 @@ public class ProgressBar extends Widget implements Disableable, Styleable<Progre
 		super.act(delta);
 		if (animateTime > 0) {
 			animateTime -= delta;
+			invalidateRetained();
 			Stage stage = getStage();
 			if (stage != null && stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
 		}
@@ -261,6 +262,7 @@ public class ProgressBar extends Widget implements Disableable, Styleable<Progre
 		if (value == oldValue) return false;
 		float oldVisualValue = getVisualValue();
 		this.value = value;
+		invalidateRetained();
 
 		if (programmaticChangeEvents) {
 			ChangeEvent changeEvent = Pools.obtain(ChangeEvent::new);
@@ -357,7 +359,9 @@ public class ProgressBar extends Widget implements Disableable, Styleable<Progre
 	}
 
 	public void setDisabled (boolean disabled) {
+		if (this.disabled == disabled) return;
 		this.disabled = disabled;
+		invalidateRetained();
 	}
 
 	public boolean isAnimating () {
@@ -244,6 +244,7 @@ public class ScrollPane extends WidgetGroup implements Styleable<ScrollPane.Scro
 			fadeAlpha = 0;
 			fadeDelay = 0;
 		}
+		invalidateRetained();
 	}
 
 	/** Cancels the stage's touch focus for all listeners except this scroll pane's flick scroll listener. This causes any actors
@@ -290,7 +291,10 @@ public class ScrollPane extends WidgetGroup implements Styleable<ScrollPane.Scro
 
 		if (fadeAlpha > 0 && fadeScrollBars && !panning && !touchScrollH && !touchScrollV) {
 			fadeDelay -= delta;
-			if (fadeDelay <= 0) fadeAlpha = Math.max(0, fadeAlpha - delta);
+			if (fadeDelay <= 0) {
+				fadeAlpha = Math.max(0, fadeAlpha - delta);
+				invalidateRetained();
+			}
 			animating = true;
 		}
 
@@ -731,11 +735,13 @@ public class ScrollPane extends WidgetGroup implements Styleable<ScrollPane.Scro
 	/** Called whenever the visual x scroll amount is changed. */
 	protected void visualScrollX (float pixelsX) {
 		this.visualAmountX = pixelsX;
+		invalidateRetained();
 	}
 
 	/** Called whenever the visual y scroll amount is changed. */
 	protected void visualScrollY (float pixelsY) {
 		this.visualAmountY = pixelsY;
+		invalidateRetained();
 	}
 
 	/** Returns the amount to scroll horizontally when the mouse wheel is scrolled. */
@@ -99,6 +99,16 @@ public class SelectBox<T> extends Widget implements Disableable, Styleable<Selec
 					showScrollPane();
 				return true;
 			}
+
+			public void enter (InputEvent event, float x, float y, int pointer, @Null Actor fromActor) {
+				super.enter(event, x, y, pointer, fromActor);
+				if (pointer == -1) invalidateRetained();
+			}
+
+			public void exit (InputEvent event, float x, float y, int pointer, @Null Actor toActor) {
+				super.exit(event, x, y, pointer, toActor);
+				if (pointer == -1) invalidateRetained();
+			}
 		});
 	}
 
@@ -342,6 +352,7 @@ public class SelectBox<T> extends Widget implements Disableable, Styleable<Selec
 	public void setDisabled (boolean disabled) {
 		if (disabled && !this.disabled) hideScrollPane();
 		this.disabled = disabled;
+		invalidateRetained();
 	}
 
 	public boolean isDisabled () {
@@ -595,6 +606,8 @@ public class SelectBox<T> extends Widget implements Disableable, Styleable<Selec
 				oldStage.removeListener(list.getKeyListener());
 			}
 			super.setStage(stage);
+			// The select box draws differently while this is shown.
+			selectBox.invalidateRetained();
 		}
 
 		public List<T> getList () {
@@ -72,6 +72,7 @@ public class Slider extends ProgressBar {
 				if (Slider.this.button != -1 && Slider.this.button != button) return false;
 				if (draggingPointer != -1) return false;
 				draggingPointer = pointer;
+				invalidateRetained();
 				calculatePositionAndValue(x, y);
 				return true;
 			}
@@ -79,6 +80,7 @@ public class Slider extends ProgressBar {
 			public void touchUp (InputEvent event, float x, float y, int pointer, int button) {
 				if (pointer != draggingPointer) return;
 				draggingPointer = -1;
+				invalidateRetained();
 				// The position is invalid when focus is cancelled
 				if (event.isTouchFocusCancel() || !calculatePositionAndValue(x, y)) {
 					// Fire an event on touchUp even if the value didn't change, so listeners can see when a drag ends via isDragging.
@@ -93,11 +95,17 @@ public class Slider extends ProgressBar {
 			}
 
 			public void enter (InputEvent event, float x, float y, int pointer, @Null Actor fromActor) {
-				if (pointer == -1) mouseOver = true;
+				if (pointer == -1) {
+					mouseOver = true;
+					invalidateRetained();
+				}
 			}
 
 			public void exit (InputEvent event, float x, float y, int pointer, @Null Actor toActor) {
-				if (pointer == -1) mouseOver = false;
+				if (pointer == -1) {
+					mouseOver = false;
+					invalidateRetained();
+				}
 			}
 		});
 	}
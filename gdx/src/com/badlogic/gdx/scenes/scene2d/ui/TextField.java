@@ -118,6 +118,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 				return;
 			}
 			cursorOn = !cursorOn;
+			invalidateRetained();
 			Gdx.graphics.requestRendering();
 		}
 	};
@@ -402,6 +403,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 	}
 
 	protected void updateDisplayText () {
+		invalidateRetained();
 		BitmapFont font = style.font;
 		BitmapFontData data = font.getData();
 		String text = this.text;
@@ -611,6 +613,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 	 * @param messageText may be null. */
 	public void setMessageText (@Null String messageText) {
 		this.messageText = messageText;
+		invalidateRetained();
 	}
 
 	/** @param str If null, "" is used. */
@@ -688,6 +691,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 		hasSelection = true;
 		this.selectionStart = selectionStart;
 		cursor = selectionEnd;
+		invalidateRetained();
 	}
 
 	public void selectAll () {
@@ -696,6 +700,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 
 	public void clearSelection () {
 		hasSelection = false;
+		invalidateRetained();
 	}
 
 	/** Sets the cursor position and clears any selection. */
@@ -779,6 +784,7 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 
 	public void setDisabled (boolean disabled) {
 		this.disabled = disabled;
+		invalidateRetained();
 	}
 
 	public boolean isDisabled () {
@@ -875,11 +881,13 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 
 		public void touchUp (InputEvent event, float x, float y, int pointer, int button) {
 			if (selectionStart == cursor) hasSelection = false;
+			invalidateRetained();
 			super.touchUp(event, x, y, pointer, button);
 		}
 
 		protected void setCursorPosition (float x, float y) {
 			cursor = letterUnderCursor(x);
+			invalidateRetained();
 
 			cursorOn = focused;
 			blinkTask.cancel();
@@ -896,6 +904,8 @@ public class TextField extends Widget implements Disableable, Styleable<TextFiel
 
 		public boolean keyDown (InputEvent event, int keycode) {
 			if (disabled) return false;
+			// Keys may move the cursor or change the selection.
+			invalidateRetained();
 
 			cursorOn = focused;
 			blinkTask.cancel();
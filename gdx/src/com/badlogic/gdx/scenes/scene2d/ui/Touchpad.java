@@ -116,6 +116,7 @@ public class Touchpad extends Widget implements Styleable<Touchpad.TouchpadStyle
 			}
 			Pools.free(changeEvent);
 		}
+		if (oldPositionX != knobPosition.x || oldPositionY != knobPosition.y) invalidateRetained();
 	}
 
 	public void setStyle (TouchpadStyle style) {
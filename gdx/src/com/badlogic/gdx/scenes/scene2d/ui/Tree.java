@@ -460,6 +460,7 @@ public class Tree<N extends Node, V> extends WidgetGroup implements Styleable<Tr
 
 	/** @param overNode May be null. */
 	public void setOverNode (@Null N overNode) {
+		if (this.overNode != overNode) invalidateRetained();
 		this.overNode = overNode;
 	}
 
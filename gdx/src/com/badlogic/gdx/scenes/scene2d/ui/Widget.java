@@ -95,6 +95,7 @@ public class Widget extends Actor implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		invalidateRetained();
 	}
 
 	public void invalidateHierarchy () {
@@ -122,6 +122,7 @@ public class WidgetGroup extends Group implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		invalidateRetained();
 	}
 
 	public void invalidateHierarchy () {
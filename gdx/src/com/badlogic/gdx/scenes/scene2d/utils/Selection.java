@@ -87,6 +87,8 @@ public class Selection<T> implements Disableable, Iterable<T> {
 	}
 
 	void snapshot () {
+		// The selection is about to change and the actor may draw it.
+		if (actor != null) actor.invalidateRetained();
 		old.clear(selected.size);
 		old.addAll(selected);
 	}
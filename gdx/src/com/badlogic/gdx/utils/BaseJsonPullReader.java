@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+
+/** Cursor-style pull parser for JSON documents. Tokens are read one at a time from the underlying input without building a
+ * {@link JsonValue} DOM, so documents of any size can be read with a small, constant amount of memory.
+ * <p>
+ * Values are read using the typed methods, eg {@link #nextFloat()} or {@link #nextString()}, which consume the next token and
+ * convert it in the same way as {@link JsonValue}. Unwanted values can be skipped using {@link #skipValue()} and a subtree can
+ * be materialized using {@link #nextValue()}.
+ *
+ * <pre>
+ * reader.startObject();
+ * while (reader.hasNext()) {
+ * 	String name = reader.nextName();
+ * 	if (name.equals("x"))
+ * 		x = reader.nextFloat();
+ * 	else
+ * 		reader.skipValue();
+ * }
+ * reader.endObject();
+ * </pre>
+ *
+ * @see JsonPullReader
+ * @see UBJsonPullReader
+ * @see Json#fromJson(Class, BaseJsonPullReader) */
+abstract public class BaseJsonPullReader {
+	/** The value of the current token, set by {@link #advance()}. */
+	protected double doubleValue;
+	/** The value of the current token, set by {@link #advance()}. For {@link Token#booleanValue} this is 1 or 0. */
+	protected long longValue;
+
+	private @Null Token peeked;
+	private int depth;
+
+	/** Reads the next token from the input. The token's value must be stored in {@link #doubleValue}, {@link #longValue} or be
+	 * returned by {@link #stringValue()} until the next time this method is called. */
+	abstract protected Token advance ();
+
+	/** Returns the name or value of the current token as a string, or null if the current token is {@link Token#nullValue}. For
+	 * numbers this may return null if the input did not provide a string representation. */
+	abstract protected @Null String stringValue ();
+
+	/** Closes the underlying input, if any. */
+	abstract public void close ();
+
+	/** Returns the next token without consuming it. */
+	public Token peek () {
+		if (peeked == null) peeked = advance();
+		return peeked;
+	}
+
+	/** Consumes and returns the next token. */
+	public Token nextToken () {
+		Token token = peek();
+		peeked = null;
+		switch (token) {
+		case startObject:
+		case startArray:
+			depth++;
+			break;
+		case endObject:
+		case endArray:
+			depth--;
+			break;
+		}
+		return token;
+	}
+
+	/** Returns true if the current object or array has more entries, or if the document has more values. */
+	public boolean hasNext () {
+		Token token = peek();
+		return token != Token.endObject && token != Token.endArray && token != Token.end;
+	}
+
+	/** Returns the number of objects and arrays that have been started but not yet ended. */
+	public int getDepth () {
+		return depth;
+	}
+
+	/** Consumes the start of an object.
+	 * @throws SerializationException if the next token is not {@link Token#startObject}. */
+	public void startObject () {
+		expect(Token.startObject);
+	}
+
+	/** Consumes the end of an object. Any remaining entries must be consumed or skipped first.
+	 * @throws SerializationException if the next token is not {@link Token#endObject}. */
+	public void endObject () {
+		expect(Token.endObject);
+	}
+
+	/** Consumes the start of an array.
+	 * @throws SerializationException if the next token is not {@link Token#startArray}. */
+	public void startArray () {
+		expect(Token.startArray);
+	}
+
+	/** Consumes the end of an array. Any remaining values must be consumed or skipped first.
+	 * @throws SerializationException if the next token is not {@link Token#endArray}. */
+	public void endArray () {
+		expect(Token.endArray);
+	}
+
+	private void expect (Token expected) {
+		Token token = nextToken();
+		if (token != expected) throw new SerializationException("Expected " + expected + " but found: " + token);
+	}
+
+	/** Consumes the name of the next object entry.
+	 * @throws SerializationException if the next token is not {@link Token#name}. */
+	public String nextName () {
+		expect(Token.name);
+		return stringValue();
+	}
+
+	/** Consumes the next value and returns it as a string. Numbers and booleans are converted to a string.
+	 * @return May be null if the value is null.
+	 * @throws SerializationException if the next token is not a value. */
+	public @Null String nextString () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+		case nullValue:
+			return stringValue();
+		case doubleValue: {
+			String value = stringValue();
+			return value != null ? value : Double.toString(doubleValue);
+		}
+		case longValue: {
+			String value = stringValue();
+			return value != null ? value : Long.toString(longValue);
+		}
+		case booleanValue:
+			return longValue != 0 ? "true" : "false";
+		}
+		throw new SerializationException("Expected a value but found: " + token);
+	}
+
+	/** Consumes the next value and returns it as a float.
+	 * @throws SerializationException if the next token is not a string, number or boolean. */
+	public float nextFloat () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+			return Float.parseFloat(stringValue());
+		case doubleValue:
+			return (float)doubleValue;
+		case longValue:
+			return longValue;
+		case booleanValue:
+			return longValue != 0 ? 1 : 0;
+		}
+		throw new SerializationException("Expected a number but found: " + token);
+	}
+
+	/** Consumes the next value and returns it as a double.
+	 * @throws SerializationException if the next token is not a string, number or boolean. */
+	public double nextDouble () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+			return Double.parseDouble(stringValue());
+		case doubleValue:
+			return doubleValue;
+		case longValue:
+			return longValue;
+		case booleanValue:
+			return longValue != 0 ? 1 : 0;
+		}
+		throw new SerializationException("Expected a number but found: " + token);
+	}
+
+	/** Consumes the next value and returns it as a long.
+	 * @throws SerializationException if the next token is not a string, number or boolean. */
+	public long nextLong () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+			return Long.parseLong(stringValue());
+		case doubleValue:
+			return (long)doubleValue;
+		case longValue:
+			return longValue;
+		case booleanValue:
+			return longValue != 0 ? 1 : 0;
+		}
+		throw new SerializationException("Expected a number but found: " + token);
+	}
+
+	/** Consumes the next value and returns it as an int.
+	 * @throws SerializationException if the next token is not a string, number or boolean. */
+	public int nextInt () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+			return Integer.parseInt(stringValue());
+		case doubleValue:
+			return (int)doubleValue;
+		case longValue:
+			return (int)longValue;
+		case booleanValue:
+			return longValue != 0 ? 1 : 0;
+		}
+		throw new SerializationException("Expected a number but found: " + token);
+	}
+
+	/** Consumes the next value and returns it as a boolean.
+	 * @throws SerializationException if the next token is not a string, number or boolean. */
+	public boolean nextBoolean () {
+		Token token = nextToken();
+		switch (token) {
+		case stringValue:
+			return stringValue().equalsIgnoreCase("true");
+		case doubleValue:
+			return doubleValue != 0;
+		case longValue:
+		case booleanValue:
+			return longValue != 0;
+		}
+		throw new SerializationException("Expected a boolean but found: " + token);
+	}
+
+	/** Consumes a null value.
+	 * @throws SerializationException if the next token is not {@link Token#nullValue}. */
+	public void nextNull () {
+		expect(Token.nullValue);
+	}
+
+	/** Skips the next value, including all entries if it is an object or array. If the next token is a name, the name and its
+	 * value are skipped. */
+	public void skipValue () {
+		int depth = 0;
+		while (true) {
+			Token token = nextToken();
+			switch (token) {
+			case startObject:
+			case startArray:
+				depth++;
+				break;
+			case endObject:
+			case endArray:
+				if (--depth < 0) throw new SerializationException("Expected a value but found: " + token);
+				break;
+			case name:
+				continue;
+			case end:
+				throw new SerializationException("Expected a value but found: " + token);
+			}
+			if (depth == 0) return;
+		}
+	}
+
+	/** Consumes the next value and returns it as a {@link JsonValue}. If the value is an object or array, all of its entries are
+	 * read into a DOM. This is useful to read a small subtree of a large document. If the next token is a name, the returned
+	 * value has that name.
+	 * @throws SerializationException if the next token is not a name or value. */
+	public JsonValue nextValue () {
+		String name = null;
+		if (peek() == Token.name) name = nextName();
+		JsonValue value = readValue(nextToken());
+		value.name = name;
+		return value;
+	}
+
+	/** Reads the remaining entries of the current object or array into the specified value, then consumes the end of the object
+	 * or array. This is useful when the first entries of an object were already consumed. */
+	public void nextEntries (JsonValue parent) {
+		JsonValue last = parent.child;
+		if (last != null) {
+			while (last.next != null)
+				last = last.next;
+		}
+		while (hasNext())
+			last = addChild(parent, last, nextValue());
+		expect(parent.isArray() ? Token.endArray : Token.endObject);
+	}
+
+	private JsonValue readValue (Token token) {
+		switch (token) {
+		case startObject: {
+			JsonValue object = new JsonValue(ValueType.object);
+			JsonValue last = null;
+			Token next;
+			while ((next = nextToken()) == Token.name) {
+				String name = stringValue();
+				JsonValue child = readValue(nextToken());
+				child.name = name;
+				last = addChild(object, last, child);
+			}
+			if (next != Token.endObject) throw new SerializationException("Expected a name or endObject but found: " + next);
+			return object;
+		}
+		case startArray: {
+			JsonValue array = new JsonValue(ValueType.array);
+			JsonValue last = null;
+			for (Token next = nextToken(); next != Token.endArray; next = nextToken())
+				last = addChild(array, last, readValue(next));
+			return array;
+		}
+		case stringValue:
+			return new JsonValue(stringValue());
+		case doubleValue:
+			return new JsonValue(doubleValue, stringValue());
+		case longValue:
+			return new JsonValue(longValue, stringValue());
+		case booleanValue:
+			return new JsonValue(longValue != 0);
+		case nullValue:
+			return new JsonValue(ValueType.nullValue);
+		}
+		throw new SerializationException("Expected a value but found: " + token);
+	}
+
+	private JsonValue addChild (JsonValue parent, @Null JsonValue last, JsonValue child) {
+		child.parent = parent;
+		if (last == null)
+			parent.child = child;
+		else {
+			last.next = child;
+			child.prev = last;
+		}
+		parent.size++;
+		return child;
+	}
+
+	/** Clears the parse state so the reader can be reused for new input. */
+	protected void reset () {
+		peeked = null;
+		depth = 0;
+	}
+
+	static public enum Token {
+		startObject, endObject, startArray, endArray, name, stringValue, doubleValue, longValue, booleanValue, nullValue,
+		/** The end of the input was reached. */
+		end;
+	}
+}
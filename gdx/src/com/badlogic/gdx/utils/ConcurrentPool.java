@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+
+/** A {@link Pool} that can be used by multiple threads at the same time. Each thread has its own cache of free objects, so
+ * {@link #obtain()} and {@link #free(Object)} usually don't synchronize. When a thread's cache is empty it takes a batch of
+ * objects from a shared stack, and when the cache is full half of it is moved to the shared stack. Objects freed on one thread
+ * can therefore be obtained on another.
+ * <p>
+ * {@link #max} limits the number of objects in the shared stack, each thread can additionally cache up to
+ * {@link #threadCapacity} objects. Likewise {@link #peak} is the highest number of objects in the shared stack, objects in the
+ * thread caches are not counted. {@link #newObject()}, {@link #reset(Object)} and {@link #discard(Object)} may be called by any
+ * thread.
+ * @see ConcurrentPools */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	/** The maximum number of free objects each thread caches. */
+	public final int threadCapacity;
+
+	private final Object lock = new Object();
+	private Object[] shared;
+	private int sharedSize;
+
+	private final ThreadLocal<Cache> caches = new ThreadLocal<Cache>() {
+		protected Cache initialValue () {
+			return new Cache(threadCapacity);
+		}
+	};
+
+	/** Creates a pool with an initial capacity of 16, no maximum and a thread capacity of 32. */
+	public ConcurrentPool () {
+		this(16, Integer.MAX_VALUE, 32);
+	}
+
+	/** Creates a pool with the specified initial capacity, no maximum and a thread capacity of 32. */
+	public ConcurrentPool (int initialCapacity) {
+		this(initialCapacity, Integer.MAX_VALUE, 32);
+	}
+
+	/** Creates a pool with a thread capacity of 32. */
+	public ConcurrentPool (int initialCapacity, int max) {
+		this(initialCapacity, max, 32);
+	}
+
+	/** @param initialCapacity The initial size of the shared stack. No objects are created/pre-allocated. Use {@link #fill(int)}
+	 *           after instantiation if needed.
+	 * @param max The maximum number of free objects to store in the shared stack.
+	 * @param threadCapacity The maximum number of free objects to cache for each thread. */
+	public ConcurrentPool (int initialCapacity, int max, int threadCapacity) {
+		super(0, max);
+		if (threadCapacity < 2) throw new IllegalArgumentException("threadCapacity must be >= 2: " + threadCapacity);
+		this.threadCapacity = threadCapacity;
+		shared = new Object[Math.max(1, initialCapacity)];
+	}
+
+	public T obtain () {
+		Cache cache = caches.get();
+		if (cache.size == 0 && !refill(cache)) return newObject();
+		Object[] items = cache.items;
+		int index = --cache.size;
+		Object object = items[index];
+		items[index] = null;
+		return (T)object;
+	}
+
+	/** Puts the specified object in the calling thread's cache, making it eligible to be returned by {@link #obtain()}. If the
+	 * cache is full, half of it is moved to the shared stack. Objects that don't fit in the shared stack are
+	 * {@link #discard(Object) discarded}.
+	 * <p>
+	 * The pool does not check if an object is already freed, so the same object must not be freed multiple times. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		reset(object);
+		Cache cache = caches.get();
+		if (cache.size == cache.items.length) spill(cache);
+		cache.items[cache.size++] = object;
+	}
+
+	/** Moves up to half the thread capacity of objects from the shared stack to the cache.
+	 * @return False if the shared stack was empty. */
+	private boolean refill (Cache cache) {
+		synchronized (lock) {
+			int count = Math.min(sharedSize, cache.items.length >> 1);
+			if (count == 0) return false;
+			int start = sharedSize - count;
+			System.arraycopy(shared, start, cache.items, 0, count);
+			Arrays.fill(shared, start, sharedSize, null);
+			sharedSize = start;
+			cache.size = count;
+			return true;
+		}
+	}
+
+	/** Moves half of the cache to the shared stack, discarding objects that exceed {@link #max}. */
+	private void spill (Cache cache) {
+		Object[] items = cache.items;
+		int size = cache.size, start = size - (size >> 1), moved;
+		synchronized (lock) {
+			moved = Math.min(size - start, max - sharedSize);
+			push(items, start, moved);
+			peak = Math.max(peak, sharedSize);
+		}
+		for (int i = start + moved; i < size; i++)
+			discard((T)items[i]);
+		Arrays.fill(items, start, size, null);
+		cache.size = start;
+	}
+
+	/** Must be called while synchronized on the lock. */
+	private void push (Object[] items, int start, int count) {
+		int sizeNeeded = sharedSize + count;
+		if (sizeNeeded > shared.length) shared = Arrays.copyOf(shared, Math.max(sizeNeeded, (int)(shared.length * 1.75f)));
+		System.arraycopy(items, start, shared, sharedSize, count);
+		sharedSize = sizeNeeded;
+	}
+
+	/** Adds the specified number of new free objects to the shared stack. */
+	public void fill (int size) {
+		Object[] objects = new Object[size];
+		for (int i = 0; i < size; i++)
+			objects[i] = newObject();
+		int moved;
+		synchronized (lock) {
+			moved = Math.min(size, max - sharedSize);
+			push(objects, 0, moved);
+			peak = Math.max(peak, sharedSize);
+		}
+		for (int i = moved; i < size; i++)
+			discard((T)objects[i]);
+	}
+
+	/** Puts the specified objects in the pool. Null objects within the array are silently ignored.
+	 * @see #free(Object) */
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+		for (int i = 0, n = objects.size; i < n; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object);
+		}
+	}
+
+	/** Removes and discards all free objects from the shared stack and the calling thread's cache. Objects cached by other
+	 * threads are not affected. */
+	public void clear () {
+		Cache cache = caches.get();
+		for (int i = 0, n = cache.size; i < n; i++) {
+			discard((T)cache.items[i]);
+			cache.items[i] = null;
+		}
+		cache.size = 0;
+
+		Object[] objects;
+		int size;
+		synchronized (lock) {
+			objects = Arrays.copyOf(shared, sharedSize);
+			size = sharedSize;
+			Arrays.fill(shared, 0, sharedSize, null);
+			sharedSize = 0;
+		}
+		for (int i = 0; i < size; i++)
+			discard((T)objects[i]);
+	}
+
+	/** The number of objects in the shared stack and the calling thread's cache. Objects cached by other threads are not
+	 * counted. */
+	public int getFree () {
+		synchronized (lock) {
+			return sharedSize + caches.get().size;
+		}
+	}
+
+	static private final class Cache {
+		final Object[] items;
+		int size;
+
+		Cache (int capacity) {
+			items = new Object[capacity];
+		}
+	}
+}
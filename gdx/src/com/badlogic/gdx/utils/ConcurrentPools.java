@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.badlogic.gdx.utils.DefaultPool.PoolSupplier;
+
+/** Stores a map of {@link ConcurrentPool}s by type for convenient static access from any thread. This is separate from
+ * {@link Pools}, which may only be used from one thread at a time.
+ * @see Pools */
+public class ConcurrentPools {
+	static private final ConcurrentHashMap<Class<?>, Pool<?>> typePools = new ConcurrentHashMap();
+	static private final ConcurrentHashMap<Class<?>, Pool<?>> supplierPoolsCache = new ConcurrentHashMap();
+
+	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
+	 * if this is not the first time this pool has been requested. This method may create a temporary object once. <br>
+	 * Usage can use java 8 method references: {@code ConcurrentPools.get(MyClass::new, max)} */
+	static public <T> Pool<T> get (final PoolSupplier<T> poolTypeSupplier, int max) {
+		Pool<T> pool = (Pool<T>)supplierPoolsCache.get(poolTypeSupplier.getClass());
+		if (pool == null) {
+			Class<T> type = (Class<T>)poolTypeSupplier.get().getClass();
+			pool = (Pool<T>)typePools.get(type);
+			if (pool == null) {
+				Pool<T> newPool = new ConcurrentPool<T>(4, max) {
+					protected T newObject () {
+						return poolTypeSupplier.get();
+					}
+				};
+				pool = (Pool<T>)typePools.putIfAbsent(type, newPool);
+				if (pool == null) pool = newPool;
+			}
+			supplierPoolsCache.put(poolTypeSupplier.getClass(), pool);
+		}
+		return pool;
+	}
+
+	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. The max size of the pool used
+	 * is 100. */
+	static public <T> Pool<T> get (PoolSupplier<T> poolTypeSupplier) {
+		return get(poolTypeSupplier, 100);
+	}
+
+	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. The pool must be safe to use from
+	 * multiple threads, eg a {@link ConcurrentPool}. */
+	static public <T> void set (Class<T> type, Pool<T> pool) {
+		Pool<?> old = typePools.put(type, pool);
+		if (old == null) return;
+		for (Iterator<Pool<?>> iterator = supplierPoolsCache.values().iterator(); iterator.hasNext();)
+			if (iterator.next() == old) iterator.remove();
+	}
+
+	/** Obtains an object from the {@link #get(PoolSupplier)} pool. */
+	static public <T> T obtain (PoolSupplier<T> poolTypeSupplier) {
+		return get(poolTypeSupplier).obtain();
+	}
+
+	/** Frees an object from the {@link #get(PoolSupplier) pool}. */
+	static public void free (Object object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		Pool pool = typePools.get(object.getClass());
+		if (pool == null) return; // Ignore freeing an object that was never retained.
+		pool.free(object);
+	}
+
+	/** Frees the specified objects from the {@link #get(PoolSupplier) pool}. Null objects within the array are silently ignored.
+	 * Objects don't need to be from the same pool. */
+	static public void freeAll (Array objects) {
+		freeAll(objects, false);
+	}
+
+	/** Frees the specified objects from the {@link #get(PoolSupplier) pool}. Null objects within the array are silently ignored.
+	 * @param samePool If true, all objects must be from the same pool, so the pool is only looked up once. */
+	static public void freeAll (Array objects, boolean samePool) {
+		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+		Pool pool = null;
+		for (int i = 0, n = objects.size; i < n; i++) {
+			Object object = objects.get(i);
+			if (object == null) continue;
+			if (pool == null) {
+				pool = typePools.get(object.getClass());
+				if (pool == null) continue; // Ignore freeing an object that was never retained.
+			}
+			pool.free(object);
+			if (!samePool) pool = null;
+		}
+	}
+
+	private ConcurrentPools () {
+	}
+}
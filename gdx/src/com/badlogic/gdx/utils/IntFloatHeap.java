@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+
+/** An indexed binary heap of int ids with float values, sorted either lowest first or highest first. Unlike {@link BinaryHeap}
+ * no node objects are needed: ids and values are stored in parallel primitive arrays and an index array maps each id to its
+ * position in the heap, so {@link #contains(int)} is O(1) and changing a value is O(log n) without allocation. This is well
+ * suited to the open set of Dijkstra or A* searches, where the ids are cell or node indices.
+ * <p>
+ * Ids must be >= 0. The index array is sized by the largest id, so ids should be dense, eg 0 to the number of cells.
+ * @see BinaryHeap */
+public class IntFloatHeap {
+	public int size;
+
+	private int[] ids;
+	private float[] values;
+	/** The heap index for each id, or -1 if the id is not in the heap. */
+	private int[] indices;
+	private final boolean isMaxHeap;
+
+	/** Creates a min heap with an initial capacity of 16. */
+	public IntFloatHeap () {
+		this(16, 16, false);
+	}
+
+	/** @param capacity The number of ids the heap can hold before being resized.
+	 * @param idCapacity The largest id + 1 that can be added before the index array is resized. */
+	public IntFloatHeap (int capacity, int idCapacity, boolean isMaxHeap) {
+		this.isMaxHeap = isMaxHeap;
+		ids = new int[Math.max(1, capacity)];
+		values = new float[ids.length];
+		indices = new int[Math.max(1, idCapacity)];
+		Arrays.fill(indices, -1);
+	}
+
+	/** Adds the id to the heap with the specified value.
+	 * @throws IllegalArgumentException if the id is negative or already in the heap. */
+	public void add (int id, float value) {
+		if (id < 0) throw new IllegalArgumentException("id must be >= 0: " + id);
+		if (id >= indices.length) resizeIndices(Math.max(Math.max(8, id + 1), (int)(indices.length * 1.75f)));
+		else if (indices[id] != -1) throw new IllegalArgumentException("id is already in the heap: " + id);
+		if (size == ids.length) {
+			int newSize = Math.max(8, (int)(size * 1.75f));
+			int[] newIds = new int[newSize];
+			float[] newValues = new float[newSize];
+			System.arraycopy(ids, 0, newIds, 0, size);
+			System.arraycopy(values, 0, newValues, 0, size);
+			ids = newIds;
+			values = newValues;
+		}
+		up(size++, id, value);
+	}
+
+	/** Changes the value of the id, which must already be in the heap.
+	 * @throws IllegalArgumentException if the id is not in the heap. */
+	public void setValue (int id, float value) {
+		int index = index(id);
+		float oldValue = values[index];
+		if (value < oldValue ^ isMaxHeap)
+			up(index, id, value);
+		else
+			down(index, id, value);
+	}
+
+	/** Adds the id if it is not in the heap. Otherwise the value is changed only if the id would then be popped sooner, ie the
+	 * value is lower (or higher if this is a max heap). This is the decrease-key operation used by shortest path searches.
+	 * @return True if the id was added or its value was changed. */
+	public boolean decreaseKey (int id, float value) {
+		if (!contains(id)) {
+			add(id, value);
+			return true;
+		}
+		int index = indices[id];
+		if (!(value < values[index] ^ isMaxHeap) || value == values[index]) return false;
+		up(index, id, value);
+		return true;
+	}
+
+	/** Returns true if the id is in the heap. */
+	public boolean contains (int id) {
+		return id >= 0 && id < indices.length && indices[id] != -1;
+	}
+
+	/** Returns the value of the id, or the default value if the id is not in the heap. */
+	public float getValue (int id, float defaultValue) {
+		if (!contains(id)) return defaultValue;
+		return values[indices[id]];
+	}
+
+	/** Returns the first id in the heap. This is the id with the lowest value (or highest value if this heap is configured as a
+	 * max heap). */
+	public int peek () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		return ids[0];
+	}
+
+	/** Returns the value of the first id in the heap. */
+	public float peekValue () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		return values[0];
+	}
+
+	/** Removes the first id in the heap and returns it. This is the id with the lowest value (or highest value if this heap is
+	 * configured as a max heap). */
+	public int pop () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		int removed = ids[0];
+		indices[removed] = -1;
+		if (--size > 0) down(0, ids[size], values[size]);
+		return removed;
+	}
+
+	/** Removes the id from the heap.
+	 * @return True if the id was in the heap. */
+	public boolean remove (int id) {
+		if (!contains(id)) return false;
+		int index = indices[id];
+		indices[id] = -1;
+		if (--size > index) {
+			int movedId = ids[size];
+			float movedValue = values[size];
+			if (movedValue < values[index] ^ isMaxHeap)
+				up(index, movedId, movedValue);
+			else
+				down(index, movedId, movedValue);
+		}
+		return true;
+	}
+
+	/** Returns true if the heap has one or more items. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the heap is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		int[] ids = this.ids, indices = this.indices;
+		for (int i = 0, n = size; i < n; i++)
+			indices[ids[i]] = -1;
+		size = 0;
+	}
+
+	/** Increases the size of the backing arrays to accommodate the specified number of additional ids and ids up to maxId. Useful
+	 * before adding many ids to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity, int maxId) {
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > ids.length) {
+			ids = Arrays.copyOf(ids, Math.max(8, sizeNeeded));
+			values = Arrays.copyOf(values, ids.length);
+		}
+		if (maxId >= indices.length) resizeIndices(maxId + 1);
+	}
+
+	private void resizeIndices (int newSize) {
+		int oldSize = indices.length;
+		int[] newIndices = new int[newSize];
+		System.arraycopy(indices, 0, newIndices, 0, oldSize);
+		Arrays.fill(newIndices, oldSize, newSize, -1);
+		indices = newIndices;
+	}
+
+	private int index (int id) {
+		if (!contains(id)) throw new IllegalArgumentException("id is not in the heap: " + id);
+		return indices[id];
+	}
+
+	/** Moves the id toward the root from the specified index, which is treated as empty. */
+	private void up (int index, int id, float value) {
+		int[] ids = this.ids, indices = this.indices;
+		float[] values = this.values;
+		while (index > 0) {
+			int parentIndex = (index - 1) >> 1;
+			float parentValue = values[parentIndex];
+			if (value < parentValue ^ isMaxHeap && value != parentValue) {
+				int parentId = ids[parentIndex];
+				ids[index] = parentId;
+				values[index] = parentValue;
+				indices[parentId] = index;
+				index = parentIndex;
+			} else
+				break;
+		}
+		ids[index] = id;
+		values[index] = value;
+		indices[id] = index;
+	}
+
+	/** Moves the id toward the leaves from the specified index, which is treated as empty. */
+	private void down (int index, int id, float value) {
+		int[] ids = this.ids, indices = this.indices;
+		float[] values = this.values;
+		int size = this.size;
+		boolean isMaxHeap = this.isMaxHeap;
+		while (true) {
+			int childIndex = 1 + (index << 1);
+			if (childIndex >= size) break;
+			float childValue = values[childIndex];
+
+			// Use the right child if it would be popped sooner than the left child.
+			int rightIndex = childIndex + 1;
+			if (rightIndex < size) {
+				float rightValue = values[rightIndex];
+				if (rightValue < childValue ^ isMaxHeap && rightValue != childValue) {
+					childIndex = rightIndex;
+					childValue = rightValue;
+				}
+			}
+
+			if (!(childValue < value ^ isMaxHeap) || childValue == value) break;
+			int childId = ids[childIndex];
+			ids[index] = childId;
+			values[index] = childValue;
+			indices[childId] = index;
+			index = childIndex;
+		}
+		ids[index] = id;
+		values[index] = value;
+		indices[id] = index;
+	}
+
+	public boolean equals (Object obj) {
+		if (!(obj instanceof IntFloatHeap)) return false;
+		IntFloatHeap other = (IntFloatHeap)obj;
+		if (other.size != size) return false;
+		int[] ids1 = ids, ids2 = other.ids;
+		float[] values1 = values, values2 = other.values;
+		for (int i = 0, n = size; i < n; i++)
+			if (ids1[i] != ids2[i] || values1[i] != values2[i]) return false;
+		return true;
+	}
+
+	public int hashCode () {
+		int h = 1;
+		for (int i = 0, n = size; i < n; i++)
+			h = (h * 31 + ids[i]) * 31 + NumberUtils.floatToRawIntBits(values[i]);
+		return h;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) buffer.append(", ");
+			buffer.append(ids[i]);
+			buffer.append('=');
+			buffer.append(values[i]);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+}
@@ -29,8 +29,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.BaseJsonPullReader.Token;
 import com.badlogic.gdx.utils.IntSet.IntSetIterator;
 import com.badlogic.gdx.utils.JsonValue.PrettyPrintSettings;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.reflect.ArrayReflection;
@@ -849,6 +851,23 @@ public class Json {
 		return readValue(type, elementType, this.reader.parse(json));
 	}
 
+	/** Reads the next value from the pull reader without building a {@link JsonValue} DOM. Only values that are read by a
+	 * {@link Serializer}, a {@link Serializable} or the default serializer are read into a DOM first.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromJson (Class<T> type, BaseJsonPullReader reader) {
+		return readValue(type, null, reader);
+	}
+
+	/** Reads the next value from the pull reader without building a {@link JsonValue} DOM. Only values that are read by a
+	 * {@link Serializer}, a {@link Serializable} or the default serializer are read into a DOM first.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromJson (Class<T> type, Class elementType, BaseJsonPullReader reader) {
+		return readValue(type, elementType, reader);
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -1158,32 +1177,251 @@ public class Json {
 			jsonData = new JsonValue(jsonData.asString());
 		}
 
-		if (jsonData.isString()) {
-			String string = jsonData.asString();
-			if (type == null || type == String.class) return (T)string;
-			try {
-				if (type == int.class || type == Integer.class) return (T)Integer.valueOf(string);
-				if (type == float.class || type == Float.class) return (T)Float.valueOf(string);
-				if (type == long.class || type == Long.class) return (T)Long.valueOf(string);
-				if (type == double.class || type == Double.class) return (T)Double.valueOf(string);
-				if (type == short.class || type == Short.class) return (T)Short.valueOf(string);
-				if (type == byte.class || type == Byte.class) return (T)Byte.valueOf(string);
-			} catch (NumberFormatException ignored) {
+		if (jsonData.isString()) return (T)readString(type, jsonData.asString());
+
+		return null;
+	}
+
+	private Object readString (@Null Class type, String string) {
+		if (type == null || type == String.class) return string;
+		try {
+			if (type == int.class || type == Integer.class) return Integer.valueOf(string);
+			if (type == float.class || type == Float.class) return Float.valueOf(string);
+			if (type == long.class || type == Long.class) return Long.valueOf(string);
+			if (type == double.class || type == Double.class) return Double.valueOf(string);
+			if (type == short.class || type == Short.class) return Short.valueOf(string);
+			if (type == byte.class || type == Byte.class) return Byte.valueOf(string);
+		} catch (NumberFormatException ignored) {
+		}
+		if (type == boolean.class || type == Boolean.class) return Boolean.valueOf(string);
+		if (type == char.class || type == Character.class) return (Character)string.charAt(0);
+		if (ClassReflection.isAssignableFrom(Enum.class, type)) {
+			Enum[] constants = (Enum[])type.getEnumConstants();
+			for (int i = 0, n = constants.length; i < n; i++) {
+				Enum e = constants[i];
+				if (string.equals(convertToString(e))) return e;
 			}
-			if (type == boolean.class || type == Boolean.class) return (T)Boolean.valueOf(string);
-			if (type == char.class || type == Character.class) return (T)(Character)string.charAt(0);
-			if (ClassReflection.isAssignableFrom(Enum.class, type)) {
-				Enum[] constants = (Enum[])type.getEnumConstants();
-				for (int i = 0, n = constants.length; i < n; i++) {
-					Enum e = constants[i];
-					if (string.equals(convertToString(e))) return (T)e;
+		}
+		if (type == CharSequence.class) return string;
+		throw new SerializationException("Unable to convert value to required type: " + string + " (" + type.getName() + ")");
+	}
+
+	/** Reads the next value from the pull reader. Objects and arrays are read without building a {@link JsonValue} DOM, except
+	 * when they are read by a {@link Serializer}, a {@link Serializable} or the default serializer.
+	 * <p>
+	 * A class tag is only recognized when it is the first entry of an object, as written by {@link #writeType(Class)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T readValue (@Null Class<T> type, @Null Class elementType, BaseJsonPullReader reader) {
+		Token token = reader.peek();
+		if (token == Token.startObject) return (T)readObject(type, elementType, reader);
+
+		if (type != null && (classToSerializer.get(type) != null || ClassReflection.isAssignableFrom(Serializable.class, type)))
+			return readValue(type, elementType, reader.nextValue());
+
+		switch (token) {
+		case startArray:
+			return (T)readArray(type, elementType, reader);
+		case nullValue:
+			reader.nextToken();
+			return null;
+		case doubleValue:
+		case longValue:
+			if (type == null || type == float.class || type == Float.class) return (T)(Float)reader.nextFloat();
+			if (type == int.class || type == Integer.class) return (T)(Integer)reader.nextInt();
+			if (type == long.class || type == Long.class) return (T)(Long)reader.nextLong();
+			if (type == double.class || type == Double.class) return (T)(Double)reader.nextDouble();
+			if (type == short.class || type == Short.class) return (T)(Short)(short)reader.nextInt();
+			if (type == byte.class || type == Byte.class) return (T)(Byte)(byte)reader.nextInt();
+			if (type == char.class || type == Character.class) return (T)(Character)(char)reader.nextInt();
+			break;
+		case booleanValue:
+			if (type == null || type == boolean.class || type == Boolean.class) return (T)(Boolean)reader.nextBoolean();
+			break;
+		case stringValue:
+			break;
+		default:
+			throw new SerializationException("Expected a value but found: " + token);
+		}
+		return (T)readString(type, reader.nextString());
+	}
+
+	private @Null Object readObject (@Null Class type, @Null Class elementType, BaseJsonPullReader reader) {
+		reader.startObject();
+		String name = nextName(reader), className = null;
+		if (name != null && typeName != null && name.equals(typeName)) {
+			className = reader.nextString();
+			name = nextName(reader);
+			if (className != null) {
+				type = getClass(className);
+				if (type == null) {
+					try {
+						type = ClassReflection.forName(className);
+					} catch (ReflectionException ex) {
+						throw new SerializationException(ex);
+					}
 				}
 			}
-			if (type == CharSequence.class) return (T)string;
-			throw new SerializationException("Unable to convert value to required type: " + jsonData + " (" + type.getName() + ")");
 		}
 
-		return null;
+		if (type == null || classToSerializer.get(type) != null || ClassReflection.isAssignableFrom(Serializable.class, type)
+			|| (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type))
+			|| ClassReflection.isAssignableFrom(ObjectSet.class, type) || ClassReflection.isAssignableFrom(IntSet.class, type)
+			|| type == String.class || type == Integer.class || type == Boolean.class || type == Float.class || type == Long.class
+			|| type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+			|| ClassReflection.isAssignableFrom(Enum.class, type)) {
+			// Read the object into a DOM.
+			JsonValue jsonData = new JsonValue(ValueType.object);
+			if (className != null) jsonData.addChild(typeName, new JsonValue(className));
+			if (name != null) {
+				jsonData.addChild(name, reader.nextValue());
+				reader.nextEntries(jsonData);
+			}
+			return readValue(type, elementType, jsonData);
+		}
+
+		Object object = newInstance(type);
+
+		// JSON object special cases.
+		if (object instanceof ObjectMap) {
+			ObjectMap result = (ObjectMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(name, readValue(elementType, null, reader));
+			return result;
+		}
+		if (object instanceof ObjectIntMap) {
+			ObjectIntMap result = (ObjectIntMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(name, readValue(Integer.class, null, reader));
+			return result;
+		}
+		if (object instanceof ObjectFloatMap) {
+			ObjectFloatMap result = (ObjectFloatMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(name, readValue(Float.class, null, reader));
+			return result;
+		}
+		if (object instanceof IntMap) {
+			IntMap result = (IntMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(Integer.parseInt(name), readValue(elementType, null, reader));
+			return result;
+		}
+		if (object instanceof LongMap) {
+			LongMap result = (LongMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(Long.parseLong(name), readValue(elementType, null, reader));
+			return result;
+		}
+		if (object instanceof ArrayMap) {
+			ArrayMap result = (ArrayMap)object;
+			for (; name != null; name = nextName(reader))
+				result.put(name, readValue(elementType, null, reader));
+			return result;
+		}
+		if (object instanceof Map) {
+			Map result = (Map)object;
+			for (; name != null; name = nextName(reader)) {
+				if (name.equals(typeName))
+					reader.skipValue();
+				else
+					result.put(name, readValue(elementType, null, reader));
+			}
+			return result;
+		}
+
+		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		for (; name != null; name = nextName(reader)) {
+			FieldMetadata metadata = fields.get(name.replace(" ", "_"));
+			if (metadata == null) {
+				if (!name.equals(typeName) && !ignoreUnknownFields && !ignoreUnknownField(type, name))
+					throw new SerializationException("Field not found: " + name + " (" + type.getName() + ")");
+				if (debug) System.out.println("Ignoring unknown field: " + name + " (" + type.getName() + ")");
+				reader.skipValue();
+				continue;
+			}
+			if (ignoreDeprecated && !readDeprecated && metadata.deprecated) {
+				reader.skipValue();
+				continue;
+			}
+			Field field = metadata.field;
+			try {
+				field.set(object, readValue(field.getType(), metadata.elementType, reader));
+			} catch (ReflectionException ex) {
+				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
+			} catch (SerializationException ex) {
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			}
+		}
+		return object;
+	}
+
+	/** Consumes the name of the next object entry, or consumes the end of the object and returns null. */
+	private @Null String nextName (BaseJsonPullReader reader) {
+		if (reader.peek() == Token.endObject) {
+			reader.endObject();
+			return null;
+		}
+		return reader.nextName();
+	}
+
+	private Object readArray (@Null Class type, @Null Class elementType, BaseJsonPullReader reader) {
+		reader.startArray();
+		if (type == null || type == Object.class) type = Array.class;
+		if (ClassReflection.isAssignableFrom(Array.class, type)) {
+			Array result = type == Array.class ? new Array() : (Array)newInstance(type);
+			while (reader.hasNext())
+				result.add(readValue(elementType, null, reader));
+			reader.endArray();
+			return result;
+		}
+		if (ClassReflection.isAssignableFrom(Queue.class, type)) {
+			Queue result = type == Queue.class ? new Queue() : (Queue)newInstance(type);
+			while (reader.hasNext())
+				result.addLast(readValue(elementType, null, reader));
+			reader.endArray();
+			return result;
+		}
+		if (ClassReflection.isAssignableFrom(Collection.class, type)) {
+			Collection result = type.isInterface() ? new ArrayList() : (Collection)newInstance(type);
+			while (reader.hasNext())
+				result.add(readValue(elementType, null, reader));
+			reader.endArray();
+			return result;
+		}
+		if (type.isArray()) {
+			Class componentType = type.getComponentType();
+			if (elementType == null) elementType = componentType;
+			if (componentType == float.class && elementType == float.class) {
+				FloatArray values = new FloatArray();
+				while (reader.hasNext())
+					values.add(reader.nextFloat());
+				reader.endArray();
+				return values.toArray();
+			}
+			if (componentType == int.class && elementType == int.class) {
+				IntArray values = new IntArray();
+				while (reader.hasNext())
+					values.add(reader.nextInt());
+				reader.endArray();
+				return values.toArray();
+			}
+			Array values = new Array();
+			while (reader.hasNext())
+				values.add(readValue(elementType, null, reader));
+			reader.endArray();
+			Object result = ArrayReflection.newInstance(componentType, values.size);
+			for (int i = 0, n = values.size; i < n; i++)
+				ArrayReflection.set(result, i, values.get(i));
+			return result;
+		}
+		throw new SerializationException("Unable to convert array to required type: " + type.getName());
 	}
 
 	/** Each field on the <code>to</code> object is set to the value for the field with the same name on the <code>from</code>
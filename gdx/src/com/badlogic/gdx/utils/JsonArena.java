@@ -0,0 +1,625 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.BaseJsonPullReader.Token;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+
+/** Compact, read-only JSON DOM. Instead of a {@link JsonValue} object per value, the parsed document is stored in flat primitive
+ * arrays that index into the original characters. Names and string values are only created when requested and are then cached.
+ * An arena can be reused to parse many documents without allocating once its arrays are large enough.
+ * <p>
+ * Values are identified by an int index, -1 means no value. Iterating children works like the {@link JsonValue} linked list:
+ *
+ * <pre>
+ * JsonArena arena = new JsonArena();
+ * int map = arena.parse(json);
+ * for (int entry = arena.child(map); entry != -1; entry = arena.next(entry))
+ * 	System.out.println(arena.name(entry) + " = " + arena.asString(entry));
+ * </pre>
+ *
+ * Use {@link #toJsonValue(int)} to convert a value to a {@link JsonValue} for APIs that require one. The input characters must
+ * not be modified while the arena is in use. */
+public class JsonArena {
+	static private final ValueType[] valueTypes = ValueType.values();
+	static private final byte nameEscaped = 1, valueEscaped = 2;
+
+	private final JsonPullReader reader = new JsonPullReader();
+	private char[] data = new char[0], buffer;
+	private int count;
+
+	private byte[] types, flags;
+	private int[] parents, children, nexts, sizes;
+	private int[] nameStarts, nameEnds, valueStarts, valueEnds;
+	private long[] values;
+	private @Null String[] names, strings;
+
+	public JsonArena () {
+		this(64);
+	}
+
+	/** @param initialCapacity The number of values the arena can hold before being resized. */
+	public JsonArena (int initialCapacity) {
+		resize(Math.max(1, initialCapacity));
+	}
+
+	/** @return The root value, or -1 if the document is empty. */
+	public int parse (String json) {
+		char[] data = json.toCharArray();
+		return parse(data, 0, data.length);
+	}
+
+	/** Reads all characters into an internal buffer, which is reused by the next parse.
+	 * @return The root value, or -1 if the document is empty. */
+	public int parse (Reader reader) {
+		char[] data = buffer;
+		if (data == null) data = new char[1024];
+		int offset = 0;
+		try {
+			while (true) {
+				int length = reader.read(data, offset, data.length - offset);
+				if (length == -1) break;
+				if (length == 0) {
+					char[] newData = new char[data.length * 2];
+					System.arraycopy(data, 0, newData, 0, data.length);
+					data = newData;
+				} else
+					offset += length;
+			}
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading input.", ex);
+		} finally {
+			StreamUtils.closeQuietly(reader);
+		}
+		buffer = data;
+		return parse(data, 0, offset);
+	}
+
+	/** @return The root value, or -1 if the document is empty. */
+	public int parse (FileHandle file) {
+		Reader reader;
+		try {
+			reader = file.reader("UTF-8");
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+		try {
+			return parse(reader);
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
+	/** The data is not copied and must not be modified while the arena is in use.
+	 * @return The root value, or -1 if the document is empty. */
+	public int parse (char[] data, int offset, int length) {
+		clear();
+		this.data = data;
+		JsonPullReader reader = this.reader;
+		reader.setInput(data, offset, length);
+		try {
+			int parent = -1, last = -1, nameStart = -1, nameEnd = 0;
+			boolean nameNeedsUnescape = false;
+			while (true) {
+				Token token = reader.nextToken();
+				switch (token) {
+				case end:
+					return count > 0 ? 0 : -1;
+				case name:
+					nameStart = reader.getValueStart();
+					nameEnd = reader.getValueEnd();
+					nameNeedsUnescape = reader.getNeedsUnescape();
+					continue;
+				case endObject:
+				case endArray:
+					last = parent;
+					parent = parents[parent];
+					continue;
+				}
+
+				int node = count++;
+				if (node == types.length) resize(Math.max(8, (int)(node * 1.75f)));
+				parents[node] = parent;
+				children[node] = -1;
+				nexts[node] = -1;
+				sizes[node] = 0;
+				nameStarts[node] = nameStart;
+				nameEnds[node] = nameEnd;
+				byte flag = nameNeedsUnescape ? nameEscaped : 0;
+				nameStart = -1;
+				nameNeedsUnescape = false;
+				if (parent != -1) {
+					if (last == -1)
+						children[parent] = node;
+					else
+						nexts[last] = node;
+					sizes[parent]++;
+				}
+
+				switch (token) {
+				case startObject:
+					types[node] = (byte)ValueType.object.ordinal();
+					parent = node;
+					last = -1;
+					break;
+				case startArray:
+					types[node] = (byte)ValueType.array.ordinal();
+					parent = node;
+					last = -1;
+					break;
+				default:
+					types[node] = (byte)valueType(token).ordinal();
+					valueStarts[node] = reader.getValueStart();
+					valueEnds[node] = reader.getValueEnd();
+					if (reader.getNeedsUnescape()) flag |= valueEscaped;
+					if (token == Token.doubleValue)
+						values[node] = NumberUtils.doubleToLongBits(reader.doubleValue);
+					else
+						values[node] = reader.longValue;
+					last = node;
+				}
+				flags[node] = flag;
+			}
+		} catch (RuntimeException ex) {
+			clear();
+			throw ex;
+		}
+	}
+
+	private ValueType valueType (Token token) {
+		switch (token) {
+		case stringValue:
+			return ValueType.stringValue;
+		case doubleValue:
+			return ValueType.doubleValue;
+		case longValue:
+			return ValueType.longValue;
+		case booleanValue:
+			return ValueType.booleanValue;
+		case nullValue:
+			return ValueType.nullValue;
+		}
+		throw new SerializationException("Expected a value but found: " + token);
+	}
+
+	private void resize (int capacity) {
+		byte[] newTypes = new byte[capacity], newFlags = new byte[capacity];
+		int[] newParents = new int[capacity], newChildren = new int[capacity], newNexts = new int[capacity];
+		int[] newSizes = new int[capacity], newNameStarts = new int[capacity], newNameEnds = new int[capacity];
+		int[] newValueStarts = new int[capacity], newValueEnds = new int[capacity];
+		long[] newValues = new long[capacity];
+		if (types != null) {
+			int n = count - 1;
+			System.arraycopy(types, 0, newTypes, 0, n);
+			System.arraycopy(flags, 0, newFlags, 0, n);
+			System.arraycopy(parents, 0, newParents, 0, n);
+			System.arraycopy(children, 0, newChildren, 0, n);
+			System.arraycopy(nexts, 0, newNexts, 0, n);
+			System.arraycopy(sizes, 0, newSizes, 0, n);
+			System.arraycopy(nameStarts, 0, newNameStarts, 0, n);
+			System.arraycopy(nameEnds, 0, newNameEnds, 0, n);
+			System.arraycopy(valueStarts, 0, newValueStarts, 0, n);
+			System.arraycopy(valueEnds, 0, newValueEnds, 0, n);
+			System.arraycopy(values, 0, newValues, 0, n);
+		}
+		types = newTypes;
+		flags = newFlags;
+		parents = newParents;
+		children = newChildren;
+		nexts = newNexts;
+		sizes = newSizes;
+		nameStarts = newNameStarts;
+		nameEnds = newNameEnds;
+		valueStarts = newValueStarts;
+		valueEnds = newValueEnds;
+		values = newValues;
+		names = null;
+		strings = null;
+	}
+
+	/** Removes all values. The arrays are kept so they can be reused by the next parse. */
+	public void clear () {
+		if (names != null) {
+			for (int i = 0; i < count; i++) {
+				names[i] = null;
+				strings[i] = null;
+			}
+		}
+		count = 0;
+	}
+
+	/** Returns the number of values in the document. */
+	public int getCount () {
+		return count;
+	}
+
+	/** Returns the characters the document was parsed from. */
+	public char[] getData () {
+		return data;
+	}
+
+	/** @return The root value, or -1 if the arena is empty. */
+	public int root () {
+		return count > 0 ? 0 : -1;
+	}
+
+	public ValueType type (int value) {
+		return valueTypes[types[value]];
+	}
+
+	public boolean isObject (int value) {
+		return types[value] == 0;
+	}
+
+	public boolean isArray (int value) {
+		return types[value] == 1;
+	}
+
+	public boolean isString (int value) {
+		return type(value) == ValueType.stringValue;
+	}
+
+	public boolean isNumber (int value) {
+		ValueType type = type(value);
+		return type == ValueType.doubleValue || type == ValueType.longValue;
+	}
+
+	public boolean isDouble (int value) {
+		return type(value) == ValueType.doubleValue;
+	}
+
+	public boolean isLong (int value) {
+		return type(value) == ValueType.longValue;
+	}
+
+	public boolean isBoolean (int value) {
+		return type(value) == ValueType.booleanValue;
+	}
+
+	public boolean isNull (int value) {
+		return type(value) == ValueType.nullValue;
+	}
+
+	/** Returns true if the value is not an array or object. */
+	public boolean isValue (int value) {
+		return types[value] > 1;
+	}
+
+	/** @return The parent object or array, or -1 for the root. */
+	public int parent (int value) {
+		return parents[value];
+	}
+
+	/** @return The first child of an object or array, or -1. */
+	public int child (int value) {
+		return children[value];
+	}
+
+	/** @return The next sibling, or -1. */
+	public int next (int value) {
+		return nexts[value];
+	}
+
+	/** Returns the number of children of an object or array. */
+	public int size (int value) {
+		return sizes[value];
+	}
+
+	/** Returns the name of an object entry. The name is created on first access and cached.
+	 * @return May be null. */
+	public @Null String name (int value) {
+		int start = nameStarts[value];
+		if (start == -1) return null;
+		if (names == null) {
+			names = new String[types.length];
+			strings = new String[types.length];
+		}
+		String name = names[value];
+		if (name == null) {
+			name = new String(data, start, nameEnds[value] - start);
+			if ((flags[value] & nameEscaped) != 0) name = reader.unescape(name);
+			names[value] = name;
+		}
+		return name;
+	}
+
+	/** Returns true if the name of the value matches, ignoring case. The name is not created unless it contains escape
+	 * sequences. */
+	public boolean nameEqualsIgnoreCase (int value, String name) {
+		int start = nameStarts[value];
+		if (start == -1) return false;
+		if ((flags[value] & nameEscaped) != 0) return name(value).equalsIgnoreCase(name);
+		int length = nameEnds[value] - start;
+		if (length != name.length()) return false;
+		char[] data = this.data;
+		for (int i = 0; i < length; i++) {
+			char a = data[start + i], b = name.charAt(i);
+			if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) return false;
+		}
+		return true;
+	}
+
+	/** Returns the child at the specified index. This requires walking the children to the specified entry.
+	 * @return The child, or -1. */
+	public int get (int value, int index) {
+		int current = children[value];
+		while (current != -1 && index > 0) {
+			index--;
+			current = nexts[current];
+		}
+		return current;
+	}
+
+	/** Returns the child with the specified name, ignoring case like {@link JsonValue#get(String)}.
+	 * @return The child, or -1. */
+	public int get (int value, String name) {
+		int current = children[value];
+		while (current != -1 && !nameEqualsIgnoreCase(current, name))
+			current = nexts[current];
+		return current;
+	}
+
+	/** Returns true if a child with the specified name exists. */
+	public boolean has (int value, String name) {
+		return get(value, name) != -1;
+	}
+
+	/** Returns the child with the specified name.
+	 * @throws IllegalArgumentException if the child was not found. */
+	public int require (int value, String name) {
+		int child = get(value, name);
+		if (child == -1) throw new IllegalArgumentException("Child not found with name: " + name);
+		return child;
+	}
+
+	/** Returns this value as a string. For numbers, the original characters are returned. The string is created on first access
+	 * and cached.
+	 * @return May be null if this value is null.
+	 * @throws IllegalStateException if this an array or object. */
+	public @Null String asString (int value) {
+		switch (type(value)) {
+		case stringValue:
+		case doubleValue:
+		case longValue: {
+			if (names == null) {
+				names = new String[types.length];
+				strings = new String[types.length];
+			}
+			String string = strings[value];
+			if (string == null) {
+				int start = valueStarts[value];
+				string = new String(data, start, valueEnds[value] - start);
+				if ((flags[value] & valueEscaped) != 0) string = reader.unescape(string);
+				strings[value] = string;
+			}
+			return string;
+		}
+		case booleanValue:
+			return values[value] != 0 ? "true" : "false";
+		case nullValue:
+			return null;
+		}
+		throw new IllegalStateException("Value cannot be converted to string: " + type(value));
+	}
+
+	/** Returns this value as a float.
+	 * @throws IllegalStateException if this an array or object. */
+	public float asFloat (int value) {
+		switch (type(value)) {
+		case stringValue:
+			return Float.parseFloat(asString(value));
+		case doubleValue:
+			return (float)NumberUtils.longBitsToDouble(values[value]);
+		case longValue:
+			return values[value];
+		case booleanValue:
+			return values[value] != 0 ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to float: " + type(value));
+	}
+
+	/** Returns this value as a double.
+	 * @throws IllegalStateException if this an array or object. */
+	public double asDouble (int value) {
+		switch (type(value)) {
+		case stringValue:
+			return Double.parseDouble(asString(value));
+		case doubleValue:
+			return NumberUtils.longBitsToDouble(values[value]);
+		case longValue:
+			return values[value];
+		case booleanValue:
+			return values[value] != 0 ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to double: " + type(value));
+	}
+
+	/** Returns this value as a long.
+	 * @throws IllegalStateException if this an array or object. */
+	public long asLong (int value) {
+		switch (type(value)) {
+		case stringValue:
+			return Long.parseLong(asString(value));
+		case doubleValue:
+			return (long)NumberUtils.longBitsToDouble(values[value]);
+		case longValue:
+			return values[value];
+		case booleanValue:
+			return values[value] != 0 ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to long: " + type(value));
+	}
+
+	/** Returns this value as an int.
+	 * @throws IllegalStateException if this an array or object. */
+	public int asInt (int value) {
+		switch (type(value)) {
+		case stringValue:
+			return Integer.parseInt(asString(value));
+		case doubleValue:
+			return (int)NumberUtils.longBitsToDouble(values[value]);
+		case longValue:
+			return (int)values[value];
+		case booleanValue:
+			return values[value] != 0 ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to int: " + type(value));
+	}
+
+	/** Returns this value as a boolean.
+	 * @throws IllegalStateException if this an array or object. */
+	public boolean asBoolean (int value) {
+		switch (type(value)) {
+		case stringValue:
+			return asString(value).equalsIgnoreCase("true");
+		case doubleValue:
+			return NumberUtils.longBitsToDouble(values[value]) != 0;
+		case longValue:
+		case booleanValue:
+			return values[value] != 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to boolean: " + type(value));
+	}
+
+	/** Returns the children of this value as a float array.
+	 * @throws IllegalStateException if this is not an array or a child is not a value. */
+	public float[] asFloatArray (int value) {
+		if (!isArray(value)) throw new IllegalStateException("Value is not an array: " + type(value));
+		float[] array = new float[sizes[value]];
+		int i = 0;
+		for (int child = children[value]; child != -1; child = nexts[child], i++)
+			array[i] = asFloat(child);
+		return array;
+	}
+
+	/** Returns the children of this value as an int array.
+	 * @throws IllegalStateException if this is not an array or a child is not a value. */
+	public int[] asIntArray (int value) {
+		if (!isArray(value)) throw new IllegalStateException("Value is not an array: " + type(value));
+		int[] array = new int[sizes[value]];
+		int i = 0;
+		for (int child = children[value]; child != -1; child = nexts[child], i++)
+			array[i] = asInt(child);
+		return array;
+	}
+
+	/** Finds the child with the specified name and returns it as a string. Returns defaultValue if not found.
+	 * @param defaultValue May be null. */
+	public @Null String getString (int value, String name, @Null String defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asString(child);
+	}
+
+	/** Finds the child with the specified name and returns it as a float. Returns defaultValue if not found. */
+	public float getFloat (int value, String name, float defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asFloat(child);
+	}
+
+	/** Finds the child with the specified name and returns it as a double. Returns defaultValue if not found. */
+	public double getDouble (int value, String name, double defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asDouble(child);
+	}
+
+	/** Finds the child with the specified name and returns it as a long. Returns defaultValue if not found. */
+	public long getLong (int value, String name, long defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asLong(child);
+	}
+
+	/** Finds the child with the specified name and returns it as an int. Returns defaultValue if not found. */
+	public int getInt (int value, String name, int defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asInt(child);
+	}
+
+	/** Finds the child with the specified name and returns it as a boolean. Returns defaultValue if not found. */
+	public boolean getBoolean (int value, String name, boolean defaultValue) {
+		int child = get(value, name);
+		return (child == -1 || !isValue(child) || isNull(child)) ? defaultValue : asBoolean(child);
+	}
+
+	/** Finds the child with the specified name and returns it as a string.
+	 * @throws IllegalArgumentException if the child was not found. */
+	public @Null String getString (int value, String name) {
+		return asString(require(value, name));
+	}
+
+	/** Finds the child with the specified name and returns it as a float.
+	 * @throws IllegalArgumentException if the child was not found. */
+	public float getFloat (int value, String name) {
+		return asFloat(require(value, name));
+	}
+
+	/** Finds the child with the specified name and returns it as an int.
+	 * @throws IllegalArgumentException if the child was not found. */
+	public int getInt (int value, String name) {
+		return asInt(require(value, name));
+	}
+
+	/** Finds the child with the specified name and returns it as a boolean.
+	 * @throws IllegalArgumentException if the child was not found. */
+	public boolean getBoolean (int value, String name) {
+		return asBoolean(require(value, name));
+	}
+
+	/** Creates a {@link JsonValue} DOM for the specified value and all of its children. */
+	public JsonValue toJsonValue (int value) {
+		JsonValue result;
+		ValueType type = type(value);
+		switch (type) {
+		case object:
+		case array:
+			result = new JsonValue(type);
+			JsonValue last = null;
+			for (int child = children[value]; child != -1; child = nexts[child]) {
+				JsonValue jsonChild = toJsonValue(child);
+				jsonChild.parent = result;
+				if (last == null)
+					result.child = jsonChild;
+				else {
+					last.next = jsonChild;
+					jsonChild.prev = last;
+				}
+				last = jsonChild;
+			}
+			result.size = sizes[value];
+			break;
+		case stringValue:
+			result = new JsonValue(asString(value));
+			break;
+		case doubleValue:
+			result = new JsonValue(asDouble(value), asString(value));
+			break;
+		case longValue:
+			result = new JsonValue(values[value], asString(value));
+			break;
+		case booleanValue:
+			result = new JsonValue(values[value] != 0);
+			break;
+		default:
+			result = new JsonValue(ValueType.nullValue);
+		}
+		result.name = name(value);
+		return result;
+	}
+}
@@ -0,0 +1,560 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Pull parser for JSON text. Accepts the same relaxed syntax as {@link JsonReader}: unquoted names and values, comments and
+ * optional commas. When reading from a {@link Reader} or {@link InputStream}, only a small buffer is kept in memory. Strings are
+ * only created when a name or value is requested. */
+public class JsonPullReader extends BaseJsonPullReader {
+	static private final int document = 0, object = 1, objectValue = 2, array = 3;
+	static private final double[] pow10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+	private char[] data;
+	private int pos, limit, mark = -1;
+	private @Null Reader reader;
+	private boolean rootRead;
+
+	private int[] scopes = new int[16];
+	private int scopeCount;
+
+	private int valueStart, valueEnd;
+	private boolean needsUnescape, isNull;
+	private @Null String string;
+
+	public JsonPullReader () {
+		setInput(new char[0], 0, 0);
+	}
+
+	public JsonPullReader (String json) {
+		setInput(json);
+	}
+
+	public JsonPullReader (char[] data, int offset, int length) {
+		setInput(data, offset, length);
+	}
+
+	public JsonPullReader (Reader reader) {
+		setInput(reader);
+	}
+
+	public JsonPullReader (InputStream input) {
+		setInput(input);
+	}
+
+	public JsonPullReader (FileHandle file) {
+		setInput(file);
+	}
+
+	public void setInput (String json) {
+		char[] data = json.toCharArray();
+		setInput(data, 0, data.length);
+	}
+
+	/** The data is not copied and must not be modified while it is being read. */
+	public void setInput (char[] data, int offset, int length) {
+		close();
+		this.data = data;
+		pos = offset;
+		limit = offset + length;
+		reset();
+	}
+
+	/** The reader is closed when the end of the input is reached or {@link #close()} is called. */
+	public void setInput (Reader reader) {
+		close();
+		if (data == null || data.length < 1024) data = new char[8192];
+		this.reader = reader;
+		pos = 0;
+		limit = 0;
+		reset();
+	}
+
+	/** The stream is read as UTF-8. */
+	public void setInput (InputStream input) {
+		try {
+			setInput(new InputStreamReader(input, "UTF-8"));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading stream.", ex);
+		}
+	}
+
+	public void setInput (FileHandle file) {
+		try {
+			setInput(file.reader("UTF-8"));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	public void close () {
+		if (reader != null) {
+			StreamUtils.closeQuietly(reader);
+			reader = null;
+		}
+	}
+
+	protected void reset () {
+		super.reset();
+		mark = -1;
+		rootRead = false;
+		scopeCount = 1;
+		scopes[0] = document;
+		string = null;
+	}
+
+	protected Token advance () {
+		mark = -1;
+		string = null;
+		isNull = false;
+		switch (scopes[scopeCount - 1]) {
+		case object: {
+			int c = skipSeparator();
+			if (c == -1) throw error("Unexpected end of input, expected '}'");
+			if (c == '}') {
+				pos++;
+				scopeCount--;
+				return Token.endObject;
+			}
+			readName(c);
+			scopes[scopeCount - 1] = objectValue;
+			return Token.name;
+		}
+		case objectValue: {
+			if (skipWhitespace() != ':') throw error("Expected ':'");
+			pos++;
+			scopes[scopeCount - 1] = object;
+			int c = skipWhitespace();
+			if (c == -1) throw error("Unexpected end of input, expected a value");
+			return readValue(c);
+		}
+		case array: {
+			int c = skipSeparator();
+			if (c == -1) throw error("Unexpected end of input, expected ']'");
+			if (c == ']') {
+				pos++;
+				scopeCount--;
+				return Token.endArray;
+			}
+			return readValue(c);
+		}
+		}
+		int c = skipWhitespace();
+		if (c == -1) {
+			close();
+			return Token.end;
+		}
+		if (rootRead) throw error("Expected end of input");
+		rootRead = true;
+		return readValue(c);
+	}
+
+	private Token readValue (int c) {
+		switch (c) {
+		case '{':
+			pos++;
+			push(object);
+			return Token.startObject;
+		case '[':
+			pos++;
+			push(array);
+			return Token.startArray;
+		case '"':
+			readQuoted();
+			return Token.stringValue;
+		case '}':
+		case ']':
+		case ',':
+		case ':':
+			throw error("Unexpected character");
+		}
+		readUnquoted(false);
+		return classify();
+	}
+
+	private void push (int scope) {
+		if (scopeCount == scopes.length) {
+			int[] newScopes = new int[scopeCount << 1];
+			System.arraycopy(scopes, 0, newScopes, 0, scopeCount);
+			scopes = newScopes;
+		}
+		scopes[scopeCount++] = scope;
+	}
+
+	private void readName (int c) {
+		switch (c) {
+		case '"':
+			readQuoted();
+			return;
+		case '{':
+		case '}':
+		case '[':
+		case ']':
+		case ',':
+		case ':':
+			throw error("Expected a name");
+		}
+		readUnquoted(true);
+	}
+
+	private void readQuoted () {
+		pos++;
+		mark = valueStart = pos;
+		needsUnescape = false;
+		while (true) {
+			if (pos == limit && !fill()) throw error("Unterminated string");
+			char c = data[pos];
+			if (c == '"') break;
+			if (c == '\\') {
+				needsUnescape = true;
+				pos++;
+				if (pos == limit && !fill()) throw error("Unterminated string");
+			}
+			pos++;
+		}
+		valueEnd = pos++;
+	}
+
+	private void readUnquoted (boolean name) {
+		mark = valueStart = pos;
+		needsUnescape = false;
+		outer:
+		while (pos < limit || fill()) {
+			switch (data[pos]) {
+			case '\\':
+				needsUnescape = true;
+				break;
+			case '/': {
+				int next = peekChar(1);
+				if (next == '/' || next == '*') break outer;
+				break;
+			}
+			case '\r':
+			case '\n':
+				break outer;
+			case ':':
+				if (name) break outer;
+				break;
+			case '}':
+			case ']':
+			case ',':
+				if (!name) break outer;
+				break;
+			}
+			pos++;
+		}
+		int end = pos;
+		while (end > valueStart && isWhitespace(data[end - 1]))
+			end--;
+		valueEnd = end;
+	}
+
+	/** Determines the type of an unquoted value the same way as {@link JsonReader}. */
+	private Token classify () {
+		char[] data = this.data;
+		int start = valueStart, end = valueEnd, length = end - start;
+		if (length == 4) {
+			if (data[start] == 't' && data[start + 1] == 'r' && data[start + 2] == 'u' && data[start + 3] == 'e') {
+				longValue = 1;
+				return Token.booleanValue;
+			}
+			if (data[start] == 'n' && data[start + 1] == 'u' && data[start + 2] == 'l' && data[start + 3] == 'l') {
+				isNull = true;
+				return Token.nullValue;
+			}
+		} else if (length == 5) {
+			if (data[start] == 'f' && data[start + 1] == 'a' && data[start + 2] == 'l' && data[start + 3] == 's'
+				&& data[start + 4] == 'e') {
+				longValue = 0;
+				return Token.booleanValue;
+			}
+		}
+
+		boolean couldBeDouble = false, couldBeLong = true;
+		outer:
+		for (int i = start; i < end; i++) {
+			switch (data[i]) {
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+				break;
+			case '.':
+			case 'e':
+			case 'E':
+				couldBeDouble = true;
+				couldBeLong = false;
+				break;
+			default:
+				couldBeDouble = false;
+				couldBeLong = false;
+				break outer;
+			}
+		}
+		if (couldBeDouble) {
+			if (parseDouble(data, start, end)) return Token.doubleValue;
+			try {
+				doubleValue = Double.parseDouble(stringValue());
+				return Token.doubleValue;
+			} catch (NumberFormatException ignored) {
+			}
+		} else if (couldBeLong) {
+			if (parseLong(data, start, end)) return Token.longValue;
+			try {
+				longValue = Long.parseLong(stringValue());
+				return Token.longValue;
+			} catch (NumberFormatException ignored) {
+			}
+		}
+		return Token.stringValue;
+	}
+
+	/** Parses common integers without creating a string.
+	 * @return false if the value must be parsed by {@link Long#parseLong(String)}. */
+	private boolean parseLong (char[] data, int start, int end) {
+		boolean negative = false;
+		char c = data[start];
+		if (c == '-' || c == '+') {
+			negative = c == '-';
+			start++;
+		}
+		int digits = end - start;
+		if (digits == 0 || digits > 18) return false;
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			c = data[i];
+			if (c < '0' || c > '9') return false;
+			value = value * 10 + (c - '0');
+		}
+		longValue = negative ? -value : value;
+		return true;
+	}
+
+	/** Parses decimals with at most 15 digits and no exponent without creating a string. Both the digits and the power of ten are
+	 * exact doubles, so the division is correctly rounded and the result matches {@link Double#parseDouble(String)}.
+	 * @return false if the value must be parsed by {@link Double#parseDouble(String)}. */
+	private boolean parseDouble (char[] data, int start, int end) {
+		boolean negative = false;
+		char c = data[start];
+		if (c == '-' || c == '+') {
+			negative = c == '-';
+			start++;
+		}
+		long mantissa = 0;
+		int digits = 0, fraction = -1;
+		for (int i = start; i < end; i++) {
+			c = data[i];
+			if (c == '.') {
+				if (fraction != -1) return false;
+				fraction = 0;
+				continue;
+			}
+			if (c < '0' || c > '9') return false;
+			mantissa = mantissa * 10 + (c - '0');
+			digits++;
+			if (fraction != -1) fraction++;
+		}
+		if (digits == 0 || digits > 15) return false;
+		double value = fraction > 0 ? mantissa / pow10[fraction] : mantissa;
+		doubleValue = negative ? -value : value;
+		return true;
+	}
+
+	/** Skips whitespace, comments and at most one comma. */
+	private int skipSeparator () {
+		int c = skipWhitespace();
+		if (c == ',') {
+			pos++;
+			c = skipWhitespace();
+		}
+		return c;
+	}
+
+	/** Skips whitespace and comments.
+	 * @return The next character, or -1 at the end of the input. */
+	private int skipWhitespace () {
+		while (pos < limit || fill()) {
+			char c = data[pos];
+			if (isWhitespace(c)) {
+				pos++;
+				continue;
+			}
+			if (c == '/') {
+				int next = peekChar(1);
+				if (next == '/') {
+					pos += 2;
+					while ((pos < limit || fill()) && data[pos] != '\n')
+						pos++;
+					continue;
+				}
+				if (next == '*') {
+					pos += 2;
+					while (true) {
+						if (pos == limit && !fill()) throw error("Unterminated comment");
+						if (data[pos] == '*' && peekChar(1) == '/') break;
+						pos++;
+					}
+					pos += 2;
+					continue;
+				}
+			}
+			return c;
+		}
+		return -1;
+	}
+
+	private boolean isWhitespace (char c) {
+		switch (c) {
+		case ' ':
+		case '\t':
+		case '\r':
+		case '\n':
+			return true;
+		}
+		return false;
+	}
+
+	/** @return The character at the specified offset from the current position, or -1 if past the end of the input. */
+	private int peekChar (int offset) {
+		while (pos + offset >= limit)
+			if (!fill()) return -1;
+		return data[pos + offset];
+	}
+
+	/** Reads more characters into the buffer. Characters from the {@link #mark} (or the current position if there is no mark)
+	 * are kept, all other characters are discarded.
+	 * @return false if the end of the input was reached. */
+	private boolean fill () {
+		if (reader == null) return false;
+		int keep = mark != -1 ? mark : pos;
+		if (keep > 0) {
+			System.arraycopy(data, keep, data, 0, limit - keep);
+			limit -= keep;
+			pos -= keep;
+			if (mark != -1) {
+				mark -= keep;
+				valueStart -= keep;
+			}
+		} else if (limit == data.length) {
+			char[] newData = new char[data.length << 1];
+			System.arraycopy(data, 0, newData, 0, limit);
+			data = newData;
+		}
+		try {
+			int count = reader.read(data, limit, data.length - limit);
+			if (count == -1) {
+				close();
+				return false;
+			}
+			limit += count;
+			return true;
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading input.", ex);
+		}
+	}
+
+	/** Returns the index in the input of the first character of the current name or string, number or boolean value. For input
+	 * that is not a char[] the index is into the internal buffer and is only valid until the next token is read. */
+	int getValueStart () {
+		return valueStart;
+	}
+
+	/** Returns the index in the input after the last character of the current name or value.
+	 * @see #getValueStart() */
+	int getValueEnd () {
+		return valueEnd;
+	}
+
+	/** Returns true if the current name or value contains escape sequences. */
+	boolean getNeedsUnescape () {
+		return needsUnescape;
+	}
+
+	protected @Null String stringValue () {
+		if (isNull) return null;
+		if (string == null) {
+			string = new String(data, valueStart, valueEnd - valueStart);
+			if (needsUnescape) string = unescape(string);
+		}
+		return string;
+	}
+
+	/** Called to unescape string values. The default implementation does standard JSON unescaping. */
+	protected String unescape (String value) {
+		int length = value.length();
+		StringBuilder buffer = new StringBuilder(length + 16);
+		for (int i = 0; i < length;) {
+			char c = value.charAt(i++);
+			if (c != '\\') {
+				buffer.append(c);
+				continue;
+			}
+			if (i == length) break;
+			c = value.charAt(i++);
+			if (c == 'u') {
+				buffer.append(Character.toChars(Integer.parseInt(value.substring(i, i + 4), 16)));
+				i += 4;
+				continue;
+			}
+			switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				break;
+			case 'b':
+				c = '\b';
+				break;
+			case 'f':
+				c = '\f';
+				break;
+			case 'n':
+				c = '\n';
+				break;
+			case 'r':
+				c = '\r';
+				break;
+			case 't':
+				c = '\t';
+				break;
+			default:
+				throw new SerializationException("Illegal escaped character: \\" + c);
+			}
+			buffer.append(c);
+		}
+		return buffer.toString();
+	}
+
+	private SerializationException error (String message) {
+		int start = Math.max(0, pos - 32), end = Math.min(limit, pos + 64);
+		return new SerializationException("Error parsing JSON, " + message + " near: " + new String(data, start, pos - start)
+			+ "*ERROR*" + new String(data, pos, end - pos));
+	}
+}
@@ -18,7 +18,8 @@ package com.badlogic.gdx.utils;
 
 import com.badlogic.gdx.utils.DefaultPool.PoolSupplier;
 
-/** Stores a map of {@link Pool}s by type for convenient static access.
+/** Stores a map of {@link Pool}s by type for convenient static access. This class and the pools it creates are not thread safe,
+ * use {@link ConcurrentPools} to pool objects used by multiple threads.
  * @author Nathan Sweet */
 public class Pools {
 	static private final ObjectMap<Class<?>, Pool<?>> typePools = new ObjectMap<>();
@@ -13,19 +13,39 @@
 
 package com.badlogic.gdx.utils;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
 /** Provides methods to sort arrays of objects. Sorting requires working memory and this class allows that memory to be reused to
  * avoid allocation. The sorting is otherwise identical to the Arrays.sort methods (uses timsort).<br>
  * <br>
  * Note that sorting primitive arrays with the Arrays.sort methods does not allocate memory (unless sorting large arrays of char,
- * short, or byte).
+ * short, or byte).<br>
+ * <br>
+ * Large arrays can be sorted using multiple threads with the parallelSort methods, and primitive keys can be sorted with a
+ * radix sort that also permutes a payload, eg the indices of the items the keys belong to.
  * @author Nathan Sweet */
 public class Sort {
 	static private Sort instance;
 
+	/** Arrays with fewer items than this are sorted on the calling thread by the parallelSort methods. Default is 8192. */
+	public int parallelThreshold = 8192;
+	/** Arrays with fewer items than this are sorted with {@link Arrays#sort(int[])} by the radixSort methods when there is no
+	 * payload. Default is 512. */
+	public int radixThreshold = 512;
+
 	private TimSort timSort;
 	private ComparableTimSort comparableTimSort;
+	private TimSort[] timSorts;
+	private Object[] mergeBuffer;
+	private AsyncTask[] tasks;
+	private AsyncResult[] results;
+	private int[] radixKeys, radixTemp, radixValues, radixCounts;
+	private long[] radixLongTemp;
 
 	public <T extends Comparable> void sort (Array<T> a) {
 		if (comparableTimSort == null) comparableTimSort = new ComparableTimSort();
@@ -59,6 +79,301 @@ public class Sort {
 		timSort.doSort(a, c, fromIndex, toIndex);
 	}
 
+	/** Sorts the array using multiple threads. The array is split into parallelism runs which are sorted by tasks submitted to
+	 * the executor, then the runs are merged. The sort is stable. If the array is smaller than {@link #parallelThreshold}, it is
+	 * sorted on the calling thread.
+	 * @param parallelism The number of tasks to use, typically the maxConcurrent of the executor. The calling thread does part
+	 *           of the work. */
+	public <T> void parallelSort (Array<T> a, Comparator<? super T> c, AsyncExecutor executor, int parallelism) {
+		parallelSort(a.items, c, 0, a.size, executor, parallelism);
+	}
+
+	/** @see #parallelSort(Array, Comparator, AsyncExecutor, int) */
+	public <T> void parallelSort (T[] a, Comparator<? super T> c, AsyncExecutor executor, int parallelism) {
+		parallelSort(a, c, 0, a.length, executor, parallelism);
+	}
+
+	/** @see #parallelSort(Array, Comparator, AsyncExecutor, int) */
+	public <T> void parallelSort (final T[] a, final Comparator<? super T> c, int fromIndex, int toIndex, AsyncExecutor executor,
+		int parallelism) {
+		final int n = toIndex - fromIndex;
+		int runs = Math.min(parallelism, n / 1024);
+		if (n < parallelThreshold || runs < 2) {
+			sort(a, c, fromIndex, toIndex);
+			return;
+		}
+
+		final int[] bounds = new int[runs + 1];
+		for (int i = 0; i <= runs; i++)
+			bounds[i] = fromIndex + (int)((long)n * i / runs);
+
+		if (timSorts == null || timSorts.length < runs) timSorts = new TimSort[runs];
+		final TimSort[] timSorts = this.timSorts;
+		if (tasks == null || tasks.length < runs) {
+			tasks = new AsyncTask[runs];
+			results = new AsyncResult[runs];
+		}
+		AsyncTask[] tasks = this.tasks;
+		for (int i = 0; i < runs; i++) {
+			if (timSorts[i] == null) timSorts[i] = new TimSort();
+			final int run = i;
+			tasks[i] = new AsyncTask() {
+				public Object call () {
+					timSorts[run].doSort(a, c, bounds[run], bounds[run + 1]);
+					return null;
+				}
+			};
+		}
+		execute(runs, executor);
+
+		// Merge pairs of adjacent runs until one run remains, alternating between the array and the buffer. The buffer only holds
+		// the sorted range, so its indices are offset by fromIndex.
+		if (mergeBuffer == null || mergeBuffer.length < n) mergeBuffer = new Object[Math.max(n, 16)];
+		Object[] src = a, dst = mergeBuffer;
+		int srcOffset = 0, dstOffset = fromIndex;
+		while (runs > 1) {
+			final Object[] from = src, to = dst;
+			final int fromOffset = srcOffset, toOffset = dstOffset;
+			int pairs = 0;
+			for (int i = 0; i < runs; i += 2) {
+				final int lo = bounds[i], mid = bounds[Math.min(i + 1, runs)], hi = bounds[Math.min(i + 2, runs)];
+				tasks[pairs++] = new AsyncTask() {
+					public Object call () {
+						merge(from, fromOffset, to, toOffset, lo, mid, hi, c);
+						return null;
+					}
+				};
+			}
+			execute(pairs, executor);
+			for (int i = 0; i < pairs; i++)
+				bounds[i] = bounds[i * 2];
+			bounds[pairs] = toIndex;
+			runs = pairs;
+			src = to;
+			dst = from;
+			srcOffset = toOffset;
+			dstOffset = fromOffset;
+		}
+		if (src != a) System.arraycopy(src, 0, a, fromIndex, n);
+		Arrays.fill(mergeBuffer, 0, n, null); // Don't keep the sorted objects reachable.
+	}
+
+	/** Submits all but the first task to the executor, runs the first task on the calling thread, then waits for the others. All
+	 * tasks are waited for even if one fails, so none are still writing to the array when the first failure is thrown. */
+	private void execute (int count, AsyncExecutor executor) {
+		AsyncTask[] tasks = this.tasks;
+		AsyncResult[] results = this.results;
+		GdxRuntimeException error = null;
+		try {
+			for (int i = 1; i < count; i++)
+				results[i] = executor.submit(tasks[i]);
+			try {
+				tasks[0].call();
+			} catch (Exception ex) {
+				error = new GdxRuntimeException(ex);
+			}
+		} finally {
+			for (int i = 1; i < count; i++) {
+				if (results[i] == null) continue; // Not submitted.
+				try {
+					results[i].get();
+				} catch (GdxRuntimeException ex) {
+					if (error == null) error = ex;
+				}
+				results[i] = null;
+			}
+			Arrays.fill(tasks, 0, count, null);
+		}
+		if (error != null) throw error;
+	}
+
+	/** Merges the adjacent runs [lo, mid) and [mid, hi). The indices are for the sorted array, the offsets are subtracted to get
+	 * the indices in src and dst. */
+	static private void merge (Object[] src, int srcOffset, Object[] dst, int dstOffset, int lo, int mid, int hi, Comparator c) {
+		int i = lo - srcOffset, j = mid - srcOffset, d = lo - dstOffset;
+		int iEnd = j, jEnd = hi - srcOffset;
+		while (i < iEnd && j < jEnd) {
+			// Items from the right run are only taken when strictly smaller, so the merge is stable.
+			if (c.compare(src[j], src[i]) < 0)
+				dst[d++] = src[j++];
+			else
+				dst[d++] = src[i++];
+		}
+		if (i < iEnd) System.arraycopy(src, i, dst, d, iEnd - i);
+		if (j < jEnd) System.arraycopy(src, j, dst, d, jEnd - j);
+	}
+
+	/** Sorts the keys using a stable radix sort, ordered the same as {@link IntArray#sort()}.
+	 * @param values May be null. If not null, it is permuted the same way as the keys and must have at least as many items. */
+	public void radixSort (IntArray keys, @Null IntArray values) {
+		int n = keys.size;
+		if (values == null) {
+			if (n < radixThreshold) {
+				keys.sort();
+				return;
+			}
+		} else if (values.size < n) //
+			throw new IllegalArgumentException("values must have at least as many items as keys: " + values.size + " < " + n);
+		int[] items = keys.items;
+		for (int i = 0; i < n; i++)
+			items[i] ^= 0x80000000; // Signed to unsigned order.
+		radixSort(items, values == null ? null : values.items, n);
+		for (int i = 0; i < n; i++)
+			items[i] ^= 0x80000000;
+	}
+
+	/** Sorts the keys using a stable radix sort, ordered the same as {@link FloatArray#sort()}. This is often faster than a
+	 * comparison sort for large arrays, eg when sorting indices of sprites or particles by depth.
+	 * @param values May be null. If not null, it is permuted the same way as the keys and must have at least as many items. */
+	public void radixSort (FloatArray keys, @Null IntArray values) {
+		int n = keys.size;
+		if (values == null) {
+			if (n < radixThreshold) {
+				keys.sort();
+				return;
+			}
+		} else if (values.size < n) //
+			throw new IllegalArgumentException("values must have at least as many items as keys: " + values.size + " < " + n);
+		float[] items = keys.items;
+		if (radixKeys == null || radixKeys.length < n) radixKeys = new int[Math.max(n, 16)];
+		int[] bits = radixKeys;
+		for (int i = 0; i < n; i++) {
+			// Flip all bits of negative floats and only the sign bit of positive floats, so the bits sort as unsigned ints.
+			int b = NumberUtils.floatToRawIntBits(items[i]);
+			bits[i] = b ^ ((b >> 31) | 0x80000000);
+		}
+		radixSort(bits, values == null ? null : values.items, n);
+		for (int i = 0; i < n; i++) {
+			int b = bits[i];
+			items[i] = NumberUtils.intBitsToFloat(b ^ (((b >> 31) & 0x80000000) | (~b >> 31)));
+		}
+	}
+
+	/** Sorts the keys using a stable radix sort, ordered the same as {@link LongArray#sort()}. This is often faster than a
+	 * comparison sort for large arrays, eg when sorting render items by keys which pack several criteria into the bits.
+	 * @param values May be null. If not null, it is permuted the same way as the keys and must have at least as many items. */
+	public void radixSort (LongArray keys, @Null IntArray values) {
+		int n = keys.size;
+		if (values == null) {
+			if (n < radixThreshold) {
+				keys.sort();
+				return;
+			}
+		} else if (values.size < n) //
+			throw new IllegalArgumentException("values must have at least as many items as keys: " + values.size + " < " + n);
+		long[] items = keys.items;
+		for (int i = 0; i < n; i++)
+			items[i] ^= 0x8000000000000000L; // Signed to unsigned order.
+		radixSort(items, values == null ? null : values.items, n);
+		for (int i = 0; i < n; i++)
+			items[i] ^= 0x8000000000000000L;
+	}
+
+	/** LSD radix sort of unsigned ints using 8 bit digits. Passes where all keys have the same digit are skipped. */
+	private void radixSort (int[] keys, @Null int[] values, int n) {
+		if (n < 2) return;
+		if (radixTemp == null || radixTemp.length < n) radixTemp = new int[Math.max(n, 16)];
+		if (values != null && (radixValues == null || radixValues.length < n)) radixValues = new int[Math.max(n, 16)];
+		if (radixCounts == null) radixCounts = new int[1024];
+		int[] counts = radixCounts;
+		Arrays.fill(counts, 0);
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			counts[key & 0xff]++;
+			counts[256 + ((key >>> 8) & 0xff)]++;
+			counts[512 + ((key >>> 16) & 0xff)]++;
+			counts[768 + (key >>> 24)]++;
+		}
+
+		int[] src = keys, dst = radixTemp, srcValues = values, dstValues = radixValues;
+		for (int shift = 0, offset = 0; shift < 32; shift += 8, offset += 256) {
+			if (counts[offset + ((src[0] >>> shift) & 0xff)] == n) continue;
+			for (int i = offset, sum = 0, end = offset + 256; i < end; i++) {
+				int count = counts[i];
+				counts[i] = sum;
+				sum += count;
+			}
+			if (srcValues != null) {
+				for (int i = 0; i < n; i++) {
+					int key = src[i], index = counts[offset + ((key >>> shift) & 0xff)]++;
+					dst[index] = key;
+					dstValues[index] = srcValues[i];
+				}
+				int[] temp = srcValues;
+				srcValues = dstValues;
+				dstValues = temp;
+			} else {
+				for (int i = 0; i < n; i++) {
+					int key = src[i];
+					dst[counts[offset + ((key >>> shift) & 0xff)]++] = key;
+				}
+			}
+			int[] temp = src;
+			src = dst;
+			dst = temp;
+		}
+		if (src != keys) {
+			System.arraycopy(src, 0, keys, 0, n);
+			if (values != null) System.arraycopy(srcValues, 0, values, 0, n);
+		}
+	}
+
+	/** LSD radix sort of unsigned longs using 8 bit digits. Passes where all keys have the same digit are skipped. */
+	private void radixSort (long[] keys, @Null int[] values, int n) {
+		if (n < 2) return;
+		if (radixLongTemp == null || radixLongTemp.length < n) radixLongTemp = new long[Math.max(n, 16)];
+		if (values != null && (radixValues == null || radixValues.length < n)) radixValues = new int[Math.max(n, 16)];
+		if (radixCounts == null || radixCounts.length < 2048) radixCounts = new int[2048];
+		int[] counts = radixCounts;
+		Arrays.fill(counts, 0, 2048, 0);
+		for (int i = 0; i < n; i++) {
+			long key = keys[i];
+			int low = (int)key, high = (int)(key >>> 32);
+			counts[low & 0xff]++;
+			counts[256 + ((low >>> 8) & 0xff)]++;
+			counts[512 + ((low >>> 16) & 0xff)]++;
+			counts[768 + (low >>> 24)]++;
+			counts[1024 + (high & 0xff)]++;
+			counts[1280 + ((high >>> 8) & 0xff)]++;
+			counts[1536 + ((high >>> 16) & 0xff)]++;
+			counts[1792 + (high >>> 24)]++;
+		}
+
+		long[] src = keys, dst = radixLongTemp;
+		int[] srcValues = values, dstValues = radixValues;
+		for (int shift = 0, offset = 0; shift < 64; shift += 8, offset += 256) {
+			if (counts[offset + (int)((src[0] >>> shift) & 0xff)] == n) continue;
+			for (int i = offset, sum = 0, end = offset + 256; i < end; i++) {
+				int count = counts[i];
+				counts[i] = sum;
+				sum += count;
+			}
+			if (srcValues != null) {
+				for (int i = 0; i < n; i++) {
+					long key = src[i];
+					int index = counts[offset + (int)((key >>> shift) & 0xff)]++;
+					dst[index] = key;
+					dstValues[index] = srcValues[i];
+				}
+				int[] temp = srcValues;
+				srcValues = dstValues;
+				dstValues = temp;
+			} else {
+				for (int i = 0; i < n; i++) {
+					long key = src[i];
+					dst[counts[offset + (int)((key >>> shift) & 0xff)]++] = key;
+				}
+			}
+			long[] temp = src;
+			src = dst;
+			dst = temp;
+		}
+		if (src != keys) {
+			System.arraycopy(src, 0, keys, 0, n);
+			if (values != null) System.arraycopy(srcValues, 0, values, 0, n);
+		}
+	}
+
 	/** Returns a Sort instance for convenience. Multiple threads must not use this instance at the same time. */
 	static public Sort instance () {
 		if (instance == null) instance = new Sort();
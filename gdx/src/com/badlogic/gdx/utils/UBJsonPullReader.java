@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Pull parser for UBJSON. Reads the same format as {@link UBJsonReader}, including strongly typed and counted containers.
+ * <br>
+ * For best performance you should provide buffered streams. */
+public class UBJsonPullReader extends BaseJsonPullReader {
+	public boolean oldFormat = true;
+
+	private @Null DataInputStream din;
+	private boolean rootRead;
+	private @Null String string;
+
+	// Each open container has a type ('[' or '{'), a strong value type (or 0) and a remaining count (or -1).
+	private byte[] containerTypes = new byte[16], valueTypes = new byte[16];
+	private long[] remaining = new long[16];
+	private boolean[] expectName = new boolean[16];
+	private int containerCount;
+	private int pendingType = -1;
+
+	public UBJsonPullReader () {
+	}
+
+	public UBJsonPullReader (InputStream input) {
+		setInput(input);
+	}
+
+	public UBJsonPullReader (FileHandle file) {
+		setInput(file);
+	}
+
+	/** The stream is closed when the end of the input is reached or {@link #close()} is called. */
+	public void setInput (InputStream input) {
+		close();
+		din = input instanceof DataInputStream ? (DataInputStream)input : new DataInputStream(input);
+		reset();
+	}
+
+	public void setInput (FileHandle file) {
+		try {
+			setInput(file.read(8192));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	public void close () {
+		if (din != null) {
+			StreamUtils.closeQuietly(din);
+			din = null;
+		}
+	}
+
+	protected void reset () {
+		super.reset();
+		rootRead = false;
+		containerCount = 0;
+		pendingType = -1;
+		string = null;
+	}
+
+	protected Token advance () {
+		string = null;
+		try {
+			if (containerCount == 0) {
+				if (rootRead || din == null) {
+					close();
+					return Token.end;
+				}
+				rootRead = true;
+				int type = din.read();
+				if (type == -1) {
+					close();
+					return Token.end;
+				}
+				return readValue((byte)type);
+			}
+
+			int index = containerCount - 1;
+			if (remaining[index] == 0) return pop();
+			if (containerTypes[index] == '{') {
+				if (expectName[index]) {
+					byte type = readType((byte)0);
+					if (remaining[index] == -1 && type == '}') return pop();
+					string = parseString(true, type);
+					expectName[index] = false;
+					return Token.name;
+				}
+				expectName[index] = true;
+				if (remaining[index] > 0) remaining[index]--;
+				return readValue(readType(valueTypes[index]));
+			}
+
+			byte type = readType(valueTypes[index]);
+			if (remaining[index] == -1 && type == ']') return pop();
+			if (remaining[index] > 0) remaining[index]--;
+			return readValue(type);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	private Token pop () {
+		return containerTypes[--containerCount] == '{' ? Token.endObject : Token.endArray;
+	}
+
+	private void push (byte containerType, byte valueType, long count) {
+		if (containerCount == containerTypes.length) {
+			int size = containerCount << 1;
+			containerTypes = Arrays.copyOf(containerTypes, size);
+			valueTypes = Arrays.copyOf(valueTypes, size);
+			remaining = Arrays.copyOf(remaining, size);
+			expectName = Arrays.copyOf(expectName, size);
+		}
+		containerTypes[containerCount] = containerType;
+		valueTypes[containerCount] = valueType;
+		remaining[containerCount] = count;
+		expectName[containerCount] = true;
+		containerCount++;
+	}
+
+	private Token readValue (byte type) throws IOException {
+		switch (type) {
+		case '[':
+		case '{': {
+			byte next = din.readByte();
+			byte valueType = 0;
+			if (next == '$') {
+				valueType = din.readByte();
+				next = din.readByte();
+			}
+			long count = -1;
+			if (next == '#') {
+				count = parseSize(din.readByte(), false, -1);
+				if (count < 0) throw new GdxRuntimeException("Unrecognized data type");
+			} else
+				pendingType = next; // The type of the first entry, or the end of the container.
+			push(type, valueType, count);
+			return type == '[' ? Token.startArray : Token.startObject;
+		}
+		case 'a':
+		case 'A': {
+			byte dataType = din.readByte();
+			long size = type == 'A' ? readUInt() : (long)readUChar();
+			push((byte)'[', dataType, size);
+			return Token.startArray;
+		}
+		case 'Z':
+			return Token.nullValue;
+		case 'T':
+			longValue = 1;
+			return Token.booleanValue;
+		case 'F':
+			longValue = 0;
+			return Token.booleanValue;
+		case 'B':
+		case 'U':
+			longValue = readUChar();
+			return Token.longValue;
+		case 'i':
+			longValue = oldFormat ? (long)din.readShort() : (long)din.readByte();
+			return Token.longValue;
+		case 'I':
+			longValue = oldFormat ? (long)din.readInt() : (long)din.readShort();
+			return Token.longValue;
+		case 'l':
+			longValue = din.readInt();
+			return Token.longValue;
+		case 'L':
+			longValue = din.readLong();
+			return Token.longValue;
+		case 'd':
+			doubleValue = din.readFloat();
+			return Token.doubleValue;
+		case 'D':
+			doubleValue = din.readDouble();
+			return Token.doubleValue;
+		case 's':
+		case 'S':
+			string = parseString(false, type);
+			return Token.stringValue;
+		case 'C':
+			longValue = din.readChar();
+			return Token.longValue;
+		}
+		throw new GdxRuntimeException("Unrecognized data type");
+	}
+
+	/** Returns the next type marker. If the container has a strong type, no marker is read and the strong type is returned. */
+	private byte readType (byte valueType) throws IOException {
+		if (pendingType != -1) {
+			byte type = (byte)pendingType;
+			pendingType = -1;
+			return type;
+		}
+		return valueType == 0 ? din.readByte() : valueType;
+	}
+
+	protected @Null String stringValue () {
+		return string;
+	}
+
+	private String parseString (boolean sOptional, byte type) throws IOException {
+		long size = -1;
+		if (type == 'S')
+			size = parseSize(din.readByte(), true, -1);
+		else if (type == 's')
+			size = (long)readUChar();
+		else if (sOptional) size = parseSize(type, false, -1);
+		if (size < 0) throw new GdxRuntimeException("Unrecognized data type, string expected");
+		if (size == 0) return "";
+		byte[] data = new byte[(int)size];
+		din.readFully(data);
+		return new String(data, "UTF-8");
+	}
+
+	private long parseSize (byte type, boolean useIntOnError, long defaultValue) throws IOException {
+		if (type == 'i') return (long)readUChar();
+		if (type == 'I') return (long)(din.readShort() & 0xFFFF);
+		if (type == 'l') return (long)din.readInt() & 0xFFFFFFFFL;
+		if (type == 'L') return din.readLong();
+		if (useIntOnError) {
+			long result = (long)((short)type & 0xFF) << 24;
+			result |= (long)((short)din.readByte() & 0xFF) << 16;
+			result |= (long)((short)din.readByte() & 0xFF) << 8;
+			result |= (long)((short)din.readByte() & 0xFF);
+			return result;
+		}
+		return defaultValue;
+	}
+
+	private short readUChar () throws IOException {
+		return (short)(din.readByte() & 0xFF);
+	}
+
+	private long readUInt () throws IOException {
+		return (long)din.readInt() & 0xFFFFFFFFL;
+	}
+}
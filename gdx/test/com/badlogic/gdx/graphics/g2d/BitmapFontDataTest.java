@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+
+public class BitmapFontDataTest {
+	static private final String header = "info face=\"Test\" size=32 bold=0 italic=0 charset=\"\" unicode=0 stretchH=100 smooth=1 aa=1 "
+		+ "padding=4,4,4,4 spacing=0,0\n" //
+		+ "common lineHeight=38 base=30 scaleW=256 scaleH=256 pages=1 packed=0\n" //
+		+ "page id=0 file=\"test.png\"\n";
+	static private final String chars = "chars count=2\n" //
+		+ "char id=65 x=0 y=0 width=24 height=30 xoffset=-4 yoffset=0 xadvance=20 page=0 chnl=0\n" //
+		+ "char id=108 x=24 y=0 width=12 height=32 xoffset=-4 yoffset=0 xadvance=8 page=0 chnl=0\n";
+
+	@Test
+	public void testDistanceField () throws IOException {
+		BitmapFontData data = load(header + "distanceField fieldType=msdf distanceRange=8\n" + chars);
+		assertEquals("msdf", data.distanceFieldType);
+		assertEquals(8, data.distanceRange, 0);
+
+		data = load(header + chars + "kernings count=0\ndistanceField fieldType=\"sdf\" distanceRange=\"4.5\"\n");
+		assertEquals("sdf", data.distanceFieldType);
+		assertEquals(4.5f, data.distanceRange, 0);
+
+		data = load(header + chars);
+		assertNull(data.distanceFieldType);
+		assertEquals(0, data.distanceRange, 0);
+	}
+
+	private BitmapFontData load (String text) throws IOException {
+		File file = File.createTempFile("font", ".fnt");
+		file.deleteOnExit();
+		FileHandle handle = new FileHandle(file);
+		handle.writeString(text, false);
+		return new BitmapFontData(handle, false);
+	}
+}
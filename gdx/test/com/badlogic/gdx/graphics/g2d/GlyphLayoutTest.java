@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+
+public class GlyphLayoutTest {
+	static private final String[] texts = {"Score: 100", "Score: 105", "Score: 1050", "Score: 95", "Score", "Time\n0:59",
+		"Time\n0:58", "Time\n\n0:58", "Time\r\n1:00", "Tim", "A long line of text that wraps\nand more text",
+		"A long line of text that wraps\nand less", "A long line of text that wrapz\nand less", "", "x", "Score: 100"};
+
+	@Test
+	public void testUpdateMatchesSet () {
+		BitmapFont font = newFont();
+		int[] aligns = {Align.left, Align.center, Align.right};
+		for (int align : aligns) {
+			for (int wrap = 0; wrap < 2; wrap++) {
+				GlyphLayout updated = new GlyphLayout(), expected = new GlyphLayout();
+				for (String text : texts) {
+					updated.updateText(font, text, 0, text.length(), Color.WHITE, 100, align, wrap == 1, null);
+					expected.setText(font, text, 0, text.length(), Color.WHITE, 100, align, wrap == 1, null);
+					assertLayoutEquals(text, expected, updated);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testUpdateUnchanged () {
+		BitmapFont font = newFont();
+		GlyphLayout layout = new GlyphLayout();
+		assertTrue(layout.updateText(font, "Score: 100", 0, 10, Color.WHITE, 0, Align.left, false, null));
+		assertFalse(layout.updateText(font, "Score: 100", 0, 10, Color.WHITE, 0, Align.left, false, null));
+		assertTrue(layout.updateText(font, "Score: 101", 0, 10, Color.WHITE, 0, Align.left, false, null));
+		assertEquals(8, layout.unchangedGlyphs);
+		assertTrue(layout.updateText(font, "Score: 101", 0, 10, Color.RED, 0, Align.left, false, null));
+		assertEquals(0, layout.unchangedGlyphs);
+	}
+
+	@Test
+	public void testCacheUpdateMatchesSet () {
+		BitmapFont font = newFont();
+		BitmapFontCache updated = new BitmapFontCache(font), expected = new BitmapFontCache(font);
+		GlyphLayout updatedLayout = new GlyphLayout(), expectedLayout = new GlyphLayout();
+		updated.setPosition(10, 20);
+		for (String text : texts) {
+			updatedLayout.updateText(font, text, 0, text.length(), Color.WHITE, 100, Align.left, false, null);
+			updated.updateText(updatedLayout, 5, 7);
+			expectedLayout.setText(font, text, 0, text.length(), Color.WHITE, 100, Align.left, false, null);
+			expected.setText(expectedLayout, 5, 7);
+			expected.setPosition(updated.getX(), updated.getY());
+			assertEquals(text, expected.getVertexCount(0), updated.getVertexCount(0));
+			float[] expectedVertices = expected.getVertices(0), updatedVertices = updated.getVertices(0);
+			for (int i = 0, n = expected.getVertexCount(0); i < n; i++)
+				assertEquals(text, expectedVertices[i], updatedVertices[i], 0.0001f);
+		}
+	}
+
+	private void assertLayoutEquals (String text, GlyphLayout expected, GlyphLayout actual) {
+		assertEquals(text, expected.glyphCount, actual.glyphCount);
+		assertEquals(text, expected.width, actual.width, 0.0001f);
+		assertEquals(text, expected.height, actual.height, 0.0001f);
+		assertEquals(text, expected.colors, actual.colors);
+		assertEquals(text, expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			GlyphRun expectedRun = expected.runs.get(i), actualRun = actual.runs.get(i);
+			assertEquals(text, expectedRun.glyphs, actualRun.glyphs);
+			assertEquals(text, expectedRun.xAdvances, actualRun.xAdvances);
+			assertEquals(text, expectedRun.x, actualRun.x, 0.0001f);
+			assertEquals(text, expectedRun.y, actualRun.y, 0.0001f);
+			assertEquals(text, expectedRun.width, actualRun.width, 0.0001f);
+		}
+	}
+
+	/** Returns a font with glyphs of varying widths and some kerning, which doesn't need OpenGL. */
+	private BitmapFont newFont () {
+		BitmapFontData data = new BitmapFontData();
+		data.capHeight = 10;
+		data.down = -12;
+		data.ascent = 2;
+		BitmapFont font = new BitmapFont(data, new TextureRegion(), false);
+		for (char ch = ' '; ch <= '~'; ch++) {
+			Glyph glyph = new Glyph();
+			glyph.id = ch;
+			glyph.width = ch == ' ' ? 0 : 4 + ch % 5;
+			glyph.height = 10;
+			glyph.xoffset = ch % 3 - 1;
+			glyph.xadvance = 5 + ch % 5;
+			glyph.u = ch / 128f;
+			glyph.setKerning('a' + ch % 7, -1);
+			data.setGlyph(ch, glyph);
+		}
+		data.spaceXadvance = data.getGlyph(' ').xadvance;
+		return font;
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+public class ParticleEmitterTest {
+	@Test
+	public void testPackedMatchesParticles () {
+		ParticleEmitter emitter = newEmitter();
+		ParticleEmitter packed = new ParticleEmitter(emitter);
+		packed.setPacked(true);
+		assertTrue(packed.isPacked());
+		assertTrue(new ParticleEmitter(packed).isPacked());
+
+		assertTrue(update(emitter, packed));
+		assertTrue(packed.getActiveCount() > 1);
+
+		// The particles use one texture, so they are drawn with one call.
+		RecordingBatchTest.CapturingBatch batch = new RecordingBatchTest.CapturingBatch();
+		batch.begin();
+		packed.draw(batch);
+		batch.end();
+		assertEquals(1, batch.counts.size);
+		assertEquals(packed.getActiveCount(), batch.counts.first());
+
+		packed.reset(false);
+		assertEquals(0, packed.getActiveCount());
+	}
+
+	@Test
+	public void testPackedAnimated () {
+		ParticleEmitter emitter = newEmitter();
+		Sprite small = new Sprite(new RecordingBatchTest.TestTexture());
+		small.setSize(8, 4);
+		emitter.getSprites().add(small);
+		emitter.setSpriteMode(ParticleEmitter.SpriteMode.animated);
+		ParticleEmitter packed = new ParticleEmitter(emitter);
+		packed.setPacked(true);
+		update(emitter, packed);
+		assertEquals(textureCounts(emitter), textureCounts(packed));
+		assertEquals(2, textureCounts(packed).size);
+
+		// Setting the sprites changes the region of the active particles.
+		Array<Sprite> sprites = new Array();
+		sprites.add(small);
+		emitter.setSprites(sprites);
+		packed.setSprites(sprites);
+		update(emitter, packed);
+		assertEquals(textureCounts(emitter), textureCounts(packed));
+	}
+
+	/** Returns the number of particles drawn with each texture. */
+	private ObjectIntMap<Texture> textureCounts (ParticleEmitter emitter) {
+		RecordingBatchTest.CapturingBatch batch = new RecordingBatchTest.CapturingBatch();
+		batch.begin();
+		emitter.draw(batch);
+		batch.end();
+		ObjectIntMap<Texture> counts = new ObjectIntMap();
+		for (int i = 0; i < batch.textures.size; i++)
+			counts.getAndIncrement(batch.textures.get(i), 0, batch.counts.get(i));
+		return counts;
+	}
+
+	/** Updates both emitters with the same random numbers and checks that their particles have the same bounds.
+	 * @return True if the particles moved up from the emitter. */
+	private boolean update (ParticleEmitter emitter, ParticleEmitter packed) {
+		MathUtils.random.setSeed(0);
+		emitter.start();
+		MathUtils.random.setSeed(0);
+		packed.start();
+		boolean moved = false;
+		for (int frame = 0; frame < 120; frame++) {
+			if (frame == 60) {
+				emitter.setPosition(50, 20);
+				packed.setPosition(50, 20);
+			}
+			MathUtils.random.setSeed(frame);
+			emitter.update(1 / 60f);
+			MathUtils.random.setSeed(frame);
+			packed.update(1 / 60f);
+
+			assertEquals(emitter.getActiveCount(), packed.getActiveCount());
+			if (emitter.getActiveCount() == 0) continue;
+			BoundingBox expected = new BoundingBox(emitter.getBoundingBox());
+			BoundingBox actual = packed.getBoundingBox();
+			assertEquals(expected.min.x, actual.min.x, 0.001f);
+			assertEquals(expected.min.y, actual.min.y, 0.001f);
+			assertEquals(expected.max.x, actual.max.x, 0.001f);
+			assertEquals(expected.max.y, actual.max.y, 0.001f);
+			moved |= expected.max.y > 40;
+		}
+		return moved;
+	}
+
+	private ParticleEmitter newEmitter () {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(50);
+		emitter.setContinuous(true);
+		emitter.setAttached(true);
+		emitter.setAligned(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(100);
+		emitter.getLife().setHigh(300, 600);
+		emitter.getXScale().setHigh(8, 16);
+		emitter.getXScale().setTimeline(new float[] {0, 1});
+		emitter.getXScale().setScaling(new float[] {1, 0.25f});
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(100, 200);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(45, 135);
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(0, 360);
+		emitter.getRotation().setTimeline(new float[] {0, 1});
+		emitter.getRotation().setScaling(new float[] {0, 1});
+		emitter.getGravity().setActive(true);
+		emitter.getGravity().setHigh(-50);
+		emitter.getTransparency().setHigh(1);
+		emitter.getSpawnShape().setShape(ParticleEmitter.SpawnShape.ellipse);
+		emitter.getSpawnWidth().setHigh(20);
+		emitter.getSpawnHeight().setHigh(10);
+
+		Sprite sprite = new Sprite(new RecordingBatchTest.TestTexture());
+		sprite.setSize(16, 16);
+		sprite.setOriginCenter();
+		Array<Sprite> sprites = new Array();
+		sprites.add(sprite);
+		emitter.setSprites(sprites);
+		return emitter;
+	}
+}
@@ -0,0 +1,141 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+public class RecordingBatchTest {
+	@Test
+	public void testRecordAndReplay () {
+		Texture a = new TestTexture(), b = new TestTexture();
+		RecordingBatch batch = new RecordingBatch();
+		batch.begin();
+		batch.draw(a, 1, 2, 10, 10);
+		batch.draw(a, 3, 4, 10, 10);
+		batch.draw(b, 5, 6, 10, 10);
+		batch.draw(a, 7, 8, 10, 10);
+		batch.end();
+		assertTrue(batch.isValid());
+		assertEquals(4, batch.getSpriteCount());
+
+		// Sprites with the same texture are replayed with one draw call, the draw order is kept.
+		CapturingBatch target = new CapturingBatch();
+		target.begin();
+		batch.draw(target);
+		batch.draw(target);
+		target.end();
+		assertEquals(6, target.textures.size);
+		assertSame(a, target.textures.get(0));
+		assertSame(b, target.textures.get(1));
+		assertSame(a, target.textures.get(2));
+		assertArrayEquals(new int[] {2, 1, 1, 2, 1, 1}, target.counts.toArray());
+		assertEquals(1, target.vertices.get(0), 0);
+		assertEquals(2, target.vertices.get(1), 0);
+		assertEquals(3, target.vertices.get(Sprite.SPRITE_SIZE), 0);
+		assertEquals(5, target.vertices.get(Sprite.SPRITE_SIZE * 2), 0);
+		assertEquals(7, target.vertices.get(Sprite.SPRITE_SIZE * 3), 0);
+		assertEquals(8 * Sprite.SPRITE_SIZE, target.vertices.size);
+
+		batch.clear();
+		assertEquals(0, batch.getSpriteCount());
+	}
+
+	@Test
+	public void testTargetState () {
+		RecordingBatch target = new RecordingBatch();
+		target.setColor(Color.RED);
+		target.getTransformMatrix().setToTranslation(10, 0, 0);
+		target.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE);
+
+		RecordingBatch batch = new RecordingBatch();
+		batch.begin(target);
+		assertEquals(Color.RED.toFloatBits(), batch.getPackedColor(), 0);
+		assertEquals(10, batch.getTransformMatrix().val[Matrix4.M03], 0);
+		assertEquals(GL20.GL_ONE, batch.getBlendDstFunc());
+		batch.draw(new TestTexture(), 0, 0, 1, 1);
+		batch.end();
+
+		CapturingBatch capture = new CapturingBatch();
+		capture.begin();
+		batch.draw(capture);
+		capture.end();
+		assertEquals(Color.RED.toFloatBits(), capture.vertices.get(SpriteBatch.C1), 0);
+	}
+
+	@Test
+	public void testInvalid () {
+		RecordingBatch batch = new RecordingBatch();
+		Matrix4 transform = new Matrix4();
+		batch.begin();
+		// Setting the same state doesn't invalidate the recording.
+		batch.setShader(null);
+		batch.enableBlending();
+		batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		batch.setTransformMatrix(transform);
+		batch.setProjectionMatrix(batch.getProjectionMatrix());
+		assertTrue(batch.isValid());
+		batch.setTransformMatrix(transform.setToTranslation(1, 0, 0));
+		assertFalse(batch.isValid());
+		batch.end();
+
+		batch.begin();
+		assertTrue(batch.isValid());
+		batch.disableBlending();
+		assertFalse(batch.isValid());
+		batch.end();
+
+		batch.begin();
+		batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE);
+		assertFalse(batch.isValid());
+		batch.end();
+
+		batch.begin();
+		batch.invalidate();
+		assertFalse(batch.isValid());
+		batch.end();
+
+		// Flushing is done before changing OpenGL state outside the batch, eg scissors.
+		batch.begin();
+		batch.flush();
+		assertFalse(batch.isValid());
+		batch.end();
+
+		// State changes outside of begin and end don't matter.
+		batch.setTransformMatrix(new Matrix4());
+		batch.begin();
+		assertTrue(batch.isValid());
+		batch.end();
+	}
+
+	static class TestTexture extends Texture {
+		public int getWidth () {
+			return 16;
+		}
+
+		public int getHeight () {
+			return 16;
+		}
+	}
+
+	/** Captures the vertices passed to {@link #draw(Texture, float[], int, int)}. */
+	static class CapturingBatch extends RecordingBatch {
+		final Array<Texture> textures = new Array<>();
+		final IntArray counts = new IntArray();
+		final FloatArray vertices = new FloatArray();
+
+		public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+			textures.add(texture);
+			counts.add(count / Sprite.SPRITE_SIZE);
+			vertices.addAll(spriteVertices, offset, count);
+		}
+	}
+}
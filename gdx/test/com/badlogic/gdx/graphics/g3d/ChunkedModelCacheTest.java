@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/** Tests assigning renderables to cells. Building cells needs meshes, so only empty cells are updated. */
+public class ChunkedModelCacheTest {
+	@Test
+	public void testCells () {
+		ChunkedModelCache cache = new ChunkedModelCache(10);
+		Renderable a = renderable(1, 1, 1), b = renderable(9, 2, 3), c = renderable(-1, 1, 1), d = renderable(25, 0, -15);
+		cache.add(a);
+		cache.add(b);
+		cache.add(c);
+		cache.add(d);
+		assertEquals(3, cache.getCellCount());
+		assertEquals(3, cache.getDirtyCount());
+
+		assertFalse(cache.remove(renderable(1, 1, 1)));
+		assertFalse(cache.remove(renderable(100, 100, 100)));
+		assertTrue(cache.remove(c));
+		assertTrue(cache.remove(d));
+		assertFalse(cache.remove(d));
+		assertEquals(3, cache.getDirtyCount());
+
+		// Only the empty cells are updated.
+		assertTrue(cache.remove(a));
+		assertTrue(cache.remove(b));
+		assertEquals(1, cache.update(2));
+		assertEquals(1, cache.getCellCount());
+		assertEquals(0, cache.update(2));
+		assertEquals(0, cache.getCellCount());
+
+		Array<Renderable> renderables = new Array();
+		cache.getRenderables(renderables, null);
+		assertEquals(0, renderables.size);
+		assertEquals(0, cache.visibleCount);
+	}
+
+	@Test
+	public void testProviders () {
+		ChunkedModelCache cache = new ChunkedModelCache(10);
+		RenderableProvider provider = new RenderableProvider() {
+			public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+				for (int i = 0; i < 5; i++) {
+					Renderable renderable = pool.obtain();
+					renderable.worldTransform.setToTranslation(i * 4, 0, 0);
+					renderables.add(renderable);
+				}
+			}
+		};
+		cache.add(provider);
+		assertEquals(2, cache.getCellCount());
+		try {
+			cache.add(provider);
+			fail();
+		} catch (IllegalArgumentException expected) {
+		}
+
+		assertTrue(cache.remove(provider));
+		assertFalse(cache.remove(provider));
+		assertEquals(2, cache.getDirtyCount());
+		cache.update();
+		assertEquals(0, cache.getCellCount());
+
+		cache.add(provider);
+		cache.clear();
+		assertEquals(0, cache.getCellCount());
+		assertEquals(0, cache.getDirtyCount());
+		assertFalse(cache.remove(provider));
+	}
+
+	private Renderable renderable (float x, float y, float z) {
+		Renderable renderable = new Renderable();
+		renderable.worldTransform.setToTranslation(x, y, z);
+		return renderable;
+	}
+}
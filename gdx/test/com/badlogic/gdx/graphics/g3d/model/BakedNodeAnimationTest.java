@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+public class BakedNodeAnimationTest {
+	@Test
+	public void testSamples () {
+		Node node = new Node();
+		node.scale.set(2, 2, 2);
+		NodeAnimation nodeAnim = newNodeAnimation(node);
+		Vector3 translation = new Vector3(), scale = new Vector3();
+		Quaternion rotation = new Quaternion();
+
+		BakedNodeAnimation baked = new BakedNodeAnimation(nodeAnim, 1, 30, false);
+		assertEquals(31, baked.sampleCount);
+		assertEquals(7, baked.stride);
+		baked.getTransform(0.5f, node, translation, rotation, scale);
+		assertEquals(new Vector3(5, 0, 0), translation);
+		assertEquals(2, scale.x, 0);
+		baked.getTransform(0.75f, node, translation, rotation, scale);
+		assertEquals(7.5f, translation.x, 0.0001f);
+		assertEquals(0.5f, translation.y, 0.0001f);
+		assertEquals(new Quaternion(Vector3.Y, 67.5f).getAngleAround(Vector3.Y), rotation.getAngleAround(Vector3.Y), 0.1f);
+		baked.getTransform(2, node, translation, rotation, scale);
+		assertEquals(new Vector3(10, 1, 0), translation);
+
+		BakedNodeAnimation quantized = new BakedNodeAnimation(nodeAnim, 1, 30, true);
+		for (float time = 0; time <= 1; time += 0.01f) {
+			Vector3 expectedTranslation = new Vector3();
+			Quaternion expectedRotation = new Quaternion();
+			baked.getTransform(time, node, expectedTranslation, expectedRotation, scale);
+			quantized.getTransform(time, node, translation, rotation, scale);
+			assertTrue(expectedTranslation.epsilonEquals(translation, 0.001f));
+			assertTrue(Math.abs(expectedRotation.dot(rotation)) > 0.99999f);
+		}
+	}
+
+	@Test
+	public void testBakedInstance () {
+		Model model = new Model();
+		Node node = new Node();
+		node.id = "node";
+		model.nodes.add(node);
+		Animation animation = new Animation();
+		animation.id = "anim";
+		animation.duration = 1;
+		animation.nodeAnimations.add(newNodeAnimation(node));
+		model.animations.add(animation);
+
+		ModelInstance expected = new ModelInstance(model);
+		animation.bake(60, false, true);
+		assertNull(animation.nodeAnimations.first().translation);
+		ModelInstance actual = new ModelInstance(model);
+		assertNotNull(actual.animations.first().nodeAnimations.first().baked);
+
+		AnimationController expectedController = new AnimationController(expected);
+		AnimationController actualController = new AnimationController(actual);
+		expectedController.setAnimation("anim", -1);
+		actualController.setAnimation("anim", -1);
+		for (int i = 0; i < 20; i++) {
+			expectedController.update(0.07f);
+			actualController.update(0.07f);
+			assertArrayEquals(expected.getNode("node").globalTransform.val, actual.getNode("node").globalTransform.val, 0.001f);
+		}
+	}
+
+	private NodeAnimation newNodeAnimation (Node node) {
+		NodeAnimation nodeAnim = new NodeAnimation();
+		nodeAnim.node = node;
+		nodeAnim.translation = new Array<NodeKeyframe<Vector3>>();
+		nodeAnim.translation.add(new NodeKeyframe<Vector3>(0, new Vector3(0, 0, 0)));
+		nodeAnim.translation.add(new NodeKeyframe<Vector3>(0.5f, new Vector3(5, 0, 0)));
+		nodeAnim.translation.add(new NodeKeyframe<Vector3>(1, new Vector3(10, 1, 0)));
+		nodeAnim.rotation = new Array<NodeKeyframe<Quaternion>>();
+		nodeAnim.rotation.add(new NodeKeyframe<Quaternion>(0, new Quaternion()));
+		nodeAnim.rotation.add(new NodeKeyframe<Quaternion>(1, new Quaternion(Vector3.Y, 90)));
+		return nodeAnim;
+	}
+}
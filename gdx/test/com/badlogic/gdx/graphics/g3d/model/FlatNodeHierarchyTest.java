@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+
+public class FlatNodeHierarchyTest {
+	@Test
+	public void testUpdateMatchesNodes () {
+		Array<Node> expected = newHierarchy(), actual = newHierarchy();
+		FlatNodeHierarchy hierarchy = new FlatNodeHierarchy(actual);
+		assertEquals(5, hierarchy.nodes.length);
+		assertArrayEquals(new int[] {-1, 0, 1, -1, -1}, hierarchy.parents);
+
+		for (int frame = 0; frame < 3; frame++) {
+			animate(expected, frame);
+			animate(actual, frame);
+			for (Node node : expected)
+				node.calculateTransforms(true);
+			for (Node node : expected)
+				node.calculateBoneTransforms(true);
+			hierarchy.update();
+
+			for (int i = 0; i < hierarchy.nodes.length; i++) {
+				Node node = hierarchy.nodes[i];
+				Node expectedNode = find(expected, node.id);
+				assertArrayEquals(expectedNode.globalTransform.val, node.globalTransform.val, 0);
+				for (int ii = 0; ii < 16; ii++)
+					assertEquals(node.globalTransform.val[ii], hierarchy.worldTransforms[i * 16 + ii], 0);
+			}
+			Matrix4[] expectedBones = find(expected, "skin").parts.first().bones;
+			Matrix4[] actualBones = find(actual, "skin").parts.first().bones;
+			for (int i = 0; i < expectedBones.length; i++)
+				assertArrayEquals(expectedBones[i].val, actualBones[i].val, 0);
+		}
+	}
+
+	private Array<Node> newHierarchy () {
+		Node root = newNode("root", 1, 2, 3, 10);
+		Node arm = newNode("arm", 0, 1, 0, 20);
+		Node hand = newNode("hand", 0, 0.5f, 0, 30);
+		Node loose = newNode("loose", 4, 0, 0, 40);
+		loose.inheritTransform = false;
+		root.addChild(arm);
+		arm.addChild(hand);
+		Node skin = newNode("skin", 0, 0, 0, 0);
+
+		NodePart part = new NodePart();
+		part.invBoneBindTransforms = new ArrayMap<Node, Matrix4>(Node.class, Matrix4.class);
+		part.invBoneBindTransforms.put(arm, new Matrix4().setToTranslation(0, -1, 0));
+		part.invBoneBindTransforms.put(hand, new Matrix4().setToTranslation(0, -1.5f, 0).rotate(Vector3.X, 15));
+		part.bones = new Matrix4[] {new Matrix4(), new Matrix4()};
+		skin.parts.add(part);
+
+		Array<Node> roots = new Array<Node>();
+		roots.add(root);
+		roots.add(loose);
+		roots.add(skin);
+		return roots;
+	}
+
+	private Node newNode (String id, float x, float y, float z, float degrees) {
+		Node node = new Node();
+		node.id = id;
+		node.translation.set(x, y, z);
+		node.rotation.set(Vector3.Z, degrees);
+		node.scale.set(1, 1.5f, 1);
+		return node;
+	}
+
+	private void animate (Array<Node> roots, int frame) {
+		Node arm = find(roots, "arm");
+		arm.isAnimated = frame > 0;
+		arm.localTransform.set(new Vector3(0, 1, frame), new Quaternion(Vector3.Y, frame * 20), new Vector3(1, 1, 1));
+		find(roots, "root").translation.x = frame * 0.25f;
+	}
+
+	private Node find (Array<Node> roots, String id) {
+		for (Node root : roots) {
+			if (root.id.equals(id)) return root;
+			Node node = root.getChild(id, true, false);
+			if (node != null) return node;
+		}
+		return null;
+	}
+}
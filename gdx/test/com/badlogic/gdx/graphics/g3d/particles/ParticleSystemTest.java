@@ -0,0 +1,115 @@
+
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
+import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.emitters.RegularEmitter;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsModifier;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ScaleInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.SpawnInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderer;
+import com.badlogic.gdx.graphics.g3d.particles.values.PointSpawnShapeValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ParticleSystemTest {
+	@Test
+	public void testParallelUpdateMatchesSerial () {
+		Array<ParticleEffect> serialEffects = new Array<>(), parallelEffects = new Array<>();
+		ParticleSystem serial = createSystem(serialEffects), parallel = createSystem(parallelEffects);
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			for (int frame = 0; frame < 60; frame++) {
+				MathUtils.random.setSeed(frame);
+				serial.update(1 / 60f);
+				MathUtils.random.setSeed(frame);
+				parallel.update(1 / 60f, executor, 4);
+			}
+		} finally {
+			executor.dispose();
+		}
+
+		int particles = 0;
+		for (int e = 0; e < 6; e++) {
+			for (int c = 0; c < 2; c++) {
+				ParticleController expected = serialEffects.get(e).getControllers().get(c);
+				ParticleController actual = parallelEffects.get(e).getControllers().get(c);
+				assertEquals(expected.particles.size, actual.particles.size);
+				particles += actual.particles.size;
+				FloatChannel expectedPositions = expected.particles.getChannel(ParticleChannels.Position);
+				FloatChannel actualPositions = actual.particles.getChannel(ParticleChannels.Position);
+				for (int i = 0, n = actual.particles.size * actualPositions.strideSize; i < n; i++)
+					assertEquals(expectedPositions.data[i], actualPositions.data[i], 0);
+			}
+		}
+		assertTrue(particles > 0);
+	}
+
+	@Test
+	public void testThreadSafe () {
+		DynamicsInfluencer dynamics = new DynamicsInfluencer(new DynamicsModifier.CentripetalAcceleration());
+		assertTrue(dynamics.isThreadSafe());
+		dynamics.velocities.add(new DynamicsModifier.BrownianAcceleration());
+		assertFalse(dynamics.isThreadSafe());
+	}
+
+	private ParticleSystem createSystem (Array<ParticleEffect> effects) {
+		ParticleSystem system = new ParticleSystem();
+		for (int i = 0; i < 6; i++) {
+			ParticleEffect effect = new ParticleEffect(createController(false), createController(i % 2 == 0));
+			effect.init();
+			effect.start();
+			system.add(effect);
+			effects.add(effect);
+		}
+		return system;
+	}
+
+	private ParticleController createController (boolean brownian) {
+		RegularEmitter emitter = new RegularEmitter();
+		emitter.getDuration().setLow(3000);
+		emitter.getEmission().setHigh(600);
+		emitter.getLife().setHigh(1000);
+		emitter.setMaxParticleCount(200);
+
+		PointSpawnShapeValue spawnShape = new PointSpawnShapeValue();
+		spawnShape.xOffsetValue.setLow(0, 1f);
+		spawnShape.xOffsetValue.setActive(true);
+
+		ScaleInfluencer scale = new ScaleInfluencer();
+		scale.value.setTimeline(new float[] {0, 1});
+		scale.value.setScaling(new float[] {1, 0});
+		scale.value.setHigh(1);
+
+		DynamicsModifier.PolarAcceleration polar = new DynamicsModifier.PolarAcceleration();
+		polar.strengthValue.setHigh(5, 10);
+		polar.thetaValue.setHigh(0, 360);
+		polar.phiValue.setHigh(0, 180);
+		DynamicsModifier.CentripetalAcceleration centripetal = new DynamicsModifier.CentripetalAcceleration();
+		centripetal.strengthValue.setHigh(2);
+		DynamicsInfluencer dynamics = new DynamicsInfluencer(polar, centripetal);
+		if (brownian) {
+			DynamicsModifier.BrownianAcceleration modifier = new DynamicsModifier.BrownianAcceleration();
+			modifier.strengthValue.setHigh(3);
+			dynamics.velocities.add(modifier);
+		}
+
+		return new ParticleController("Test", emitter, new TestRenderer(), new SpawnInfluencer(spawnShape), scale, dynamics);
+	}
+
+	static class TestRenderer extends ParticleControllerRenderer {
+		public boolean isCompatible (ParticleBatch batch) {
+			return false;
+		}
+
+		public TestRenderer copy () {
+			return new TestRenderer();
+		}
+	}
+}
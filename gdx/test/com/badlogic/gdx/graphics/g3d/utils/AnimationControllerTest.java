@@ -7,9 +7,14 @@ import org.junit.Test;
 import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
 import com.badlogic.gdx.graphics.g3d.utils.AnimationController.AnimationDesc;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 public class AnimationControllerTest {
 
@@ -123,4 +128,69 @@ public class AnimationControllerTest {
 		animationController.update(0.2f);
 		assertSameAnimation(loop, animationController.current);
 	}
+
+	@Test
+	public void testParallelUpdateMatchesUpdate () {
+		Model model = new Model();
+		Node root = new Node();
+		root.id = "root";
+		Node child = new Node();
+		child.id = "child";
+		child.translation.set(0, 1, 0);
+		root.addChild(child);
+		model.nodes.add(root);
+		model.animations.add(newAnimation("walk", root, child, 1));
+		model.animations.add(newAnimation("run", root, child, 2));
+
+		Array<AnimationController> serial = new Array<AnimationController>(), parallel = new Array<AnimationController>();
+		for (int i = 0; i < 20; i++) {
+			for (Array<AnimationController> controllers : new Array[] {serial, parallel}) {
+				AnimationController controller = new AnimationController(new ModelInstance(model));
+				controller.setAnimation("walk", -1, 1 + i * 0.1f, null);
+				controllers.add(controller);
+			}
+		}
+
+		AsyncExecutor executor = new AsyncExecutor(3);
+		AnimationController.ParallelUpdater updater = new AnimationController.ParallelUpdater(executor, 4);
+		try {
+			for (int frame = 0; frame < 30; frame++) {
+				if (frame == 10) {
+					for (int i = 0; i < serial.size; i += 2) {
+						serial.get(i).animate("run", 0.5f);
+						parallel.get(i).animate("run", 0.5f);
+					}
+				}
+				for (AnimationController controller : serial)
+					controller.update(0.05f);
+				updater.update(parallel, 0.05f);
+				for (int i = 0; i < serial.size; i++) {
+					float[] expected = serial.get(i).target.getNode("child").globalTransform.val;
+					float[] actual = parallel.get(i).target.getNode("child").globalTransform.val;
+					Assert.assertArrayEquals(expected, actual, 0.00001f);
+				}
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	private static Animation newAnimation (String id, Node root, Node child, float speed) {
+		Animation animation = new Animation();
+		animation.id = id;
+		animation.duration = 1;
+		NodeAnimation rootAnimation = new NodeAnimation();
+		rootAnimation.node = root;
+		rootAnimation.translation = new Array<NodeKeyframe<Vector3>>();
+		rootAnimation.translation.add(new NodeKeyframe<Vector3>(0, new Vector3()));
+		rootAnimation.translation.add(new NodeKeyframe<Vector3>(1, new Vector3(speed, 0, 0)));
+		animation.nodeAnimations.add(rootAnimation);
+		NodeAnimation childAnimation = new NodeAnimation();
+		childAnimation.node = child;
+		childAnimation.rotation = new Array<NodeKeyframe<Quaternion>>();
+		childAnimation.rotation.add(new NodeKeyframe<Quaternion>(0, new Quaternion()));
+		childAnimation.rotation.add(new NodeKeyframe<Quaternion>(1, new Quaternion(Vector3.Z, 90 * speed)));
+		animation.nodeAnimations.add(childAnimation);
+		return animation;
+	}
 }
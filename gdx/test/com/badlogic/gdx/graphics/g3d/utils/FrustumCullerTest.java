@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+
+public class FrustumCullerTest {
+	@Test
+	public void testCullMatchesFrustum () {
+		Random random = new Random(7);
+		Vector3 direction = new Vector3(1, 0.2f, 0.5f).nor();
+		Frustum frustum = new Frustum();
+		setFrustum(frustum, direction);
+
+		FrustumCuller culler = new FrustumCuller();
+		Array<TestProvider> providers = new Array();
+		IntArray proxies = new IntArray();
+		for (int i = 0; i < 500; i++) {
+			TestProvider provider = new TestProvider();
+			randomBounds(random, provider.bounds);
+			providers.add(provider);
+			proxies.add(culler.add(provider, provider.bounds));
+		}
+		assertEquals(500, culler.size());
+		assertTrue(culler.getHeight() < 30);
+		assertCulled(culler, frustum, providers);
+
+		for (int frame = 0; frame < 20; frame++) {
+			// Move some providers a little and some far.
+			for (int i = 0; i < 50; i++) {
+				int index = random.nextInt(providers.size);
+				TestProvider provider = providers.get(index);
+				if (random.nextBoolean()) {
+					BoundingBox bounds = provider.bounds;
+					float offset = random.nextFloat() * 0.05f;
+					bounds.min.add(offset);
+					bounds.max.add(offset);
+					bounds.update();
+				} else
+					randomBounds(random, provider.bounds);
+				culler.setBounds(proxies.get(index), provider.bounds);
+			}
+			// Replace some providers.
+			for (int i = 0; i < 10; i++) {
+				int index = random.nextInt(providers.size);
+				culler.remove(proxies.removeIndex(index));
+				providers.removeIndex(index);
+				TestProvider provider = new TestProvider();
+				randomBounds(random, provider.bounds);
+				providers.add(provider);
+				proxies.add(culler.add(provider, provider.bounds));
+			}
+			direction.rotate(Vector3.Y, 15);
+			setFrustum(frustum, direction);
+			assertCulled(culler, frustum, providers);
+		}
+		assertTrue(culler.getHeight() < 30);
+
+		culler.clear();
+		assertEquals(0, culler.size());
+		Array<RenderableProvider> visible = new Array();
+		culler.cull(frustum, visible);
+		assertEquals(0, visible.size);
+	}
+
+	@Test
+	public void testModelInstance () {
+		FrustumCuller culler = new FrustumCuller();
+		TestInstance moving = new TestInstance(), still = new TestInstance();
+		moving.transform.setToTranslation(10, 0, 0);
+		still.transform.setToTranslation(-20, 0, 0);
+		int movingProxy = culler.add(moving), stillProxy = culler.add(still);
+		assertSame(moving, culler.getProvider(movingProxy));
+		BoundingBox bounds = new BoundingBox();
+		assertBounds(10, 0, 0, 11, 1, 1, culler.getBounds(movingProxy, bounds));
+		assertBounds(-20, 0, 0, -19, 1, 1, culler.getBounds(stillProxy, bounds));
+
+		// Only the proxies whose transform changed are refitted, the node bounds are not calculated again.
+		moving.bounds.max.set(2, 2, 2);
+		still.bounds.max.set(2, 2, 2);
+		culler.update();
+		assertBounds(10, 0, 0, 11, 1, 1, culler.getBounds(movingProxy, bounds));
+		moving.transform.setToTranslation(10.05f, 0, 0);
+		culler.update();
+		assertBounds(10.05f, 0, 0, 11.05f, 1, 1, culler.getBounds(movingProxy, bounds));
+		assertBounds(-20, 0, 0, -19, 1, 1, culler.getBounds(stillProxy, bounds));
+		// Moving within the enlarged bounds doesn't move the proxy in the tree.
+		assertEquals(0, culler.movedCount);
+
+		moving.transform.setToTranslation(50, 0, 0).scale(2, 2, 2);
+		culler.update();
+		assertBounds(50, 0, 0, 52, 2, 2, culler.getBounds(movingProxy, bounds));
+		assertEquals(1, culler.movedCount);
+		culler.update();
+		assertEquals(1, culler.movedCount);
+
+		// Invalidating calculates the node bounds again.
+		culler.invalidate(stillProxy);
+		assertBounds(-20, 0, 0, -18, 2, 2, culler.getBounds(stillProxy, bounds));
+		assertEquals(2, culler.movedCount);
+
+		Frustum frustum = new Frustum();
+		setFrustum(frustum, new Vector3(1, 0, 0));
+		Array<RenderableProvider> visible = new Array();
+		culler.cull(frustum, visible);
+		assertEquals(0, culler.movedCount);
+		assertEquals(1, visible.size);
+		assertSame(moving, visible.first());
+
+		TestProvider provider = new TestProvider();
+		int providerProxy = culler.add(provider, provider.bounds.set(new Vector3(), new Vector3(1, 1, 1)));
+		try {
+			culler.invalidate(providerProxy);
+			fail();
+		} catch (IllegalArgumentException expected) {
+		}
+		culler.remove(movingProxy);
+		moving.transform.setToTranslation(0, 0, 0);
+		culler.update();
+		assertEquals(2, culler.size());
+	}
+
+	private void assertBounds (float minX, float minY, float minZ, float maxX, float maxY, float maxZ, BoundingBox bounds) {
+		assertEquals(minX, bounds.min.x, 0.0001f);
+		assertEquals(minY, bounds.min.y, 0.0001f);
+		assertEquals(minZ, bounds.min.z, 0.0001f);
+		assertEquals(maxX, bounds.max.x, 0.0001f);
+		assertEquals(maxY, bounds.max.y, 0.0001f);
+		assertEquals(maxZ, bounds.max.z, 0.0001f);
+	}
+
+	/** Sets the frustum of a perspective camera at the origin, without the native methods used by
+	 * {@link Frustum#update(Matrix4)}. */
+	private void setFrustum (Frustum frustum, Vector3 direction) {
+		float near = 1, far = 100, halfHeight = (float)Math.tan(Math.toRadians(30)), halfWidth = halfHeight * 16 / 9;
+		Vector3 right = new Vector3(direction).crs(Vector3.Y).nor(), up = new Vector3(right).crs(direction).nor();
+		Vector3[] points = frustum.planePoints;
+		for (int i = 0; i < 8; i++) {
+			float distance = i < 4 ? near : far;
+			float x = i % 4 == 1 || i % 4 == 2 ? 1 : -1, y = i % 4 >= 2 ? 1 : -1;
+			points[i].set(direction).scl(distance).mulAdd(right, x * halfWidth * distance).mulAdd(up, y * halfHeight * distance);
+		}
+		frustum.planes[0].set(points[1], points[0], points[2]);
+		frustum.planes[1].set(points[4], points[5], points[7]);
+		frustum.planes[2].set(points[0], points[4], points[3]);
+		frustum.planes[3].set(points[5], points[1], points[6]);
+		frustum.planes[4].set(points[2], points[3], points[6]);
+		frustum.planes[5].set(points[4], points[0], points[1]);
+	}
+
+	private void assertCulled (FrustumCuller culler, Frustum frustum, Array<TestProvider> providers) {
+		Array<RenderableProvider> visible = new Array();
+		culler.cull(frustum, visible);
+		assertEquals(visible.size, culler.visibleCount);
+		ObjectSet<RenderableProvider> visibleSet = new ObjectSet();
+		visibleSet.addAll(visible);
+		assertEquals("Duplicate providers", visible.size, visibleSet.size);
+		int expected = 0;
+		for (TestProvider provider : providers) {
+			boolean inFrustum = frustum.boundsInFrustum(provider.bounds);
+			assertEquals(inFrustum, visibleSet.contains(provider));
+			if (inFrustum) expected++;
+		}
+		assertEquals(expected, visible.size);
+		assertTrue(expected > 0 && expected < providers.size);
+		// Subtrees outside of the frustum are skipped.
+		assertTrue(culler.testedCount < providers.size);
+	}
+
+	private void randomBounds (Random random, BoundingBox bounds) {
+		float x = random.nextFloat() * 200 - 100, y = random.nextFloat() * 40 - 20, z = random.nextFloat() * 200 - 100;
+		float size = 0.5f + random.nextFloat() * 3;
+		bounds.min.set(x, y, z);
+		bounds.max.set(x + size, y + size, z + size);
+		bounds.update();
+	}
+
+	/** A model instance without nodes whose bounds are set directly. */
+	static private class TestInstance extends ModelInstance {
+		final BoundingBox bounds = new BoundingBox(new Vector3(), new Vector3(1, 1, 1));
+
+		TestInstance () {
+			super(new Model());
+		}
+
+		public BoundingBox extendBoundingBox (BoundingBox out) {
+			return out.ext(bounds);
+		}
+	}
+
+	static private class TestProvider implements RenderableProvider {
+		final BoundingBox bounds = new BoundingBox();
+
+		public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		}
+	}
+}
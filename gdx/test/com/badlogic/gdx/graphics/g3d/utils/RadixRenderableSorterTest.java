@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+
+public class RadixRenderableSorterTest {
+	private final Random random = new Random(9);
+	private final Material[] materials = {new Material("a", ColorAttribute.createDiffuse(Color.RED)),
+		new Material("b", ColorAttribute.createDiffuse(Color.GREEN)), new Material("c", ColorAttribute.createDiffuse(Color.BLUE)),
+		new Material("blended", new BlendingAttribute(0.5f))};
+
+	@Test
+	public void testSameOrderAsDefault () {
+		Camera camera = createCamera();
+		Array<Renderable> renderables = createRenderables(2000);
+		Array<Renderable> expected = new Array(renderables);
+		new DefaultRenderableSorter().sort(camera, expected);
+
+		RadixRenderableSorter sorter = new RadixRenderableSorter();
+		sorter.groupByState = false;
+		sorter.sort(camera, renderables);
+		assertEquals(expected, renderables);
+	}
+
+	@Test
+	public void testGroupByState () {
+		Camera camera = createCamera();
+		Array<Renderable> renderables = createRenderables(2000);
+		new RadixRenderableSorter().sort(camera, renderables);
+		assertEquals(2000, renderables.size);
+
+		ObjectSet<Material> finished = new ObjectSet();
+		Material current = null;
+		float lastDistance = -1;
+		boolean blended = false;
+		for (Renderable renderable : renderables) {
+			float distance = camera.position.dst2(renderable.worldTransform.getTranslation(new Vector3()));
+			if (renderable.material == materials[3]) {
+				// Blended renderables are last and back to front.
+				if (!blended) lastDistance = Float.POSITIVE_INFINITY;
+				blended = true;
+				assertTrue(distance <= lastDistance);
+			} else {
+				assertFalse(blended);
+				// Opaque renderables are grouped by material and front to back within each group.
+				if (renderable.material != current) {
+					assertTrue(finished.add(renderable.material));
+					current = renderable.material;
+					lastDistance = -1;
+				}
+				assertTrue(distance >= lastDistance);
+			}
+			lastDistance = distance;
+		}
+		assertTrue(blended);
+		assertEquals(3, finished.size);
+	}
+
+	private Array<Renderable> createRenderables (int count) {
+		Array<Renderable> renderables = new Array();
+		for (int i = 0; i < count; i++) {
+			Renderable renderable = new Renderable();
+			renderable.material = materials[random.nextInt(materials.length)];
+			renderable.worldTransform.setToTranslation(random.nextFloat() * 200 - 100, random.nextFloat() * 200 - 100,
+				random.nextFloat() * 200 - 100);
+			renderables.add(renderable);
+		}
+		return renderables;
+	}
+
+	private Camera createCamera () {
+		Camera camera = new Camera() {
+			public void update () {
+			}
+
+			public void update (boolean updateFrustum) {
+			}
+		};
+		camera.position.set(10, 20, 30);
+		return camera;
+	}
+}
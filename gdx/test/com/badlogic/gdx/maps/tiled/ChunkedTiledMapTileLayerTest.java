@@ -0,0 +1,54 @@
+package com.badlogic.gdx.maps.tiled;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+
+import static org.junit.Assert.*;
+
+public class ChunkedTiledMapTileLayerTest {
+	@Test
+	public void testCells () {
+		TiledMapTile grass = new StaticTiledMapTile(new TextureRegion());
+		TiledMapTile water = new StaticTiledMapTile(new TextureRegion());
+		ChunkedTiledMapTileLayer layer = new ChunkedTiledMapTileLayer(100, 40, 32, 32);
+		assertEquals(7, layer.getChunksX());
+		assertEquals(3, layer.getChunksY());
+
+		Cell cell = new Cell();
+		cell.setTile(grass).setFlipVertically(true).setRotation(Cell.ROTATE_270);
+		layer.setCell(99, 39, cell);
+		cell.setTile(water).setFlipVertically(false).setFlipHorizontally(true).setRotation(Cell.ROTATE_0);
+		layer.setCell(0, 0, cell);
+		layer.setCell(100, 0, cell); // Out of bounds.
+
+		assertNull(layer.getCell(1, 0));
+		assertNull(layer.getCell(100, 0));
+		assertNull(layer.getChunk(1, 1));
+		assertNotNull(layer.getChunk(6, 2));
+
+		Cell result = layer.getCell(99, 39);
+		assertSame(grass, result.getTile());
+		assertTrue(result.getFlipVertically());
+		assertFalse(result.getFlipHorizontally());
+		assertEquals(Cell.ROTATE_270, result.getRotation());
+
+		result = layer.getCell(0, 0);
+		assertSame(water, result.getTile());
+		assertTrue(result.getFlipHorizontally());
+		assertFalse(result.getFlipVertically());
+		assertEquals(Cell.ROTATE_0, result.getRotation());
+
+		// The flyweight writes through to the layer.
+		result.setTile(grass).setRotation(Cell.ROTATE_90);
+		assertSame(grass, layer.getCell(0, 0).getTile());
+		assertEquals(Cell.ROTATE_90, layer.getCell(0, 0).getRotation());
+		assertTrue(layer.getCell(0, 0).getFlipHorizontally());
+
+		layer.setCell(0, 0, null);
+		assertNull(layer.getCell(0, 0));
+		assertEquals(0, layer.getPacked(0, 0));
+	}
+}
@@ -0,0 +1,68 @@
+package com.badlogic.gdx.maps.tiled;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+
+import static com.badlogic.gdx.maps.tiled.TmxMapLoaderTest.assertTile;
+import static org.junit.Assert.*;
+
+public class TmjMapLoaderTest {
+	/** The same map as {@link TmxMapLoaderTest}. */
+	static private final String tmj = "{\"type\":\"map\", \"orientation\":\"orthogonal\", \"width\":10, \"height\":8,"
+		+ " \"tilewidth\":16, \"tileheight\":16, \"infinite\":true,\n" //
+		+ "\"tilesets\":[{\"firstgid\":1, \"name\":\"tiles\", \"tilewidth\":16, \"tileheight\":16, \"tilecount\":3, \"columns\":0,"
+		+ " \"tiles\":[\n" //
+		+ " {\"id\":0, \"image\":\"a.png\", \"imagewidth\":16, \"imageheight\":16},\n" //
+		+ " {\"id\":1, \"image\":\"b.png\", \"imagewidth\":16, \"imageheight\":16},\n" //
+		+ " {\"id\":2, \"image\":\"c.png\", \"imagewidth\":16, \"imageheight\":16}]}],\n" //
+		+ "\"layers\":[\n" //
+		+ " {\"id\":1, \"name\":\"a\", \"type\":\"tilelayer\", \"width\":10, \"height\":8, \"chunks\":[" //
+		+ chunk(-16, -16, 0, 0, 1) + "," + chunk(0, 0, 3, 5, 2) + "]},\n" //
+		+ " {\"id\":2, \"name\":\"b\", \"type\":\"tilelayer\", \"width\":10, \"height\":8, \"chunks\":[" //
+		+ chunk(16, -32, 4, 2, 3) + "]},\n" //
+		+ " {\"id\":3, \"name\":\"objects\", \"type\":\"objectgroup\", \"objects\":[" //
+		+ "{\"id\":1, \"x\":48, \"y\":80, \"width\":16, \"height\":16}]}]}";
+
+	@Test
+	public void testChunks () {
+		for (boolean flipY : new boolean[] {true, false}) {
+			TiledMap map = load(flipY);
+			assertTile(map, "a", -16, -16, 1, flipY);
+			assertTile(map, "a", 3, 5, 2, flipY);
+			assertTile(map, "b", 20, -30, 3, flipY);
+
+			Rectangle rect = ((RectangleMapObject)map.getLayers().get("objects").getObjects().get(0)).getRectangle();
+			assertEquals(3 * 16, rect.x, 0);
+			assertEquals((flipY ? 8 - 1 - 5 : 5) * 16, rect.y, 0);
+		}
+	}
+
+	private TiledMap load (boolean flipY) {
+		TmjMapLoader loader = new TmjMapLoader();
+		loader.root = loader.json.parse(tmj);
+		TmjMapLoader.Parameters parameters = new TmjMapLoader.Parameters();
+		parameters.flipY = flipY;
+		return loader.loadTiledMap(new FileHandle("map.tmj"), parameters, new ImageResolver() {
+			public TextureRegion getImage (String name) {
+				return new TextureRegion();
+			}
+		});
+	}
+
+	/** Returns a 16x16 CSV chunk with one tile at the specified position in the chunk. */
+	static private String chunk (int x, int y, int tileX, int tileY, int id) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("{\"x\":" + x + ", \"y\":" + y + ", \"width\":16, \"height\":16, \"data\":[");
+		for (int i = 0; i < 256; i++) {
+			if (i > 0) buffer.append(',');
+			buffer.append(i == tileY * 16 + tileX ? id : 0);
+		}
+		buffer.append("]}");
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,85 @@
+package com.badlogic.gdx.maps.tiled;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.Rectangle;
+
+import static org.junit.Assert.*;
+
+public class TmxMapLoaderTest {
+	/** An infinite 10x8 map. Layer "a" has chunks at -16,-16 and 0,0, layer "b" one chunk at 16,-32, so the layers have different
+	 * sizes and offsets. The object covers the tile at 3,5. */
+	static private final String tmx = "<map version=\"1.10\" orientation=\"orthogonal\" width=\"10\" height=\"8\"" //
+		+ " tilewidth=\"16\" tileheight=\"16\" infinite=\"1\">\n" //
+		+ "<tileset firstgid=\"1\" name=\"tiles\" tilewidth=\"16\" tileheight=\"16\" tilecount=\"3\" columns=\"0\">\n" //
+		+ " <tile id=\"0\"><image width=\"16\" height=\"16\" source=\"a.png\"/></tile>\n" //
+		+ " <tile id=\"1\"><image width=\"16\" height=\"16\" source=\"b.png\"/></tile>\n" //
+		+ " <tile id=\"2\"><image width=\"16\" height=\"16\" source=\"c.png\"/></tile>\n" //
+		+ "</tileset>\n" //
+		+ "<layer id=\"1\" name=\"a\" width=\"10\" height=\"8\"><data encoding=\"csv\">\n" //
+		+ chunk(-16, -16, 0, 0, 1) + chunk(0, 0, 3, 5, 2) //
+		+ "</data></layer>\n" //
+		+ "<layer id=\"2\" name=\"b\" width=\"10\" height=\"8\"><data encoding=\"csv\">\n" //
+		+ chunk(16, -32, 4, 2, 3) //
+		+ "</data></layer>\n" //
+		+ "<objectgroup id=\"3\" name=\"objects\">\n" //
+		+ " <object id=\"1\" x=\"48\" y=\"80\" width=\"16\" height=\"16\"/>\n" //
+		+ "</objectgroup>\n" //
+		+ "</map>";
+
+	@Test
+	public void testChunks () {
+		for (boolean flipY : new boolean[] {true, false}) {
+			TiledMap map = load(flipY);
+			assertTile(map, "a", -16, -16, 1, flipY);
+			assertTile(map, "a", 3, 5, 2, flipY);
+			assertTile(map, "b", 20, -30, 3, flipY);
+
+			// The object is flipped against the map height, so it must be where the tile at 3,5 is drawn.
+			Rectangle rect = ((RectangleMapObject)map.getLayers().get("objects").getObjects().get(0)).getRectangle();
+			assertEquals(3 * 16, rect.x, 0);
+			assertEquals((flipY ? 8 - 1 - 5 : 5) * 16, rect.y, 0);
+		}
+	}
+
+	private TiledMap load (boolean flipY) {
+		TmxMapLoader loader = new TmxMapLoader();
+		loader.root = loader.xml.parse(tmx);
+		TmxMapLoader.Parameters parameters = new TmxMapLoader.Parameters();
+		parameters.flipY = flipY;
+		return loader.loadTiledMap(new FileHandle("map.tmx"), parameters, new ImageResolver() {
+			public TextureRegion getImage (String name) {
+				return new TextureRegion();
+			}
+		});
+	}
+
+	/** Asserts the tile with the specified id is drawn where Tiled shows the tile at the specified position. The renderers draw a
+	 * cell at column * tileWidth + offsetX and row * tileHeight - offsetY. */
+	static void assertTile (TiledMap map, String layerName, int tileX, int tileY, int id, boolean flipY) {
+		TiledMapTileLayer layer = (TiledMapTileLayer)map.getLayers().get(layerName);
+		int mapHeight = map.getProperties().get("height", Integer.class);
+		float x = tileX * 16, y = (flipY ? mapHeight - 1 - tileY : tileY) * 16;
+		int column = Math.round((x - layer.getRenderOffsetX()) / 16), row = Math.round((y + layer.getRenderOffsetY()) / 16);
+		Cell cell = layer.getCell(column, row);
+		assertNotNull(layerName + " " + tileX + "," + tileY, cell);
+		assertEquals(id, cell.getTile().getId());
+	}
+
+	/** Returns a 16x16 CSV chunk with one tile at the specified position in the chunk. */
+	static private String chunk (int x, int y, int tileX, int tileY, int id) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("<chunk x=\"" + x + "\" y=\"" + y + "\" width=\"16\" height=\"16\">\n");
+		for (int i = 0; i < 256; i++) {
+			if (i > 0) buffer.append(i % 16 == 0 ? ",\n" : ",");
+			buffer.append(i == tileY * 16 + tileX ? id : 0);
+		}
+		buffer.append("\n</chunk>\n");
+		return buffer.toString();
+	}
+}
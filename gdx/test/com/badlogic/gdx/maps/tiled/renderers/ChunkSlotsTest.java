@@ -0,0 +1,154 @@
+package com.badlogic.gdx.maps.tiled.renderers;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.ChunkSlots.Chunk;
+import com.badlogic.gdx.maps.tiled.renderers.ChunkSlots.LayerCache;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import static org.junit.Assert.*;
+
+public class ChunkSlotsTest {
+	@Test
+	public void testVisibleAndPrefetch () {
+		ChunkSlots slots = new ChunkSlots(8, 4);
+		TiledMapTileLayer layer = new TiledMapTileLayer(40, 20, 16, 16);
+		LayerCache cache = slots.layerCache(layer);
+		assertSame(cache, slots.layerCache(layer));
+		assertEquals(5, cache.chunksX);
+		assertEquals(3, cache.chunksY);
+		assertNull(slots.layerCache(new MapLayer()));
+
+		// Chunks are 128 pixels, so the view overlaps chunks 0 to 2 of the first row.
+		slots.frame = 1;
+		slots.markVisible(cache, new Rectangle(100, 0, 200, 100), 1);
+		assertEquals(0, cache.x1);
+		assertEquals(2, cache.x2);
+		assertEquals(0, cache.y1);
+		assertEquals(0, cache.y2);
+		assertEquals(1, slots.chunk(cache, 2, 0).lastVisible);
+
+		// The renderers add the X offset, so the view overlaps one chunk less.
+		layer.setOffsetX(128);
+		slots.markVisible(cache, new Rectangle(100, 0, 200, 100), 1);
+		assertEquals(0, cache.x1);
+		assertEquals(1, cache.x2);
+		layer.setOffsetX(0);
+		slots.markVisible(cache, new Rectangle(100, 0, 200, 100), 1);
+
+		slots.markPrefetch(cache);
+		assertEquals(3, slots.prefetchX2(cache));
+		assertEquals(1, slots.prefetchY2(cache));
+		assertEquals(1, slots.chunk(cache, 3, 1).lastUsed);
+		assertEquals(0, slots.chunk(cache, 3, 1).lastVisible);
+		assertNull(cache.chunks[4]);
+	}
+
+	@Test
+	public void testEviction () {
+		ChunkSlots slots = new ChunkSlots(8, 4);
+		TiledMapTileLayer layer = new TiledMapTileLayer(40, 20, 16, 16);
+		LayerCache cache = slots.layerCache(layer);
+		slots.frame = 1;
+		slots.markVisible(cache, new Rectangle(100, 0, 200, 100), 1);
+		slots.markPrefetch(cache);
+		for (int x = 0; x <= 2; x++)
+			assertTrue(slots.acquireSlot(slots.chunk(cache, x, 0), false));
+		assertEquals(3, slots.getCachedChunks());
+
+		// Prefetched chunks use free slots, but don't evict chunks in or near the view.
+		Chunk near = slots.chunk(cache, 3, 0);
+		assertTrue(slots.acquireSlot(near, true));
+		assertEquals(3, near.slot);
+		assertFalse(slots.acquireSlot(slots.chunk(cache, 3, 1), true));
+		assertEquals(-1, slots.chunk(cache, 3, 1).slot);
+
+		// A chunk in view evicts chunks near the view, but never chunks in view.
+		near.built = true;
+		assertTrue(slots.acquireSlot(slots.chunk(cache, 3, 1), false));
+		assertEquals(-1, near.slot);
+		assertFalse(near.built);
+		slots.chunk(cache, 3, 1).lastVisible = 1; // All slots are used by chunks in view.
+		try {
+			slots.acquireSlot(near, false);
+			fail();
+		} catch (GdxRuntimeException expected) {
+		}
+
+		// After the view moves, the least recently used chunk is evicted first.
+		slots.frame = 2;
+		slots.chunk(cache, 0, 0).lastUsed = 2;
+		slots.chunk(cache, 2, 0).lastUsed = 2;
+		Chunk chunk = slots.chunk(cache, 4, 2);
+		assertTrue(slots.acquireSlot(chunk, false));
+		assertEquals(1, chunk.slot);
+		assertEquals(-1, slots.chunk(cache, 1, 0).slot);
+
+		slots.releaseSlot(chunk);
+		assertEquals(-1, chunk.slot);
+		assertEquals(3, slots.getCachedChunks());
+	}
+
+	@Test
+	public void testInvalidate () {
+		ChunkSlots slots = new ChunkSlots(8, 4);
+		TiledMapTileLayer layer = new TiledMapTileLayer(40, 20, 16, 16);
+		slots.invalidateCell(layer, 0, 0); // No cache yet.
+		LayerCache cache = slots.layerCache(layer);
+		Chunk a = slots.chunk(cache, 0, 0), b = slots.chunk(cache, 1, 0);
+		a.built = b.built = true;
+
+		slots.invalidateCell(layer, 9, 3);
+		assertTrue(a.built);
+		assertFalse(b.built);
+		slots.invalidateCell(layer, 40, 0);
+		slots.invalidateCell(layer, -1, 0);
+		assertTrue(a.built);
+
+		b.built = true;
+		slots.invalidateLayer(layer);
+		assertFalse(a.built);
+		assertFalse(b.built);
+
+		slots.acquireSlot(a, false);
+		slots.clear();
+		assertEquals(0, slots.getCachedChunks());
+		assertNotSame(cache, slots.layerCache(layer));
+	}
+
+	@Test
+	public void testImageChunks () {
+		ChunkSlots slots = new ChunkSlots(8, 4);
+		LayerCache cache = new LayerCache(new MapLayer(), 1, 1); // Image layers have one chunk at first.
+		assertFalse(slots.isImageBuilt(cache));
+
+		// A repeating image that needs three chunks grows the layer's chunks, which are all in view.
+		slots.frame = 1;
+		for (int i = 0; i < 3; i++) {
+			Chunk chunk = slots.imageChunk(cache, i);
+			assertEquals(1, chunk.lastVisible);
+			assertTrue(slots.acquireSlot(chunk, false));
+			chunk.built = true;
+		}
+		slots.setImageChunks(cache, 3);
+		assertEquals(2, cache.x2);
+		assertTrue(slots.isImageBuilt(cache));
+		assertEquals(3, slots.getCachedChunks());
+
+		// The next frame marks all of them visible, evicting one rebuilds the layer.
+		slots.frame = 2;
+		slots.markVisible(cache, new Rectangle(0, 0, 100, 100), 1);
+		assertEquals(2, slots.chunk(cache, 2, 0).lastVisible);
+		slots.chunk(cache, 1, 0).built = false;
+		assertFalse(slots.isImageBuilt(cache));
+
+		// Using fewer chunks releases the others.
+		slots.setImageChunks(cache, 1);
+		assertEquals(1, slots.getCachedChunks());
+		assertEquals(-1, slots.chunk(cache, 2, 0).slot);
+		assertTrue(slots.isImageBuilt(cache));
+	}
+}
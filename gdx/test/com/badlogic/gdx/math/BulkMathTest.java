@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BulkMathTest {
+	private final Random random = new Random(7);
+
+	@Test
+	public void testTransforms () {
+		Matrix4 mat = randomMatrix();
+		int count = 37, stride = 5, offset = 3;
+		float[] vecs = new float[offset + count * stride];
+		for (int i = 0; i < vecs.length; i++)
+			vecs[i] = random.nextFloat() * 20 - 10;
+		for (int op = 0; op < 3; op++) {
+			float[] strided = vecs.clone();
+			float[] x = new float[count + offset], y = new float[count + offset], z = new float[count + offset];
+			for (int i = 0; i < count; i++) {
+				x[offset + i] = vecs[offset + i * stride];
+				y[offset + i] = vecs[offset + i * stride + 1];
+				z[offset + i] = vecs[offset + i * stride + 2];
+			}
+			if (op == 0) {
+				BulkMath.mulVec(mat.val, strided, offset, count, stride);
+				BulkMath.mulVec(mat.val, x, y, z, offset, count);
+			} else if (op == 1) {
+				BulkMath.prj(mat.val, strided, offset, count, stride);
+				BulkMath.prj(mat.val, x, y, z, offset, count);
+			} else {
+				BulkMath.rot(mat.val, strided, offset, count, stride);
+				BulkMath.rot(mat.val, x, y, z, offset, count);
+			}
+			Vector3 v = new Vector3();
+			for (int i = 0; i < count; i++) {
+				int index = offset + i * stride;
+				v.set(vecs[index], vecs[index + 1], vecs[index + 2]);
+				if (op == 0)
+					v.mul(mat);
+				else if (op == 1)
+					v.prj(mat);
+				else
+					v.rot(mat);
+				assertEquals(v, new Vector3(strided[index], strided[index + 1], strided[index + 2]));
+				assertEquals(v, new Vector3(x[offset + i], y[offset + i], z[offset + i]));
+				// Floats between vectors are not changed.
+				assertEquals(vecs[index + 3], strided[index + 3], 0);
+				assertEquals(vecs[index + 4], strided[index + 4], 0);
+			}
+			assertEquals(vecs[0], strided[0], 0);
+		}
+	}
+
+	@Test
+	public void testMul () {
+		int count = 5;
+		float[] a = new float[count * 16 + 16], b = new float[count * 16], out = new float[count * 16 + 32];
+		Matrix4[] expected = new Matrix4[count];
+		for (int i = 0; i < count; i++) {
+			Matrix4 ma = randomMatrix(), mb = randomMatrix();
+			System.arraycopy(ma.val, 0, a, 16 + i * 16, 16);
+			System.arraycopy(mb.val, 0, b, i * 16, 16);
+			expected[i] = ma.cpy();
+			Matrix4.mul(expected[i].val, mb.val);
+		}
+		BulkMath.mul(a, 16, b, 0, out, 32, count);
+		for (int i = 0; i < count; i++)
+			for (int ii = 0; ii < 16; ii++)
+				assertEquals(expected[i].val[ii], out[32 + i * 16 + ii], 0);
+
+		// In place.
+		BulkMath.mul(a, 16, b, 0, b, 0, count);
+		for (int i = 0; i < count; i++)
+			for (int ii = 0; ii < 16; ii++)
+				assertEquals(expected[i].val[ii], b[i * 16 + ii], 0);
+	}
+
+	@Test
+	public void testMulLeft () {
+		Matrix4 parent = randomMatrix();
+		int count = 4;
+		float[] mats = new float[count * 16];
+		Matrix4[] expected = new Matrix4[count];
+		for (int i = 0; i < count; i++) {
+			Matrix4 local = randomMatrix();
+			System.arraycopy(local.val, 0, mats, i * 16, 16);
+			expected[i] = parent.cpy();
+			Matrix4.mul(expected[i].val, local.val);
+		}
+		BulkMath.mulLeft(parent.val, mats, 0, count);
+		for (int i = 0; i < count; i++)
+			for (int ii = 0; ii < 16; ii++)
+				assertEquals(expected[i].val[ii], mats[i * 16 + ii], 0);
+	}
+
+	@Test
+	public void testDot () {
+		for (int count = 0; count < 11; count++) {
+			float[] a = new float[count + 2], b = new float[count + 1];
+			double expected = 0;
+			for (int i = 0; i < count; i++) {
+				a[i + 2] = random.nextFloat() * 2 - 1;
+				b[i + 1] = random.nextFloat() * 2 - 1;
+				expected += a[i + 2] * b[i + 1];
+			}
+			assertEquals(expected, BulkMath.dot(a, 2, b, 1, count), 0.00001f);
+		}
+
+		Plane plane = new Plane(new Vector3(1, 2, -3).nor(), 4);
+		int count = 9;
+		float[] x = new float[count], y = new float[count], z = new float[count], out = new float[count];
+		for (int i = 0; i < count; i++) {
+			x[i] = random.nextFloat() * 10;
+			y[i] = random.nextFloat() * 10;
+			z[i] = random.nextFloat() * 10;
+		}
+		BulkMath.dot(x, y, z, plane.normal.x, plane.normal.y, plane.normal.z, plane.d, out, 0, count);
+		for (int i = 0; i < count; i++)
+			assertEquals(plane.distance(new Vector3(x[i], y[i], z[i])), out[i], 0);
+	}
+
+	private Matrix4 randomMatrix () {
+		Matrix4 mat = new Matrix4();
+		for (int i = 0; i < 16; i++)
+			mat.val[i] = random.nextFloat() * 4 - 2;
+		return mat;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
+
+public class FrustumTest {
+	@Test
+	public void testBatchBounds () {
+		Random random = new Random(3);
+		Frustum frustum = createFrustum();
+		int offset = 5, count = 1000, end = offset + count;
+		float[] x = new float[end], y = new float[end], z = new float[end];
+		float[] halfWidth = new float[end], halfHeight = new float[end], halfDepth = new float[end];
+		for (int i = offset; i < end; i++) {
+			x[i] = random.nextFloat() * 100 - 50;
+			y[i] = random.nextFloat() * 100 - 50;
+			z[i] = random.nextFloat() * -110 + 5;
+			halfWidth[i] = random.nextFloat() * 5;
+			halfHeight[i] = random.nextFloat() * 5;
+			halfDepth[i] = random.nextFloat() * 5;
+		}
+		Bits bits = new Bits();
+		bits.set(0);
+		bits.set(offset); // Cleared if not visible.
+		IntArray indices = new IntArray();
+		int visible = frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, bits);
+		assertEquals(visible, frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth, offset, count, indices));
+
+		int expected = 0;
+		for (int i = offset; i < end; i++) {
+			boolean inFrustum = frustum.boundsInFrustum(x[i], y[i], z[i], halfWidth[i], halfHeight[i], halfDepth[i]);
+			assertEquals(inFrustum, bits.get(i));
+			if (inFrustum) assertEquals(i, indices.get(expected++));
+		}
+		assertEquals(expected, visible);
+		assertEquals(expected, indices.size);
+		assertTrue(expected > 50 && expected < count - 50);
+		assertTrue(bits.get(0));
+	}
+
+	@Test
+	public void testBatchSpheres () {
+		Random random = new Random(4);
+		Frustum frustum = createFrustum();
+		int count = 130;
+		float[] x = new float[count], y = new float[count], z = new float[count], radius = new float[count];
+		for (int i = 0; i < count; i++) {
+			x[i] = random.nextFloat() * 100 - 50;
+			y[i] = random.nextFloat() * 100 - 50;
+			z[i] = random.nextFloat() * -110 + 5;
+			radius[i] = random.nextFloat() * 5;
+		}
+		Bits bits = new Bits();
+		IntArray indices = new IntArray();
+		int visible = frustum.spheresInFrustum(x, y, z, radius, 0, count, bits);
+		assertEquals(visible, frustum.spheresInFrustum(x, y, z, radius, 0, count, indices));
+
+		int expected = 0;
+		for (int i = 0; i < count; i++) {
+			boolean inFrustum = frustum.sphereInFrustum(x[i], y[i], z[i], radius[i]);
+			assertEquals(inFrustum, bits.get(i));
+			if (inFrustum) assertEquals(i, indices.get(expected++));
+		}
+		assertEquals(expected, visible);
+		assertTrue(expected > 10);
+	}
+
+	/** Returns the frustum of a camera at the origin looking along -z with a 90 degree field of view, without the native methods
+	 * used by {@link Frustum#update(Matrix4)}. */
+	private Frustum createFrustum () {
+		Frustum frustum = new Frustum();
+		float diagonal = (float)Math.sqrt(0.5);
+		frustum.planes[0].set(0, 0, -1, -1);
+		frustum.planes[1].set(0, 0, 1, 100);
+		frustum.planes[2].set(diagonal, 0, -diagonal, 0);
+		frustum.planes[3].set(-diagonal, 0, -diagonal, 0);
+		frustum.planes[4].set(0, -diagonal, -diagonal, 0);
+		frustum.planes[5].set(0, diagonal, -diagonal, 0);
+		return frustum;
+	}
+}
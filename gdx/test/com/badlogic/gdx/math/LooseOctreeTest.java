@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+
+public class LooseOctreeTest {
+	private final Random random = new Random(3);
+
+	@Test
+	public void testQueriesMatchBruteForce () {
+		Array<BoundingBox> boxes = new Array();
+		for (int i = 0; i < 300; i++)
+			boxes.add(randomBox(new BoundingBox()));
+
+		LooseOctree<BoundingBox> octree = newOctree(), bulk = newOctree();
+		for (BoundingBox box : boxes)
+			octree.add(box);
+		bulk.addAll(boxes);
+		assertEquals(300, octree.size());
+		assertEquals(300, bulk.size());
+		assertFalse(octree.root.children == null);
+		assertQueries(octree, boxes);
+		assertQueries(bulk, boxes);
+
+		for (int frame = 0; frame < 10; frame++) {
+			for (int i = 0; i < 100; i++) {
+				BoundingBox box = boxes.get(random.nextInt(boxes.size));
+				if (random.nextBoolean()) {
+					float offset = random.nextFloat() * 2 - 1;
+					box.set(box.min.add(offset), box.max.add(offset));
+				} else
+					randomBox(box);
+				octree.update(box);
+				bulk.update(box);
+			}
+			assertQueries(octree, boxes);
+			assertQueries(bulk, boxes);
+		}
+
+		for (int i = 0; i < 250; i++) {
+			BoundingBox box = boxes.removeIndex(random.nextInt(boxes.size));
+			assertTrue(octree.remove(box));
+			assertTrue(bulk.remove(box));
+			assertFalse(octree.remove(box));
+		}
+		assertEquals(50, octree.size());
+		assertQueries(octree, boxes);
+		assertQueries(bulk, boxes);
+
+		octree.clear();
+		assertEquals(0, octree.size());
+		assertEquals(0, octree.query(new BoundingBox(new Vector3(-100, -100, -100), new Vector3(100, 100, 100)), new Array()).size);
+	}
+
+	@Test
+	public void testVisitorStops () {
+		LooseOctree<BoundingBox> octree = newOctree();
+		for (int i = 0; i < 50; i++)
+			octree.add(randomBox(new BoundingBox()));
+		final int[] visited = new int[1];
+		boolean completed = octree.query(new BoundingBox(new Vector3(-100, -100, -100), new Vector3(100, 100, 100)),
+			new LooseOctree.Visitor<BoundingBox>() {
+				public boolean visit (BoundingBox object) {
+					return ++visited[0] < 10;
+				}
+			});
+		assertFalse(completed);
+		assertEquals(10, visited[0]);
+	}
+
+	private void assertQueries (LooseOctree<BoundingBox> octree, Array<BoundingBox> boxes) {
+		assertResults(boxes, octree.getAll(new Array()));
+
+		for (int i = 0; i < 20; i++) {
+			BoundingBox query = randomBox(new BoundingBox());
+			query.set(query.min.scl(1.5f), query.max.scl(1.5f).add(5));
+			Array<BoundingBox> expected = new Array();
+			for (BoundingBox box : boxes)
+				if (box.intersects(query)) expected.add(box);
+			assertResults(expected, octree.query(query, new Array()));
+		}
+
+		Frustum frustum = new Frustum();
+		float x = random.nextFloat() * 20 - 10, y = random.nextFloat() * 20 - 10, z = random.nextFloat() * 20 - 10;
+		frustum.planes[0].set(1, 0, 0, -x);
+		frustum.planes[1].set(-1, 0, 0, x + 8);
+		frustum.planes[2].set(0, 1, 0, -y);
+		frustum.planes[3].set(0, -1, 0, y + 8);
+		frustum.planes[4].set(0, 0, 1, -z);
+		frustum.planes[5].set(0.6f, 0, -0.8f, z + 8);
+		Array<BoundingBox> expected = new Array();
+		for (BoundingBox box : boxes)
+			if (frustum.boundsInFrustum(box)) expected.add(box);
+		assertResults(expected, octree.query(frustum, new Array()));
+
+		Vector3 tmp = new Vector3();
+		for (int i = 0; i < 20; i++) {
+			Ray ray = new Ray(new Vector3(random.nextFloat() * 60 - 30, random.nextFloat() * 60 - 30, -40),
+				new Vector3(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, 1));
+			expected.clear();
+			BoundingBox nearest = null;
+			float nearestDistance = Float.POSITIVE_INFINITY;
+			for (BoundingBox box : boxes) {
+				if (!Intersector.intersectRayBounds(ray, box, tmp)) continue;
+				float distance = tmp.dst(ray.origin);
+				if (distance > 60) continue;
+				expected.add(box);
+				if (distance < nearestDistance) {
+					nearest = box;
+					nearestDistance = distance;
+				}
+			}
+			assertResults(expected, octree.rayCast(ray, 60, new Array()));
+			LooseOctree.RayCastResult<BoundingBox> result = new LooseOctree.RayCastResult();
+			assertEquals(nearest != null, octree.rayCast(ray, 60, result));
+			if (nearest != null) assertEquals(nearestDistance, result.distance, 0.001f);
+		}
+	}
+
+	private void assertResults (Array<BoundingBox> expected, Array<BoundingBox> actual) {
+		ObjectSet<BoundingBox> actualSet = new ObjectSet();
+		for (BoundingBox box : actual)
+			assertTrue("Duplicate result", actualSet.add(box));
+		assertEquals(expected.size, actual.size);
+		for (BoundingBox box : expected)
+			assertTrue(actualSet.contains(box));
+	}
+
+	private BoundingBox randomBox (BoundingBox box) {
+		// Some boxes are outside of the octree's bounds.
+		float x = random.nextFloat() * 60 - 30, y = random.nextFloat() * 60 - 30, z = random.nextFloat() * 60 - 30;
+		float size = random.nextInt(10) == 0 ? random.nextFloat() * 15 : random.nextFloat() * 2;
+		return box.set(new Vector3(x, y, z), new Vector3(x + size, y + size * 0.5f, z + size));
+	}
+
+	private LooseOctree<BoundingBox> newOctree () {
+		return new LooseOctree(new Vector3(-25, -25, -25), new Vector3(25, 25, 25), 4, 4,
+			new LooseOctree.BoundsProvider<BoundingBox>() {
+				public BoundingBox getBounds (BoundingBox object, BoundingBox out) {
+					return out.set(object);
+				}
+			});
+	}
+}
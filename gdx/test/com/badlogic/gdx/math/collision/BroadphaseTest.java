@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math.collision;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongArray;
+
+public class BroadphaseTest {
+	@Test
+	public void testSpatialHashGrid () {
+		assertPairs(new SpatialHashGrid(4), true);
+		assertPairs(new SpatialHashGrid(4), false);
+	}
+
+	@Test
+	public void testSweepAndPrune () {
+		assertPairs(new SweepAndPrune(), true);
+		assertPairs(new SweepAndPrune(1), false);
+	}
+
+	@Test
+	public void testInvalidProxy () {
+		assertInvalidProxy(new SpatialHashGrid(4));
+		assertInvalidProxy(new SweepAndPrune());
+	}
+
+	private void assertInvalidProxy (Broadphase broadphase) {
+		int a = broadphase.add(0, 0, 0, 1, 1, 1), b = broadphase.add(0, 0, 0, 1, 1, 1);
+		broadphase.remove(a);
+		assertInvalid(broadphase, a);
+		assertInvalid(broadphase, -1);
+		assertInvalid(broadphase, 99);
+		assertEquals(1, broadphase.size());
+		IntArray pairs = new IntArray();
+		broadphase.findPairs(pairs);
+		assertEquals(0, pairs.size);
+
+		broadphase.clear();
+		assertInvalid(broadphase, b);
+		assertEquals(0, broadphase.size());
+	}
+
+	private void assertInvalid (Broadphase broadphase, int proxy) {
+		try {
+			broadphase.remove(proxy);
+			fail("Removed invalid proxy: " + proxy);
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			broadphase.move(proxy, 0, 0, 0, 1, 1, 1);
+			fail("Moved invalid proxy: " + proxy);
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	private void assertPairs (Broadphase broadphase, boolean is3D) {
+		Random random = new Random(5);
+		IntMap<float[]> boxes = new IntMap();
+		for (int i = 0; i < 400; i++) {
+			float[] box = randomBox(random, is3D);
+			boxes.put(add(broadphase, box, is3D), box);
+		}
+		assertEquals(400, broadphase.size());
+		assertPairs(broadphase, boxes);
+
+		for (int frame = 0; frame < 10; frame++) {
+			// Remove before moving, so proxies are moved while the slots of removed proxies are not yet compacted.
+			IntArray removed = new IntArray();
+			for (IntMap.Entry<float[]> entry : boxes.entries())
+				if (random.nextInt(20) == 0) removed.add(entry.key);
+			for (int i = 0; i < removed.size; i++) {
+				broadphase.remove(removed.get(i));
+				boxes.remove(removed.get(i));
+			}
+			for (IntMap.Entry<float[]> entry : boxes.entries()) {
+				float[] box = entry.value;
+				if (random.nextInt(4) == 0) {
+					// Move far.
+					System.arraycopy(randomBox(random, is3D), 0, box, 0, 6);
+				} else {
+					float dx = random.nextFloat() - 0.5f, dy = random.nextFloat() - 0.5f, dz = is3D ? random.nextFloat() - 0.5f : 0;
+					box[0] += dx;
+					box[1] += dy;
+					box[2] += dz;
+					box[3] += dx;
+					box[4] += dy;
+					box[5] += dz;
+				}
+				if (is3D)
+					broadphase.move(entry.key, box[0], box[1], box[2], box[3], box[4], box[5]);
+				else
+					broadphase.move(entry.key, new Rectangle(box[0], box[1], box[3] - box[0], box[4] - box[1]));
+			}
+			for (int i = 0; i < removed.size; i++) {
+				float[] box = randomBox(random, is3D);
+				boxes.put(add(broadphase, box, is3D), box);
+			}
+			assertEquals(boxes.size, broadphase.size());
+			assertPairs(broadphase, boxes);
+		}
+
+		broadphase.clear();
+		assertEquals(0, broadphase.size());
+		IntArray pairs = new IntArray();
+		broadphase.findPairs(pairs);
+		assertEquals(0, pairs.size);
+	}
+
+	private void assertPairs (Broadphase broadphase, IntMap<float[]> boxes) {
+		LongArray expected = new LongArray();
+		int[] proxies = boxes.keys().toArray().toArray();
+		for (int i = 0; i < proxies.length; i++) {
+			for (int ii = i + 1; ii < proxies.length; ii++) {
+				float[] a = boxes.get(proxies[i]), b = boxes.get(proxies[ii]);
+				if (a[0] <= b[3] && b[0] <= a[3] && a[1] <= b[4] && b[1] <= a[4] && a[2] <= b[5] && b[2] <= a[5])
+					expected.add(pair(proxies[i], proxies[ii]));
+			}
+		}
+		IntArray pairs = new IntArray();
+		broadphase.findPairs(pairs);
+		assertEquals(0, pairs.size % 2);
+		LongArray actual = new LongArray();
+		for (int i = 0; i < pairs.size; i += 2)
+			actual.add(pair(pairs.get(i), pairs.get(i + 1)));
+		expected.sort();
+		actual.sort();
+		assertTrue(expected.size > 10);
+		assertEquals(expected, actual);
+	}
+
+	private long pair (int a, int b) {
+		return (long)Math.min(a, b) << 32 | Math.max(a, b);
+	}
+
+	private int add (Broadphase broadphase, float[] box, boolean is3D) {
+		if (is3D) return broadphase.add(box[0], box[1], box[2], box[3], box[4], box[5]);
+		return broadphase.add(new Rectangle(box[0], box[1], box[3] - box[0], box[4] - box[1]));
+	}
+
+	private float[] randomBox (Random random, boolean is3D) {
+		float x = random.nextFloat() * 60 - 30, y = random.nextFloat() * 60 - 30, z = is3D ? random.nextFloat() * 60 - 30 : 0;
+		float size = random.nextInt(20) == 0 ? random.nextFloat() * 12 : random.nextFloat() * 3;
+		return new float[] {x, y, z, x + size, y + size, is3D ? z + size : 0};
+	}
+}
@@ -0,0 +1,119 @@
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+
+public class ActorGridTest {
+	@Test
+	public void testHitMatchesGroup () {
+		Random random = new Random(1);
+		Group plain = new Group(), indexed = new Group();
+		indexed.setActorGrid(20);
+		for (int i = 0; i < 500; i++) {
+			float x = random.nextFloat() * 1000, y = random.nextFloat() * 1000;
+			float width = 5 + random.nextFloat() * 40, height = 5 + random.nextFloat() * 40;
+			Actor a = new Actor(), b = new Actor();
+			a.setBounds(x, y, width, height);
+			b.setBounds(x, y, width, height);
+			if (i % 7 == 0) {
+				a.setOrigin(width / 2, height / 2);
+				b.setOrigin(width / 2, height / 2);
+				a.setRotation(i);
+				b.setRotation(i);
+				a.setScale(1.5f);
+				b.setScale(1.5f);
+			}
+			if (i % 50 == 0) {
+				a.setSize(600, 600);
+				b.setSize(600, 600);
+			}
+			plain.addActor(a);
+			indexed.addActor(b);
+		}
+		assertSameHits(plain, indexed, random);
+
+		// Move, remove and reorder some children after the grid was built.
+		for (int i = 0; i < 100; i++) {
+			int index = random.nextInt(plain.getChildren().size);
+			float dx = random.nextFloat() * 200 - 100, dy = random.nextFloat() * 200 - 100;
+			plain.getChild(index).moveBy(dx, dy);
+			indexed.getChild(index).moveBy(dx, dy);
+		}
+		for (int i = 0; i < 50; i++) {
+			int index = random.nextInt(plain.getChildren().size);
+			plain.removeActorAt(index, false);
+			indexed.removeActorAt(index, false);
+		}
+		for (int i = 0; i < 20; i++) {
+			int index = random.nextInt(plain.getChildren().size);
+			plain.getChild(index).setZIndex(0);
+			indexed.getChild(index).setZIndex(0);
+		}
+		assertSameHits(plain, indexed, random);
+
+		// Reorder, insert and remove after the order was cached.
+		for (int i = 0; i < 20; i++) {
+			int first = random.nextInt(plain.getChildren().size), second = random.nextInt(plain.getChildren().size);
+			plain.swapActor(first, second);
+			indexed.swapActor(first, second);
+		}
+		assertSameHits(plain, indexed, random);
+		for (int i = 0; i < 20; i++) {
+			int index = random.nextInt(plain.getChildren().size);
+			float x = random.nextFloat() * 1000, y = random.nextFloat() * 1000;
+			Actor a = new Actor(), b = new Actor();
+			a.setBounds(x, y, 100, 100);
+			b.setBounds(x, y, 100, 100);
+			plain.addActorAt(index, a);
+			indexed.addActorAt(index, b);
+		}
+		plain.removeActorAt(plain.getChildren().size - 1, false);
+		indexed.removeActorAt(indexed.getChildren().size - 1, false);
+		assertSameHits(plain, indexed, random);
+	}
+
+	@Test
+	public void testQuery () {
+		Group group = new Group();
+		group.setActorGrid(10);
+		Actor inside = new Actor(), outside = new Actor(), spanning = new Actor();
+		inside.setBounds(5, 5, 10, 10);
+		outside.setBounds(100, 100, 10, 10);
+		spanning.setBounds(-50, 0, 100, 30);
+		group.addActor(inside);
+		group.addActor(outside);
+		group.addActor(spanning);
+
+		Array<Actor> result = new Array<>();
+		group.getActorGrid().query(0, 0, 20, 20, result);
+		assertEquals(2, result.size);
+		assertTrue(result.contains(inside, true));
+		assertTrue(result.contains(spanning, true));
+
+		outside.setPosition(10, 10);
+		result.clear();
+		group.getActorGrid().query(0, 0, 20, 20, result);
+		assertEquals(3, result.size);
+
+		group.clearChildren();
+		result.clear();
+		group.getActorGrid().query(0, 0, 20, 20, result);
+		assertEquals(0, result.size);
+	}
+
+	private void assertSameHits (Group plain, Group indexed, Random random) {
+		for (int i = 0; i < 5000; i++) {
+			float x = random.nextFloat() * 1100 - 50, y = random.nextFloat() * 1100 - 50;
+			Actor expected = plain.hit(x, y, true), actual = indexed.hit(x, y, true);
+			int expectedIndex = expected == null || expected == plain ? -1 : plain.getChildren().indexOf(expected, true);
+			int actualIndex = actual == null || actual == indexed ? -1 : indexed.getChildren().indexOf(actual, true);
+			assertEquals(expectedIndex, actualIndex);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+
+public class GroupCullingTest {
+	@Test
+	public void testCullBounds () {
+		Group group = new Group();
+		group.setPosition(100, 100);
+		Actor child = new Actor();
+		child.setBounds(-50, 10, 20, 20);
+		group.addActor(child);
+		group.validateCullBounds();
+		assertEquals(50, group.cullLeft, 0);
+		assertEquals(100, group.cullBottom, 0);
+		assertEquals(100, group.cullRight, 0);
+		assertEquals(130, group.cullTop, 0);
+
+		// Moving a descendant invalidates the ascendants.
+		child.setX(20);
+		assertFalse(group.cullBoundsValid);
+		group.validateCullBounds();
+		assertEquals(100, group.cullLeft, 0);
+		assertEquals(140, group.cullRight, 0);
+
+		group.setScale(2);
+		group.validateCullBounds();
+		assertEquals(100, group.cullLeft, 0);
+		assertEquals(180, group.cullRight, 0);
+		assertEquals(160, group.cullTop, 0);
+
+		// Setting the same origin doesn't invalidate.
+		group.setOrigin(0, 0);
+		group.setOriginX(0);
+		assertTrue(group.cullBoundsValid);
+
+		group.setScale(1);
+		group.setRotation(90);
+		group.validateCullBounds();
+		assertEquals(70, group.cullLeft, 0.001f);
+		assertEquals(100, group.cullRight, 0.001f);
+		assertEquals(100, group.cullBottom, 0.001f);
+		assertEquals(140, group.cullTop, 0.001f);
+
+		group.removeActor(child);
+		group.validateCullBounds();
+		assertEquals(100, group.cullLeft, 0.001f);
+		assertEquals(100, group.cullTop, 0.001f);
+	}
+
+	@Test
+	public void testDrawSkipsOffscreen () {
+		Group root = new Group();
+		root.setTransform(false);
+		Group inner = new Group();
+		inner.setTransform(false);
+		inner.setPosition(500, 0);
+		root.addActor(inner);
+		CountingActor visible = new CountingActor(), offscreen = new CountingActor(), innerVisible = new CountingActor(),
+			innerOffscreen = new CountingActor();
+		visible.setBounds(10, 10, 10, 10);
+		offscreen.setBounds(300, 10, 10, 10);
+		innerVisible.setBounds(-495, 10, 10, 10);
+		innerOffscreen.setBounds(100, 10, 10, 10);
+		root.addActor(visible);
+		root.addActor(offscreen);
+		inner.addActor(innerVisible);
+		inner.addActor(innerOffscreen);
+
+		root.setAutoCull(0, 0, 100, 100);
+		root.draw(null, 1);
+		root.autoCull = false;
+		assertEquals(1, visible.draws);
+		assertEquals(0, offscreen.draws);
+		assertEquals(1, innerVisible.draws);
+		assertEquals(0, innerOffscreen.draws);
+
+		offscreen.setX(50);
+		root.setAutoCull(0, 0, 100, 100);
+		root.draw(null, 1);
+		root.autoCull = false;
+		assertEquals(1, offscreen.draws);
+
+		// Without culling everything is drawn.
+		root.draw(null, 1);
+		assertEquals(3, visible.draws);
+		assertEquals(1, innerOffscreen.draws);
+	}
+
+	@Test
+	public void testLayoutBeforeCulling () {
+		// Cell defaults are reset when Gdx.files changes, so it must be set.
+		if (Gdx.files == null) {
+			Gdx.files = (Files)Proxy.newProxyInstance(Files.class.getClassLoader(), new Class[] {Files.class},
+				(proxy, method, args) -> null);
+		}
+		Group root = new Group();
+		root.setTransform(false);
+		root.setSize(100, 100);
+		Table table = new Table();
+		table.setFillParent(true);
+		CountingActor actor = new CountingActor();
+		actor.setSize(10, 10);
+		table.add(actor);
+		root.addActor(table);
+
+		// The table has no size until it is validated, which sizes it to the parent and centers the actor.
+		root.setAutoCull(40, 40, 60, 60);
+		root.draw(null, 1);
+		root.autoCull = false;
+		assertEquals(100, table.getWidth(), 0);
+		assertEquals(1, actor.draws);
+
+		// The parent's cull bounds include the table's new size.
+		root.setSize(200, 200);
+		root.validateCullBounds();
+		assertEquals(200, root.cullRight, 0);
+		assertEquals(95, actor.getX(), 0);
+	}
+
+	static class CountingActor extends Actor {
+		int draws;
+
+		public void draw (Batch batch, float parentAlpha) {
+			draws++;
+		}
+	}
+}
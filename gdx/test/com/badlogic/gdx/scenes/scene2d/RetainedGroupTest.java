@@ -0,0 +1,234 @@
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.RecordingBatch;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+public class RetainedGroupTest {
+	@Test
+	public void testReplay () {
+		Group root = new Group(), inner = new Group();
+		root.setRetained(true);
+		root.setTransform(false);
+		inner.setTransform(false);
+		DrawingActor actor = new DrawingActor(), other = new DrawingActor();
+		root.addActor(inner);
+		root.addActor(other);
+		inner.addActor(actor);
+
+		RecordingBatch batch = new RecordingBatch();
+		draw(root, batch);
+		assertEquals(1, actor.draws);
+		assertEquals(2, batch.getSpriteCount());
+		draw(root, batch);
+		assertEquals(1, actor.draws);
+		assertEquals(2, batch.getSpriteCount());
+
+		// Without a transform the children are recorded at the group's position.
+		root.setPosition(10, 0);
+		draw(root, batch);
+		assertEquals(2, actor.draws);
+
+		actor.setX(5);
+		assertFalse(root.retainedValid);
+		draw(root, batch);
+		assertEquals(3, actor.draws);
+		assertEquals(3, other.draws);
+
+		// The batch color is part of the recording.
+		batch.setColor(Color.RED);
+		draw(root, batch);
+		assertEquals(4, actor.draws);
+		draw(root, batch);
+		assertEquals(4, actor.draws);
+	}
+
+	@Test
+	public void testInvalidation () {
+		Group root = new Group(), inner = new Group();
+		root.setRetained(true);
+		root.setTransform(false);
+		inner.setTransform(false);
+		DrawingActor actor = new DrawingActor();
+		root.addActor(inner);
+		inner.addActor(actor);
+		RecordingBatch batch = new RecordingBatch();
+
+		draw(root, batch);
+		actor.setColor(Color.BLUE);
+		assertFalse(root.retainedValid);
+
+		draw(root, batch);
+		actor.setVisible(false);
+		assertFalse(root.retainedValid);
+
+		draw(root, batch);
+		actor.setSize(20, 20);
+		assertFalse(root.retainedValid);
+
+		draw(root, batch);
+		inner.addActor(new DrawingActor());
+		assertFalse(root.retainedValid);
+
+		draw(root, batch);
+		inner.removeActor(actor);
+		assertFalse(root.retainedValid);
+		inner.addActor(actor);
+
+		draw(root, batch);
+		actor.toBack();
+		assertFalse(root.retainedValid);
+
+		// Actions and events only invalidate when they change the actor.
+		draw(root, batch);
+		actor.addAction(new Action() {
+			public boolean act (float delta) {
+				return false;
+			}
+		});
+		root.act(1);
+		actor.fire(new Event());
+		assertTrue(root.retainedValid);
+		actor.addAction(Actions.moveBy(10, 0));
+		root.act(1);
+		assertFalse(root.retainedValid);
+		actor.clearActions();
+		draw(root, batch);
+		actor.addAction(Actions.alpha(0, 1));
+		root.act(0.5f);
+		assertFalse(root.retainedValid);
+		actor.clearActions();
+
+		// Actors outside of the retained group don't invalidate it.
+		draw(root, batch);
+		Group parent = new Group();
+		parent.addActor(root);
+		parent.addActor(new Actor());
+		parent.getChild(1).setX(10);
+		assertTrue(root.retainedValid);
+	}
+
+	@Test
+	public void testEarlyOut () {
+		Group root = new Group(), inner = new Group();
+		root.setRetained(true);
+		root.setTransform(false);
+		inner.setTransform(false);
+		DrawingActor actor = new DrawingActor();
+		root.addActor(inner);
+		inner.addActor(actor);
+		RecordingBatch batch = new RecordingBatch();
+		Stage stage = newStage(batch), otherStage = newStage(batch);
+		stage.addActor(root);
+
+		draw(root, batch);
+		actor.setX(1);
+		assertFalse(root.retainedValid);
+		// Until a retained group of the stage records again, invalidating stops at the already invalidated ascendants.
+		root.retainedValid = true;
+		actor.setX(2);
+		assertTrue(root.retainedValid);
+		Group other = new Group();
+		other.setRetained(true);
+		otherStage.addActor(other);
+		draw(other, batch);
+		actor.setX(3);
+		assertTrue(root.retainedValid);
+
+		// Recording again, even a different retained group, lets the next change invalidate the ascendants.
+		Group unrelated = new Group();
+		unrelated.setRetained(true);
+		stage.addActor(unrelated);
+		draw(unrelated, batch);
+		actor.setX(4);
+		assertFalse(root.retainedValid);
+		draw(root, batch);
+		actor.setX(5);
+		assertFalse(root.retainedValid);
+
+		// Without a stage there is no early out.
+		root.remove();
+		root.retainedValid = true;
+		actor.setX(6);
+		assertFalse(root.retainedValid);
+		root.retainedValid = true;
+		actor.setX(7);
+		assertFalse(root.retainedValid);
+	}
+
+	@Test
+	public void testNotRecordable () {
+		Group root = new Group();
+		root.setRetained(true);
+		root.setTransform(false);
+		DrawingActor actor = new DrawingActor() {
+			public void draw (Batch batch, float parentAlpha) {
+				super.draw(batch, parentAlpha);
+				batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE);
+				batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+			}
+		};
+		root.addActor(actor);
+		RecordingBatch batch = new RecordingBatch();
+
+		// Changing the blending can't be recorded, so the children are drawn each time.
+		draw(root, batch);
+		assertFalse(root.retainedValid);
+		assertEquals(1, batch.getSpriteCount());
+		draw(root, batch);
+		assertEquals(4, actor.draws);
+		assertEquals(1, batch.getSpriteCount());
+	}
+
+	/** Returns a stage which doesn't use OpenGL. */
+	static Stage newStage (Batch batch) {
+		if (Gdx.graphics == null)
+			Gdx.graphics = (Graphics)Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class[] {Graphics.class},
+				(proxy, method, args) -> 0);
+		return new Stage(new ScreenViewport() {
+			public void update (int screenWidth, int screenHeight, boolean centerCamera) {
+			}
+		}, batch);
+	}
+
+	static void draw (Group group, RecordingBatch batch) {
+		batch.begin();
+		group.draw(batch, 1);
+		batch.end();
+	}
+
+	static class DrawingActor extends Actor {
+		static final Texture texture = new Texture() {
+			public int getWidth () {
+				return 16;
+			}
+
+			public int getHeight () {
+				return 16;
+			}
+		};
+		int draws;
+
+		DrawingActor () {
+			setSize(10, 10);
+		}
+
+		public void draw (Batch batch, float parentAlpha) {
+			draws++;
+			batch.draw(texture, getX(), getY(), getWidth(), getHeight());
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentPoolTest {
+	@Test
+	public void testSingleThread () {
+		final AtomicInteger created = new AtomicInteger();
+		ConcurrentPool<Item> pool = new ConcurrentPool<Item>(4, 8, 4) {
+			protected Item newObject () {
+				created.incrementAndGet();
+				return new Item();
+			}
+		};
+		Array<Item> items = new Array();
+		for (int i = 0; i < 20; i++)
+			items.add(pool.obtain());
+		assertEquals(20, created.get());
+		items.get(0).inUse = true;
+		pool.freeAll(items);
+		assertFalse(items.get(0).inUse);
+		// 4 cached by this thread, 8 in the shared stack, the rest discarded.
+		assertEquals(12, pool.getFree());
+		assertEquals(8, pool.peak);
+		for (int i = 0; i < 12; i++)
+			pool.obtain();
+		assertEquals(20, created.get());
+		pool.obtain();
+		assertEquals(21, created.get());
+
+		pool.fill(3);
+		assertEquals(3, pool.getFree());
+		pool.clear();
+		assertEquals(0, pool.getFree());
+	}
+
+	@Test
+	public void testThreads () throws InterruptedException {
+		final ConcurrentPool<Item> pool = new ConcurrentPool<Item>(16, 64, 8) {
+			protected Item newObject () {
+				return new Item();
+			}
+		};
+		final AtomicInteger errors = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final boolean producer = t % 2 == 0;
+			threads[t] = new Thread() {
+				public void run () {
+					Array<Item> items = new Array();
+					for (int i = 0; i < 20000; i++) {
+						Item item = pool.obtain();
+						if (item.inUse) errors.incrementAndGet();
+						item.inUse = true;
+						items.add(item);
+						// Producers free more than they obtain per batch so objects move between threads.
+						if (items.size == (producer ? 3 : 17)) {
+							pool.freeAll(items);
+							items.clear();
+						}
+					}
+				}
+			};
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(0, errors.get());
+		assertTrue(pool.peak <= 64);
+	}
+
+	@Test
+	public void testPools () {
+		Pool<Item> pool = ConcurrentPools.get(Item::new);
+		assertTrue(pool instanceof ConcurrentPool);
+		assertSame(pool, ConcurrentPools.get(Item::new));
+		Item item = ConcurrentPools.obtain(Item::new);
+		item.inUse = true;
+		ConcurrentPools.free(item);
+		assertFalse(item.inUse);
+		assertSame(item, pool.obtain());
+	}
+
+	static class Item implements Poolable {
+		boolean inUse;
+
+		public void reset () {
+			inUse = false;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.badlogic.gdx.utils;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IntFloatHeapTest {
+	@Test
+	public void testOrder () {
+		for (boolean isMaxHeap : new boolean[] {false, true}) {
+			IntFloatHeap heap = new IntFloatHeap(1, 1, isMaxHeap);
+			IntFloatMap expected = new IntFloatMap();
+			Random random = new Random(1);
+			for (int i = 0; i < 5000; i++) {
+				int id = random.nextInt(1000);
+				float value = random.nextInt(500);
+				switch (random.nextInt(4)) {
+				case 0:
+					if (!heap.contains(id)) {
+						heap.add(id, value);
+						expected.put(id, value);
+					}
+					break;
+				case 1:
+					if (heap.contains(id)) {
+						heap.setValue(id, value);
+						expected.put(id, value);
+					}
+					break;
+				case 2:
+					float old = expected.get(id, Float.NaN);
+					boolean better = Float.isNaN(old) || (isMaxHeap ? value > old : value < old);
+					assertEquals(better, heap.decreaseKey(id, value));
+					if (better) expected.put(id, value);
+					break;
+				case 3:
+					assertEquals(expected.containsKey(id), heap.remove(id));
+					expected.remove(id, 0);
+					break;
+				}
+				assertEquals(expected.size, heap.size);
+				assertEquals(expected.get(id, -1), heap.getValue(id, -1), 0);
+			}
+
+			float last = isMaxHeap ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+			while (heap.notEmpty()) {
+				float value = heap.peekValue();
+				int id = heap.pop();
+				assertFalse(heap.contains(id));
+				assertEquals(expected.remove(id, Float.NaN), value, 0);
+				assertTrue(isMaxHeap ? value <= last : value >= last);
+				last = value;
+			}
+			assertEquals(0, expected.size);
+		}
+	}
+
+	@Test
+	public void testClear () {
+		IntFloatHeap heap = new IntFloatHeap();
+		heap.add(3, 1);
+		heap.add(100, 2);
+		heap.clear();
+		assertTrue(heap.isEmpty());
+		assertFalse(heap.contains(3));
+		assertFalse(heap.contains(100));
+		heap.add(100, 5);
+		assertEquals(100, heap.peek());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddTwice () {
+		IntFloatHeap heap = new IntFloatHeap();
+		heap.add(1, 1);
+		heap.add(1, 2);
+	}
+}
@@ -0,0 +1,63 @@
+package com.badlogic.gdx.utils;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+import static org.junit.Assert.*;
+
+public class JsonArenaTest {
+	static private final String json = "{\n" //
+		+ "  name: hello world // comment\n" //
+		+ "  \"quo\\u0074ed\": \"a\\nb\",\n" //
+		+ "  /* block */ numbers: [1, -2, 3.25, 1.5e3, 12345678901234567890, -, 1.2.3],\n" //
+		+ "  flags: [true, false, null]\n" //
+		+ "  nested: { a: { b: [ {}, [] ] }, c: 1, }\n" //
+		+ "}";
+
+	@Test
+	public void testMatchesJsonReader () {
+		JsonArena arena = new JsonArena(1); // Forces the arrays to be resized while parsing.
+		String expected = new JsonReader().parse(json).toJson(OutputType.json);
+		assertEquals(expected, arena.toJsonValue(arena.parse(json)).toJson(OutputType.json));
+		// Reusing the arena must not keep cached strings from the previous document.
+		assertEquals(-1, arena.parse(""));
+		assertEquals("[\"x\",2]", arena.toJsonValue(arena.parse("[x, 2]")).toJson(OutputType.json));
+	}
+
+	@Test
+	public void testLookup () {
+		JsonArena arena = new JsonArena();
+		int root = arena.parse(json);
+		assertTrue(arena.isObject(root));
+		assertEquals(5, arena.size(root));
+		assertEquals("hello world", arena.getString(root, "NAME"));
+		assertEquals("a\nb", arena.getString(root, "quoted"));
+		assertTrue(arena.nameEqualsIgnoreCase(arena.get(root, "quoted"), "QUOTED"));
+
+		int numbers = arena.require(root, "numbers");
+		assertEquals(7, arena.size(numbers));
+		assertEquals(-2, arena.asInt(arena.get(numbers, 1)));
+		assertEquals(3.25f, arena.asFloat(arena.get(numbers, 2)), 0);
+		assertEquals(1500, arena.asLong(arena.get(numbers, 3)));
+		assertTrue(arena.isString(arena.get(numbers, 6)));
+		assertEquals("1.2.3", arena.asString(arena.get(numbers, 6)));
+
+		int flags = arena.get(root, "flags");
+		assertTrue(arena.asBoolean(arena.child(flags)));
+		assertTrue(arena.isNull(arena.get(flags, 2)));
+		assertEquals(root, arena.parent(flags));
+
+		int nested = arena.get(root, "nested");
+		assertEquals(1, arena.getInt(nested, "c", 0));
+		assertEquals(7, arena.getInt(nested, "missing", 7));
+		assertEquals(-1, arena.get(nested, "missing"));
+		assertArrayEquals(new int[] {1, 2}, arena.asIntArray(arena.parse("[1, 2]")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRequire () {
+		JsonArena arena = new JsonArena();
+		arena.require(arena.parse("{a:1}"), "b");
+	}
+}
@@ -0,0 +1,170 @@
+package com.badlogic.gdx.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.BaseJsonPullReader.Token;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+import static org.junit.Assert.*;
+
+public class JsonPullReaderTest {
+	static private final String json = "{\n" //
+		+ "  name: hello world // comment\n" //
+		+ "  \"quoted\": \"a\\nb\",\n" //
+		+ "  /* block */ numbers: [1, -2, 3.25, 1.5e3, 12345678901234567890, -, 1.2.3],\n" //
+		+ "  flags: [true false null]\n" //
+		+ "  nested: { a: { b: [ {}, [] ] }, c: 1, }\n" //
+		+ "}";
+
+	@Test
+	public void testTokens () {
+		JsonPullReader reader = new JsonPullReader("{a:1, b:[true, \"x\"], c:null}");
+		assertEquals(Token.startObject, reader.nextToken());
+		assertEquals("a", reader.nextName());
+		assertEquals(1, reader.nextInt());
+		assertEquals("b", reader.nextName());
+		reader.startArray();
+		assertTrue(reader.nextBoolean());
+		assertEquals("x", reader.nextString());
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		assertEquals("c", reader.nextName());
+		assertEquals(Token.nullValue, reader.peek());
+		reader.nextNull();
+		reader.endObject();
+		assertEquals(Token.end, reader.nextToken());
+	}
+
+	@Test
+	public void testMatchesJsonReader () {
+		String expected = new JsonReader().parse(json).toJson(OutputType.json);
+		assertEquals(expected, new JsonPullReader(json).nextValue().toJson(OutputType.json));
+		// A reader that returns one character at a time forces the buffer to be refilled in the middle of every token.
+		assertEquals(expected, new JsonPullReader(new SlowReader(json)).nextValue().toJson(OutputType.json));
+	}
+
+	@Test
+	public void testNumbers () {
+		String[] values = {"0", "-0", "0.1", "-0.0", "123.456", "1e10", "3.4028235E38", "0.30000000000000004", "9007199254740993",
+			"123456789012345.6", ".5", "1."};
+		for (String value : values) {
+			JsonValue expected = new JsonReader().parse("[" + value + "]").child;
+			JsonPullReader reader = new JsonPullReader("[" + value + "]");
+			reader.startArray();
+			assertEquals(value, expected.type().name(), reader.peek().name());
+			assertEquals(value, expected.asDouble(), reader.nextDouble(), 0);
+		}
+	}
+
+	@Test
+	public void testSkipValue () {
+		JsonPullReader reader = new JsonPullReader(json);
+		reader.startObject();
+		int count = 0;
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			if (name.equals("nested")) {
+				reader.startObject();
+				assertEquals("a", reader.nextName());
+				reader.skipValue();
+				assertEquals("c", reader.nextName());
+				assertEquals(1f, reader.nextFloat(), 0);
+				reader.endObject();
+			} else
+				reader.skipValue();
+			count++;
+		}
+		reader.endObject();
+		assertEquals(5, count);
+		assertEquals(0, reader.getDepth());
+	}
+
+	@Test
+	public void testMalformed () {
+		String[] values = {"{\"a\":1", "{\"a\":1]", "[1, 2", "[1, 2}", "{\"a\":[1}", "{\"a\":{}]"};
+		for (String value : values) {
+			try {
+				new JsonPullReader(value).nextValue();
+				fail(value);
+			} catch (SerializationException expected) {
+			}
+		}
+
+		JsonPullReader reader = new JsonPullReader("{\"a\":1, \"b\":2]");
+		reader.startObject();
+		JsonValue parent = new JsonValue(JsonValue.ValueType.object);
+		try {
+			reader.nextEntries(parent);
+			fail();
+		} catch (SerializationException expected) {
+		}
+	}
+
+	@Test
+	public void testUBJson () throws IOException {
+		JsonValue value = new JsonReader().parse(json);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		UBJsonWriter writer = new UBJsonWriter(bytes);
+		writer.object();
+		writer.name("json").value(value);
+		writer.set("floats", new float[] {1, 2, 3});
+		writer.set("strings", new String[] {"x", "y"});
+		writer.close();
+
+		JsonValue expected = new UBJsonReader().parse(new ByteArrayInputStream(bytes.toByteArray()));
+		JsonValue actual = new UBJsonPullReader(new ByteArrayInputStream(bytes.toByteArray())).nextValue();
+		assertEquals(expected.toJson(OutputType.json), actual.toJson(OutputType.json));
+	}
+
+	@Test
+	public void testFromJson () {
+		Json json = new Json();
+		Data data = new Data();
+		data.name = "test";
+		data.values = new float[] {1, 2.5f, -3};
+		data.children.add(new Data());
+		data.children.get(0).name = "child";
+		data.map.put("key", 5);
+		String text = json.toJson(data);
+
+		Data expected = json.fromJson(Data.class, text);
+		Data actual = json.fromJson(Data.class, new JsonPullReader(new SlowReader(text)));
+		assertEquals(json.toJson(expected), json.toJson(actual));
+		assertEquals("child", actual.children.get(0).name);
+		assertEquals(2.5f, actual.values[1], 0);
+	}
+
+	static public class Data {
+		String name;
+		float[] values;
+		Array<Data> children = new Array();
+		ObjectMap<String, Integer> map = new ObjectMap();
+		Kind kind = Kind.b;
+	}
+
+	static public enum Kind {
+		a, b
+	}
+
+	static class SlowReader extends Reader {
+		private final StringReader reader;
+
+		SlowReader (String text) {
+			reader = new StringReader(text);
+		}
+
+		public int read (char[] buffer, int offset, int length) throws IOException {
+			return reader.read(buffer, offset, Math.min(1, length));
+		}
+
+		public void close () {
+			reader.close();
+		}
+	}
+}
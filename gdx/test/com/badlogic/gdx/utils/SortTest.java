@@ -23,7 +23,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 /*
  * This test class verifies the correctness of the sort functions in the Sort class.
@@ -249,4 +254,168 @@ public class SortTest {
 		sortInstance.sort(emptyArray);
 		assertArrayEquals(new Integer[] {}, emptyArray.items);
 	}
+
+	@Test
+	public void testParallelSort () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			Random random = new Random(1);
+			// Sizes below the threshold, odd run counts and a sub range.
+			for (int size : new int[] {0, 100, 8192, 20000, 50001}) {
+				Integer[] array = new Integer[size];
+				for (int i = 0; i < size; i++)
+					array[i] = random.nextInt(1000);
+				Integer[] expected = array.clone();
+				Arrays.sort(expected);
+				Sort sort = new Sort();
+				sort.parallelSort(array, new NullsFirstComparator(), executor, 3);
+				assertArrayEquals(expected, array);
+
+				for (int i = 0; i < size; i++)
+					array[i] = random.nextInt(1000);
+				expected = array.clone();
+				int from = size / 10, to = size - size / 10;
+				Arrays.sort(expected, from, to);
+				sort.parallelSort(array, new NullsFirstComparator(), from, to, executor, 4);
+				assertArrayEquals(expected, array);
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testParallelSortIsStable () {
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			int size = 30000;
+			Array<int[]> array = new Array(size);
+			Random random = new Random(2);
+			for (int i = 0; i < size; i++)
+				array.add(new int[] {random.nextInt(10), i});
+			new Sort().parallelSort(array, new Comparator<int[]>() {
+				public int compare (int[] o1, int[] o2) {
+					return Integer.compare(o1[0], o2[0]);
+				}
+			}, executor, 4);
+			for (int i = 1; i < size; i++) {
+				int[] a = array.get(i - 1), b = array.get(i);
+				assertTrue(a[0] < b[0] || (a[0] == b[0] && a[1] < b[1]));
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testParallelSortFailure () throws InterruptedException {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			Integer[] array = new Integer[40000];
+			Random random = new Random(4);
+			for (int i = 0; i < array.length; i++)
+				array[i] = random.nextInt();
+			final Thread caller = Thread.currentThread();
+			final AtomicInteger compares = new AtomicInteger();
+			try {
+				new Sort().parallelSort(array, new Comparator<Integer>() {
+					public int compare (Integer o1, Integer o2) {
+						if (Thread.currentThread() == caller) throw new IllegalStateException();
+						if (compares.incrementAndGet() % 1000 == 0) Thread.yield(); // Slow the other runs down.
+						return o1.compareTo(o2);
+					}
+				}, executor, 4);
+				fail();
+			} catch (GdxRuntimeException expected) {
+			}
+			// The other runs were waited for, so nothing still sorts the array.
+			int count = compares.get();
+			Thread.sleep(50);
+			assertEquals(count, compares.get());
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testRadixSort () {
+		Random random = new Random(3);
+		Sort sort = new Sort();
+		for (int size : new int[] {0, 1, 10, 600, 5000}) {
+			FloatArray floats = new FloatArray();
+			IntArray ints = new IntArray();
+			LongArray longs = new LongArray();
+			for (int i = 0; i < size; i++) {
+				floats.add((random.nextFloat() - 0.5f) * 1000);
+				ints.add(random.nextInt());
+				// Few distinct high bits, so some passes are skipped.
+				longs.add((long)random.nextInt(4) << 60 | random.nextInt(1000));
+			}
+			if (size > 10) {
+				floats.set(0, -0f);
+				floats.set(1, 0f);
+				floats.set(2, Float.NEGATIVE_INFINITY);
+				floats.set(3, Float.POSITIVE_INFINITY);
+				floats.set(4, Float.NaN);
+				floats.set(5, -Float.MAX_VALUE);
+				ints.set(0, Integer.MIN_VALUE);
+				ints.set(1, Integer.MAX_VALUE);
+				ints.set(2, 0);
+				longs.set(0, Long.MIN_VALUE);
+				longs.set(1, Long.MAX_VALUE);
+				longs.set(2, -1);
+			}
+
+			// Without payload, large arrays are radix sorted and small arrays use the existing sort.
+			FloatArray sortedFloats = new FloatArray(floats);
+			sort.radixSort(sortedFloats, null);
+			float[] expectedFloats = floats.toArray();
+			Arrays.sort(expectedFloats);
+			assertTrue(Arrays.equals(expectedFloats, sortedFloats.toArray()));
+
+			IntArray sortedInts = new IntArray(ints);
+			sort.radixSort(sortedInts, null);
+			int[] expectedInts = ints.toArray();
+			Arrays.sort(expectedInts);
+			assertArrayEquals(expectedInts, sortedInts.toArray());
+
+			// With payload, the indices must be permuted along with the keys.
+			sortedFloats = new FloatArray(floats);
+			IntArray indices = new IntArray(size);
+			for (int i = 0; i < size; i++)
+				indices.add(i);
+			sort.radixSort(sortedFloats, indices);
+			assertTrue(Arrays.equals(expectedFloats, sortedFloats.toArray()));
+			for (int i = 0; i < size; i++) {
+				assertEquals(Float.floatToIntBits(sortedFloats.get(i)), Float.floatToIntBits(floats.get(indices.get(i))));
+				if (i > 0 && sortedFloats.get(i) == sortedFloats.get(i - 1)) assertTrue(indices.get(i) > indices.get(i - 1));
+			}
+
+			sortedInts = new IntArray(ints);
+			indices.clear();
+			for (int i = 0; i < size; i++)
+				indices.add(i);
+			sort.radixSort(sortedInts, indices);
+			assertArrayEquals(expectedInts, sortedInts.toArray());
+			for (int i = 0; i < size; i++)
+				assertEquals(sortedInts.get(i), ints.get(indices.get(i)));
+
+			LongArray sortedLongs = new LongArray(longs);
+			sort.radixSort(sortedLongs, null);
+			long[] expectedLongs = longs.toArray();
+			Arrays.sort(expectedLongs);
+			assertArrayEquals(expectedLongs, sortedLongs.toArray());
+
+			sortedLongs = new LongArray(longs);
+			indices.clear();
+			for (int i = 0; i < size; i++)
+				indices.add(i);
+			sort.radixSort(sortedLongs, indices);
+			assertArrayEquals(expectedLongs, sortedLongs.toArray());
+			for (int i = 0; i < size; i++) {
+				assertEquals(sortedLongs.get(i), longs.get(indices.get(i)));
+				if (i > 0 && sortedLongs.get(i) == sortedLongs.get(i - 1)) assertTrue(indices.get(i) > indices.get(i - 1));
+			}
+		}
+	}
 }
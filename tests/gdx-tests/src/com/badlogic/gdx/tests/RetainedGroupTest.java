@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+/** Draws a large static table of labels, optionally {@link com.badlogic.gdx.scenes.scene2d.Group#setRetained(boolean) retained}
+ * so the vertices are recorded once and reused each frame. */
+public class RetainedGroupTest extends GdxTest {
+	Stage stage;
+	Skin skin;
+	Label fpsLabel;
+
+	@Override
+	public void create () {
+		stage = new Stage(new ScreenViewport());
+		Gdx.input.setInputProcessor(stage);
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+
+		final Table labels = new Table();
+		for (int y = 0; y < 30; y++) {
+			for (int x = 0; x < 12; x++)
+				labels.add(new Label("Item " + (y * 12 + x), skin)).pad(2, 6, 2, 6);
+			labels.row();
+		}
+		labels.setRetained(true);
+
+		final CheckBox retained = new CheckBox(" Retained", skin);
+		retained.setChecked(true);
+		retained.addListener(new ChangeListener() {
+			public void changed (ChangeEvent event, Actor actor) {
+				labels.setRetained(retained.isChecked());
+			}
+		});
+		fpsLabel = new Label("", skin);
+
+		Table root = new Table();
+		root.setFillParent(true);
+		root.top().left();
+		root.add(retained).left();
+		root.add(fpsLabel).left().padLeft(20).row();
+		root.add(labels).colspan(2).expand().top().left();
+		stage.addActor(root);
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		fpsLabel.setText("FPS: " + Gdx.graphics.getFramesPerSecond() + ", render calls: "
+			+ ((SpriteBatch)stage.getBatch()).renderCalls);
+		stage.act();
+		stage.draw();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		stage.getViewport().update(width, height, true);
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Buttons;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.ChunkedTiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.renderers.OrthoChunkedTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.OrthoCamController;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Drag to scroll a large map, right click to change the tile under the cursor. Only the chunk containing the changed tile is
+ * rebuilt. */
+public class TiledMapChunkedRendererTest extends GdxTest {
+	private TiledMap map;
+	private ChunkedTiledMapTileLayer layer;
+	private TiledMapTile[] tiles;
+	private OrthoChunkedTiledMapRenderer renderer;
+	private OrthographicCamera camera;
+	private Texture texture;
+	private BitmapFont font;
+	private SpriteBatch batch;
+	private final Vector3 touch = new Vector3();
+
+	@Override
+	public void create () {
+		float w = Gdx.graphics.getWidth();
+		float h = Gdx.graphics.getHeight();
+
+		camera = new OrthographicCamera();
+		camera.setToOrtho(false, (w / h) * 480, 480);
+		camera.update();
+
+		font = new BitmapFont();
+		batch = new SpriteBatch();
+
+		texture = new Texture(Gdx.files.internal("data/maps/tiled/tiles.png"));
+		TextureRegion[][] splitTiles = TextureRegion.split(texture, 32, 32);
+		tiles = new TiledMapTile[splitTiles.length * splitTiles[0].length];
+		for (int y = 0, i = 0; y < splitTiles.length; y++)
+			for (int x = 0; x < splitTiles[y].length; x++)
+				tiles[i++] = new StaticTiledMapTile(splitTiles[y][x]);
+
+		map = new TiledMap();
+		layer = new ChunkedTiledMapTileLayer(1000, 1000, 32, 32);
+		for (int x = 0; x < 1000; x++)
+			for (int y = 0; y < 1000; y++)
+				layer.setPacked(x, y, layer.pack(tiles[MathUtils.random(tiles.length - 1)], false, false, 0));
+		map.getLayers().add(layer);
+
+		renderer = new OrthoChunkedTiledMapRenderer(map);
+
+		Gdx.input.setInputProcessor(new InputMultiplexer(new InputAdapter() {
+			public boolean touchDown (int screenX, int screenY, int pointer, int button) {
+				if (button != Buttons.RIGHT) return false;
+				camera.unproject(touch.set(screenX, screenY, 0));
+				int x = (int)(touch.x / 32), y = (int)(touch.y / 32);
+				layer.setPacked(x, y, layer.pack(tiles[MathUtils.random(tiles.length - 1)], false, false, 0));
+				renderer.invalidateCell(layer, x, y);
+				return true;
+			}
+		}, new OrthoCamController(camera)));
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(100f / 255f, 100f / 255f, 250f / 255f, 1f);
+		camera.update();
+		renderer.setView(camera);
+		renderer.render();
+		batch.begin();
+		font.draw(batch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", cached chunks: " + renderer.getCachedChunks(), 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+		texture.dispose();
+		font.dispose();
+		batch.dispose();
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.collision.Broadphase;
+import com.badlogic.gdx.math.collision.SpatialHashGrid;
+import com.badlogic.gdx.math.collision.SweepAndPrune;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares finding the overlapping pairs of moving rectangles with {@link Rectangle#overlaps(Rectangle)} for every pair,
+ * {@link SpatialHashGrid} and {@link SweepAndPrune}. Each run moves every rectangle, then the broadphases are updated and their
+ * pairs found. Each method is warmed up before it is timed. Testing every pair takes far longer than the broadphases, so it is
+ * only done for the first {@link #naiveRuns} runs, otherwise it would stall the app for many seconds. */
+public class BroadphaseBench extends GdxTest {
+	static private final int size = 20000, runs = 10, naiveRuns = 1;
+	static private final float worldSize = 4000, maxRectSize = 16, speed = 2;
+
+	private SpriteBatch batch;
+	private BitmapFont font;
+	private final StringBuilder results = new StringBuilder();
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		Rectangle[] rects = new Rectangle[size];
+		float[] velocities = new float[size * 2];
+		for (int i = 0; i < size; i++) {
+			float width = MathUtils.random(2, maxRectSize), height = MathUtils.random(2, maxRectSize);
+			rects[i] = new Rectangle(MathUtils.random(worldSize - width), MathUtils.random(worldSize - height), width, height);
+			velocities[i * 2] = MathUtils.random(-speed, speed);
+			velocities[i * 2 + 1] = MathUtils.random(-speed, speed);
+		}
+
+		Broadphase grid = new SpatialHashGrid(maxRectSize * 2), sweep = new SweepAndPrune();
+		int[] gridProxies = new int[size], sweepProxies = new int[size];
+		for (int i = 0; i < size; i++) {
+			gridProxies[i] = grid.add(rects[i]);
+			sweepProxies[i] = sweep.add(rects[i]);
+		}
+
+		IntArray pairs = new IntArray();
+		for (int pass = 0; pass < 2; pass++) { // The first pass warms up the JIT.
+			long naive = 0, gridTime = 0, sweepTime = 0;
+			int naivePairs = 0, gridPairs = 0, sweepPairs = 0;
+			for (int run = 0; run < runs; run++) {
+				move(rects, velocities);
+
+				long start;
+				if (run < naiveRuns) {
+					start = TimeUtils.nanoTime();
+					int count = 0;
+					for (int i = 0; i < size - 1; i++) {
+						Rectangle a = rects[i];
+						for (int ii = i + 1; ii < size; ii++)
+							if (a.overlaps(rects[ii])) count++;
+					}
+					naive += TimeUtils.nanoTime() - start;
+					naivePairs += count;
+				}
+
+				start = TimeUtils.nanoTime();
+				for (int i = 0; i < size; i++)
+					grid.move(gridProxies[i], rects[i]);
+				pairs.clear();
+				grid.findPairs(pairs);
+				gridTime += TimeUtils.nanoTime() - start;
+				gridPairs += pairs.size / 2;
+
+				start = TimeUtils.nanoTime();
+				for (int i = 0; i < size; i++)
+					sweep.move(sweepProxies[i], rects[i]);
+				pairs.clear();
+				sweep.findPairs(pairs);
+				sweepTime += TimeUtils.nanoTime() - start;
+				sweepPairs += pairs.size / 2;
+			}
+			if (pass == 0) continue;
+			// Touching rectangles overlap for the broadphases but not for Rectangle#overlaps, so the counts can differ slightly.
+			log("Rectangle#overlaps, all pairs", naive, naivePairs, naiveRuns);
+			log("SpatialHashGrid", gridTime, gridPairs, runs);
+			log("SweepAndPrune", sweepTime, sweepPairs, runs);
+		}
+	}
+
+	private void move (Rectangle[] rects, float[] velocities) {
+		for (int i = 0; i < size; i++) {
+			Rectangle rect = rects[i];
+			float x = rect.x + velocities[i * 2], y = rect.y + velocities[i * 2 + 1];
+			if (x < 0 || x + rect.width > worldSize) velocities[i * 2] = -velocities[i * 2];
+			if (y < 0 || y + rect.height > worldSize) velocities[i * 2 + 1] = -velocities[i * 2 + 1];
+			rect.setPosition(MathUtils.clamp(x, 0, worldSize - rect.width), MathUtils.clamp(y, 0, worldSize - rect.height));
+		}
+	}
+
+	private void log (String name, long nanos, int pairs, int runs) {
+		String line = name + ": " + (nanos / runs / 1000) + " us, " + (pairs / runs) + " pairs, " + runs + " runs";
+		Gdx.app.log("BroadphaseBench", line);
+		results.append(line).append('\n');
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		batch.begin();
+		font.draw(batch, "Finding pairs of " + size + " moving rectangles, average per run:\n" + results, 10,
+			Gdx.graphics.getHeight() - 10);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.BulkMath;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares transforming many vectors with the native {@link Matrix4#mulVec(float[], float[], int, int, int)} and
+ * {@link Matrix4#prj(float[], float[], int, int, int)}, with {@link BulkMath} for vectors with a stride and in separate x, y
+ * and z arrays, and with {@link Vector3#mul(Matrix4)}. Matrix products are compared between {@link Matrix4#mul(Matrix4)} and
+ * {@link BulkMath#mul(float[], int, float[], int, float[], int, int)}. Each method is warmed up before it is timed. */
+public class BulkMathBench extends GdxTest {
+	static private final int vectors = 100000, matrices = 10000, runs = 100;
+
+	private SpriteBatch batch;
+	private BitmapFont font;
+	private final StringBuilder results = new StringBuilder();
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		Matrix4 mat = new Matrix4().setToLookAt(new Vector3(1, 2, 3), new Vector3(0, 0, 0), Vector3.Y).translate(4, 5, 6);
+		float[] vecs = new float[vectors * 3], x = new float[vectors], y = new float[vectors], z = new float[vectors];
+		Vector3[] objects = new Vector3[vectors];
+		for (int i = 0; i < vectors; i++) {
+			x[i] = vecs[i * 3] = MathUtils.random(-10f, 10f);
+			y[i] = vecs[i * 3 + 1] = MathUtils.random(-10f, 10f);
+			z[i] = vecs[i * 3 + 2] = MathUtils.random(-10f, 10f);
+			objects[i] = new Vector3(x[i], y[i], z[i]);
+		}
+		// The matrix multiplies the vectors and its inverse brings them back, so the values stay in range over the runs.
+		Matrix4 inv = mat.cpy().inv();
+
+		float[] a = new float[matrices * 16], b = new float[matrices * 16], out = new float[matrices * 16];
+		Matrix4[] mats = new Matrix4[matrices], others = new Matrix4[matrices];
+		for (int i = 0; i < matrices; i++) {
+			mats[i] = new Matrix4().setToRotation(Vector3.Z, MathUtils.random(360f)).trn(i, 0, 0);
+			others[i] = new Matrix4().setToScaling(1, 2, 3).trn(0, i, 0);
+			System.arraycopy(mats[i].val, 0, a, i * 16, 16);
+			System.arraycopy(others[i].val, 0, b, i * 16, 16);
+		}
+		Matrix4 product = new Matrix4();
+
+		for (int pass = 0; pass < 2; pass++) { // The first pass warms up the JIT.
+			long start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				Matrix4.mulVec(mat.val, vecs, 0, vectors, 3);
+				Matrix4.mulVec(inv.val, vecs, 0, vectors, 3);
+			}
+			long nativeMulVec = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				BulkMath.mulVec(mat.val, vecs, 0, vectors, 3);
+				BulkMath.mulVec(inv.val, vecs, 0, vectors, 3);
+			}
+			long stridedMulVec = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				BulkMath.mulVec(mat.val, x, y, z, 0, vectors);
+				BulkMath.mulVec(inv.val, x, y, z, 0, vectors);
+			}
+			long separateMulVec = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				for (int i = 0; i < vectors; i++)
+					objects[i].mul(mat).mul(inv);
+			}
+			long vector3Mul = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				Matrix4.prj(mat.val, vecs, 0, vectors, 3);
+				Matrix4.prj(inv.val, vecs, 0, vectors, 3);
+			}
+			long nativePrj = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				BulkMath.prj(mat.val, x, y, z, 0, vectors);
+				BulkMath.prj(inv.val, x, y, z, 0, vectors);
+			}
+			long separatePrj = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++) {
+				for (int i = 0; i < matrices; i++)
+					product.set(mats[i]).mul(others[i]);
+			}
+			long matrixMul = TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int run = 0; run < runs; run++)
+				BulkMath.mul(a, 0, b, 0, out, 0, matrices);
+			long bulkMul = TimeUtils.nanoTime() - start;
+
+			if (pass == 0) continue;
+			log("Matrix4#mulVec, native", nativeMulVec, vectors * 2);
+			log("BulkMath#mulVec, stride", stridedMulVec, vectors * 2);
+			log("BulkMath#mulVec, x y z arrays", separateMulVec, vectors * 2);
+			log("Vector3#mul", vector3Mul, vectors * 2);
+			log("Matrix4#prj, native", nativePrj, vectors * 2);
+			log("BulkMath#prj, x y z arrays", separatePrj, vectors * 2);
+			log("Matrix4#mul", matrixMul, matrices);
+			log("BulkMath#mul", bulkMul, matrices);
+		}
+	}
+
+	private void log (String name, long nanos, int count) {
+		long nanosPerRun = nanos / runs;
+		String line = name + ": " + (nanosPerRun / 1000) + " us, " + (nanosPerRun * 1000 / count / 1000f) + " ns each";
+		Gdx.app.log("BulkMathBench", line);
+		results.append(line).append('\n');
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		batch.begin();
+		font.draw(batch, "Transforming " + vectors + " vectors and multiplying " + matrices + " matrices, average of " + runs
+			+ " runs:\n" + results, 10, Gdx.graphics.getHeight() - 10);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.Sort;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares {@link Sort#sort(Array, Comparator)} with {@link Sort#parallelSort(Array, Comparator, AsyncExecutor, int)} and
+ * {@link FloatArray#sort()} with {@link Sort#radixSort(FloatArray, IntArray)}. Each sort is warmed up before it is timed. */
+public class SortBench extends GdxTest {
+	static private final int size = 200000, runs = 20, threads = 4;
+
+	private SpriteBatch batch;
+	private BitmapFont font;
+	private AsyncExecutor executor;
+	private final StringBuilder results = new StringBuilder();
+
+	private final Comparator<Value> comparator = new Comparator<Value>() {
+		public int compare (Value o1, Value o2) {
+			return Float.compare(o1.depth, o2.depth);
+		}
+	};
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		executor = new AsyncExecutor(threads, "SortBench");
+
+		Value[] values = new Value[size];
+		for (int i = 0; i < size; i++)
+			values[i] = new Value(MathUtils.random(-1000f, 1000f));
+		float[] depths = new float[size];
+		for (int i = 0; i < size; i++)
+			depths[i] = values[i].depth;
+
+		Sort sort = new Sort();
+		Array<Value> array = new Array(size);
+		FloatArray keys = new FloatArray(size);
+		IntArray indices = new IntArray(size);
+		for (int pass = 0; pass < 2; pass++) { // The first pass warms up the JIT.
+			long sequential = 0, parallel = 0, arrays = 0, radix = 0, radixIndices = 0;
+			for (int run = 0; run < runs; run++) {
+				array.clear();
+				array.addAll(values);
+				long start = TimeUtils.nanoTime();
+				sort.sort(array, comparator);
+				sequential += TimeUtils.nanoTime() - start;
+
+				array.clear();
+				array.addAll(values);
+				start = TimeUtils.nanoTime();
+				sort.parallelSort(array, comparator, executor, threads);
+				parallel += TimeUtils.nanoTime() - start;
+
+				keys.clear();
+				keys.addAll(depths);
+				start = TimeUtils.nanoTime();
+				keys.sort();
+				arrays += TimeUtils.nanoTime() - start;
+
+				keys.clear();
+				keys.addAll(depths);
+				start = TimeUtils.nanoTime();
+				sort.radixSort(keys, null);
+				radix += TimeUtils.nanoTime() - start;
+
+				keys.clear();
+				keys.addAll(depths);
+				indices.clear();
+				for (int i = 0; i < size; i++)
+					indices.add(i);
+				start = TimeUtils.nanoTime();
+				sort.radixSort(keys, indices);
+				radixIndices += TimeUtils.nanoTime() - start;
+			}
+			if (pass == 0) continue;
+			log("Sort#sort(Array, Comparator)", sequential);
+			log("Sort#parallelSort, " + threads + " threads", parallel);
+			log("FloatArray#sort", arrays);
+			log("Sort#radixSort(FloatArray)", radix);
+			log("Sort#radixSort(FloatArray, IntArray)", radixIndices);
+		}
+	}
+
+	private void log (String name, long nanos) {
+		String line = name + ": " + (nanos / runs / 1000) + " us";
+		Gdx.app.log("SortBench", line);
+		results.append(line).append('\n');
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		batch.begin();
+		font.draw(batch, "Sorting " + size + " items, average of " + runs + " runs:\n" + results, 10,
+			Gdx.graphics.getHeight() - 10);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+		executor.dispose();
+	}
+
+	static class Value {
+		final float depth;
+
+		Value (float depth) {
+			this.depth = depth;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 
 package com.badlogic.gdx.tests.g3d;
 
+import com.badlogic.gdx.graphics.g3d.ChunkedModelCache;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.ModelCache;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
@@ -12,6 +13,9 @@ import com.badlogic.gdx.utils.Array;
 public class ModelCacheTest extends Benchmark3DTest {
 	ModelCache modelCache;
 	CheckBox cacheCheckBox;
+	ChunkedModelCache chunkedCache;
+	Array<ModelInstance> chunkedInstances = new Array();
+	CheckBox chunkedCheckBox;
 
 	@Override
 	public void create () {
@@ -22,6 +26,13 @@ public class ModelCacheTest extends Benchmark3DTest {
 		cacheCheckBox.setChecked(false);
 		cacheCheckBox.setPosition(hudWidth - cacheCheckBox.getWidth(), moveCheckBox.getTop());
 		hud.addActor(cacheCheckBox);
+
+		chunkedCache = new ChunkedModelCache(10);
+		chunkedCache.setCamera(cam);
+		chunkedCheckBox = new CheckBox("Chunked cache", skin);
+		chunkedCheckBox.setChecked(false);
+		chunkedCheckBox.setPosition(hudWidth - chunkedCheckBox.getWidth(), cacheCheckBox.getTop());
+		hud.addActor(chunkedCheckBox);
 	}
 
 	@Override
@@ -31,6 +42,24 @@ public class ModelCacheTest extends Benchmark3DTest {
 			modelCache.add(instances);
 			modelCache.end();
 			batch.render(modelCache, lighting ? environment : null);
+		} else if (chunkedCheckBox.isChecked()) {
+			// Instances which moved are removed and added again, so only their cells are rebuilt.
+			for (int i = chunkedInstances.size - 1; i >= 0; i--) {
+				ModelInstance instance = chunkedInstances.get(i);
+				if (moveCheckBox.isChecked() || !instances.contains(instance, true)) {
+					chunkedCache.remove(instance);
+					chunkedInstances.removeIndex(i);
+				}
+			}
+			for (int i = 0; i < instances.size; i++) {
+				ModelInstance instance = instances.get(i);
+				if (!chunkedInstances.contains(instance, true)) {
+					chunkedCache.add(instance);
+					chunkedInstances.add(instance);
+				}
+			}
+			chunkedCache.update(8);
+			batch.render(chunkedCache, lighting ? environment : null);
 		} else {
 			batch.render(instances, lighting ? environment : null);
 		}
@@ -40,5 +69,6 @@ public class ModelCacheTest extends Benchmark3DTest {
 	public void dispose () {
 		super.dispose();
 		modelCache.dispose();
+		chunkedCache.dispose();
 	}
 }
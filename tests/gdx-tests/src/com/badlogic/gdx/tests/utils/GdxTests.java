@@ -37,6 +37,9 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.BroadphaseBench;
+import com.badlogic.gdx.tests.bench.BulkMathBench;
+import com.badlogic.gdx.tests.bench.SortBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
 import com.badlogic.gdx.tests.conformance.AudioSoundAndMusicIsolationTest;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
@@ -139,7 +142,9 @@ public class GdxTests {
 		Box2DTest.class,
 		Box2DTestCollection.class,
 		Bresenham2Test.class,
+		BroadphaseBench.class,
 		BufferUtilsTest.class,
+		BulkMathBench.class,
 		BulletTestCollection.class,
 		ClipboardTest.class,
 		CollectionsTest.class,
@@ -254,6 +259,7 @@ public class GdxTests {
 		ProjectiveTextureTest.class,
 		ReflectionTest.class,
 		ReflectionCorrectnessTest.class,
+		RetainedGroupTest.class,
 		RotationTest.class,
 		RunnablePostTest.class,
 		Scene2dTest.class,
@@ -277,6 +283,7 @@ public class GdxTests {
 		SimpleVertexShader.class,
 		SkeletonTest.class,
 		SoftKeyboardTest.class,
+		SortBench.class,
 		SortedSpriteTest.class,
 		SoundTest.class,
 		SpriteBatchRotationTest.class,
@@ -313,6 +320,7 @@ public class GdxTests {
 		TiledMapGroupLayerTest.class,
 		TiledMapGroupLayerWithImagelayerTest.class,
 		TiledMapAtlasAssetManagerTest.class,
+		TiledMapChunkedRendererTest.class,
 		TiledMapDirectLoaderTest.class,
 		TiledMapImageLayerRepeatTest.class,
 		TiledMapModifiedExternalTilesetTest.class,